@@ -3,12 +3,15 @@ package nrg.inc.synhubbackend.groups.application.internal.commandservices;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.commands.*;
+import nrg.inc.synhubbackend.groups.domain.model.events.GroupMembershipChangedEvent;
 import nrg.inc.synhubbackend.groups.domain.model.valueobjects.GroupCode;
 import nrg.inc.synhubbackend.groups.domain.services.GroupCommandService;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.GroupRepository;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.LeaderRepository;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.MemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -18,15 +21,18 @@ public class GroupCommandServiceImpl implements GroupCommandService {
     private final GroupRepository groupRepository;
     private final LeaderRepository leaderRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public GroupCommandServiceImpl(GroupRepository groupRepository, LeaderRepository leaderRepository, MemberRepository memberRepository) {
+    public GroupCommandServiceImpl(GroupRepository groupRepository, LeaderRepository leaderRepository, MemberRepository memberRepository, ApplicationEventPublisher eventPublisher) {
         this.groupRepository = groupRepository;
         this.leaderRepository = leaderRepository;
         this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
     @Override
+    @Transactional
     public Optional<Group> handle(CreateGroupCommand command) {
 
         Leader leader = leaderRepository.findById(command.leaderId()).get();
@@ -43,6 +49,7 @@ public class GroupCommandServiceImpl implements GroupCommandService {
         }
 
         groupRepository.save(group);
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(group.getId(), null, leader.getId()));
 
         return Optional.of(group);
     }
@@ -67,6 +74,7 @@ public class GroupCommandServiceImpl implements GroupCommandService {
     }
 
     @Override
+    @Transactional
     public void handle(DeleteGroupCommand command) {
 
         var groupId = groupRepository.findByLeader_Id(command.leaderId()).get().getId();
@@ -81,9 +89,11 @@ public class GroupCommandServiceImpl implements GroupCommandService {
         }catch (Exception e) {
             throw new IllegalArgumentException("Error while deleting group: " + e.getMessage());
         }
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(groupId, null, command.leaderId()));
     }
 
     @Override
+    @Transactional
     public void handle(RemoveMemberFromGroupCommand command) {
         var groupId = groupRepository.findByLeader_Id(command.leaderId())
                 .orElseThrow(() -> new IllegalArgumentException("Group not found for leader"))
@@ -108,9 +118,11 @@ public class GroupCommandServiceImpl implements GroupCommandService {
         } catch (Exception e) {
             throw new IllegalArgumentException("Error while removing member from group: " + e.getMessage());
         }
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(group.getId(), member.getId()));
     }
 
     @Override
+    @Transactional
     public void handle(LeaveGroupCommand command) {
         var group = groupRepository.findById(command.groupId())
                 .orElseThrow(() -> new IllegalArgumentException("Group not found for member"));
@@ -131,5 +143,6 @@ public class GroupCommandServiceImpl implements GroupCommandService {
         } catch (Exception e) {
             throw new IllegalArgumentException("Error while removing member from group: " + e.getMessage());
         }
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(group.getId(), member.getId()));
     }
 }
@@ -5,12 +5,15 @@ import nrg.inc.synhubbackend.groups.domain.model.commands.AcceptInvitationComman
 import nrg.inc.synhubbackend.groups.domain.model.commands.CancelInvitationCommand;
 import nrg.inc.synhubbackend.groups.domain.model.commands.CreateInvitationCommand;
 import nrg.inc.synhubbackend.groups.domain.model.commands.RejectInvitationCommand;
+import nrg.inc.synhubbackend.groups.domain.model.events.GroupMembershipChangedEvent;
 import nrg.inc.synhubbackend.groups.domain.services.InvitationCommandService;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.GroupRepository;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.InvitationRepository;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.LeaderRepository;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.MemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -21,12 +24,14 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
     private final GroupRepository groupRepository;
     private final MemberRepository memberRepository;
     private final LeaderRepository leaderRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public InvitationCommandServiceImpl(InvitationRepository invitationRepository, GroupRepository groupRepository, MemberRepository memberRepository, LeaderRepository leaderRepository) {
+    public InvitationCommandServiceImpl(InvitationRepository invitationRepository, GroupRepository groupRepository, MemberRepository memberRepository, LeaderRepository leaderRepository, ApplicationEventPublisher eventPublisher) {
         this.invitationRepository = invitationRepository;
         this.groupRepository = groupRepository;
         this.memberRepository = memberRepository;
         this.leaderRepository = leaderRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -88,6 +93,7 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
     }
 
     @Override
+    @Transactional
     public void handle(AcceptInvitationCommand command) {
         var invitation = validateAndGetInvitation(command.invitationId(), command.leaderId());
 
@@ -101,5 +107,6 @@ public class InvitationCommandServiceImpl implements InvitationCommandService {
         this.groupRepository.save(group);
 
         this.invitationRepository.delete(invitation);
+        this.eventPublisher.publishEvent(new GroupMembershipChangedEvent(group.getId(), member.getId()));
     }
 }
@@ -2,9 +2,11 @@ package nrg.inc.synhubbackend.groups.application.internal.commandservices;
 
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.commands.CreateLeaderCommand;
+import nrg.inc.synhubbackend.groups.domain.model.commands.RecordSolvedRequestsCommand;
 import nrg.inc.synhubbackend.groups.domain.services.LeaderCommandService;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.LeaderRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -24,6 +26,12 @@ public class LeaderCommandServiceImpl implements LeaderCommandService {
         leaderRepository.save(leader);
         return Optional.of(leader);
     }
-}
 
+    @Override
+    @Transactional
+    public void handle(RecordSolvedRequestsCommand command) {
+        if (command.solvedRequests() == 0) return;
 
+        leaderRepository.recordSolvedRequests(command.groupId(), command.solvedRequests(), command.totalSolutionTimeMillis());
+    }
+}
@@ -0,0 +1,26 @@
+package nrg.inc.synhubbackend.groups.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.groups.domain.model.commands.RecordSolvedRequestsCommand;
+import nrg.inc.synhubbackend.groups.domain.services.LeaderCommandService;
+import nrg.inc.synhubbackend.requests.domain.model.events.RequestsResolvedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class RequestsResolvedEventHandler {
+
+    private final LeaderCommandService leaderCommandService;
+
+    public RequestsResolvedEventHandler(LeaderCommandService leaderCommandService) {
+        this.leaderCommandService = leaderCommandService;
+    }
+
+    /**
+     * Runs synchronously in the publisher's transaction, so the leader statistics commit or roll back with the status change.
+     */
+    @EventListener
+    public void on(RequestsResolvedEvent event) {
+        long totalMillis = event.solutionTimesMillis().stream().mapToLong(Long::longValue).sum();
+        leaderCommandService.handle(new RecordSolvedRequestsCommand(event.groupId(), event.solutionTimesMillis().size(), totalMillis));
+    }
+}
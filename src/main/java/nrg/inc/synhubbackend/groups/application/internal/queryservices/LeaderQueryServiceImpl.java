@@ -5,6 +5,7 @@ import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByIdQuery;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByUsernameQuery;
 import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.LeaderRepository;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.shared.application.external.outboundedservices.ExternalIamService;
 import org.springframework.stereotype.Service;
 
@@ -28,19 +29,13 @@ public class LeaderQueryServiceImpl implements LeaderQueryService {
 
     @Override
     public Optional<Leader> handle(GetLeaderByUsernameQuery query) {
-        var user = externalIamService.getUserByUsername(query.username());
+        var identity = externalIamService.getUserIdentityByUsername(query.username());
 
-        var role = user.get().getRoles().stream().findFirst().get().getName().toString();
-
-        if (!role.equals("ROLE_LEADER")){
-            return Optional.empty();
-        }
-
-        var leader = user.get().getLeader();
-        if (leader == null) {
+        var leaderId = identity.filter(UserIdentity::isLeader).map(UserIdentity::leaderId);
+        if (leaderId.isEmpty()) {
             return Optional.empty();
         }
 
-        return Optional.of(leader);
+        return leaderRepository.findById(leaderId.get());
     }
 }
@@ -14,6 +14,7 @@ import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_groups_leader_id", columnList = "leader_id"))
 @NoArgsConstructor
 @Setter
 @Getter
@@ -1,5 +1,6 @@
 package nrg.inc.synhubbackend.groups.domain.model.aggregates;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.OneToOne;
 import lombok.Getter;
@@ -14,7 +15,12 @@ import java.sql.Time;
 @Setter
 public class Leader extends AuditableAbstractAggregateRoot<Leader> {
 
-    Time averageSolutionTime;
+    /**
+     * Running mean of the time between a request being created and this leader resolving it.
+     * Kept up to date by {@code LeaderRepository.recordSolvedRequests} as requests are resolved.
+     */
+    @Column(columnDefinition = "bigint default 0")
+    Long averageSolutionTimeMillis;
 
     Integer solvedRequests;
 
@@ -22,8 +28,15 @@ public class Leader extends AuditableAbstractAggregateRoot<Leader> {
     private User user;
 
     public Leader() {
-        this.averageSolutionTime = new Time(0);
+        this.averageSolutionTimeMillis = 0L;
         this.solvedRequests = 0;
     }
 
+    public Time getAverageSolutionTime() {
+        return new Time(averageSolutionTimeMillis != null ? averageSolutionTimeMillis : 0L);
+    }
+
+    public void setAverageSolutionTime(Time averageSolutionTime) {
+        this.averageSolutionTimeMillis = averageSolutionTime.getTime();
+    }
 }
@@ -0,0 +1,19 @@
+package nrg.inc.synhubbackend.groups.domain.model.commands;
+
+/**
+ * Adds resolved requests to the statistics of the leader of a group.
+ * @param totalSolutionTimeMillis sum of the times the requests waited before being resolved
+ */
+public record RecordSolvedRequestsCommand(Long groupId, int solvedRequests, long totalSolutionTimeMillis) {
+    public RecordSolvedRequestsCommand {
+        if (groupId == null) {
+            throw new IllegalArgumentException("Group id must not be null");
+        }
+        if (solvedRequests < 0) {
+            throw new IllegalArgumentException("Solved requests must not be negative");
+        }
+        if (totalSolutionTimeMillis < 0) {
+            throw new IllegalArgumentException("Total solution time must not be negative");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package nrg.inc.synhubbackend.groups.domain.model.events;
+
+/**
+ * Published when a member joins or leaves a group. A null memberId means the whole group changed (e.g. it was deleted).
+ * The leaderId is set when the group changed for its leader, i.e. it was created or deleted.
+ */
+public record GroupMembershipChangedEvent(Long groupId, Long memberId, Long leaderId) {
+
+    public GroupMembershipChangedEvent(Long groupId, Long memberId) {
+        this(groupId, memberId, null);
+    }
+}
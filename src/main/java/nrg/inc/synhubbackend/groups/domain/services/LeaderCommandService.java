@@ -2,10 +2,13 @@ package nrg.inc.synhubbackend.groups.domain.services;
 
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.commands.CreateLeaderCommand;
+import nrg.inc.synhubbackend.groups.domain.model.commands.RecordSolvedRequestsCommand;
 
 import java.util.Optional;
 
 public interface LeaderCommandService {
 
     Optional<Leader> handle(CreateLeaderCommand command);
+
+    void handle(RecordSolvedRequestsCommand command);
 }
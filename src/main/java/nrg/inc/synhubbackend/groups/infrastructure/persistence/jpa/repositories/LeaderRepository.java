@@ -2,8 +2,31 @@ package nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories
 
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface LeaderRepository extends JpaRepository<Leader, Long> {
+
+    /**
+     * Folds newly resolved requests into the leader's running mean in one row update:
+     * {@code mean' = mean + (total - count * mean) / (solved + count)}. Both columns are read and written in the same
+     * statement, so concurrent resolutions never lose an update. It runs inside the request update's transaction,
+     * so the persistence context is left alone; clearing it would detach the request being returned.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE leaders l
+            SET average_solution_time_millis = coalesce(l.average_solution_time_millis, 0)
+                    + round((:totalMillis - :count * coalesce(l.average_solution_time_millis, 0))::numeric
+                            / (coalesce(l.solved_requests, 0) + :count)),
+                solved_requests = coalesce(l.solved_requests, 0) + :count
+            FROM groups g
+            WHERE g.id = :groupId AND g.leader_id = l.id
+            """, nativeQuery = true)
+    int recordSolvedRequests(@Param("groupId") Long groupId,
+                             @Param("count") int count,
+                             @Param("totalMillis") long totalMillis);
 }
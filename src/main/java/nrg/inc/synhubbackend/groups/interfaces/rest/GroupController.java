@@ -11,11 +11,13 @@ import nrg.inc.synhubbackend.groups.interfaces.rest.resources.GroupMemberResourc
 import nrg.inc.synhubbackend.groups.interfaces.rest.resources.GroupResource;
 import nrg.inc.synhubbackend.groups.interfaces.rest.transform.GroupMemberResourceFromEntityAssembler;
 import nrg.inc.synhubbackend.groups.interfaces.rest.transform.GroupResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.iam.interfaces.acl.IdentityPrincipal;
 import nrg.inc.synhubbackend.shared.application.external.outboundedservices.ExternalMemberService;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByGroupIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.TaskResource;
-import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskPageResponseAssembler;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceNdjsonAssembler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -23,8 +25,10 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -35,12 +39,14 @@ public class GroupController {
     private final ExternalMemberService externalMemberService;
     private final TaskQueryService taskQueryService;
     private final LeaderQueryService leaderQueryService;
+    private final TaskResourceNdjsonAssembler taskResourceNdjsonAssembler;
 
-    public GroupController(GroupQueryService groupQueryService, ExternalMemberService externalMemberService, TaskQueryService taskQueryService, LeaderQueryService leaderQueryService) {
+    public GroupController(GroupQueryService groupQueryService, ExternalMemberService externalMemberService, TaskQueryService taskQueryService, LeaderQueryService leaderQueryService, TaskResourceNdjsonAssembler taskResourceNdjsonAssembler) {
         this.groupQueryService = groupQueryService;
         this.externalMemberService = externalMemberService;
         this.taskQueryService = taskQueryService;
         this.leaderQueryService = leaderQueryService;
+        this.taskResourceNdjsonAssembler = taskResourceNdjsonAssembler;
     }
 
     @GetMapping("/search")
@@ -60,23 +66,11 @@ public class GroupController {
     @GetMapping("/members")
     @Operation(summary = "Get all group members", description = "Retrieve all members of a group")
     public ResponseEntity<List<GroupMemberResource>> getAllMembersByGroupId(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
+        var groupId = getGroupIdByLeader(userDetails);
 
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
+        if (groupId.isEmpty()) return ResponseEntity.notFound().build();
 
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
-
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
-
-        var getGroupByLeaderIdQuery = new GetGroupByLeaderIdQuery(leader.get().getId());
-
-        var group = this.groupQueryService.handle(getGroupByLeaderIdQuery);
-
-        if (group.isEmpty()) return ResponseEntity.notFound().build();
-
-        Long groupId = group.get().getId();
-
-        var members = externalMemberService.getMembersByGroupId(groupId);
+        var members = externalMemberService.getMembersByGroupId(groupId.get());
 
         var memberResources = members.stream()
                 .map(GroupMemberResourceFromEntityAssembler::toResourceFromEntity)
@@ -86,32 +80,49 @@ public class GroupController {
     }
 
     @GetMapping("/tasks")
-    @Operation(summary = "Get all tasks by group ID", description = "Retrieve all tasks associated with a specific group ID")
-    public ResponseEntity<List<TaskResource>> getAllTasksByGroupId(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
+    @Operation(summary = "Get all tasks by group ID", description = "Retrieve all tasks associated with a specific group ID ordered by id. When a limit is given, pass the X-Next-Cursor header of the previous page as 'after' to get the next one")
+    public ResponseEntity<List<TaskResource>> getAllTasksByGroupId(@AuthenticationPrincipal UserDetails userDetails,
+                                                                   @RequestParam(required = false) Long after,
+                                                                   @RequestParam(required = false) Integer limit) {
+        if (!TaskPageResponseAssembler.isValidPage(after, limit)) return ResponseEntity.badRequest().build();
 
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
+        var groupId = getGroupIdByLeader(userDetails);
 
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
+        if (groupId.isEmpty()) return ResponseEntity.notFound().build();
 
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
+        var getAllTasksByGroupIdQuery = new GetAllTasksByGroupIdQuery(groupId.get(), after, limit);
 
-        var getGroupByLeaderIdQuery = new GetGroupByLeaderIdQuery(leader.get().getId());
+        var tasks = taskQueryService.handle(getAllTasksByGroupIdQuery);
 
-        var group = this.groupQueryService.handle(getGroupByLeaderIdQuery);
+        return TaskPageResponseAssembler.toResponseFromEntities(tasks, limit);
+    }
 
-        if (group.isEmpty()) return ResponseEntity.notFound().build();
+    @GetMapping(value = "/tasks/stream", produces = TaskResourceNdjsonAssembler.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all tasks by group ID", description = "Stream all tasks associated with a specific group ID as newline-delimited JSON ordered by id")
+    public ResponseEntity<StreamingResponseBody> streamAllTasksByGroupId(@AuthenticationPrincipal UserDetails userDetails,
+                                                                         @RequestParam(required = false) Long after) {
+        var groupId = getGroupIdByLeader(userDetails);
 
-        Long groupId = group.get().getId();
+        if (groupId.isEmpty()) return ResponseEntity.notFound().build();
 
-        var getAllTasksByGroupIdQuery = new GetAllTasksByGroupIdQuery(groupId);
+        var getAllTasksByGroupIdQuery = new GetAllTasksByGroupIdQuery(groupId.get(), after, null);
 
-        var tasks = taskQueryService.handle(getAllTasksByGroupIdQuery);
+        return taskResourceNdjsonAssembler.toResponseFromSource(consumer -> taskQueryService.handle(getAllTasksByGroupIdQuery, consumer));
+    }
 
-        var taskResources = tasks.stream()
-                .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
+    private Optional<Long> getGroupIdByLeader(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getLeaderId().flatMap(leaderId -> principal.getGroupId());
+        }
+
+        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(userDetails.getUsername());
+
+        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
+
+        if (leader.isEmpty()) return Optional.empty();
+
+        var getGroupByLeaderIdQuery = new GetGroupByLeaderIdQuery(leader.get().getId());
 
-        return ResponseEntity.ok(taskResources);
+        return this.groupQueryService.handle(getGroupByLeaderIdQuery).map(group -> group.getId());
     }
 }
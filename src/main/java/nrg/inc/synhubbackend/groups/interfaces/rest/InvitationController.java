@@ -2,6 +2,7 @@ package nrg.inc.synhubbackend.groups.interfaces.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.domain.model.commands.CancelInvitationCommand;
 import nrg.inc.synhubbackend.groups.domain.model.commands.CreateInvitationCommand;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByLeaderIdQuery;
@@ -14,6 +15,8 @@ import nrg.inc.synhubbackend.groups.domain.services.InvitationQueryService;
 import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
 import nrg.inc.synhubbackend.groups.interfaces.rest.resources.InvitationResource;
 import nrg.inc.synhubbackend.groups.interfaces.rest.transform.InvitationResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.iam.interfaces.acl.IdentityPrincipal;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByUsernameQuery;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberQueryService;
@@ -25,6 +28,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -71,19 +75,11 @@ public class InvitationController {
     @GetMapping("/group")
     @Operation(summary = "Get all invitations for a group", description = "Get all invitations for a specific group")
     public ResponseEntity<List<InvitationResource>> getInvitationByGroupId(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
-
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
-
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
-
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
-
-        var group = this.groupQueryService.handle(new GetGroupByLeaderIdQuery(leader.get().getId()));
+        var groupId = getGroupIdByLeader(userDetails);
 
-        if (group.isEmpty()) return ResponseEntity.notFound().build();
+        if (groupId.isEmpty()) return ResponseEntity.notFound().build();
 
-        var getInvitationsByGroupIdQuery = new GetInvitationsByGroupIdQuery(group.get().getId());
+        var getInvitationsByGroupIdQuery = new GetInvitationsByGroupIdQuery(groupId.get());
         var invitations = this.invitationQueryService.handle(getInvitationsByGroupIdQuery);
         var invitationResources = invitations.stream()
                 .map(invitation -> {
@@ -106,21 +102,15 @@ public class InvitationController {
     @DeleteMapping("/member")
     @Operation(summary = "Cancel an invitation", description = "Cancel an existing invitation by a member")
     public ResponseEntity<Void> cancelInvitation(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
-
-        var getMemberByUsernameQuery = new GetMemberByUsernameQuery(username);
-
-        var member = this.memberQueryService.handle(getMemberByUsernameQuery);
+        var memberId = getMemberId(userDetails);
 
-        if(member.isEmpty()) return ResponseEntity.notFound().build();
+        if(memberId.isEmpty()) return ResponseEntity.notFound().build();
 
-        Long memberId = member.get().getId();
-
-        var getInvitationByMemberIdQuery = new GetInvitationByMemberIdQuery(memberId);
+        var getInvitationByMemberIdQuery = new GetInvitationByMemberIdQuery(memberId.get());
 
         var invitationId = this.invitationQueryService.handle(getInvitationByMemberIdQuery).get().getId();
 
-        var cancelInvitationCommand = new CancelInvitationCommand(memberId, invitationId);
+        var cancelInvitationCommand = new CancelInvitationCommand(memberId.get(), invitationId);
 
         this.invitationCommandService.handle(cancelInvitationCommand);
 
@@ -149,4 +139,20 @@ public class InvitationController {
         var invitationResource = InvitationResourceFromEntityAssembler.toResourceFromEntity(invitation.get(), member.get());
         return ResponseEntity.ok(invitationResource);
     }
+
+    private Optional<Long> getGroupIdByLeader(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getLeaderId().flatMap(leaderId -> principal.getGroupId());
+        }
+        var leader = this.leaderQueryService.handle(new GetLeaderByUsernameQuery(userDetails.getUsername()));
+        if (leader.isEmpty()) return Optional.empty();
+        return this.groupQueryService.handle(new GetGroupByLeaderIdQuery(leader.get().getId())).map(Group::getId);
+    }
+
+    private Optional<Long> getMemberId(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getMemberId();
+        }
+        return this.memberQueryService.handle(new GetMemberByUsernameQuery(userDetails.getUsername())).map(Member::getId);
+    }
 }
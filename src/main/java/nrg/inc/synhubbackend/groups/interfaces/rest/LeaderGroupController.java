@@ -3,6 +3,7 @@ package nrg.inc.synhubbackend.groups.interfaces.rest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import nrg.inc.synhubbackend.groups.application.external.ExternalTasksService;
+import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.commands.CreateGroupCommand;
 import nrg.inc.synhubbackend.groups.domain.model.commands.DeleteGroupCommand;
 import nrg.inc.synhubbackend.groups.domain.model.commands.RemoveMemberFromGroupCommand;
@@ -16,11 +17,14 @@ import nrg.inc.synhubbackend.groups.interfaces.rest.resources.CreateGroupResourc
 import nrg.inc.synhubbackend.groups.interfaces.rest.resources.GroupResource;
 import nrg.inc.synhubbackend.groups.interfaces.rest.resources.UpdateGroupResource;
 import nrg.inc.synhubbackend.groups.interfaces.rest.transform.GroupResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.iam.interfaces.acl.IdentityPrincipal;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @RestController
 @RequestMapping(value = "/api/v1/leader/group")
 @Tag(name = "Groups", description = "Group management API")
@@ -43,19 +47,15 @@ public class LeaderGroupController {
     @Operation(summary = "Create a new group", description = "Creates a new group")
     public ResponseEntity<GroupResource> createGroup(@RequestBody CreateGroupResource resource, @AuthenticationPrincipal UserDetails userDetails) {
 
-        String username = userDetails.getUsername();
-
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
+        var leaderId = getLeaderId(userDetails);
 
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
-
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
+        if (leaderId.isEmpty()) return ResponseEntity.notFound().build();
 
         var createGroupCommand = new CreateGroupCommand(
                 resource.name(),
                 resource.imgUrl(),
                 resource.description(),
-                leader.get().getId()
+                leaderId.get()
         );
 
         var group = this.groupCommandService.handle(createGroupCommand);
@@ -70,16 +70,12 @@ public class LeaderGroupController {
     @Operation(summary = "Update a group", description = "Updates a group")
     public ResponseEntity<GroupResource> updateGroup(@AuthenticationPrincipal UserDetails userDetails, @RequestBody UpdateGroupResource groupResource) {
 
-        String username = userDetails.getUsername();
-
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
+        var leaderId = getLeaderId(userDetails);
 
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
-
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
+        if (leaderId.isEmpty()) return ResponseEntity.notFound().build();
 
         var updateGroupCommand = new UpdateGroupCommand(
-                leader.get().getId(),
+                leaderId.get(),
                 groupResource.name(),
                 groupResource.description(),
                 groupResource.imgUrl()
@@ -97,15 +93,11 @@ public class LeaderGroupController {
     @Operation(summary = "Delete a group", description = "Deletes a group")
     public ResponseEntity<Void> deleteGroup(@AuthenticationPrincipal UserDetails userDetails) {
 
-        String username = userDetails.getUsername();
-
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
-
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
+        var leaderId = getLeaderId(userDetails);
 
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
+        if (leaderId.isEmpty()) return ResponseEntity.notFound().build();
 
-        var deleteGroupCommand = new DeleteGroupCommand(leader.get().getId());
+        var deleteGroupCommand = new DeleteGroupCommand(leaderId.get());
 
         this.groupCommandService.handle(deleteGroupCommand);
 
@@ -115,15 +107,11 @@ public class LeaderGroupController {
     @GetMapping
     @Operation(summary = "Get a group by ID", description = "Gets a group by ID")
     public ResponseEntity<GroupResource> getGroupById(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
+        var leaderId = getLeaderId(userDetails);
 
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
+        if (leaderId.isEmpty()) return ResponseEntity.notFound().build();
 
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
-
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
-
-        var getGroupByLeaderIdQuery = new GetGroupByLeaderIdQuery(leader.get().getId());
+        var getGroupByLeaderIdQuery = new GetGroupByLeaderIdQuery(leaderId.get());
 
         var group = this.groupQueryService.handle(getGroupByLeaderIdQuery);
 
@@ -137,23 +125,24 @@ public class LeaderGroupController {
     @DeleteMapping("/members/{memberId}")
     @Operation(summary = "Remove a member from the group", description = "Removes a member from the group")
     public ResponseEntity<Void> removeMemberFromGroup(@AuthenticationPrincipal UserDetails userDetails, @PathVariable Long memberId) {
-        String username = userDetails.getUsername();
-
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
+        var leaderId = getLeaderId(userDetails);
 
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
-
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
-
-        Long leaderId = leader.get().getId();
+        if (leaderId.isEmpty()) return ResponseEntity.notFound().build();
 
         externalTasksService.deleteTasksByMemberId(memberId);
 
-        var removeMemberFromGroupCommand = new RemoveMemberFromGroupCommand(leaderId, memberId);
+        var removeMemberFromGroupCommand = new RemoveMemberFromGroupCommand(leaderId.get(), memberId);
 
         this.groupCommandService.handle(removeMemberFromGroupCommand);
 
         return ResponseEntity.noContent().build();
     }
 
+    private Optional<Long> getLeaderId(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getLeaderId();
+        }
+        return this.leaderQueryService.handle(new GetLeaderByUsernameQuery(userDetails.getUsername()))
+                .map(Leader::getId);
+    }
 }
@@ -4,8 +4,10 @@ import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignUpCommand;
 import nrg.inc.synhubbackend.iam.domain.model.entities.Role;
 import nrg.inc.synhubbackend.iam.domain.model.queries.*;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.iam.domain.services.UserCommandService;
 import nrg.inc.synhubbackend.iam.domain.services.UserQueryService;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.RequestIdentityCache;
 import nrg.inc.synhubbackend.iam.interfaces.acl.IamContextFacade;
 import org.apache.logging.log4j.util.Strings;
 import org.springframework.stereotype.Service;
@@ -18,10 +20,13 @@ import java.util.Optional;
 public class IamContextFacadeImpl implements IamContextFacade {
     private final UserCommandService userCommandService;
     private final UserQueryService userQueryService;
+    private final RequestIdentityCache requestIdentityCache;
 
-    public IamContextFacadeImpl(UserCommandService userCommandService, UserQueryService userQueryService) {
+    public IamContextFacadeImpl(UserCommandService userCommandService, UserQueryService userQueryService,
+                                RequestIdentityCache requestIdentityCache) {
         this.userCommandService = userCommandService;
         this.userQueryService = userQueryService;
+        this.requestIdentityCache = requestIdentityCache;
     }
 
     /**
@@ -90,6 +95,18 @@ public class IamContextFacadeImpl implements IamContextFacade {
         return result.get().getId();
     }
 
+    /**
+     * Fetches the identity of the user with the given username: its id, role and leader, member and group ids.
+     * The identity is resolved with a single query and remembered for the rest of the current request.
+     * @param username The username of the user.
+     * @return An Optional containing the identity if the user exists, otherwise empty.
+     */
+    @Override
+    public Optional<UserIdentity> fetchUserIdentityByUsername(String username) {
+        return requestIdentityCache.get(username,
+                () -> userQueryService.handle(new GetUserIdentityByUsernameQuery(username)));
+    }
+
     /**
      * Fetches the username of the user with the given id.
      * @param userId The id of the user.
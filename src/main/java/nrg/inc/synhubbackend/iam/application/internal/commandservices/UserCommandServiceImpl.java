@@ -6,14 +6,19 @@ import nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens.To
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserLeaderCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserMemberCommand;
+import nrg.inc.synhubbackend.iam.domain.model.commands.MarkIdentitiesChangedCommand;
+import nrg.inc.synhubbackend.iam.domain.model.commands.RefreshTokenCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignInCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignUpCommand;
+import nrg.inc.synhubbackend.iam.domain.model.events.UserCredentialsChangedEvent;
 import nrg.inc.synhubbackend.iam.domain.services.UserCommandService;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import nrg.inc.synhubbackend.shared.application.external.outboundedservices.ExternalMemberService;
 import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -21,7 +26,8 @@ import java.util.Optional;
  * User command service implementation
  * <p>
  *     This class implements the {@link UserCommandService} interface and provides the implementation for the
- *     {@link SignInCommand} and {@link SignUpCommand} commands.
+ *     {@link SignInCommand}, {@link SignUpCommand} and {@link RefreshTokenCommand} commands.
+ *     Issued tokens carry the identity claims of the user.
  * </p>
  */
 @Service
@@ -35,15 +41,18 @@ public class UserCommandServiceImpl implements UserCommandService {
   private final ExternalLeaderService externalLeaderService;
 
   private final RoleRepository roleRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
   public UserCommandServiceImpl(UserRepository userRepository, HashingService hashingService,
-                                TokenService tokenService, ExternalMemberService externalMemberService, ExternalLeaderService externalLeaderService, RoleRepository roleRepository) {
+                                TokenService tokenService, ExternalMemberService externalMemberService, ExternalLeaderService externalLeaderService, RoleRepository roleRepository,
+                                ApplicationEventPublisher eventPublisher) {
     this.userRepository = userRepository;
     this.hashingService = hashingService;
     this.tokenService = tokenService;
     this.externalMemberService = externalMemberService;
     this.externalLeaderService = externalLeaderService;
     this.roleRepository = roleRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   /**
@@ -63,10 +72,34 @@ public class UserCommandServiceImpl implements UserCommandService {
     if (!hashingService.matches(command.password(), user.get().getPassword()))
       throw new RuntimeException("Invalid password");
 
-    var token = tokenService.generateToken(user.get().getUsername());
+    var token = generateToken(user.get());
     return Optional.of(ImmutablePair.of(user.get(), token));
   }
 
+  /**
+   * Handle the refresh token command
+   * <p>
+   *     This method handles the {@link RefreshTokenCommand} command. It issues a new token whose identity claims
+   *     reflect the current leader, member and group of the user, and revokes the old token on this instance.
+   * </p>
+   * @param command the refresh token command containing the current token
+   * @return an optional containing the user and the new token
+   * @throws RuntimeException if the token is not valid or the user is not found
+   */
+  @Override
+  public Optional<ImmutablePair<User, String>> handle(RefreshTokenCommand command) {
+    var claims = tokenService.verifyToken(command.token())
+        .orElseThrow(() -> new RuntimeException("Invalid token"));
+    var user = userRepository.findByUsername(claims.username())
+        .orElseThrow(() -> new RuntimeException("User not found"));
+
+    var token = generateToken(user);
+    if (!token.equals(command.token())) {
+      tokenService.revokeToken(command.token());
+    }
+    return Optional.of(ImmutablePair.of(user, token));
+  }
+
   /**
    * Handle the sign-up command
    * <p>
@@ -95,6 +128,7 @@ public class UserCommandServiceImpl implements UserCommandService {
             hashingService.encode(command.password()),
             roles);
     userRepository.save(user);
+    eventPublisher.publishEvent(new UserCredentialsChangedEvent(user.getUsername()));
     return userRepository.findByUsername(command.username());
   }
 
@@ -107,9 +141,11 @@ public class UserCommandServiceImpl implements UserCommandService {
     var user = userRepository.findById(userId).get();
     var leader = externalLeaderService.createUserLeader(command);
     user.setLeader(leader.get());
+    user.markIdentityChanged();
     leader.get().setUser(user);
     try {
       var updatedUser = userRepository.save(user);
+      eventPublisher.publishEvent(new UserCredentialsChangedEvent(updatedUser.getUsername()));
       return Optional.of(updatedUser);
     } catch (Exception e) {
         throw new RuntimeException("Failed to create user as leader: " + e.getMessage());
@@ -125,13 +161,41 @@ public class UserCommandServiceImpl implements UserCommandService {
     var user = userRepository.findById(userId).get();
     var member = externalMemberService.createUserMember(command);
     user.setMember(member.get());
+    user.markIdentityChanged();
     member.get().setUser(user);
 
     try {
       var updatedUser = userRepository.save(user);
+      eventPublisher.publishEvent(new UserCredentialsChangedEvent(updatedUser.getUsername()));
       return Optional.of(updatedUser);
     } catch (Exception e) {
         throw new RuntimeException("Failed to create user as member: " + e.getMessage());
     }
   }
+
+  /**
+   * Handle the mark identities changed command
+   * <p>
+   *     This method handles the {@link MarkIdentitiesChangedCommand} command. It bumps the identity version of the
+   *     affected users in the caller's transaction, so the change and the new version commit together, and tokens
+   *     carrying the previous version are resolved again on every instance.
+   * </p>
+   * @param command the command containing the leader, member and group whose users changed
+   */
+  @Override
+  @Transactional
+  public void handle(MarkIdentitiesChangedCommand command) {
+    if (command.leaderId() == null && command.memberId() == null && command.groupId() == null) return;
+
+    var usernames = userRepository.incrementIdentityVersions(
+        command.leaderId(), command.memberId(), command.groupId());
+    usernames.forEach(username -> eventPublisher.publishEvent(new UserCredentialsChangedEvent(username)));
+  }
+
+  private String generateToken(User user) {
+    return userRepository.findIdentitiesByUsername(user.getUsername()).stream()
+        .findFirst()
+        .map(tokenService::generateToken)
+        .orElseGet(() -> tokenService.generateToken(user.getUsername()));
+  }
 }
@@ -0,0 +1,50 @@
+package nrg.inc.synhubbackend.iam.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.groups.domain.model.events.GroupMembershipChangedEvent;
+import nrg.inc.synhubbackend.iam.domain.model.commands.MarkIdentitiesChangedCommand;
+import nrg.inc.synhubbackend.iam.domain.model.events.UserCredentialsChangedEvent;
+import nrg.inc.synhubbackend.iam.domain.services.UserCommandService;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.RequestIdentityCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * IdentityChangeEventHandler class
+ * This class is used to mark the identity claims of issued tokens as out of date when what they refer to changes
+ */
+@Service
+public class IdentityChangeEventHandler {
+  private final UserCommandService userCommandService;
+  private final RequestIdentityCache requestIdentityCache;
+
+  public IdentityChangeEventHandler(UserCommandService userCommandService,
+      RequestIdentityCache requestIdentityCache) {
+    this.userCommandService = userCommandService;
+    this.requestIdentityCache = requestIdentityCache;
+  }
+
+  /**
+   * Handle the GroupMembershipChangedEvent
+   * This method runs in the publisher's transaction, so the identity versions are bumped together with the change
+   * @param event the GroupMembershipChangedEvent the event to handle
+   */
+  @EventListener
+  public void on(GroupMembershipChangedEvent event) {
+    if (event.memberId() != null) {
+      userCommandService.handle(new MarkIdentitiesChangedCommand(event.leaderId(), event.memberId(), null));
+    } else {
+      userCommandService.handle(new MarkIdentitiesChangedCommand(event.leaderId(), null, event.groupId()));
+    }
+    requestIdentityCache.clear();
+  }
+
+  /**
+   * Handle the UserCredentialsChangedEvent
+   * This method drops the identities remembered for the current request
+   * @param event the UserCredentialsChangedEvent the event to handle
+   */
+  @EventListener
+  public void on(UserCredentialsChangedEvent event) {
+    requestIdentityCache.clear();
+  }
+}
@@ -0,0 +1,29 @@
+package nrg.inc.synhubbackend.iam.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.iam.domain.model.events.UserCredentialsChangedEvent;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.UserDetailsCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * UserDetailsCacheInvalidationHandler class
+ * This class is used to evict cached user details when a user's credentials change
+ */
+@Service
+public class UserDetailsCacheInvalidationHandler {
+  private final UserDetailsCache userDetailsCache;
+
+  public UserDetailsCacheInvalidationHandler(UserDetailsCache userDetailsCache) {
+    this.userDetailsCache = userDetailsCache;
+  }
+
+  /**
+   * Handle the UserCredentialsChangedEvent
+   * This method runs after commit so a concurrent request cannot cache the previous details again
+   * @param event the UserCredentialsChangedEvent the event to handle
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void on(UserCredentialsChangedEvent event) {
+    userDetailsCache.invalidate(event.username());
+  }
+}
@@ -0,0 +1,16 @@
+package nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens;
+
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+
+import java.time.Instant;
+
+/**
+ * TokenClaims record
+ * The claims of a token whose signature and expiration have been verified
+ * @param username the subject of the token
+ * @param issuedAt the time the token was issued
+ * @param expiresAt the expiration time of the token
+ * @param identity the identity of the user when the token was issued, or null if the token carries none
+ */
+public record TokenClaims(String username, Instant issuedAt, Instant expiresAt, UserIdentity identity) {
+}
@@ -1,5 +1,9 @@
 package nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens;
 
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+
+import java.util.Optional;
+
 /**
  * TokenService interface
  * This interface is used to generate and validate tokens
@@ -13,6 +17,13 @@ public interface TokenService {
    */
   String generateToken(String username);
 
+  /**
+   * Generate a token for a user that also carries the user's identity claims
+   * @param identity the identity of the user
+   * @return String the token
+   */
+  String generateToken(UserIdentity identity);
+
   /**
    * Extract the username from a token
    * @param token the token
@@ -26,4 +37,18 @@ public interface TokenService {
    * @return boolean true if the token is valid, false otherwise
    */
   boolean validateToken(String token);
+
+  /**
+   * Verify a token and extract its claims in a single parse
+   * @param token the token
+   * @return the verified claims, or empty if the token is not valid
+   */
+  Optional<TokenClaims> verifyToken(String token);
+
+  /**
+   * Revoke a token so this instance rejects it until it expires
+   * @param token the token
+   * @throws IllegalStateException if the user of the token has revoked too many tokens that have not expired yet
+   */
+  void revokeToken(String token);
 }
@@ -2,6 +2,7 @@ package nrg.inc.synhubbackend.iam.application.internal.queryservices;
 
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
 import nrg.inc.synhubbackend.iam.domain.model.queries.*;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.iam.domain.services.UserQueryService;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.stereotype.Service;
@@ -84,4 +85,16 @@ public class UserQueryServiceImpl implements UserQueryService {
   public List<User> handle(GetUsersByGroupIdQuery query) {
     return userRepository.findByMember_Group_Id(query.groupId());
   }
+
+  /**
+   * This method is used to handle {@link GetUserIdentityByUsernameQuery} query.
+   * The identity is projected in a single query; a user with several roles resolves to the first one.
+   * @param query {@link GetUserIdentityByUsernameQuery} instance.
+   * @return {@link Optional} of {@link UserIdentity} instance.
+   * @see GetUserIdentityByUsernameQuery
+   */
+  @Override
+  public Optional<UserIdentity> handle(GetUserIdentityByUsernameQuery query) {
+    return userRepository.findIdentitiesByUsername(query.username()).stream().findFirst();
+  }
 }
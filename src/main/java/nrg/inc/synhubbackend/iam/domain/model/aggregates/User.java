@@ -64,6 +64,13 @@ public class User extends AuditableAbstractAggregateRoot<User> {
     @JoinColumn(name = "member_id")
     private Member member;
 
+    /**
+     * Bumped whenever the leader, member or group the user resolves to changes, so tokens carrying
+     * an older version know their identity claims are out of date.
+     */
+    @Column(columnDefinition = "bigint default 0")
+    private Long identityVersion = 0L;
+
     public User() {
         this.roles = new HashSet<>();
     }
@@ -101,6 +108,10 @@ public class User extends AuditableAbstractAggregateRoot<User> {
     }
 
 
+    public void markIdentityChanged() {
+        this.identityVersion = (identityVersion != null ? identityVersion : 0L) + 1;
+    }
+
     public User addRole(Role role) {
         this.roles.add(role);
         return this;
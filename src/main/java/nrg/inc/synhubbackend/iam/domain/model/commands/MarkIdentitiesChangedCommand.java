@@ -0,0 +1,12 @@
+package nrg.inc.synhubbackend.iam.domain.model.commands;
+
+/**
+ * Marks the identity of the users behind a leader, a member or the members of a group as changed.
+ * Null ids are ignored.
+ */
+public record MarkIdentitiesChangedCommand(
+        Long leaderId,
+        Long memberId,
+        Long groupId
+) {
+}
@@ -0,0 +1,4 @@
+package nrg.inc.synhubbackend.iam.domain.model.commands;
+
+public record RefreshTokenCommand(String token) {
+}
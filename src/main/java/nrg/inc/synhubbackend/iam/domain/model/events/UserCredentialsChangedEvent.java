@@ -0,0 +1,9 @@
+package nrg.inc.synhubbackend.iam.domain.model.events;
+
+/**
+ * Published when the password, roles or profile associations of a user are saved,
+ * so anything holding a copy of the user's security details can drop it.
+ * @param username the username of the changed user
+ */
+public record UserCredentialsChangedEvent(String username) {
+}
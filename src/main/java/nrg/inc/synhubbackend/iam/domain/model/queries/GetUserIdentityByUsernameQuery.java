@@ -0,0 +1,4 @@
+package nrg.inc.synhubbackend.iam.domain.model.queries;
+
+public record GetUserIdentityByUsernameQuery(String username) {
+}
@@ -0,0 +1,10 @@
+package nrg.inc.synhubbackend.iam.domain.model.valueobjects;
+
+/**
+ * Display name of the user behind a member, projected without loading the user aggregate.
+ */
+public record MemberName(Long memberId, String name, String surname) {
+  public String fullName() {
+    return name + " " + surname;
+  }
+}
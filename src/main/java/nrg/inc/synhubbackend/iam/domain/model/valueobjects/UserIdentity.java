@@ -0,0 +1,23 @@
+package nrg.inc.synhubbackend.iam.domain.model.valueobjects;
+
+/**
+ * The ids the user resolves to in the other contexts, projected without loading the user aggregate.
+ * The leader, member and group ids are null when the user has no such profile or belongs to no group;
+ * the group is the one the user leads as a leader or has joined as a member.
+ * The identity version is the one of the user when the ids were resolved, or null if it is not known.
+ */
+public record UserIdentity(Long userId, String username, Roles role, Long leaderId, Long memberId, Long groupId,
+                           Long identityVersion) {
+
+  public UserIdentity(Long userId, String username, Roles role, Long leaderId, Long memberId, Long groupId) {
+    this(userId, username, role, leaderId, memberId, groupId, null);
+  }
+
+  public boolean isLeader() {
+    return role == Roles.ROLE_LEADER;
+  }
+
+  public boolean isMember() {
+    return role == Roles.ROLE_MEMBER;
+  }
+}
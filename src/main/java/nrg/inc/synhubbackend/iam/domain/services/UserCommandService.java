@@ -3,6 +3,8 @@ package nrg.inc.synhubbackend.iam.domain.services;
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserLeaderCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserMemberCommand;
+import nrg.inc.synhubbackend.iam.domain.model.commands.MarkIdentitiesChangedCommand;
+import nrg.inc.synhubbackend.iam.domain.model.commands.RefreshTokenCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignInCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignUpCommand;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -40,4 +42,19 @@ public interface UserCommandService {
      * @return user
      */
   Optional<User> handle(CreateUserMemberCommand command);
+
+  /**
+   * Handle refresh token command
+   * This method issues a new token with the current identity claims of the user and revokes the old one on this instance
+   * @param command
+   * @return user and the new token
+   */
+  Optional<ImmutablePair<User, String>> handle(RefreshTokenCommand command);
+
+  /**
+   * Handle mark identities changed command
+   * This method bumps the identity version of the affected users, so tokens issued before are no longer trusted
+   * @param command
+   */
+  void handle(MarkIdentitiesChangedCommand command);
 }
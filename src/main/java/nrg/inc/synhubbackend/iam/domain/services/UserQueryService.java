@@ -3,6 +3,7 @@ package nrg.inc.synhubbackend.iam.domain.services;
 
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
 import nrg.inc.synhubbackend.iam.domain.model.queries.*;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +15,5 @@ public interface UserQueryService {
   Optional<User> handle(GetUserByMemberId query);
   Optional<User> handle(GetUserByLeaderId query);
   List<User> handle(GetUsersByGroupIdQuery query);
+  Optional<UserIdentity> handle(GetUserIdentityByUsernameQuery query);
 }
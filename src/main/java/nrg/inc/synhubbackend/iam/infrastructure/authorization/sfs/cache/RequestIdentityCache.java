@@ -0,0 +1,80 @@
+package nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache;
+
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the identities resolved while handling the current request, keyed by username.
+ * <p>
+ * The bearer filter seeds it with the identity of the caller, so the leader and member lookups made while
+ * handling the request do not query for it again. Entries live in the request attributes and are dropped
+ * when an identity changes during the request. Outside a request every lookup goes to the loader.
+ * </p>
+ */
+@Component
+public class RequestIdentityCache {
+  private static final String ATTRIBUTE_NAME = RequestIdentityCache.class.getName();
+
+  /**
+   * Returns the identity remembered for the current request, loading and remembering it on a miss.
+   * @param username the username
+   * @param loader loads the identity; exceptions it throws propagate and nothing is remembered
+   * @return the identity, empty if the user does not exist
+   */
+  public Optional<UserIdentity> get(String username, Supplier<Optional<UserIdentity>> loader) {
+    var identities = identities(true);
+    if (identities == null) {
+      return loader.get();
+    }
+    var cached = identities.get(username);
+    if (cached != null) {
+      return cached;
+    }
+    var identity = loader.get();
+    identities.put(username, identity);
+    return identity;
+  }
+
+  /**
+   * Remembers the identity for the rest of the current request.
+   * @param identity the identity
+   */
+  public void put(UserIdentity identity) {
+    var identities = identities(true);
+    if (identities != null) {
+      identities.put(identity.username(), Optional.of(identity));
+    }
+  }
+
+  /**
+   * Forgets every identity remembered for the current request.
+   */
+  public void clear() {
+    var identities = identities(false);
+    if (identities != null) {
+      identities.clear();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Optional<UserIdentity>> identities(boolean create) {
+    var attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return null;
+    }
+    var identities = (Map<String, Optional<UserIdentity>>) attributes
+        .getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+    if (identities == null && create) {
+      identities = new HashMap<>();
+      attributes.setAttribute(ATTRIBUTE_NAME, identities, RequestAttributes.SCOPE_REQUEST);
+    }
+    return identities;
+  }
+}
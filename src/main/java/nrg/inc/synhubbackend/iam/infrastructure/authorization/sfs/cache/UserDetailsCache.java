@@ -0,0 +1,50 @@
+package nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
+import nrg.inc.synhubbackend.shared.domain.model.infrastructure.cache.GenerationGuardedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache of the user details resolved for authenticated requests, keyed by username.
+ * <p>
+ * Local credential changes invalidate entries after commit; details loaded while their user was invalidated are
+ * not cached. The short TTL bounds how long changes made on another instance take to show. Hit, miss and
+ * eviction counts are published as the {@code cache.*} meters tagged {@code cache=iam.user-details}.
+ * </p>
+ */
+@Component
+public class UserDetailsCache {
+  public static final String CACHE_NAME = "iam.user-details";
+
+  private final GenerationGuardedCache<String, String, UserDetailsImpl> cache;
+
+  public UserDetailsCache(@Value("${authorization.user-details.cache.maximum-size:10000}") long maximumSize,
+      @Value("${authorization.user-details.cache.ttl:60s}") Duration ttl,
+      MeterRegistry meterRegistry) {
+    this.cache = new GenerationGuardedCache<>(CACHE_NAME, maximumSize, ttl, Function.identity(), meterRegistry);
+  }
+
+  /**
+   * Returns the cached user details, loading and caching them on a miss.
+   * @param username the username
+   * @param loader loads the user details; exceptions it throws propagate and nothing is cached
+   * @return the user details
+   */
+  public UserDetailsImpl get(String username, Supplier<UserDetailsImpl> loader) {
+    return cache.get(username, loader);
+  }
+
+  /**
+   * Drops the cached user details of the given username.
+   * @param username the username
+   */
+  public void invalidate(String username) {
+    cache.invalidate(username);
+  }
+}
@@ -1,5 +1,7 @@
 package nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.configuration;
 
+import nrg.inc.synhubbackend.iam.domain.services.UserQueryService;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.RequestIdentityCache;
 import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.pipeline.BearerAuthorizationRequestFilter;
 import nrg.inc.synhubbackend.iam.infrastructure.hashing.bcrypt.BCryptHashingService;
 import nrg.inc.synhubbackend.iam.infrastructure.tokens.jwt.BearerTokenService;
@@ -37,6 +39,8 @@ public class WebSecurityConfiguration {
   private final UserDetailsService userDetailsService;
   private final BearerTokenService tokenService;
   private final BCryptHashingService hashingService;
+  private final UserQueryService userQueryService;
+  private final RequestIdentityCache requestIdentityCache;
 
   private final AuthenticationEntryPoint unauthorizedRequestHandler;
 
@@ -46,7 +50,8 @@ public class WebSecurityConfiguration {
    */
   @Bean
   public BearerAuthorizationRequestFilter authorizationRequestFilter() {
-    return new BearerAuthorizationRequestFilter(tokenService, userDetailsService);
+    return new BearerAuthorizationRequestFilter(tokenService, userDetailsService, userQueryService,
+        requestIdentityCache);
   }
 
   /**
@@ -117,16 +122,20 @@ public class WebSecurityConfiguration {
    * @param userDetailsService The user details service
    * @param tokenService The token service
    * @param hashingService The hashing service
+   * @param userQueryService The user query service
    * @param authenticationEntryPoint The authentication entry point
    */
   public WebSecurityConfiguration(
       @Qualifier("defaultUserDetailsService") UserDetailsService userDetailsService,
       BearerTokenService tokenService, BCryptHashingService hashingService,
+      UserQueryService userQueryService, RequestIdentityCache requestIdentityCache,
       AuthenticationEntryPoint authenticationEntryPoint) {
 
     this.userDetailsService = userDetailsService;
     this.tokenService = tokenService;
     this.hashingService = hashingService;
+    this.userQueryService = userQueryService;
+    this.requestIdentityCache = requestIdentityCache;
     this.unauthorizedRequestHandler = authenticationEntryPoint;
   }
 }
@@ -0,0 +1,24 @@
+package nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+import nrg.inc.synhubbackend.iam.interfaces.acl.IdentityPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * This class is the principal of requests authenticated with a bearer token.
+ * It extends the user details with the identity of the user, so controllers can read
+ * the leader, member and group ids of the caller without querying for them.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class AuthenticatedUser extends UserDetailsImpl implements IdentityPrincipal {
+
+  private final UserIdentity identity;
+
+  public AuthenticatedUser(UserDetails userDetails, UserIdentity identity) {
+    super(userDetails.getUsername(), userDetails.getPassword(), userDetails.getAuthorities());
+    this.identity = identity;
+  }
+}
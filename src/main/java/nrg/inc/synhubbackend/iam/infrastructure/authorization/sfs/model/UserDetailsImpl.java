@@ -27,12 +27,14 @@ public class UserDetailsImpl implements UserDetails {
   private final boolean credentialsNonExpired;
   private final boolean enabled;
   private final Collection<? extends GrantedAuthority> authorities;
+  private final Long identityVersion;
 
   public UserDetailsImpl(String username, String password,
-      Collection<? extends GrantedAuthority> authorities) {
+      Collection<? extends GrantedAuthority> authorities, Long identityVersion) {
     this.username = username;
     this.password = password;
     this.authorities = authorities;
+    this.identityVersion = identityVersion;
     this.accountNonExpired = true;
     this.accountNonLocked = true;
     this.credentialsNonExpired = true;
@@ -50,6 +52,7 @@ public class UserDetailsImpl implements UserDetails {
         .map(SimpleGrantedAuthority::new)
         .collect(Collectors.toList());
 
-    return new UserDetailsImpl(user.getUsername(), user.getPassword(), authorities);
+    return new UserDetailsImpl(user.getUsername(), user.getPassword(), authorities,
+        user.getIdentityVersion());
   }
 }
@@ -4,6 +4,13 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens.TokenClaims;
+import nrg.inc.synhubbackend.iam.domain.model.queries.GetUserIdentityByUsernameQuery;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+import nrg.inc.synhubbackend.iam.domain.services.UserQueryService;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.RequestIdentityCache;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.model.AuthenticatedUser;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.model.UsernamePasswordAuthenticationTokenBuilder;
 import nrg.inc.synhubbackend.iam.infrastructure.tokens.jwt.BearerTokenService;
 import org.slf4j.Logger;
@@ -11,16 +18,23 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Bearer Authorization Request Filter.
  * <p>
  * This class is responsible for filtering requests and setting the user authentication.
  * It extends the OncePerRequestFilter class.
+ * The principal is an {@link AuthenticatedUser} carrying the identity claims of the token. The claims are
+ * trusted only while their identity version matches the one stored with the user, as read through the user
+ * details cache; otherwise the identity is resolved again. Changes made on another instance therefore show
+ * once that cache expires. The identity is remembered for the rest of the request in the
+ * {@link RequestIdentityCache}.
  * </p>
  * @see OncePerRequestFilter
  */
@@ -32,11 +46,16 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
 
   @Qualifier("defaultUserDetailsService")
   private final UserDetailsService userDetailsService;
+  private final UserQueryService userQueryService;
+  private final RequestIdentityCache requestIdentityCache;
 
   public BearerAuthorizationRequestFilter(BearerTokenService tokenService,
-      UserDetailsService userDetailsService) {
+      UserDetailsService userDetailsService, UserQueryService userQueryService,
+      RequestIdentityCache requestIdentityCache) {
     this.tokenService = tokenService;
     this.userDetailsService = userDetailsService;
+    this.userQueryService = userQueryService;
+    this.requestIdentityCache = requestIdentityCache;
   }
 
   /**
@@ -52,16 +71,19 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
 
     try {
       String token = tokenService.getBearerTokenFrom(request);
-      LOGGER.info("Token: {}", token);
-      if (token != null && tokenService.validateToken(token)) {
-        String username = tokenService.getUsernameFromToken(token);
-        var userDetails = userDetailsService.loadUserByUsername(username);
+      var claims = token != null ? tokenService.verifyToken(token) : Optional.<TokenClaims>empty();
+      if (claims.isPresent()) {
+        var userDetails = userDetailsService.loadUserByUsername(claims.get().username());
+        var identity = resolveIdentity(claims.get(), userDetails);
+        var principal = identity.isPresent()
+            ? new AuthenticatedUser(userDetails, identity.get())
+            : userDetails;
         SecurityContextHolder.getContext()
             .setAuthentication(
-                UsernamePasswordAuthenticationTokenBuilder.build(userDetails, request));
+                UsernamePasswordAuthenticationTokenBuilder.build(principal, request));
       }
       else {
-        LOGGER.info("Token is not valid");
+        LOGGER.debug("Token is not valid");
       }
 
     } catch (Exception e) {
@@ -69,4 +91,34 @@ public class BearerAuthorizationRequestFilter extends OncePerRequestFilter {
     }
     filterChain.doFilter(request, response);
   }
+
+  /**
+   * This method is responsible for resolving the identity of the caller.
+   * The identity claims of the token are used unless they are missing or out of date.
+   * @param claims The verified claims of the token.
+   * @param userDetails The user details of the caller.
+   * @return The identity of the caller, empty if the user no longer exists.
+   */
+  private Optional<UserIdentity> resolveIdentity(TokenClaims claims, UserDetails userDetails) {
+    var identity = claims.identity();
+    if (identity != null && isCurrent(identity, userDetails)) {
+      requestIdentityCache.put(identity);
+      return Optional.of(identity);
+    }
+    return requestIdentityCache.get(claims.username(),
+        () -> userQueryService.handle(new GetUserIdentityByUsernameQuery(claims.username())));
+  }
+
+  /**
+   * This method is responsible for checking whether the identity claims are still current.
+   * Tokens issued before identity versions were recorded carry none, so they are never current.
+   * @param identity The identity claimed by the token.
+   * @param userDetails The user details of the caller.
+   * @return True if the identity version of the token is the one of the user.
+   */
+  private static boolean isCurrent(UserIdentity identity, UserDetails userDetails) {
+    return identity.identityVersion() != null
+        && userDetails instanceof UserDetailsImpl details
+        && identity.identityVersion().equals(details.getIdentityVersion());
+  }
 }
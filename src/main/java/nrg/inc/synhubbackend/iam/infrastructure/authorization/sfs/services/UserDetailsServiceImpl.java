@@ -1,5 +1,6 @@
 package nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.services;
 
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.UserDetailsCache;
 import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.model.UserDetailsImpl;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -10,27 +11,33 @@ import org.springframework.stereotype.Service;
 /**
  * This class is responsible for providing the user details to the Spring Security framework.
  * It implements the UserDetailsService interface.
+ * Resolved user details are served from the {@link UserDetailsCache} so authenticated requests
+ * do not query the users table.
  */
 @Service(value = "defaultUserDetailsService")
 public class UserDetailsServiceImpl implements UserDetailsService {
 
   private final UserRepository userRepository;
+  private final UserDetailsCache userDetailsCache;
 
-  public UserDetailsServiceImpl(UserRepository userRepository) {
+  public UserDetailsServiceImpl(UserRepository userRepository, UserDetailsCache userDetailsCache) {
     this.userRepository = userRepository;
+    this.userDetailsCache = userDetailsCache;
   }
 
   /**
-   * This method is responsible for loading the user details from the database.
+   * This method is responsible for loading the user details, from the cache when present.
    * @param username The username.
    * @return The UserDetails object.
    * @throws UsernameNotFoundException If the user is not found.
    */
   @Override
   public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-    var user = userRepository.findByUsername(username)
-        .orElseThrow(
-            () -> new UsernameNotFoundException("User not found with username: " + username));
-    return UserDetailsImpl.build(user);
+    return userDetailsCache.get(username, () -> {
+      var user = userRepository.findByUsername(username)
+          .orElseThrow(
+              () -> new UsernameNotFoundException("User not found with username: " + username));
+      return UserDetailsImpl.build(user);
+    });
   }
 }
@@ -1,9 +1,14 @@
 package nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories;
 
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.MemberName;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,4 +55,61 @@ public interface UserRepository extends JpaRepository<User, Long>
   Optional<User> findByLeader_Id(Long leaderId);
 
   List<User> findByMember_Group_Id(Long groupId);
+
+  /**
+   * This method is responsible for finding the names of the users behind the given members.
+   * Only the member ID, name and surname are selected, so roles are never loaded.
+   * @param memberIds The member IDs.
+   * @return The member names, one per member that has a user.
+   */
+  @Query("""
+      SELECT new nrg.inc.synhubbackend.iam.domain.model.valueobjects.MemberName(m.id, u.name, u.surname)
+      FROM User u JOIN u.member m
+      WHERE m.id IN :memberIds
+      """)
+  List<MemberName> findMemberNamesByMemberIds(@Param("memberIds") Collection<Long> memberIds);
+
+  /**
+   * This method is responsible for finding the identity of the user with the given username.
+   * The leader, member and group ids are resolved in the same query, so no aggregate is loaded.
+   * There is one row per role of the user, ordered by role ID. The group a leader leads is joined
+   * by its fully qualified entity name, since GROUP is a keyword in JPQL.
+   * @param username The username.
+   * @return The identities of the user, empty if the user does not exist.
+   */
+  @Query("""
+      SELECT new nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity(
+          u.id, u.username, r.name, l.id, m.id, COALESCE(mg.id, lg.id), u.identityVersion)
+      FROM User u
+      LEFT JOIN u.roles r
+      LEFT JOIN u.leader l
+      LEFT JOIN u.member m
+      LEFT JOIN m.group mg
+      LEFT JOIN nrg.inc.synhubbackend.groups.domain.model.aggregates.Group lg ON lg.leader = l
+      WHERE u.username = :username
+      ORDER BY r.id
+      """)
+  List<UserIdentity> findIdentitiesByUsername(@Param("username") String username);
+
+  /**
+   * This method is responsible for bumping the identity version of the users whose identity changed.
+   * The users are the one with the given leader, the one with the given member and the members of
+   * the given group; null ids match nobody. It runs in the caller's transaction.
+   * @param leaderId The leader ID.
+   * @param memberId The member ID.
+   * @param groupId The group ID.
+   * @return The usernames of the users whose identity version was bumped.
+   */
+  @Query(value = """
+      WITH bumped AS (
+          UPDATE users u SET identity_version = COALESCE(u.identity_version, 0) + 1
+          WHERE u.leader_id = :leaderId
+             OR u.member_id = :memberId
+             OR u.member_id IN (SELECT m.id FROM members m WHERE m.group_id = :groupId)
+          RETURNING u.username
+      )
+      SELECT username FROM bumped
+      """, nativeQuery = true)
+  List<String> incrementIdentityVersions(@Param("leaderId") Long leaderId,
+      @Param("memberId") Long memberId, @Param("groupId") Long groupId);
 }
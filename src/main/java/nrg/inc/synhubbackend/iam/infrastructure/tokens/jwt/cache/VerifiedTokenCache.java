@@ -0,0 +1,142 @@
+package nrg.inc.synhubbackend.iam.infrastructure.tokens.jwt.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens.TokenClaims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of verified token claims, keyed by the SHA-256 digest of the token.
+ * <p>
+ * A hit skips signature verification and claims parsing entirely. Each entry expires when its token does,
+ * so a cached token is never accepted past its expiration. Revoked tokens are remembered, also until they
+ * expire, and rejected before the cache is consulted. Revocations are only dropped once their token expires,
+ * so they are bounded per subject instead: a subject that already has the maximum number of unexpired
+ * revocations cannot revoke another token until one of them expires, while every other subject is unaffected.
+ * Hit, miss and eviction counts are published as the {@code cache.*} meters tagged
+ * {@code cache=iam.verified-tokens}.
+ * </p>
+ */
+@Component
+public class VerifiedTokenCache {
+  public static final String CACHE_NAME = "iam.verified-tokens";
+  public static final String REVOKED_CACHE_NAME = "iam.revoked-tokens";
+  private static final Duration MAX_ENTRY_LIFETIME = Duration.ofDays(365);
+
+  private final Cache<String, TokenClaims> verified;
+  private final Cache<String, Instant> revoked;
+  private final Cache<String, List<Instant>> revocationsBySubject;
+  private final int revocationMaximumPerSubject;
+
+  public VerifiedTokenCache(@Value("${authorization.jwt.cache.maximum-size:10000}") long maximumSize,
+      @Value("${authorization.jwt.revocation.maximum-per-subject:50}") int revocationMaximumPerSubject,
+      MeterRegistry meterRegistry) {
+    this.verified = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(untilExpiration(TokenClaims::expiresAt))
+        .recordStats()
+        .build();
+    this.revocationMaximumPerSubject = revocationMaximumPerSubject;
+    this.revoked = Caffeine.newBuilder()
+        .expireAfter(untilExpiration(Function.<Instant>identity()))
+        .build();
+    this.revocationsBySubject = Caffeine.newBuilder()
+        .expireAfter(untilExpiration((List<Instant> expirations) -> Collections.max(expirations)))
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+    meterRegistry.gauge(REVOKED_CACHE_NAME + ".size", revoked, Cache::estimatedSize);
+  }
+
+  /**
+   * Returns the cached claims of the token, verifying and caching it on a miss.
+   * @param token the token
+   * @param verifier verifies the token, returning empty when it is not valid
+   * @return the verified claims, or empty if the token is not valid or has been revoked
+   */
+  public Optional<TokenClaims> get(String token, Function<String, Optional<TokenClaims>> verifier) {
+    var digest = digest(token);
+    if (revoked.getIfPresent(digest) != null) {
+      return Optional.empty();
+    }
+    var cached = verified.getIfPresent(digest);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    var claims = verifier.apply(token);
+    // Tokens without an expiration are verified on every use rather than cached indefinitely
+    claims.filter(value -> value.expiresAt() != null).ifPresent(value -> verified.put(digest, value));
+    return claims;
+  }
+
+  /**
+   * Rejects the token from now on, until it expires.
+   * @param token the token
+   * @param subject the subject the token was issued to
+   * @param expiresAt the expiration time of the token
+   * @throws IllegalStateException if the subject already has the maximum number of unexpired revocations
+   */
+  public synchronized void revoke(String token, String subject, Instant expiresAt) {
+    var digest = digest(token);
+    if (expiresAt != null && revoked.getIfPresent(digest) == null) {
+      var now = Instant.now();
+      var expirations = new ArrayList<Instant>();
+      var existing = revocationsBySubject.getIfPresent(subject);
+      if (existing != null) {
+        existing.stream().filter(expiration -> expiration.isAfter(now)).forEach(expirations::add);
+      }
+      if (expirations.size() >= revocationMaximumPerSubject) {
+        throw new IllegalStateException("Too many revoked tokens for " + subject + " (" + revocationMaximumPerSubject + " unexpired)");
+      }
+      expirations.add(expiresAt);
+      revocationsBySubject.put(subject, List.copyOf(expirations));
+      revoked.put(digest, expiresAt);
+    }
+    verified.invalidate(digest);
+  }
+
+  private static <V> Expiry<String, V> untilExpiration(Function<V, Instant> expiration) {
+    return new Expiry<>() {
+      @Override
+      public long expireAfterCreate(String key, V value, long currentTime) {
+        var remaining = Duration.between(Instant.now(), expiration.apply(value));
+        if (remaining.isNegative()) return 0;
+        return remaining.compareTo(MAX_ENTRY_LIFETIME) > 0 ? MAX_ENTRY_LIFETIME.toNanos() : remaining.toNanos();
+      }
+
+      @Override
+      public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, value, currentTime);
+      }
+
+      @Override
+      public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+      }
+    };
+  }
+
+  private static String digest(String token) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -4,7 +4,11 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.http.HttpServletRequest;
+import nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens.TokenClaims;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.iam.infrastructure.tokens.jwt.BearerTokenService;
+import nrg.inc.synhubbackend.iam.infrastructure.tokens.jwt.cache.VerifiedTokenCache;
 import org.apache.commons.lang3.time.DateUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -16,12 +20,19 @@ import org.springframework.util.StringUtils;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Token service implementation for JWT tokens.
  * This class is responsible for generating and validating JWT tokens.
  * It uses the secret and expiration days from the application.properties file.
+ * The signing key and the parser are built once and shared by all requests; both are thread-safe.
+ * Verified tokens are cached until they expire, so repeated requests with the same token skip verification.
+ * Tokens generated from a {@link UserIdentity} carry the user, role, leader, member and group ids as claims,
+ * along with the identity version of the user they were resolved at.
+ * Every token gets a random id, so two tokens issued for the same user within the same second still differ.
+ * Revoked tokens are only remembered by the instance that revoked them.
  */
 @Service
 public class TokenServiceImpl implements BearerTokenService {
@@ -32,11 +43,26 @@ public class TokenServiceImpl implements BearerTokenService {
 
   private static final int TOKEN_BEGIN_INDEX = 7;
 
-  @Value("${authorization.jwt.secret}")
-  private String secret;
-
-  @Value("${authorization.jwt.expiration.days}")
-  private int expirationDays;
+  private static final String USER_ID_CLAIM = "userId";
+  private static final String ROLE_CLAIM = "role";
+  private static final String LEADER_ID_CLAIM = "leaderId";
+  private static final String MEMBER_ID_CLAIM = "memberId";
+  private static final String GROUP_ID_CLAIM = "groupId";
+  private static final String IDENTITY_VERSION_CLAIM = "identityVersion";
+
+  private final int expirationDays;
+  private final SecretKey signingKey;
+  private final JwtParser jwtParser;
+  private final VerifiedTokenCache verifiedTokenCache;
+
+  public TokenServiceImpl(@Value("${authorization.jwt.secret}") String secret,
+      @Value("${authorization.jwt.expiration.days}") int expirationDays,
+      VerifiedTokenCache verifiedTokenCache) {
+    this.expirationDays = expirationDays;
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    this.jwtParser = Jwts.parser().verifyWith(signingKey).build();
+  }
 
   /**
    * This method generates a JWT token from an authentication object
@@ -58,6 +84,24 @@ public class TokenServiceImpl implements BearerTokenService {
     return buildTokenWithDefaultParameters(username);
   }
 
+  /**
+   * This method generates a JWT token from the identity of a user.
+   * Ids the user does not have are left out of the token.
+   * @param identity the identity of the user
+   * @return String the JWT token
+   */
+  @Override
+  public String generateToken(UserIdentity identity) {
+    return defaultTokenBuilder(identity.username())
+        .claim(USER_ID_CLAIM, identity.userId())
+        .claim(ROLE_CLAIM, identity.role() != null ? identity.role().name() : null)
+        .claim(LEADER_ID_CLAIM, identity.leaderId())
+        .claim(MEMBER_ID_CLAIM, identity.memberId())
+        .claim(GROUP_ID_CLAIM, identity.groupId())
+        .claim(IDENTITY_VERSION_CLAIM, identity.identityVersion())
+        .compact();
+  }
+
   /**
    * This method generates a JWT token from a username and a secret.
    * It uses the default expiration days from the application.properties file.
@@ -65,15 +109,18 @@ public class TokenServiceImpl implements BearerTokenService {
    * @return String the JWT token
    */
   private String buildTokenWithDefaultParameters(String username) {
+    return defaultTokenBuilder(username).compact();
+  }
+
+  private JwtBuilder defaultTokenBuilder(String username) {
     var issuedAt = new Date();
     var expiration = DateUtils.addDays(issuedAt, expirationDays);
-    var key = getSigningKey();
     return Jwts.builder()
+        .id(UUID.randomUUID().toString())
         .subject(username)
         .issuedAt(issuedAt)
         .expiration(expiration)
-        .signWith(key)
-        .compact();
+        .signWith(signingKey);
   }
 
   /**
@@ -83,7 +130,7 @@ public class TokenServiceImpl implements BearerTokenService {
    */
   @Override
   public String getUsernameFromToken(String token) {
-    return extractClaim(token, Claims::getSubject);
+    return extractAllClaims(token).getSubject();
   }
 
   /**
@@ -93,11 +140,44 @@ public class TokenServiceImpl implements BearerTokenService {
    */
   @Override
   public boolean validateToken(String token) {
+    return verifyToken(token).isPresent();
+  }
+
+  /**
+   * This method verifies a JWT token and extracts its claims, parsing the token at most once
+   * @param token the token
+   * @return Optional the verified claims, or empty if the token is not valid or has been revoked
+   */
+  @Override
+  public Optional<TokenClaims> verifyToken(String token) {
+    return verifiedTokenCache.get(token, this::parseToken);
+  }
+
+  /**
+   * This method revokes a JWT token on this instance until it expires
+   * @param token the token
+   */
+  @Override
+  public void revokeToken(String token) {
+    verifyToken(token).ifPresent(claims -> verifiedTokenCache.revoke(token, claims.username(), claims.expiresAt()));
+  }
+
+  /**
+   * Verify the signature and expiration of a token and extract its claims
+   * @param token the token
+   * @return Optional the claims, or empty if the token is not valid
+   */
+  private Optional<TokenClaims> parseToken(String token) {
     try {
-      Jwts.parser().verifyWith(getSigningKey()).build().parseSignedClaims(token);
-      LOGGER.info("Token is valid");
-      return true;
-    }  catch (SignatureException e) {
+      var claims = extractAllClaims(token);
+      var issuedAt = claims.getIssuedAt();
+      var expiration = claims.getExpiration();
+      return Optional.of(new TokenClaims(
+          claims.getSubject(),
+          issuedAt != null ? issuedAt.toInstant() : null,
+          expiration != null ? expiration.toInstant() : null,
+          extractIdentity(claims)));
+    } catch (SignatureException e) {
       LOGGER.error("Invalid JSON Web Token Signature: {}", e.getMessage());
     } catch (MalformedJwtException e) {
       LOGGER.error("Invalid JSON Web Token: {}", e.getMessage());
@@ -108,19 +188,28 @@ public class TokenServiceImpl implements BearerTokenService {
     } catch (IllegalArgumentException e) {
       LOGGER.error("JSON Web Token claims string is empty: {}", e.getMessage());
     }
-    return false;
+    return Optional.empty();
   }
 
   /**
-   * Extract a claim from a token
-   * @param token the token
-   * @param claimsResolvers the claims resolver
-   * @param <T> the type of the claim
-   * @return T the claim
+   * Extract the identity of the user from the claims of a token
+   * @param claims the claims
+   * @return UserIdentity the identity, or null if the token carries no identity claims
    */
-  private <T> T extractClaim(String token, Function<Claims, T> claimsResolvers) {
-    final Claims claims = extractAllClaims(token);
-    return claimsResolvers.apply(claims);
+  private UserIdentity extractIdentity(Claims claims) {
+    var userId = claims.get(USER_ID_CLAIM, Long.class);
+    if (userId == null) {
+      return null;
+    }
+    var role = claims.get(ROLE_CLAIM, String.class);
+    return new UserIdentity(
+        userId,
+        claims.getSubject(),
+        role != null ? Roles.valueOf(role) : null,
+        claims.get(LEADER_ID_CLAIM, Long.class),
+        claims.get(MEMBER_ID_CLAIM, Long.class),
+        claims.get(GROUP_ID_CLAIM, Long.class),
+        claims.get(IDENTITY_VERSION_CLAIM, Long.class));
   }
 
   /**
@@ -129,22 +218,11 @@ public class TokenServiceImpl implements BearerTokenService {
    * @return Claims the claims
    */
   private Claims extractAllClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
+    return jwtParser
         .parseSignedClaims(token)
         .getPayload();
   }
 
-  /**
-   * Get the signing key
-   * @return SecretKey the signing key
-   */
-  private SecretKey getSigningKey() {
-    byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-    return Keys.hmacShaKeyFor(keyBytes);
-  }
-
   private boolean isTokenPresentIn(String authorizationParameter) {
     return StringUtils.hasText(authorizationParameter);
   }
@@ -1,6 +1,7 @@
 package nrg.inc.synhubbackend.iam.interfaces.acl;
 
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,6 +21,7 @@ public interface IamContextFacade {
   Long createUser(String username, String name, String surname, String imgUrl, String email, String password);
   Long createUser(String username, String name, String surname, String imgUrl, String email, String password, List<String> roleNames);
   Long fetchUserIdByUsername(String username);
+  Optional<UserIdentity> fetchUserIdentityByUsername(String username);
   String fetchUsernameByUserId(Long userId);
   Optional<User> fetchUserByMemberId(Long memberId);
   Optional<User> fetchUserByLeaderId(Long leaderId);
@@ -0,0 +1,46 @@
+package nrg.inc.synhubbackend.iam.interfaces.acl;
+
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+
+import java.util.Optional;
+
+/**
+ * IdentityPrincipal
+ * <p>
+ *     The authenticated principal as other bounded contexts see it. It exposes the ids the caller
+ *     resolves to, taken from the identity claims of the bearer token or resolved again when those may
+ *     be out of date, so controllers do not need to look the caller up.
+ *     This interface is a part of the ACL layer.
+ * </p>
+ */
+public interface IdentityPrincipal {
+
+  UserIdentity getIdentity();
+
+  /**
+   * The leader id of the caller.
+   * @return the leader id, empty unless the caller is a leader
+   */
+  default Optional<Long> getLeaderId() {
+    var identity = getIdentity();
+    return identity.isLeader() ? Optional.ofNullable(identity.leaderId()) : Optional.empty();
+  }
+
+  /**
+   * The member id of the caller.
+   * @return the member id, empty unless the caller is a member
+   */
+  default Optional<Long> getMemberId() {
+    var identity = getIdentity();
+    return identity.isMember() ? Optional.ofNullable(identity.memberId()) : Optional.empty();
+  }
+
+  /**
+   * The group the caller leads as a leader or has joined as a member.
+   * @return the group id, empty if the caller has no group
+   */
+  default Optional<Long> getGroupId() {
+    var identity = getIdentity();
+    return identity.isLeader() || identity.isMember() ? Optional.ofNullable(identity.groupId()) : Optional.empty();
+  }
+}
@@ -1,17 +1,20 @@
 package nrg.inc.synhubbackend.iam.interfaces.rest;
 
 import io.swagger.v3.oas.annotations.tags.Tag;
+import nrg.inc.synhubbackend.iam.domain.model.commands.RefreshTokenCommand;
 import nrg.inc.synhubbackend.iam.domain.services.UserCommandService;
 import nrg.inc.synhubbackend.iam.interfaces.rest.resources.AuthenticatedUserResource;
 import nrg.inc.synhubbackend.iam.interfaces.rest.resources.SignInResource;
 import nrg.inc.synhubbackend.iam.interfaces.rest.resources.SignUpResource;
 import nrg.inc.synhubbackend.iam.interfaces.rest.resources.UserResource;
 import nrg.inc.synhubbackend.iam.interfaces.rest.transform.*;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,10 +22,11 @@ import org.springframework.web.bind.annotation.RestController;
  * AuthenticationController
  * <p>
  *     This controller is responsible for handling authentication requests.
- *     It exposes two endpoints:
+ *     It exposes three endpoints:
  *     <ul>
  *         <li>POST /api/v1/auth/sign-in</li>
  *         <li>POST /api/v1/auth/sign-up</li>
+ *         <li>POST /api/v1/auth/refresh</li>
  *     </ul>
  * </p>
  */
@@ -30,6 +34,7 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(value = "/api/v1/authentication", produces = MediaType.APPLICATION_JSON_VALUE)
 @Tag(name = "Authentication", description = "Authentication Endpoints")
 public class AuthenticationController {
+  private static final String BEARER_TOKEN_PREFIX = "Bearer ";
 
   private final UserCommandService userCommandService;
 
@@ -94,4 +99,38 @@ public class AuthenticationController {
     var userResource = UserResourceFromEntityAssembler.toResourceFromEntity(user.get());
     return new ResponseEntity<>(userResource, HttpStatus.CREATED);
   }
+
+  /**
+   * Handles the token refresh request.
+   * The bearer token of the request is replaced by a new one carrying the current identity claims of
+   * the user. The old token is revoked only on the instance that served the refresh; other instances keep
+   * accepting it until it expires. Clients call it when the user joins, leaves, creates or deletes a group.
+   * A user who has already revoked too many unexpired tokens gets 429 until one of them expires.
+   * @param authorization the authorization header carrying the bearer token.
+   * @return the authenticated user resource with the new token.
+   */
+  @PostMapping("/refresh")
+  public ResponseEntity<AuthenticatedUserResource> refresh(
+      @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+    if (authorization == null || !authorization.startsWith(BEARER_TOKEN_PREFIX)) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    var refreshTokenCommand = new RefreshTokenCommand(
+        authorization.substring(BEARER_TOKEN_PREFIX.length()));
+    try {
+      var authenticatedUser = userCommandService.handle(refreshTokenCommand);
+      if (authenticatedUser.isEmpty()) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+      }
+      var authenticatedUserResource = AuthenticatedUserResourceFromEntityAssembler
+          .toResourceFromEntity(
+              authenticatedUser.get().getLeft(), authenticatedUser.get().getRight());
+      return ResponseEntity.ok(authenticatedUserResource);
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+    } catch (RuntimeException e) {
+      return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+  }
 }
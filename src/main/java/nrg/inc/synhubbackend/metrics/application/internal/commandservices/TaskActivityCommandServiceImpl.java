@@ -0,0 +1,56 @@
+package nrg.inc.synhubbackend.metrics.application.internal.commandservices;
+
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskActivityCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.services.TaskActivityCommandService;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.ActivityGranularity;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskActivityDelta;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskActivityBucketRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class TaskActivityCommandServiceImpl implements TaskActivityCommandService {
+
+    private final TaskActivityBucketRepository bucketRepository;
+
+    public TaskActivityCommandServiceImpl(TaskActivityBucketRepository bucketRepository) {
+        this.bucketRepository = bucketRepository;
+    }
+
+    @Override
+    @Transactional
+    public void handle(RecordTaskActivityCommand command) {
+        Map<BucketKey, TaskActivityDelta> pending = new LinkedHashMap<>();
+        for (var change : command.changes()) {
+            var delta = TaskActivityDelta.of(change);
+            if (delta.isZero()) {
+                continue;
+            }
+            if (change.after().groupId() != null) {
+                pending.merge(new BucketKey(MetricsScope.GROUP, change.after().groupId()), delta, TaskActivityDelta::plus);
+            }
+            if (change.after().memberId() != null) {
+                pending.merge(new BucketKey(MetricsScope.MEMBER, change.after().memberId()), delta, TaskActivityDelta::plus);
+            }
+        }
+
+        var bucketStart = ActivityGranularity.HOUR.truncate(command.occurredAt());
+        pending.forEach((key, delta) -> bucketRepository.upsert(
+                key.scope().name(),
+                key.scopeId(),
+                bucketStart,
+                delta.created(),
+                delta.completed(),
+                delta.expired(),
+                delta.rescheduled(),
+                delta.completionTimeSum()
+        ));
+    }
+
+    private record BucketKey(MetricsScope scope, Long scopeId) {
+    }
+}
@@ -0,0 +1,102 @@
+package nrg.inc.synhubbackend.metrics.application.internal.commandservices;
+
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskCompletionSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskCompletionSketchesCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskCompletionsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.services.TaskCompletionSketchCommandService;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.CompletionTimeSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskCompletionSketchRepository;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskMetricsRepository;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class TaskCompletionSketchCommandServiceImpl implements TaskCompletionSketchCommandService {
+
+    private final TaskCompletionSketchRepository sketchRepository;
+    private final TaskMetricsRepository taskMetricsRepository;
+
+    public TaskCompletionSketchCommandServiceImpl(TaskCompletionSketchRepository sketchRepository, TaskMetricsRepository taskMetricsRepository) {
+        this.sketchRepository = sketchRepository;
+        this.taskMetricsRepository = taskMetricsRepository;
+    }
+
+    /**
+     * Keeps one sample per DONE task: the sample is added when the task reaches DONE and removed when it leaves DONE,
+     * is deleted, or moves to another group or member, so reopened and deleted tasks are not counted.
+     */
+    @Override
+    @Transactional
+    public void handle(RecordTaskCompletionsCommand command) {
+        Map<SketchKey, CompletionTimeSketch> added = new LinkedHashMap<>();
+        Map<SketchKey, CompletionTimeSketch> removed = new LinkedHashMap<>();
+        for (var change : command.changes()) {
+            var before = change.before();
+            var after = change.after();
+            boolean wasDone = before != null && before.status() == TaskStatus.DONE;
+            boolean isDone = after != null && after.status() == TaskStatus.DONE;
+            if (wasDone && isDone && Objects.equals(before.groupId(), after.groupId())
+                    && Objects.equals(before.memberId(), after.memberId()) && before.timePassed() == after.timePassed()) {
+                continue;
+            }
+            if (wasDone) {
+                accumulate(removed, before.groupId(), before.memberId(), before.timePassed());
+            }
+            if (isDone) {
+                accumulate(added, after.groupId(), after.memberId(), after.timePassed());
+            }
+        }
+
+        var keys = new LinkedHashSet<>(added.keySet());
+        keys.addAll(removed.keySet());
+        for (var key : keys) {
+            sketchRepository.insertIfAbsent(key.scope().name(), key.scopeId());
+            var stored = sketchRepository.findForUpdate(key.scope(), key.scopeId())
+                    .orElseThrow(() -> new IllegalStateException("Completion sketch missing for " + key.scope() + " " + key.scopeId()));
+            stored.apply(added.getOrDefault(key, new CompletionTimeSketch()), removed.getOrDefault(key, new CompletionTimeSketch()));
+            sketchRepository.save(stored);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void handle(RebuildTaskCompletionSketchesCommand command) {
+        // Taken before the tasks are read, so no completion committed meanwhile is overwritten by the rebuild
+        sketchRepository.lockForRebuild();
+        Map<SketchKey, CompletionTimeSketch> samples = new LinkedHashMap<>();
+        for (var row : taskMetricsRepository.findCompletionRows()) {
+            accumulate(samples, row.groupId(), row.memberId(), row.timePassed() != null ? row.timePassed() : 0);
+        }
+
+        List<TaskCompletionSketch> sketches = new ArrayList<>();
+        samples.forEach((key, sketch) -> {
+            var stored = new TaskCompletionSketch(key.scope(), key.scopeId());
+            stored.merge(sketch);
+            sketches.add(stored);
+        });
+
+        sketchRepository.deleteAllInBatch();
+        sketchRepository.saveAll(sketches);
+    }
+
+    private static void accumulate(Map<SketchKey, CompletionTimeSketch> samples, Long groupId, Long memberId, long timePassed) {
+        if (groupId != null) {
+            samples.computeIfAbsent(new SketchKey(MetricsScope.GROUP, groupId), key -> new CompletionTimeSketch()).add(timePassed);
+        }
+        if (memberId != null) {
+            samples.computeIfAbsent(new SketchKey(MetricsScope.MEMBER, memberId), key -> new CompletionTimeSketch()).add(timePassed);
+        }
+    }
+
+    private record SketchKey(MetricsScope scope, Long scopeId) {
+    }
+}
@@ -0,0 +1,79 @@
+package nrg.inc.synhubbackend.metrics.application.internal.commandservices;
+
+import nrg.inc.synhubbackend.metrics.domain.model.commands.ApplyTaskChangesToRollupsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskMetricsRollupsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.services.TaskMetricsRollupCommandService;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskMetricsDelta;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskMetricsRollupRepository;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Service
+public class TaskMetricsRollupCommandServiceImpl implements TaskMetricsRollupCommandService {
+
+    private final TaskMetricsRollupRepository rollupRepository;
+
+    public TaskMetricsRollupCommandServiceImpl(TaskMetricsRollupRepository rollupRepository) {
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Override
+    @Transactional
+    public void handle(ApplyTaskChangesToRollupsCommand command) {
+        // Merge every change into one delta per rollup row so a batch costs one upsert per group/member
+        Map<RollupKey, PendingDelta> pending = new LinkedHashMap<>();
+        for (var change : command.changes()) {
+            if (change.before() != null) {
+                accumulate(pending, change.before(), TaskMetricsDelta.of(change.before()).negate());
+            }
+            if (change.after() != null) {
+                accumulate(pending, change.after(), TaskMetricsDelta.of(change.after()));
+            }
+        }
+
+        pending.forEach((key, value) -> {
+            if (value.delta.isZero()) {
+                return;
+            }
+            rollupRepository.applyDelta(key.scope(), key.scopeId(), value.groupId, value.delta);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void handle(RebuildTaskMetricsRollupsCommand command) {
+        rollupRepository.lockForRebuild();
+        rollupRepository.rebuild();
+    }
+
+    private static void accumulate(Map<RollupKey, PendingDelta> pending, TaskSnapshot snapshot, TaskMetricsDelta delta) {
+        if (snapshot.groupId() != null) {
+            pending.computeIfAbsent(new RollupKey(MetricsScope.GROUP, snapshot.groupId()), key -> new PendingDelta())
+                    .add(snapshot.groupId(), delta);
+        }
+        if (snapshot.memberId() != null) {
+            pending.computeIfAbsent(new RollupKey(MetricsScope.MEMBER, snapshot.memberId()), key -> new PendingDelta())
+                    .add(snapshot.groupId(), delta);
+        }
+    }
+
+    private record RollupKey(MetricsScope scope, Long scopeId) {
+    }
+
+    private static final class PendingDelta {
+        private Long groupId;
+        private TaskMetricsDelta delta = TaskMetricsDelta.ZERO;
+
+        private void add(Long groupId, TaskMetricsDelta delta) {
+            if (groupId != null) {
+                this.groupId = groupId;
+            }
+            this.delta = this.delta.plus(delta);
+        }
+    }
+}
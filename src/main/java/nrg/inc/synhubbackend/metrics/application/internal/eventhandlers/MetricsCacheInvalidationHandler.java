@@ -0,0 +1,60 @@
+package nrg.inc.synhubbackend.metrics.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.groups.domain.model.events.GroupMembershipChangedEvent;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.infrastructure.cache.MetricsResultCache;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+public class MetricsCacheInvalidationHandler {
+
+    private final MetricsResultCache metricsResultCache;
+
+    public MetricsCacheInvalidationHandler(MetricsResultCache metricsResultCache) {
+        this.metricsResultCache = metricsResultCache;
+    }
+
+    /**
+     * Runs after commit so a concurrent read cannot cache the pre-change state again.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        Set<Long> groupIds = new HashSet<>();
+        Set<Long> memberIds = new HashSet<>();
+        for (var change : event.changes()) {
+            collect(change.before(), groupIds, memberIds);
+            collect(change.after(), groupIds, memberIds);
+        }
+        metricsResultCache.invalidate(MetricsScope.GROUP, groupIds);
+        metricsResultCache.invalidate(MetricsScope.MEMBER, memberIds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(GroupMembershipChangedEvent event) {
+        if (event.groupId() != null) {
+            metricsResultCache.invalidate(MetricsScope.GROUP, List.of(event.groupId()));
+        }
+        if (event.memberId() != null) {
+            metricsResultCache.invalidate(MetricsScope.MEMBER, List.of(event.memberId()));
+        }
+    }
+
+    private static void collect(TaskSnapshot snapshot, Set<Long> groupIds, Set<Long> memberIds) {
+        if (snapshot == null) {
+            return;
+        }
+        if (snapshot.groupId() != null) {
+            groupIds.add(snapshot.groupId());
+        }
+        if (snapshot.memberId() != null) {
+            memberIds.add(snapshot.memberId());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package nrg.inc.synhubbackend.metrics.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.metrics.domain.model.commands.ApplyTaskChangesToRollupsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskActivityCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskCompletionsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.services.TaskActivityCommandService;
+import nrg.inc.synhubbackend.metrics.domain.model.services.TaskCompletionSketchCommandService;
+import nrg.inc.synhubbackend.metrics.domain.model.services.TaskMetricsRollupCommandService;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+@Service
+public class TaskChangedEventHandler {
+
+    private final TaskMetricsRollupCommandService rollupCommandService;
+    private final TaskActivityCommandService activityCommandService;
+    private final TaskCompletionSketchCommandService completionSketchCommandService;
+
+    public TaskChangedEventHandler(TaskMetricsRollupCommandService rollupCommandService, TaskActivityCommandService activityCommandService, TaskCompletionSketchCommandService completionSketchCommandService) {
+        this.rollupCommandService = rollupCommandService;
+        this.activityCommandService = activityCommandService;
+        this.completionSketchCommandService = completionSketchCommandService;
+    }
+
+    /**
+     * Runs synchronously in the publisher's transaction, so rollups, activity buckets and completion sketches commit or roll back with the task change.
+     */
+    @EventListener
+    public void on(TaskChangedEvent event) {
+        rollupCommandService.handle(new ApplyTaskChangesToRollupsCommand(event.changes()));
+        activityCommandService.handle(new RecordTaskActivityCommand(event.changes(), OffsetDateTime.now(ZoneOffset.UTC)));
+        completionSketchCommandService.handle(new RecordTaskCompletionsCommand(event.changes()));
+    }
+}
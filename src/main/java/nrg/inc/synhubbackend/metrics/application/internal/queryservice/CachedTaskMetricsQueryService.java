@@ -0,0 +1,109 @@
+package nrg.inc.synhubbackend.metrics.application.internal.queryservice;
+
+import nrg.inc.synhubbackend.metrics.domain.model.queries.*;
+import nrg.inc.synhubbackend.metrics.domain.model.services.TaskMetricsQueryService;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.infrastructure.cache.MetricsCacheKey;
+import nrg.inc.synhubbackend.metrics.infrastructure.cache.MetricsResultCache;
+import nrg.inc.synhubbackend.metrics.interfaces.rest.resources.*;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Supplier;
+
+/**
+ * Serves group and member scoped metrics from {@link MetricsResultCache}.
+ * Task-scoped lookups, the leader-keyed average and open-ended activity ranges are not cached, but identical
+ * concurrent calls still share a single database round trip.
+ */
+@Primary
+@Service
+public class CachedTaskMetricsQueryService implements TaskMetricsQueryService {
+
+    private final TaskMetricsQueryServiceImpl delegate;
+    private final MetricsResultCache cache;
+
+    public CachedTaskMetricsQueryService(TaskMetricsQueryServiceImpl delegate, MetricsResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public TaskTimePassedResource handle(GetTaskTimePassedQuery query) {
+        return cached(MetricsScope.MEMBER, query.memberId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public AvgCompletionTimeResource handle(GetAvgCompletionTimeQuery query) {
+        return cache.coalesce(query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public RescheduledTasksResource handle(GetRescheduledTasksQuery query) {
+        return cached(MetricsScope.GROUP, query.groupId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public TaskDistributionResource handle(GetTaskDistributionQuery query) {
+        return cached(MetricsScope.GROUP, query.groupId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public TaskOverviewResource handle(GetTaskOverviewQuery query) {
+        return cached(MetricsScope.GROUP, query.groupId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public TaskOverviewResource handle(GetTaskOverviewForMemberQuery query) {
+        return cached(MetricsScope.MEMBER, query.memberId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public TaskDistributionResource handle(GetTaskDistributionForMemberQuery query) {
+        return cached(MetricsScope.MEMBER, query.memberId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public RescheduledTasksResource handle(GetRescheduledTasksForMemberQuery query) {
+        return cached(MetricsScope.MEMBER, query.memberId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public AvgCompletionTimeResource handle(GetAvgCompletionTimeForMemberQuery query) {
+        return cached(MetricsScope.MEMBER, query.memberId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public TaskTimePassedResource handle(GetTaskTimePassedByIdQuery query) {
+        return cache.coalesce(query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public TaskDurationResource handle(GetTaskDurationByIdQuery query) {
+        return cache.coalesce(query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public LeaderDashboardResource handle(GetLeaderDashboardQuery query) {
+        return cached(MetricsScope.GROUP, query.groupId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public TaskActivityResource handle(GetTaskActivityQuery query) {
+        return cache.coalesce(query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public CompletionTimePercentilesResource handle(GetCompletionTimePercentilesQuery query) {
+        return cached(query.scope(), query.scopeId(), query, () -> delegate.handle(query));
+    }
+
+    @Override
+    public LeaderResolutionStatsResource handle(GetLeaderResolutionStatsQuery query) {
+        return cache.coalesce(query, () -> delegate.handle(query));
+    }
+
+    private <T> T cached(MetricsScope scope, Long scopeId, Object query, Supplier<T> loader) {
+        return cache.get(new MetricsCacheKey(scope, scopeId, query), loader);
+    }
+}
@@ -1,11 +1,22 @@
 package nrg.inc.synhubbackend.metrics.application.internal.queryservice;
 
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByLeaderIdQuery;
+import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByIdQuery;
 import nrg.inc.synhubbackend.groups.domain.services.GroupQueryService;
-import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
+import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.MemberName;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskActivityBucket;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskCompletionSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskMetricsRollup;
 import nrg.inc.synhubbackend.metrics.domain.model.queries.*;
 import nrg.inc.synhubbackend.metrics.domain.model.services.TaskMetricsQueryService;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.CompletionTimeSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.DashboardSection;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskActivityBucketRepository;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskCompletionSketchRepository;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskMetricsRollupRepository;
 import nrg.inc.synhubbackend.metrics.interfaces.rest.resources.*;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
@@ -13,33 +24,35 @@ import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.T
 import org.springframework.stereotype.Service;
 
 import java.time.OffsetDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
 public class TaskMetricsQueryServiceImpl implements TaskMetricsQueryService {
 
     private final TaskRepository taskRepository;
+    private final TaskMetricsRollupRepository rollupRepository;
     private final UserRepository userRepository;
     private final GroupQueryService groupQueryService;
+    private final TaskActivityBucketRepository activityBucketRepository;
+    private final TaskCompletionSketchRepository completionSketchRepository;
+    private final LeaderQueryService leaderQueryService;
 
-    public TaskMetricsQueryServiceImpl(TaskRepository taskRepository, UserRepository userRepository, GroupQueryService groupQueryService) {
+    public TaskMetricsQueryServiceImpl(TaskRepository taskRepository, TaskMetricsRollupRepository rollupRepository, UserRepository userRepository, GroupQueryService groupQueryService, TaskActivityBucketRepository activityBucketRepository, TaskCompletionSketchRepository completionSketchRepository, LeaderQueryService leaderQueryService) {
         this.taskRepository = taskRepository;
+        this.rollupRepository = rollupRepository;
         this.userRepository = userRepository;
         this.groupQueryService = groupQueryService;
+        this.activityBucketRepository = activityBucketRepository;
+        this.completionSketchRepository = completionSketchRepository;
+        this.leaderQueryService = leaderQueryService;
     }
 
     @Override
     public TaskTimePassedResource handle(GetTaskTimePassedQuery query) {
-        List<Task> memberTasks = taskRepository.findByMember_Id(query.memberId());
+        var rollup = memberRollup(query.memberId());
 
-        double avgTimePassed = memberTasks.isEmpty() ? 0 :
-            memberTasks.stream().mapToLong(Task::getTimePassed).average().orElse(0);
-
-        return new TaskTimePassedResource(query.memberId(), (long) avgTimePassed);
+        return new TaskTimePassedResource(query.memberId(), (long) rollup.getAverageTimePassed());
     }
 
     @Override
@@ -52,122 +65,46 @@ public class TaskMetricsQueryServiceImpl implements TaskMetricsQueryService {
                     Map.of("completedTasks", 0)
             );
         }
-        Long groupId = groupOpt.get().getId();
-
-        List<Task> groupTasks = taskRepository.findByGroup_Id(groupId);
-
-        List<Task> completedTasks = groupTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE)
-                .collect(Collectors.toList());
-
-        double avg = completedTasks.stream()
-                .mapToLong(Task::getTimePassed)
-                .average()
-                .orElse(0);
-
-        return new AvgCompletionTimeResource(
-                "AVG_COMPLETION_TIME",
-                avg / (1000 * 60 * 60 * 24),
-                Map.of("completedTasks", completedTasks.size())
-        );
+        return toAvgCompletionTime(groupRollup(groupOpt.get().getId()));
     }
 
     @Override
     public RescheduledTasksResource handle(GetRescheduledTasksQuery query) {
-        List<Task> groupTasks = taskRepository.findByGroup_Id(query.groupId());
-
-        long totalRescheduledTimes = groupTasks.stream()
-                .mapToLong(Task::getTimesRearranged)
-                .sum();
-
-        Map<String, Integer> details = Map.of(
-                "total", groupTasks.size(),
-                "rescheduled", (int) totalRescheduledTimes
-        );
-
-        List<Long> rescheduledMemberIds = groupTasks.stream()
-                .filter(task -> task.getTimesRearranged() > 0 && task.getMember() != null)
-                .map(task -> task.getMember().getId())
-                .distinct()
-                .collect(Collectors.toList());
-
-        return new RescheduledTasksResource("RESCHEDULED_TASKS", totalRescheduledTimes, details, rescheduledMemberIds);
+        return toRescheduled(groupRollup(query.groupId()), memberRollups(query.groupId()));
     }
 
     @Override
     public TaskDistributionResource handle(GetTaskDistributionQuery query) {
-        List<Task> groupTasks = taskRepository.findByGroup_Id(query.groupId());
-
-        List<User> users = userRepository.findAll();
-
-        Map<Long, List<Task>> tasksByMemberId = groupTasks.stream()
-                .filter(task -> task.getMember() != null)
-                .collect(Collectors.groupingBy(task -> task.getMember().getId()));
-
-        Map<String, MemberTaskInfo> details = new HashMap<>();
-        for (Map.Entry<Long, List<Task>> entry : tasksByMemberId.entrySet()) {
-            Long memberId = entry.getKey();
-            int taskCount = entry.getValue().size();
-            Optional<User> userOpt = users.stream()
-                    .filter(u -> u.getMember() != null && u.getMember().getId().equals(memberId))
-                    .findFirst();
-            String memberName = userOpt.map(u -> u.getName() + " " + u.getSurname()).orElse("Desconocido");
-            details.put(memberId.toString(), new MemberTaskInfo(memberName, taskCount));
-        }
-
-        return new TaskDistributionResource("TASK_DISTRIBUTION", groupTasks.size(), details);
+        return toDistribution(groupRollup(query.groupId()), memberRollups(query.groupId()));
     }
 
     @Override
     public TaskOverviewResource handle(GetTaskOverviewQuery query) {
-        List<Task> groupTasks = taskRepository.findByGroup_Id(query.groupId());
-
-        Map<String, Long> overview = groupTasks.stream()
-                .collect(Collectors.groupingBy(task -> task.getStatus().name(), Collectors.counting()));
-
-        Map<String, Integer> converted = overview.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().intValue()
-                ));
-
-        return new TaskOverviewResource("TASK_OVERVIEW", groupTasks.size(), converted);
+        return toOverview(groupRollup(query.groupId()));
     }
 
     @Override
     public TaskOverviewResource handle(GetTaskOverviewForMemberQuery query) {
-        List<Task> memberTasks = taskRepository.findByMember_Id(query.memberId());
-        Map<String, Long> overview = memberTasks.stream()
-                .collect(Collectors.groupingBy(task -> task.getStatus().name(), Collectors.counting()));
-        Map<String, Integer> converted = overview.entrySet().stream()
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        e -> e.getValue().intValue()
-                ));
-        return new TaskOverviewResource("TASK_OVERVIEW_MEMBER", memberTasks.size(), converted);
+        var rollup = memberRollup(query.memberId());
+        return new TaskOverviewResource("TASK_OVERVIEW_MEMBER", (int) rollup.getTotalTasks(), rollup.getStatusCounts());
     }
 
     @Override
     public TaskDistributionResource handle(GetTaskDistributionForMemberQuery query) {
-        List<Task> memberTasks = taskRepository.findByMember_Id(query.memberId());
-        Optional<User> userOpt = userRepository.findAll().stream()
-                .filter(u -> u.getMember() != null && u.getMember().getId().equals(query.memberId()))
-                .findFirst();
-        String memberName = userOpt.map(u -> u.getName() + " " + u.getSurname()).orElse("Desconocido");
+        int taskCount = (int) memberRollup(query.memberId()).getTotalTasks();
+        String memberName = findMemberNames(List.of(query.memberId())).getOrDefault(query.memberId(), "Desconocido");
         Map<String, MemberTaskInfo> details = Map.of(
-                query.memberId().toString(), new MemberTaskInfo(memberName, memberTasks.size())
+                query.memberId().toString(), new MemberTaskInfo(memberName, taskCount)
         );
-        return new TaskDistributionResource("TASK_DISTRIBUTION_MEMBER", memberTasks.size(), details);
+        return new TaskDistributionResource("TASK_DISTRIBUTION_MEMBER", taskCount, details);
     }
 
     @Override
     public RescheduledTasksResource handle(GetRescheduledTasksForMemberQuery query) {
-        List<Task> memberTasks = taskRepository.findByMember_Id(query.memberId());
-        long totalRescheduledTimes = memberTasks.stream()
-                .mapToLong(Task::getTimesRearranged)
-                .sum();
+        var rollup = memberRollup(query.memberId());
+        long totalRescheduledTimes = rollup.getTimesRearranged();
         Map<String, Integer> details = Map.of(
-                "total", memberTasks.size(),
+                "total", (int) rollup.getTotalTasks(),
                 "rescheduled", (int) totalRescheduledTimes
         );
         List<Long> rescheduledMemberIds = totalRescheduledTimes > 0 ? List.of(query.memberId()) : List.of();
@@ -176,18 +113,11 @@ public class TaskMetricsQueryServiceImpl implements TaskMetricsQueryService {
 
     @Override
     public AvgCompletionTimeResource handle(GetAvgCompletionTimeForMemberQuery query) {
-        List<Task> memberTasks = taskRepository.findByMember_Id(query.memberId());
-        List<Task> completedTasks = memberTasks.stream()
-                .filter(task -> task.getStatus() == TaskStatus.DONE) // Cambiado a DONE
-                .collect(Collectors.toList());
-        double avg = completedTasks.stream()
-                .mapToLong(Task::getTimePassed)
-                .average()
-                .orElse(0);
+        var rollup = memberRollup(query.memberId());
         return new AvgCompletionTimeResource(
                 "AVG_COMPLETION_TIME_MEMBER",
-                avg / (1000 * 60 * 60 * 24),
-                Map.of("completedTasks", completedTasks.size())
+                rollup.getAverageCompletionTime() / (1000 * 60 * 60 * 24),
+                Map.of("completedTasks", (int) rollup.getDoneCount())
         );
     }
 
@@ -227,4 +157,158 @@ public class TaskMetricsQueryServiceImpl implements TaskMetricsQueryService {
 
         return new TaskDurationResource(task.getId(), durationHours);
     }
-}
\ No newline at end of file
+
+    @Override
+    public LeaderDashboardResource handle(GetLeaderDashboardQuery query) {
+        var sections = query.sections();
+        var rollup = groupRollup(query.groupId());
+        List<TaskMetricsRollup> memberRollups = sections.contains(DashboardSection.DISTRIBUTION) || sections.contains(DashboardSection.RESCHEDULED)
+                ? memberRollups(query.groupId())
+                : List.of();
+
+        return new LeaderDashboardResource(
+                query.groupId(),
+                sections.contains(DashboardSection.OVERVIEW) ? toOverview(rollup) : null,
+                sections.contains(DashboardSection.DISTRIBUTION) ? toDistribution(rollup, memberRollups) : null,
+                sections.contains(DashboardSection.RESCHEDULED) ? toRescheduled(rollup, memberRollups) : null,
+                sections.contains(DashboardSection.AVG_COMPLETION_TIME) ? toAvgCompletionTime(rollup) : null
+        );
+    }
+
+    @Override
+    public TaskActivityResource handle(GetTaskActivityQuery query) {
+        var granularity = query.granularity();
+        var start = granularity.truncate(query.from());
+        List<TaskActivityBucket> buckets = activityBucketRepository.findRange(query.scope(), query.scopeId(), start, query.to());
+
+        // Hourly buckets are folded into the requested granularity; empty periods are returned as zero points
+        Map<OffsetDateTime, ActivityAccumulator> series = new LinkedHashMap<>();
+        for (var bucketStart = start; bucketStart.isBefore(query.to()); bucketStart = bucketStart.plus(granularity.getStep())) {
+            series.put(bucketStart, new ActivityAccumulator());
+        }
+        for (TaskActivityBucket bucket : buckets) {
+            series.computeIfAbsent(granularity.truncate(bucket.getBucketStart()), key -> new ActivityAccumulator()).add(bucket);
+        }
+
+        List<TaskActivityPointResource> points = series.entrySet().stream()
+                .map(entry -> entry.getValue().toResource(entry.getKey()))
+                .toList();
+        String type = query.scope() == MetricsScope.GROUP ? "TASK_ACTIVITY" : "TASK_ACTIVITY_MEMBER";
+        return new TaskActivityResource(type, query.scopeId(), granularity.name(), points);
+    }
+
+    @Override
+    public CompletionTimePercentilesResource handle(GetCompletionTimePercentilesQuery query) {
+        var sketch = completionSketchRepository.findByScopeAndScopeId(query.scope(), query.scopeId())
+                .map(TaskCompletionSketch::toSketch)
+                .orElseGet(CompletionTimeSketch::new);
+        String type = query.scope() == MetricsScope.GROUP ? "COMPLETION_TIME_PERCENTILES" : "COMPLETION_TIME_PERCENTILES_MEMBER";
+        return new CompletionTimePercentilesResource(
+                type,
+                query.scopeId(),
+                sketch.getCount(),
+                sketch.quantile(0.5),
+                sketch.quantile(0.9),
+                sketch.quantile(0.99)
+        );
+    }
+
+    @Override
+    public LeaderResolutionStatsResource handle(GetLeaderResolutionStatsQuery query) {
+        // Maintained incrementally as requests are resolved, so this is a single row read
+        return leaderQueryService.handle(new GetLeaderByIdQuery(query.leaderId()))
+                .map(leader -> new LeaderResolutionStatsResource(
+                        leader.getId(),
+                        leader.getAverageSolutionTimeMillis() != null ? leader.getAverageSolutionTimeMillis() : 0L,
+                        leader.getSolvedRequests() != null ? leader.getSolvedRequests() : 0))
+                .orElse(new LeaderResolutionStatsResource(query.leaderId(), 0L, 0));
+    }
+
+    private TaskOverviewResource toOverview(TaskMetricsRollup rollup) {
+        return new TaskOverviewResource("TASK_OVERVIEW", (int) rollup.getTotalTasks(), rollup.getStatusCounts());
+    }
+
+    private TaskDistributionResource toDistribution(TaskMetricsRollup rollup, List<TaskMetricsRollup> memberRollups) {
+        List<TaskMetricsRollup> assignedMembers = memberRollups.stream()
+                .filter(memberRollup -> memberRollup.getTotalTasks() > 0)
+                .collect(Collectors.toList());
+
+        Map<Long, String> memberNames = findMemberNames(assignedMembers.stream().map(TaskMetricsRollup::getScopeId).toList());
+
+        Map<String, MemberTaskInfo> details = new HashMap<>();
+        for (TaskMetricsRollup memberRollup : assignedMembers) {
+            Long memberId = memberRollup.getScopeId();
+            String memberName = memberNames.getOrDefault(memberId, "Desconocido");
+            details.put(memberId.toString(), new MemberTaskInfo(memberName, (int) memberRollup.getTotalTasks()));
+        }
+
+        return new TaskDistributionResource("TASK_DISTRIBUTION", (int) rollup.getTotalTasks(), details);
+    }
+
+    private RescheduledTasksResource toRescheduled(TaskMetricsRollup rollup, List<TaskMetricsRollup> memberRollups) {
+        long totalRescheduledTimes = rollup.getTimesRearranged();
+
+        Map<String, Integer> details = Map.of(
+                "total", (int) rollup.getTotalTasks(),
+                "rescheduled", (int) totalRescheduledTimes
+        );
+
+        List<Long> rescheduledMemberIds = memberRollups.stream()
+                .filter(memberRollup -> memberRollup.getTimesRearranged() > 0)
+                .map(TaskMetricsRollup::getScopeId)
+                .collect(Collectors.toList());
+
+        return new RescheduledTasksResource("RESCHEDULED_TASKS", totalRescheduledTimes, details, rescheduledMemberIds);
+    }
+
+    private AvgCompletionTimeResource toAvgCompletionTime(TaskMetricsRollup rollup) {
+        return new AvgCompletionTimeResource(
+                "AVG_COMPLETION_TIME",
+                rollup.getAverageCompletionTime() / (1000 * 60 * 60 * 24),
+                Map.of("completedTasks", (int) rollup.getDoneCount())
+        );
+    }
+
+    private Map<Long, String> findMemberNames(List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findMemberNamesByMemberIds(memberIds).stream()
+                .collect(Collectors.toMap(MemberName::memberId, MemberName::fullName, (first, second) -> first));
+    }
+
+    private TaskMetricsRollup groupRollup(Long groupId) {
+        return rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, groupId)
+                .orElseGet(() -> new TaskMetricsRollup(MetricsScope.GROUP, groupId, groupId));
+    }
+
+    private List<TaskMetricsRollup> memberRollups(Long groupId) {
+        return rollupRepository.findByScopeAndGroupId(MetricsScope.MEMBER, groupId);
+    }
+
+    private TaskMetricsRollup memberRollup(Long memberId) {
+        return rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, memberId)
+                .orElseGet(() -> new TaskMetricsRollup(MetricsScope.MEMBER, memberId, null));
+    }
+
+    private static class ActivityAccumulator {
+        private int created;
+        private int completed;
+        private int expired;
+        private int rescheduled;
+        private long completionTimeSum;
+
+        void add(TaskActivityBucket bucket) {
+            created += bucket.getCreatedCount();
+            completed += bucket.getCompletedCount();
+            expired += bucket.getExpiredCount();
+            rescheduled += bucket.getRescheduledCount();
+            completionTimeSum += bucket.getCompletionTimeSum();
+        }
+
+        TaskActivityPointResource toResource(OffsetDateTime bucketStart) {
+            long avgCompletionTime = completed > 0 ? completionTimeSum / completed : 0;
+            return new TaskActivityPointResource(bucketStart, created, completed, expired, rescheduled, avgCompletionTime);
+        }
+    }
+}
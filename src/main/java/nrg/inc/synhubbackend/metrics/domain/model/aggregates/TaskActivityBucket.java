@@ -0,0 +1,47 @@
+package nrg.inc.synhubbackend.metrics.domain.model.aggregates;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Hourly task activity counters for a group or member.
+ * Rows are only inserted or incremented for the hour in which activity happens and are never rewritten
+ * afterwards, so the unique (scope, scope_id, bucket_start) index doubles as the range-scan index for charts.
+ */
+@Getter
+@Entity
+@Table(
+        name = "task_activity_buckets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_activity_buckets_scope_bucket", columnNames = {"scope", "scope_id", "bucket_start"})
+)
+public class TaskActivityBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MetricsScope scope;
+
+    @Column(nullable = false)
+    private Long scopeId;
+
+    @Column(nullable = false)
+    private OffsetDateTime bucketStart;
+
+    private int createdCount;
+
+    private int completedCount;
+
+    private int expiredCount;
+
+    private int rescheduledCount;
+
+    private long completionTimeSum;
+
+    public TaskActivityBucket() {
+    }
+}
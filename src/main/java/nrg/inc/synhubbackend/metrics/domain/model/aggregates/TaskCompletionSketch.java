@@ -0,0 +1,55 @@
+package nrg.inc.synhubbackend.metrics.domain.model.aggregates;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.CompletionTimeSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+
+/**
+ * Serialized completion time sketch for a single group or member.
+ */
+@Getter
+@Entity
+@Table(
+        name = "task_completion_sketches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_completion_sketches_scope", columnNames = {"scope", "scope_id"})
+)
+public class TaskCompletionSketch extends AuditableAbstractAggregateRoot<TaskCompletionSketch> {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private MetricsScope scope;
+
+    @Column(nullable = false)
+    private Long scopeId;
+
+    private long sampleCount;
+
+    @Column(nullable = false)
+    private byte[] sketch = new byte[0];
+
+    public TaskCompletionSketch() {
+    }
+
+    public TaskCompletionSketch(MetricsScope scope, Long scopeId) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+    }
+
+    public CompletionTimeSketch toSketch() {
+        return CompletionTimeSketch.fromBytes(sketch);
+    }
+
+    public void merge(CompletionTimeSketch samples) {
+        apply(samples, new CompletionTimeSketch());
+    }
+
+    public void apply(CompletionTimeSketch added, CompletionTimeSketch removed) {
+        var updated = toSketch();
+        updated.subtract(removed);
+        updated.merge(added);
+        this.sketch = updated.toBytes();
+        this.sampleCount = updated.getCount();
+    }
+}
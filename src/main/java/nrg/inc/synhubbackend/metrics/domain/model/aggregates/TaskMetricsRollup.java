@@ -0,0 +1,107 @@
+package nrg.inc.synhubbackend.metrics.domain.model.aggregates;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskMetricsDelta;
+import nrg.inc.synhubbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Pre-aggregated task metrics for a single group or member.
+ * Kept up to date incrementally from task changes and periodically rebuilt from the tasks table.
+ */
+@Getter
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_metrics_rollups_scope", columnNames = {"scope", "scope_id"}),
+        indexes = @Index(name = "idx_task_metrics_rollups_scope_group", columnList = "scope, group_id")
+)
+public class TaskMetricsRollup extends AuditableAbstractAggregateRoot<TaskMetricsRollup> {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MetricsScope scope;
+
+    @Column(nullable = false)
+    private Long scopeId;
+
+    private Long groupId;
+
+    private long onHoldCount;
+
+    private long inProgressCount;
+
+    private long completedCount;
+
+    private long doneCount;
+
+    private long expiredCount;
+
+    private long timesRearranged;
+
+    private long doneTimePassed;
+
+    private long timePassed;
+
+    public TaskMetricsRollup() {
+    }
+
+    public TaskMetricsRollup(MetricsScope scope, Long scopeId, Long groupId) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.groupId = groupId;
+    }
+
+    public void apply(TaskMetricsDelta delta) {
+        this.onHoldCount += delta.onHoldCount();
+        this.inProgressCount += delta.inProgressCount();
+        this.completedCount += delta.completedCount();
+        this.doneCount += delta.doneCount();
+        this.expiredCount += delta.expiredCount();
+        this.timesRearranged += delta.timesRearranged();
+        this.doneTimePassed += delta.doneTimePassed();
+        this.timePassed += delta.timePassed();
+    }
+
+    public long getTotalTasks() {
+        return onHoldCount + inProgressCount + completedCount + doneCount + expiredCount;
+    }
+
+    /**
+     * Task count per status, only including statuses with at least one task.
+     */
+    public Map<String, Integer> getStatusCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        putIfPositive(counts, TaskStatus.ON_HOLD, onHoldCount);
+        putIfPositive(counts, TaskStatus.IN_PROGRESS, inProgressCount);
+        putIfPositive(counts, TaskStatus.COMPLETED, completedCount);
+        putIfPositive(counts, TaskStatus.DONE, doneCount);
+        putIfPositive(counts, TaskStatus.EXPIRED, expiredCount);
+        return counts;
+    }
+
+    /**
+     * Average time passed, in milliseconds, of the tasks marked as DONE.
+     */
+    public double getAverageCompletionTime() {
+        return doneCount > 0 ? (double) doneTimePassed / doneCount : 0;
+    }
+
+    /**
+     * Average time passed, in milliseconds, over every task.
+     */
+    public double getAverageTimePassed() {
+        long totalTasks = getTotalTasks();
+        return totalTasks > 0 ? (double) timePassed / totalTasks : 0;
+    }
+
+    private static void putIfPositive(Map<String, Integer> counts, TaskStatus status, long count) {
+        if (count > 0) {
+            counts.put(status.name(), (int) count);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package nrg.inc.synhubbackend.metrics.domain.model.commands;
+
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+
+import java.util.List;
+
+public record ApplyTaskChangesToRollupsCommand(List<TaskChange> changes) {
+}
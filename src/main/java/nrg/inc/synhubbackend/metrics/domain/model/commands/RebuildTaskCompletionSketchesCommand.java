@@ -0,0 +1,4 @@
+package nrg.inc.synhubbackend.metrics.domain.model.commands;
+
+public record RebuildTaskCompletionSketchesCommand() {
+}
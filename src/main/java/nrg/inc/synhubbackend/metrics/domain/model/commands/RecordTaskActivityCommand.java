@@ -0,0 +1,9 @@
+package nrg.inc.synhubbackend.metrics.domain.model.commands;
+
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+public record RecordTaskActivityCommand(List<TaskChange> changes, OffsetDateTime occurredAt) {
+}
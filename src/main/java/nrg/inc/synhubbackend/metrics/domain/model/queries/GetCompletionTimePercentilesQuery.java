@@ -0,0 +1,5 @@
+package nrg.inc.synhubbackend.metrics.domain.model.queries;
+
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+
+public record GetCompletionTimePercentilesQuery(MetricsScope scope, Long scopeId) {}
@@ -0,0 +1,7 @@
+package nrg.inc.synhubbackend.metrics.domain.model.queries;
+
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.DashboardSection;
+
+import java.util.Set;
+
+public record GetLeaderDashboardQuery(Long groupId, Set<DashboardSection> sections) {}
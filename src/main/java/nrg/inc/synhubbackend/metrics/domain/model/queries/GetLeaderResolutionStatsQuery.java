@@ -0,0 +1,3 @@
+package nrg.inc.synhubbackend.metrics.domain.model.queries;
+
+public record GetLeaderResolutionStatsQuery(Long leaderId) {}
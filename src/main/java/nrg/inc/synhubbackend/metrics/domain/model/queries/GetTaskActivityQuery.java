@@ -0,0 +1,30 @@
+package nrg.inc.synhubbackend.metrics.domain.model.queries;
+
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.ActivityGranularity;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+
+public record GetTaskActivityQuery(
+        MetricsScope scope,
+        Long scopeId,
+        OffsetDateTime from,
+        OffsetDateTime to,
+        ActivityGranularity granularity
+) {
+    public static final int MAX_POINTS = 2000;
+
+    public GetTaskActivityQuery {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw new IllegalArgumentException("Activity range start must be before its end");
+        }
+        if (granularity == null) {
+            throw new IllegalArgumentException("Activity granularity cannot be null");
+        }
+        long points = Duration.between(granularity.truncate(from), to).dividedBy(granularity.getStep()) + 1;
+        if (points > MAX_POINTS) {
+            throw new IllegalArgumentException("Activity range is too large for " + granularity + " granularity");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package nrg.inc.synhubbackend.metrics.domain.model.services;
+
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskActivityCommand;
+
+public interface TaskActivityCommandService {
+    void handle(RecordTaskActivityCommand command);
+}
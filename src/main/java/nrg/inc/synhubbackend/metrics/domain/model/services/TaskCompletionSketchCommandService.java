@@ -0,0 +1,9 @@
+package nrg.inc.synhubbackend.metrics.domain.model.services;
+
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskCompletionSketchesCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskCompletionsCommand;
+
+public interface TaskCompletionSketchCommandService {
+    void handle(RecordTaskCompletionsCommand command);
+    void handle(RebuildTaskCompletionSketchesCommand command);
+}
@@ -15,4 +15,8 @@ public interface TaskMetricsQueryService {
     AvgCompletionTimeResource handle(GetAvgCompletionTimeForMemberQuery query);
     TaskTimePassedResource handle(GetTaskTimePassedByIdQuery query);
     TaskDurationResource handle(GetTaskDurationByIdQuery query);
+    LeaderDashboardResource handle(GetLeaderDashboardQuery query);
+    TaskActivityResource handle(GetTaskActivityQuery query);
+    CompletionTimePercentilesResource handle(GetCompletionTimePercentilesQuery query);
+    LeaderResolutionStatsResource handle(GetLeaderResolutionStatsQuery query);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package nrg.inc.synhubbackend.metrics.domain.model.services;
+
+import nrg.inc.synhubbackend.metrics.domain.model.commands.ApplyTaskChangesToRollupsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskMetricsRollupsCommand;
+
+public interface TaskMetricsRollupCommandService {
+    void handle(ApplyTaskChangesToRollupsCommand command);
+    void handle(RebuildTaskMetricsRollupsCommand command);
+}
@@ -0,0 +1,64 @@
+package nrg.inc.synhubbackend.metrics.domain.model.services;
+
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskCompletionSketchesCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskMetricsRollupsCommand;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskCompletionSketchRepository;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskMetricsRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TaskMetricsRollupScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskMetricsRollupScheduler.class);
+
+    private final TaskMetricsRollupCommandService rollupCommandService;
+    private final TaskMetricsRollupRepository rollupRepository;
+    private final TaskCompletionSketchCommandService completionSketchCommandService;
+    private final TaskCompletionSketchRepository completionSketchRepository;
+
+    public TaskMetricsRollupScheduler(TaskMetricsRollupCommandService rollupCommandService, TaskMetricsRollupRepository rollupRepository,
+                                      TaskCompletionSketchCommandService completionSketchCommandService, TaskCompletionSketchRepository completionSketchRepository) {
+        this.rollupCommandService = rollupCommandService;
+        this.rollupRepository = rollupRepository;
+        this.completionSketchCommandService = completionSketchCommandService;
+        this.completionSketchRepository = completionSketchRepository;
+    }
+
+    /**
+     * Backfills the rollups and completion sketches the first time the application starts against an existing task table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildRollupsIfEmpty() {
+        if (rollupRepository.count() == 0) {
+            rebuildRollups();
+        }
+        if (completionSketchRepository.count() == 0) {
+            rebuildCompletionSketches();
+        }
+    }
+
+    /**
+     * Recomputes every rollup and completion sketch from the tasks table to repair any drift.
+     */
+    @Scheduled(cron = "${metrics.rollups.rebuild-cron:0 0 3 * * *}")
+    public void rebuildAll() {
+        rebuildRollups();
+        rebuildCompletionSketches();
+    }
+
+    private void rebuildRollups() {
+        long start = System.currentTimeMillis();
+        rollupCommandService.handle(new RebuildTaskMetricsRollupsCommand());
+        LOGGER.info("Task metrics rollups rebuilt in {} ms", System.currentTimeMillis() - start);
+    }
+
+    private void rebuildCompletionSketches() {
+        long start = System.currentTimeMillis();
+        completionSketchCommandService.handle(new RebuildTaskCompletionSketchesCommand());
+        LOGGER.info("Task completion sketches rebuilt in {} ms", System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,36 @@
+package nrg.inc.synhubbackend.metrics.domain.model.valueobjects;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+public enum ActivityGranularity {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1)),
+    WEEK(Duration.ofDays(7));
+
+    private final Duration step;
+
+    ActivityGranularity(Duration step) {
+        this.step = step;
+    }
+
+    public Duration getStep() {
+        return step;
+    }
+
+    /**
+     * Start of the UTC bucket containing the given instant. Weeks start on Monday.
+     */
+    public OffsetDateTime truncate(OffsetDateTime dateTime) {
+        var utc = dateTime.withOffsetSameInstant(ZoneOffset.UTC);
+        return switch (this) {
+            case HOUR -> utc.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> utc.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> utc.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        };
+    }
+}
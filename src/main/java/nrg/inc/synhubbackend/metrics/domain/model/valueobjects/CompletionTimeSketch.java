@@ -0,0 +1,141 @@
+package nrg.inc.synhubbackend.metrics.domain.model.valueobjects;
+
+import java.io.*;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch over completion times in milliseconds.
+ * Values are counted in logarithmic bins whose width grows with the value, so every quantile is returned
+ * with at most {@link #RELATIVE_ACCURACY} relative error. Completion times between 1 ms and several years
+ * fit in roughly two thousand bins, which bounds both memory and serialized size regardless of how many
+ * tasks were recorded. Since bins only hold counts, a recorded value can be removed again by decrementing its bin.
+ */
+public class CompletionTimeSketch {
+    public static final double RELATIVE_ACCURACY = 0.01;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private final TreeMap<Integer, Long> bins = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    public void add(long millis) {
+        if (millis <= 0) {
+            zeroCount++;
+        } else {
+            bins.merge(indexOf(millis), 1L, Long::sum);
+        }
+        count++;
+    }
+
+    public void merge(CompletionTimeSketch other) {
+        other.bins.forEach((index, binCount) -> bins.merge(index, binCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    /**
+     * Removes the values recorded in the other sketch. Values that were never recorded here are ignored,
+     * so a sketch that drifted from its source stays consistent until it is rebuilt.
+     */
+    public void subtract(CompletionTimeSketch other) {
+        other.bins.forEach((index, binCount) -> {
+            long current = bins.getOrDefault(index, 0L);
+            long removed = Math.min(current, binCount);
+            if (current - removed == 0) {
+                bins.remove(index);
+            } else {
+                bins.put(index, current - removed);
+            }
+            count -= removed;
+        });
+        long removedZeros = Math.min(zeroCount, other.zeroCount);
+        zeroCount -= removedZeros;
+        count -= removedZeros;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Estimated value at the given quantile (0..1), or 0 when nothing has been recorded.
+     */
+    public long quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            seen += bin.getValue();
+            if (rank < seen) {
+                return valueOf(bin.getKey());
+            }
+        }
+        return valueOf(bins.lastKey());
+    }
+
+    public byte[] toBytes() {
+        try (var buffer = new ByteArrayOutputStream(); var out = new DataOutputStream(buffer)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeLong(zeroCount);
+            out.writeInt(bins.size());
+            for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+                out.writeInt(bin.getKey());
+                out.writeLong(bin.getValue());
+            }
+            out.flush();
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static CompletionTimeSketch fromBytes(byte[] bytes) {
+        var sketch = new CompletionTimeSketch();
+        if (bytes == null || bytes.length == 0) {
+            return sketch;
+        }
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported completion time sketch format: " + version);
+            }
+            sketch.zeroCount = in.readLong();
+            sketch.count = sketch.zeroCount;
+            int binCount = in.readInt();
+            for (int i = 0; i < binCount; i++) {
+                int index = in.readInt();
+                long value = in.readLong();
+                sketch.bins.put(index, value);
+                sketch.count += value;
+            }
+            return sketch;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int indexOf(long millis) {
+        return (int) Math.ceil(Math.log(millis) / LOG_GAMMA);
+    }
+
+    private static long valueOf(int index) {
+        // Midpoint of the bin (gamma^(i-1), gamma^i] in relative terms
+        return Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+}
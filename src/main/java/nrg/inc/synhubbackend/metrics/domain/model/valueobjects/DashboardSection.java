@@ -0,0 +1,27 @@
+package nrg.inc.synhubbackend.metrics.domain.model.valueobjects;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public enum DashboardSection {
+    OVERVIEW("overview"),
+    DISTRIBUTION("distribution"),
+    RESCHEDULED("rescheduled"),
+    AVG_COMPLETION_TIME("avgCompletionTime");
+
+    private final String field;
+
+    DashboardSection(String field) {
+        this.field = field;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public static Optional<DashboardSection> fromField(String field) {
+        return Arrays.stream(values())
+                .filter(section -> section.field.equalsIgnoreCase(field.trim()))
+                .findFirst();
+    }
+}
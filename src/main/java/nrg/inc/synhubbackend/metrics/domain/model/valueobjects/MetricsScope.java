@@ -0,0 +1,6 @@
+package nrg.inc.synhubbackend.metrics.domain.model.valueobjects;
+
+public enum MetricsScope {
+    GROUP,
+    MEMBER
+}
@@ -0,0 +1,52 @@
+package nrg.inc.synhubbackend.metrics.domain.model.valueobjects;
+
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+
+/**
+ * Activity a task change contributes to its hourly bucket.
+ * A task counts as completed when it reaches DONE, matching the average completion time metric.
+ */
+public record TaskActivityDelta(
+        int created,
+        int completed,
+        int expired,
+        int rescheduled,
+        long completionTimeSum
+) {
+    public static final TaskActivityDelta ZERO = new TaskActivityDelta(0, 0, 0, 0, 0);
+
+    public static TaskActivityDelta of(TaskChange change) {
+        var before = change.before();
+        var after = change.after();
+        if (after == null) {
+            return ZERO;
+        }
+        if (before == null) {
+            return new TaskActivityDelta(1, 0, 0, 0, 0);
+        }
+        boolean completed = after.status() == TaskStatus.DONE && before.status() != TaskStatus.DONE;
+        boolean expired = after.status() == TaskStatus.EXPIRED && before.status() != TaskStatus.EXPIRED;
+        return new TaskActivityDelta(
+                0,
+                completed ? 1 : 0,
+                expired ? 1 : 0,
+                Math.max(0, after.timesRearranged() - before.timesRearranged()),
+                completed ? after.timePassed() : 0
+        );
+    }
+
+    public TaskActivityDelta plus(TaskActivityDelta other) {
+        return new TaskActivityDelta(
+                created + other.created,
+                completed + other.completed,
+                expired + other.expired,
+                rescheduled + other.rescheduled,
+                completionTimeSum + other.completionTimeSum
+        );
+    }
+
+    public boolean isZero() {
+        return this.equals(ZERO);
+    }
+}
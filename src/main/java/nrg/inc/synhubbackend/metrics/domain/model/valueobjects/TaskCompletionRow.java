@@ -0,0 +1,4 @@
+package nrg.inc.synhubbackend.metrics.domain.model.valueobjects;
+
+public record TaskCompletionRow(Long groupId, Long memberId, Long timePassed) {
+}
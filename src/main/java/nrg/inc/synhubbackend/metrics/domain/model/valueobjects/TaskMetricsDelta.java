@@ -0,0 +1,67 @@
+package nrg.inc.synhubbackend.metrics.domain.model.valueobjects;
+
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+
+/**
+ * Signed contribution of one or more tasks to a metrics rollup.
+ */
+public record TaskMetricsDelta(
+        long onHoldCount,
+        long inProgressCount,
+        long completedCount,
+        long doneCount,
+        long expiredCount,
+        long timesRearranged,
+        long doneTimePassed,
+        long timePassed
+) {
+    public static final TaskMetricsDelta ZERO = new TaskMetricsDelta(0, 0, 0, 0, 0, 0, 0, 0);
+
+    public static TaskMetricsDelta of(TaskSnapshot snapshot) {
+        return of(snapshot.status(), 1, snapshot.timesRearranged(), snapshot.timePassed());
+    }
+
+    public static TaskMetricsDelta of(TaskStatus status, long tasks, long timesRearranged, long timePassed) {
+        return new TaskMetricsDelta(
+                status == TaskStatus.ON_HOLD ? tasks : 0,
+                status == TaskStatus.IN_PROGRESS ? tasks : 0,
+                status == TaskStatus.COMPLETED ? tasks : 0,
+                status == TaskStatus.DONE ? tasks : 0,
+                status == TaskStatus.EXPIRED ? tasks : 0,
+                timesRearranged,
+                status == TaskStatus.DONE ? timePassed : 0,
+                timePassed
+        );
+    }
+
+    public TaskMetricsDelta plus(TaskMetricsDelta other) {
+        return new TaskMetricsDelta(
+                onHoldCount + other.onHoldCount,
+                inProgressCount + other.inProgressCount,
+                completedCount + other.completedCount,
+                doneCount + other.doneCount,
+                expiredCount + other.expiredCount,
+                timesRearranged + other.timesRearranged,
+                doneTimePassed + other.doneTimePassed,
+                timePassed + other.timePassed
+        );
+    }
+
+    public TaskMetricsDelta negate() {
+        return new TaskMetricsDelta(
+                -onHoldCount,
+                -inProgressCount,
+                -completedCount,
+                -doneCount,
+                -expiredCount,
+                -timesRearranged,
+                -doneTimePassed,
+                -timePassed
+        );
+    }
+
+    public boolean isZero() {
+        return this.equals(ZERO);
+    }
+}
@@ -0,0 +1,10 @@
+package nrg.inc.synhubbackend.metrics.infrastructure.cache;
+
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+
+/**
+ * Cache key for a metrics result. The query record itself identifies the result; scope and scopeId
+ * identify the group or member whose changes invalidate it.
+ */
+public record MetricsCacheKey(MetricsScope scope, Long scopeId, Object query) {
+}
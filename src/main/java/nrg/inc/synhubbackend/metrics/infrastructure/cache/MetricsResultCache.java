@@ -0,0 +1,63 @@
+package nrg.inc.synhubbackend.metrics.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.shared.domain.model.infrastructure.cache.GenerationGuardedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache of metrics resources.
+ * Entries expire after the configured TTL as a safety net; task and membership changes invalidate the entries of
+ * the affected groups and members explicitly, leaving every other scope cached.
+ * Misses for the same key are coalesced, so a burst of identical requests runs the underlying query once.
+ * Hit, miss and eviction counts are published as the {@code cache.*} meters tagged {@code cache=metrics.results},
+ * and coalescing as {@code metrics.results.coalesced}.
+ */
+@Component
+public class MetricsResultCache {
+    public static final String CACHE_NAME = "metrics.results";
+
+    private record Scope(MetricsScope scope, Long scopeId) {
+    }
+
+    private final GenerationGuardedCache<Scope, MetricsCacheKey, Object> cache;
+    private final SingleFlight<Object> singleFlight;
+
+    public MetricsResultCache(@Value("${metrics.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${metrics.cache.ttl:5m}") Duration ttl,
+                              @Value("${metrics.cache.coalescing-timeout:5s}") Duration coalescingTimeout,
+                              MeterRegistry meterRegistry) {
+        this.cache = new GenerationGuardedCache<>(CACHE_NAME, maximumSize, ttl,
+                key -> new Scope(key.scope(), key.scopeId()), meterRegistry);
+        this.singleFlight = new SingleFlight<>(CACHE_NAME, coalescingTimeout, meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(MetricsCacheKey key, Supplier<T> loader) {
+        var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        return (T) singleFlight.execute(key, () -> cache.load(key, loader::get));
+    }
+
+    /**
+     * Coalesces identical concurrent calls without caching the result.
+     */
+    public <T> T coalesce(Object key, Supplier<T> loader) {
+        return singleFlight.execute(key, loader);
+    }
+
+    public void invalidate(MetricsScope scope, Collection<Long> scopeIds) {
+        scopeIds.forEach(scopeId -> cache.invalidate(new Scope(scope, scopeId)));
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+}
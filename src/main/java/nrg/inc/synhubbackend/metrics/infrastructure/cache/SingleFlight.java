@@ -0,0 +1,71 @@
+package nrg.inc.synhubbackend.metrics.infrastructure.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent callers asking for the same key share one computation.
+ * The first caller runs the loader on its own thread; callers arriving while it runs wait up to the configured
+ * timeout for its result (or exception) instead of repeating the work.
+ */
+public class SingleFlight<K> {
+
+    private final ConcurrentMap<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Duration timeout;
+    private final Counter coalesced;
+    private final Counter timeouts;
+
+    public SingleFlight(String name, Duration timeout, MeterRegistry meterRegistry) {
+        this.timeout = timeout;
+        this.coalesced = Counter.builder(name + ".coalesced")
+                .description("Calls that joined an identical in-flight computation")
+                .register(meterRegistry);
+        this.timeouts = Counter.builder(name + ".coalesced.timeouts")
+                .description("Coalesced calls that gave up waiting for the in-flight computation")
+                .register(meterRegistry);
+        Gauge.builder(name + ".in-flight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(K key, Supplier<T> loader) {
+        var promise = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(key, promise);
+        if (existing != null) {
+            coalesced.increment();
+            return (T) await(key, existing);
+        }
+        try {
+            T value = loader.get();
+            promise.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            promise.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, promise);
+        }
+    }
+
+    private Object await(K key, CompletableFuture<Object> future) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new IllegalStateException("Timed out waiting for in-flight computation of " + key);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight computation of " + key, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories;
+
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskActivityBucket;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+@Repository
+public interface TaskActivityBucketRepository extends JpaRepository<TaskActivityBucket, Long> {
+
+    @Query("""
+            SELECT b FROM TaskActivityBucket b
+            WHERE b.scope = :scope AND b.scopeId = :scopeId
+              AND b.bucketStart >= :from AND b.bucketStart < :to
+            ORDER BY b.bucketStart
+            """)
+    List<TaskActivityBucket> findRange(@Param("scope") MetricsScope scope,
+                                       @Param("scopeId") Long scopeId,
+                                       @Param("from") OffsetDateTime from,
+                                       @Param("to") OffsetDateTime to);
+
+    /**
+     * Adds the counters to the bucket, creating it atomically when it is the first activity of the hour.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_activity_buckets
+                (scope, scope_id, bucket_start, created_count, completed_count, expired_count, rescheduled_count, completion_time_sum)
+            VALUES (:scope, :scopeId, :bucketStart, :created, :completed, :expired, :rescheduled, :completionTimeSum)
+            ON CONFLICT (scope, scope_id, bucket_start) DO UPDATE SET
+                created_count = task_activity_buckets.created_count + EXCLUDED.created_count,
+                completed_count = task_activity_buckets.completed_count + EXCLUDED.completed_count,
+                expired_count = task_activity_buckets.expired_count + EXCLUDED.expired_count,
+                rescheduled_count = task_activity_buckets.rescheduled_count + EXCLUDED.rescheduled_count,
+                completion_time_sum = task_activity_buckets.completion_time_sum + EXCLUDED.completion_time_sum
+            """, nativeQuery = true)
+    void upsert(@Param("scope") String scope,
+                @Param("scopeId") Long scopeId,
+                @Param("bucketStart") OffsetDateTime bucketStart,
+                @Param("created") int created,
+                @Param("completed") int completed,
+                @Param("expired") int expired,
+                @Param("rescheduled") int rescheduled,
+                @Param("completionTimeSum") long completionTimeSum);
+}
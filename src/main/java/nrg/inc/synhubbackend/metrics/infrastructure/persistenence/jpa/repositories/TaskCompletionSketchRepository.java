@@ -0,0 +1,45 @@
+package nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories;
+
+import jakarta.persistence.LockModeType;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskCompletionSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskCompletionSketchRepository extends JpaRepository<TaskCompletionSketch, Long> {
+
+    Optional<TaskCompletionSketch> findByScopeAndScopeId(MetricsScope scope, Long scopeId);
+
+    /**
+     * Locks the sketch row so concurrent completions in the same group merge one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TaskCompletionSketch s WHERE s.scope = :scope AND s.scopeId = :scopeId")
+    Optional<TaskCompletionSketch> findForUpdate(@Param("scope") MetricsScope scope, @Param("scopeId") Long scopeId);
+
+    /**
+     * Creates an empty sketch row unless one already exists, without failing the caller's transaction on a race.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_completion_sketches (scope, scope_id, sample_count, sketch, created_at, updated_at)
+            VALUES (:scope, :scopeId, 0, '', now(), now())
+            ON CONFLICT (scope, scope_id) DO NOTHING
+            """, nativeQuery = true)
+    void insertIfAbsent(@Param("scope") String scope, @Param("scopeId") Long scopeId);
+
+    /**
+     * Blocks sketch writers until the caller's transaction ends, so a rebuild reads the tasks only after every
+     * concurrent completion either committed or is still waiting to apply its sample on top of the rebuilt rows.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE task_completion_sketches IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+}
@@ -0,0 +1,26 @@
+package nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories;
+
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskCompletionRow;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Read-only aggregate queries over the tasks table.
+ * Rows are grouped in the database so metrics never need to materialize Task entities.
+ */
+@Repository
+public interface TaskMetricsRepository extends JpaRepository<Task, Long> {
+
+    @Query("""
+            SELECT new nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskCompletionRow(g.id, m.id, t.timePassed)
+            FROM Task t
+            JOIN t.group g
+            LEFT JOIN t.member m
+            WHERE t.status = nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus.DONE
+            """)
+    List<TaskCompletionRow> findCompletionRows();
+}
@@ -0,0 +1,136 @@
+package nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories;
+
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskMetricsRollup;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskMetricsDelta;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskMetricsRollupRepository extends JpaRepository<TaskMetricsRollup, Long> {
+    Optional<TaskMetricsRollup> findByScopeAndScopeId(MetricsScope scope, Long scopeId);
+
+    List<TaskMetricsRollup> findByScopeAndGroupId(MetricsScope scope, Long groupId);
+
+    /**
+     * Adds the delta in place, creating the rollup on first use, so concurrent transactions never overwrite
+     * each other's counts and never race to insert the same row.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_metrics_rollups
+                (scope, scope_id, group_id, on_hold_count, in_progress_count, completed_count, done_count, expired_count,
+                 times_rearranged, done_time_passed, time_passed, created_at, updated_at)
+            VALUES (:scope, :scopeId, :groupId, :onHoldCount, :inProgressCount, :completedCount, :doneCount, :expiredCount,
+                    :timesRearranged, :doneTimePassed, :timePassed, now(), now())
+            ON CONFLICT (scope, scope_id) DO UPDATE SET
+                group_id = coalesce(EXCLUDED.group_id, task_metrics_rollups.group_id),
+                on_hold_count = task_metrics_rollups.on_hold_count + EXCLUDED.on_hold_count,
+                in_progress_count = task_metrics_rollups.in_progress_count + EXCLUDED.in_progress_count,
+                completed_count = task_metrics_rollups.completed_count + EXCLUDED.completed_count,
+                done_count = task_metrics_rollups.done_count + EXCLUDED.done_count,
+                expired_count = task_metrics_rollups.expired_count + EXCLUDED.expired_count,
+                times_rearranged = task_metrics_rollups.times_rearranged + EXCLUDED.times_rearranged,
+                done_time_passed = task_metrics_rollups.done_time_passed + EXCLUDED.done_time_passed,
+                time_passed = task_metrics_rollups.time_passed + EXCLUDED.time_passed,
+                updated_at = now()
+            """, nativeQuery = true)
+    int upsertCounters(@Param("scope") String scope,
+                       @Param("scopeId") Long scopeId,
+                       @Param("groupId") Long groupId,
+                       @Param("onHoldCount") long onHoldCount,
+                       @Param("inProgressCount") long inProgressCount,
+                       @Param("completedCount") long completedCount,
+                       @Param("doneCount") long doneCount,
+                       @Param("expiredCount") long expiredCount,
+                       @Param("timesRearranged") long timesRearranged,
+                       @Param("doneTimePassed") long doneTimePassed,
+                       @Param("timePassed") long timePassed);
+
+    default void applyDelta(MetricsScope scope, Long scopeId, Long groupId, TaskMetricsDelta delta) {
+        upsertCounters(scope.name(), scopeId, groupId,
+                delta.onHoldCount(),
+                delta.inProgressCount(),
+                delta.completedCount(),
+                delta.doneCount(),
+                delta.expiredCount(),
+                delta.timesRearranged(),
+                delta.doneTimePassed(),
+                delta.timePassed());
+    }
+
+    /**
+     * Blocks rollup writers until the caller's transaction ends. Taken before {@link #rebuild()}, it waits for
+     * the task changes already applying deltas to commit, so the rebuild reads them, and holds back later ones
+     * until the rebuilt rows are committed, so their deltas land on top instead of being overwritten.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE task_metrics_rollups IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * Recomputes every rollup from the tasks table in a single statement; rollups with no tasks left are reset to
+     * zero. On its own it overwrites deltas committed while it runs, so call it after {@link #lockForRebuild()}.
+     */
+    @Modifying
+    @Query(value = """
+            WITH per_member AS (
+                SELECT t.group_id, t.member_id,
+                       count(*) FILTER (WHERE t.status = 'ON_HOLD') AS on_hold_count,
+                       count(*) FILTER (WHERE t.status = 'IN_PROGRESS') AS in_progress_count,
+                       count(*) FILTER (WHERE t.status = 'COMPLETED') AS completed_count,
+                       count(*) FILTER (WHERE t.status = 'DONE') AS done_count,
+                       count(*) FILTER (WHERE t.status = 'EXPIRED') AS expired_count,
+                       coalesce(sum(t.times_rearranged), 0) AS times_rearranged,
+                       coalesce(sum(t.time_passed) FILTER (WHERE t.status = 'DONE'), 0) AS done_time_passed,
+                       coalesce(sum(t.time_passed), 0) AS time_passed
+                FROM tasks t
+                WHERE t.group_id IS NOT NULL
+                GROUP BY t.group_id, t.member_id
+            ), rollups AS (
+                SELECT 'GROUP' AS scope, group_id AS scope_id, group_id,
+                       sum(on_hold_count) AS on_hold_count, sum(in_progress_count) AS in_progress_count,
+                       sum(completed_count) AS completed_count, sum(done_count) AS done_count,
+                       sum(expired_count) AS expired_count, sum(times_rearranged) AS times_rearranged,
+                       sum(done_time_passed) AS done_time_passed, sum(time_passed) AS time_passed
+                FROM per_member
+                GROUP BY group_id
+                UNION ALL
+                SELECT 'MEMBER', member_id, max(group_id),
+                       sum(on_hold_count), sum(in_progress_count), sum(completed_count), sum(done_count),
+                       sum(expired_count), sum(times_rearranged), sum(done_time_passed), sum(time_passed)
+                FROM per_member
+                WHERE member_id IS NOT NULL
+                GROUP BY member_id
+            ), reset AS (
+                UPDATE task_metrics_rollups r SET
+                    on_hold_count = 0, in_progress_count = 0, completed_count = 0, done_count = 0, expired_count = 0,
+                    times_rearranged = 0, done_time_passed = 0, time_passed = 0, updated_at = now()
+                WHERE NOT EXISTS (SELECT 1 FROM rollups WHERE rollups.scope = r.scope AND rollups.scope_id = r.scope_id)
+            )
+            INSERT INTO task_metrics_rollups
+                (scope, scope_id, group_id, on_hold_count, in_progress_count, completed_count, done_count, expired_count,
+                 times_rearranged, done_time_passed, time_passed, created_at, updated_at)
+            SELECT scope, scope_id, group_id, on_hold_count, in_progress_count, completed_count, done_count, expired_count,
+                   times_rearranged, done_time_passed, time_passed, now(), now()
+            FROM rollups
+            ON CONFLICT (scope, scope_id) DO UPDATE SET
+                group_id = EXCLUDED.group_id,
+                on_hold_count = EXCLUDED.on_hold_count,
+                in_progress_count = EXCLUDED.in_progress_count,
+                completed_count = EXCLUDED.completed_count,
+                done_count = EXCLUDED.done_count,
+                expired_count = EXCLUDED.expired_count,
+                times_rearranged = EXCLUDED.times_rearranged,
+                done_time_passed = EXCLUDED.done_time_passed,
+                time_passed = EXCLUDED.time_passed,
+                updated_at = now()
+            """, nativeQuery = true)
+    int rebuild();
+}
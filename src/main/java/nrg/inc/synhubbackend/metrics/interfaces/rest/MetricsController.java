@@ -6,25 +6,34 @@ import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByLeaderIdQuery
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByUsernameQuery;
 import nrg.inc.synhubbackend.groups.domain.services.GroupQueryService;
 import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
+import nrg.inc.synhubbackend.iam.interfaces.acl.IdentityPrincipal;
 import nrg.inc.synhubbackend.metrics.domain.model.queries.*;
 import nrg.inc.synhubbackend.metrics.domain.model.services.TaskMetricsQueryService;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.ActivityGranularity;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.DashboardSection;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
 import nrg.inc.synhubbackend.metrics.interfaces.rest.resources.*;
 import nrg.inc.synhubbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v1/metrics")
 @Tag(name = "Metrics", description = "Provides access to analytics and group metrics")
 public class MetricsController {
 
+    private static final int DEFAULT_ACTIVITY_DAYS = 30;
+
     private final TaskMetricsQueryService taskMetricsQueryService;
     private final LeaderQueryService leaderQueryService;
     private final GroupQueryService groupQueryService;
@@ -35,14 +44,37 @@ public class MetricsController {
         this.groupQueryService = groupQueryService;
     }
 
-    private Optional<Long> getGroupIdFromUser(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
-        var leader = leaderQueryService.handle(new GetLeaderByUsernameQuery(username));
-        if (leader.isEmpty()) return Optional.empty();
-        var group = groupQueryService.handle(new GetGroupByLeaderIdQuery(leader.get().getId()));
+    private Optional<Long> getLeaderIdFromUser(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getLeaderId();
+        }
+        return leaderQueryService.handle(new GetLeaderByUsernameQuery(userDetails.getUsername()))
+                .map(AuditableAbstractAggregateRoot::getId);
+    }
+
+    private Optional<Long> getGroupIdFromUser(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getLeaderId().flatMap(leaderId -> principal.getGroupId());
+        }
+        var leaderId = getLeaderIdFromUser(userDetails);
+        if (leaderId.isEmpty()) return Optional.empty();
+        var group = groupQueryService.handle(new GetGroupByLeaderIdQuery(leaderId.get()));
         return group.map(AuditableAbstractAggregateRoot::getId);
     }
 
+    private ResponseEntity<TaskActivityResource> getActivity(MetricsScope scope, Long scopeId, OffsetDateTime from, OffsetDateTime to, String granularity) {
+        var end = to != null ? to : OffsetDateTime.now(ZoneOffset.UTC);
+        var start = from != null ? from : end.minusDays(DEFAULT_ACTIVITY_DAYS);
+        GetTaskActivityQuery query;
+        try {
+            query = new GetTaskActivityQuery(scope, scopeId, start, end, ActivityGranularity.valueOf(granularity.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        var resource = taskMetricsQueryService.handle(query);
+        return ResponseEntity.ok(resource);
+    }
+
     @GetMapping("/task/member/{memberId}/time-passed")
     @Operation(
         summary = "Get time passed for a member's completed task",
@@ -104,10 +136,78 @@ public class MetricsController {
         tags = {"Metrics"}
     )
     public ResponseEntity<AvgCompletionTimeResource> getAvgCompletionTime(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
-        var leader = leaderQueryService.handle(new GetLeaderByUsernameQuery(username));
-        if (leader.isEmpty()) return ResponseEntity.notFound().build();
-        var query = new GetAvgCompletionTimeQuery(leader.get().getId());
+        var leaderId = getLeaderIdFromUser(userDetails);
+        if (leaderId.isEmpty()) return ResponseEntity.notFound().build();
+        var query = new GetAvgCompletionTimeQuery(leaderId.get());
+        var resource = taskMetricsQueryService.handle(query);
+        return ResponseEntity.ok(resource);
+    }
+
+    @GetMapping("/dashboard")
+    @Operation(
+        summary = "Get dashboard metrics for group",
+        description = "Returns the overview, distribution, rescheduled and average completion time metrics for the authenticated leader's group in a single response. " +
+                "Use the fields parameter (overview, distribution, rescheduled, avgCompletionTime) to request only some sections.",
+        tags = {"Metrics"}
+    )
+    public ResponseEntity<LeaderDashboardResource> getDashboard(@AuthenticationPrincipal UserDetails userDetails,
+                                                                @RequestParam(required = false) List<String> fields) {
+        Set<DashboardSection> sections = EnumSet.allOf(DashboardSection.class);
+        if (fields != null && !fields.isEmpty()) {
+            sections = EnumSet.noneOf(DashboardSection.class);
+            for (String field : fields) {
+                var section = DashboardSection.fromField(field);
+                if (section.isEmpty()) return ResponseEntity.badRequest().build();
+                sections.add(section.get());
+            }
+        }
+        var groupIdOpt = getGroupIdFromUser(userDetails);
+        if (groupIdOpt.isEmpty()) return ResponseEntity.notFound().build();
+        var query = new GetLeaderDashboardQuery(groupIdOpt.get(), sections);
+        var resource = taskMetricsQueryService.handle(query);
+        return ResponseEntity.ok(resource);
+    }
+
+    @GetMapping("/tasks/activity")
+    @Operation(
+        summary = "Get task activity history for group",
+        description = "Returns created, completed, expired and rescheduled task counts per period for the authenticated leader's group. " +
+                "The range defaults to the last 30 days; granularity can be HOUR, DAY or WEEK.",
+        tags = {"Metrics"}
+    )
+    public ResponseEntity<TaskActivityResource> getTaskActivity(@AuthenticationPrincipal UserDetails userDetails,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                                                                @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                                                                @RequestParam(defaultValue = "DAY") String granularity) {
+        var groupIdOpt = getGroupIdFromUser(userDetails);
+        if (groupIdOpt.isEmpty()) return ResponseEntity.notFound().build();
+        return getActivity(MetricsScope.GROUP, groupIdOpt.get(), from, to, granularity);
+    }
+
+    @GetMapping("/tasks/completion-time/percentiles")
+    @Operation(
+        summary = "Get completion time percentiles for group",
+        description = "Returns the p50, p90 and p99 completion times (in milliseconds) of done tasks in the authenticated leader's group, within 1% relative error.",
+        tags = {"Metrics"}
+    )
+    public ResponseEntity<CompletionTimePercentilesResource> getCompletionTimePercentiles(@AuthenticationPrincipal UserDetails userDetails) {
+        var groupIdOpt = getGroupIdFromUser(userDetails);
+        if (groupIdOpt.isEmpty()) return ResponseEntity.notFound().build();
+        var query = new GetCompletionTimePercentilesQuery(MetricsScope.GROUP, groupIdOpt.get());
+        var resource = taskMetricsQueryService.handle(query);
+        return ResponseEntity.ok(resource);
+    }
+
+    @GetMapping("/requests/resolution-time")
+    @Operation(
+        summary = "Get request resolution statistics for leader",
+        description = "Returns the number of requests the authenticated leader has approved or rejected and the average time (in milliseconds) they waited to be resolved.",
+        tags = {"Metrics"}
+    )
+    public ResponseEntity<LeaderResolutionStatsResource> getRequestResolutionStats(@AuthenticationPrincipal UserDetails userDetails) {
+        var leaderId = getLeaderIdFromUser(userDetails);
+        if (leaderId.isEmpty()) return ResponseEntity.notFound().build();
+        var query = new GetLeaderResolutionStatsQuery(leaderId.get());
         var resource = taskMetricsQueryService.handle(query);
         return ResponseEntity.ok(resource);
     }
@@ -160,6 +260,32 @@ public class MetricsController {
         return ResponseEntity.ok(resource);
     }
 
+    @GetMapping("/member/{memberId}/tasks/activity")
+    @Operation(
+        summary = "Get task activity history for member",
+        description = "Returns created, completed, expired and rescheduled task counts per period for the given member. " +
+                "The range defaults to the last 30 days; granularity can be HOUR, DAY or WEEK.",
+        tags = {"Metrics"}
+    )
+    public ResponseEntity<TaskActivityResource> getTaskActivityForMember(@PathVariable Long memberId,
+                                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime from,
+                                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime to,
+                                                                         @RequestParam(defaultValue = "DAY") String granularity) {
+        return getActivity(MetricsScope.MEMBER, memberId, from, to, granularity);
+    }
+
+    @GetMapping("/member/{memberId}/tasks/completion-time/percentiles")
+    @Operation(
+        summary = "Get completion time percentiles for member",
+        description = "Returns the p50, p90 and p99 completion times (in milliseconds) of the given member's done tasks, within 1% relative error.",
+        tags = {"Metrics"}
+    )
+    public ResponseEntity<CompletionTimePercentilesResource> getCompletionTimePercentilesForMember(@PathVariable Long memberId) {
+        var query = new GetCompletionTimePercentilesQuery(MetricsScope.MEMBER, memberId);
+        var resource = taskMetricsQueryService.handle(query);
+        return ResponseEntity.ok(resource);
+    }
+
     @GetMapping("/task/{taskId}/duration")
     @Operation(
         summary = "Get duration of an IN_PROGRESS task",
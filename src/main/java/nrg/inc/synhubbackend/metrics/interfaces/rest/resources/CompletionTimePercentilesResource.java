@@ -0,0 +1,11 @@
+package nrg.inc.synhubbackend.metrics.interfaces.rest.resources;
+
+public record CompletionTimePercentilesResource(
+        String type,
+        Long scopeId,
+        long completedTasks,
+        long p50,
+        long p90,
+        long p99
+) {
+}
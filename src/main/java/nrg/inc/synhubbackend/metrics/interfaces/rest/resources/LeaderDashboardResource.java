@@ -0,0 +1,13 @@
+package nrg.inc.synhubbackend.metrics.interfaces.rest.resources;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record LeaderDashboardResource(
+        Long groupId,
+        TaskOverviewResource overview,
+        TaskDistributionResource distribution,
+        RescheduledTasksResource rescheduled,
+        AvgCompletionTimeResource avgCompletionTime
+) {
+}
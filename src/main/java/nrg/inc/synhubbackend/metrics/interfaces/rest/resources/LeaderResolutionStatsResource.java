@@ -0,0 +1,3 @@
+package nrg.inc.synhubbackend.metrics.interfaces.rest.resources;
+
+public record LeaderResolutionStatsResource(Long leaderId, long averageSolutionTimeMillis, int solvedRequests) {}
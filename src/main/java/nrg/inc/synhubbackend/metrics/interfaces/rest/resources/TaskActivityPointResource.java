@@ -0,0 +1,13 @@
+package nrg.inc.synhubbackend.metrics.interfaces.rest.resources;
+
+import java.time.OffsetDateTime;
+
+public record TaskActivityPointResource(
+        OffsetDateTime bucketStart,
+        int created,
+        int completed,
+        int expired,
+        int rescheduled,
+        long avgCompletionTime
+) {
+}
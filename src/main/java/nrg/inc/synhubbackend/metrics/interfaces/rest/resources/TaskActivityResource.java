@@ -0,0 +1,11 @@
+package nrg.inc.synhubbackend.metrics.interfaces.rest.resources;
+
+import java.util.List;
+
+public record TaskActivityResource(
+        String type,
+        Long scopeId,
+        String granularity,
+        List<TaskActivityPointResource> points
+) {
+}
@@ -2,32 +2,65 @@ package nrg.inc.synhubbackend.requests.application.internal.commandservices;
 
 import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
 import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestsForTasksCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdsCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.MovePendingRequestCountsCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.RebuildPendingRequestCountersCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestsStatusCommand;
+import nrg.inc.synhubbackend.requests.domain.model.events.PendingRequestCountersChangedEvent;
+import nrg.inc.synhubbackend.requests.domain.model.events.RequestsResolvedEvent;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.PendingRequestTally;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestState;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdate;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdateOutcome;
 import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
 import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
+import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.PendingRequestCounterRepository;
 import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.RequestRepository;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.interfaces.acl.TasksContextFacade;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class RequestCommandServiceImpl implements RequestCommandService {
 
     private final RequestRepository requestRepository;
+    private final PendingRequestCounterRepository pendingRequestCounterRepository;
     private final TasksContextFacade tasksContextFacade;
+    private final ApplicationEventPublisher eventPublisher;
 
     public RequestCommandServiceImpl(
             RequestRepository requestRepository,
-            TasksContextFacade tasksContextFacade) {
+            PendingRequestCounterRepository pendingRequestCounterRepository,
+            TasksContextFacade tasksContextFacade,
+            ApplicationEventPublisher eventPublisher) {
         this.requestRepository = requestRepository;
+        this.pendingRequestCounterRepository = pendingRequestCounterRepository;
         this.tasksContextFacade = tasksContextFacade;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Long handle(CreateRequestCommand command) {
         try {
             RequestType.fromString(command.requestType());
@@ -43,39 +76,130 @@ public class RequestCommandServiceImpl implements RequestCommandService {
         var request = new Request(command);
         request.setTask(task.get());
         this.requestRepository.save(request);
+        adjustPendingCounters(task.get(), 1);
         return request.getId();
     }
 
     @Override
+    @Transactional
+    public int handle(CreateRequestsForTasksCommand command) {
+        RequestType requestType;
+        try {
+            requestType = RequestType.fromString(command.requestType());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid request type");
+        }
+
+        if (command.taskIds() == null || command.taskIds().isEmpty()) return 0;
+
+        int created = this.requestRepository.insertForTasks(
+                command.description(),
+                requestType.name(),
+                RequestStatus.PENDING.name(),
+                command.taskIds());
+        if (created > 0) {
+            this.pendingRequestCounterRepository.incrementForTasks(command.taskIds());
+            this.eventPublisher.publishEvent(PendingRequestCountersChangedEvent.all());
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional
     public Optional<Request> handle(UpdateRequestCommand command) {
         var requestId = command.requestId();
 
-        if (!this.requestRepository.existsById(requestId))
+        // The lock makes a concurrent change of the same request wait, so only one of them sees it as pending
+        var request = this.requestRepository.findForUpdate(requestId);
+        if (request.isEmpty())
             throw new IllegalArgumentException("Request with id " + requestId + " does not exist");
 
-        var requestToUpdate = this.requestRepository.findById(requestId).get();
+        var requestToUpdate = request.get();
+        var wasPending = RequestStatus.PENDING.name().equals(requestToUpdate.getRequestStatus());
         requestToUpdate.updateRequestStatus(command.requestStatus());
 
+        Request updatedRequest;
         try {
-            var updatedRequest = this.requestRepository.save(requestToUpdate);
-            return Optional.of(updatedRequest);
+            updatedRequest = this.requestRepository.save(requestToUpdate);
         } catch (Exception e) {
             throw new IllegalArgumentException("Error while updating request: " + e.getMessage());
         }
+
+        var isPending = RequestStatus.PENDING.name().equals(updatedRequest.getRequestStatus());
+        if (wasPending != isPending) {
+            adjustPendingCounters(updatedRequest.getTask(), isPending ? 1 : -1);
+        }
+        if (wasPending && !isPending) {
+            var now = OffsetDateTime.now(ZoneOffset.UTC);
+            this.eventPublisher.publishEvent(new RequestsResolvedEvent(
+                    updatedRequest.getTask().getGroup().getId(),
+                    List.of(solutionTimeMillis(updatedRequest.getCreatedAt(), now))));
+        }
+        return Optional.of(updatedRequest);
     }
 
     @Override
+    @Transactional
+    public List<RequestStatusUpdate> handle(UpdateRequestsStatusCommand command) {
+        RequestStatus requestStatus;
+        try {
+            requestStatus = RequestStatus.fromString(command.requestStatus());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid request status");
+        }
+
+        var requestIds = new LinkedHashSet<>(command.requestIds());
+
+        // States come back from the update itself, as they were just before it, so concurrent updates never overlap
+        var now = OffsetDateTime.now(ZoneOffset.UTC);
+        List<RequestState> states;
+        try {
+            states = this.requestRepository.updateStatusInGroup(requestIds, command.groupId(), requestStatus, now);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Error while updating requests: " + e.getMessage());
+        }
+        var idsInGroup = new HashSet<Long>();
+        states.forEach(state -> idsInGroup.add(state.requestId()));
+
+        if (!idsInGroup.isEmpty()) {
+            adjustPendingCounters(command.groupId(), states, requestStatus);
+
+            if (requestStatus != RequestStatus.PENDING) {
+                var solutionTimesMillis = states.stream()
+                        .filter(state -> state.requestStatus() == RequestStatus.PENDING)
+                        .map(state -> solutionTimeMillis(state.createdAt(), now))
+                        .toList();
+                if (!solutionTimesMillis.isEmpty()) {
+                    this.eventPublisher.publishEvent(new RequestsResolvedEvent(command.groupId(), solutionTimesMillis));
+                }
+            }
+        }
+
+        return requestIds.stream()
+                .map(requestId -> new RequestStatusUpdate(requestId, idsInGroup.contains(requestId)
+                        ? RequestStatusUpdateOutcome.UPDATED
+                        : RequestStatusUpdateOutcome.NOT_FOUND))
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public void handle(DeleteRequestCommand command) {
         var requestId = command.requestId();
 
-        if (!requestRepository.existsById(requestId))
+        var request = requestRepository.findById(requestId);
+        if (request.isEmpty())
             throw new IllegalArgumentException("Request with id " + requestId + " does not exist");
 
         try {
-            requestRepository.deleteById(requestId);
+            requestRepository.delete(request.get());
         } catch (Exception e) {
             throw new IllegalArgumentException("Error while deleting request: " + e.getMessage());
         }
+
+        if (RequestStatus.PENDING.name().equals(request.get().getRequestStatus())) {
+            adjustPendingCounters(request.get().getTask(), -1);
+        }
     }
 
     @Override
@@ -86,10 +210,129 @@ public class RequestCommandServiceImpl implements RequestCommandService {
         if (this.tasksContextFacade.getTaskById(taskId).isEmpty())
             throw new IllegalArgumentException("Task with id " + taskId + " does not exist");
 
+        deleteRequestsOfTasks(List.of(taskId));
+    }
+
+    @Override
+    @Transactional
+    public void handle(DeleteAllRequestsByTaskIdsCommand command) {
+        if (command.taskIds().isEmpty()) return;
+
+        deleteRequestsOfTasks(command.taskIds());
+    }
+
+    @Override
+    @Transactional
+    public void handle(MovePendingRequestCountsCommand command) {
+        if (!Objects.equals(command.fromGroupId(), command.toGroupId())) {
+            this.requestRepository.updateGroupIdByTaskId(command.taskId(), command.toGroupId());
+        }
+
+        var pending = this.requestRepository.countByTaskIdAndRequestStatus(command.taskId(), RequestStatus.PENDING);
+        if (pending == 0) return;
+
+        Set<Long> groupIds = new HashSet<>();
+        Set<Long> memberIds = new HashSet<>();
+        if (!Objects.equals(command.fromGroupId(), command.toGroupId())) {
+            moveCount(RequestCounterScope.GROUP, command.fromGroupId(), command.toGroupId(), pending, groupIds);
+        }
+        if (!Objects.equals(command.fromMemberId(), command.toMemberId())) {
+            moveCount(RequestCounterScope.MEMBER, command.fromMemberId(), command.toMemberId(), pending, memberIds);
+        }
+        this.eventPublisher.publishEvent(new PendingRequestCountersChangedEvent(groupIds, memberIds));
+    }
+
+    @Override
+    @Transactional
+    public void handle(RebuildPendingRequestCountersCommand command) {
+        this.requestRepository.syncGroupIds();
+        this.pendingRequestCounterRepository.rebuild();
+        this.eventPublisher.publishEvent(PendingRequestCountersChangedEvent.all());
+    }
+
+    /**
+     * Deletes the requests of the tasks with one count and one delete statement, whatever the number of tasks or requests.
+     */
+    private void deleteRequestsOfTasks(List<Long> taskIds) {
+        List<PendingRequestTally> tallies;
         try {
-            this.requestRepository.deleteByTaskId(taskId);
+            tallies = this.requestRepository.deleteByTaskIdIn(taskIds);
         } catch (Exception e) {
             throw new IllegalArgumentException("Error while deleting requests for task: " + e.getMessage());
         }
+        removePendingCounts(tallies);
+    }
+
+    private void adjustPendingCounters(Task task, long delta) {
+        var groupId = task.getGroup() != null ? task.getGroup().getId() : null;
+        var memberId = task.getMember() != null ? task.getMember().getId() : null;
+        if (groupId != null) {
+            this.pendingRequestCounterRepository.increment(RequestCounterScope.GROUP, groupId, delta);
+        }
+        if (memberId != null) {
+            this.pendingRequestCounterRepository.increment(RequestCounterScope.MEMBER, memberId, delta);
+        }
+        this.eventPublisher.publishEvent(new PendingRequestCountersChangedEvent(
+                groupId != null ? Set.of(groupId) : Set.of(),
+                memberId != null ? Set.of(memberId) : Set.of()));
+    }
+
+    private void removePendingCounts(List<PendingRequestTally> tallies) {
+        if (tallies.isEmpty()) return;
+
+        Map<Long, Long> groupCounts = new HashMap<>();
+        Map<Long, Long> memberCounts = new HashMap<>();
+        for (var tally : tallies) {
+            if (tally.groupId() != null) {
+                groupCounts.merge(tally.groupId(), tally.pendingCount(), Long::sum);
+            }
+            if (tally.memberId() != null) {
+                memberCounts.merge(tally.memberId(), tally.pendingCount(), Long::sum);
+            }
+        }
+        groupCounts.forEach((groupId, count) ->
+                this.pendingRequestCounterRepository.increment(RequestCounterScope.GROUP, groupId, -count));
+        memberCounts.forEach((memberId, count) ->
+                this.pendingRequestCounterRepository.increment(RequestCounterScope.MEMBER, memberId, -count));
+        this.eventPublisher.publishEvent(new PendingRequestCountersChangedEvent(
+                Set.copyOf(groupCounts.keySet()), Set.copyOf(memberCounts.keySet())));
+    }
+
+    /**
+     * Applies the net change of a bulk status update, one statement per affected member plus one for the group.
+     */
+    private void adjustPendingCounters(Long groupId, List<RequestState> states, RequestStatus newStatus) {
+        Map<Long, Long> memberDeltas = new HashMap<>();
+        long groupDelta = 0;
+        for (var state : states) {
+            var wasPending = state.requestStatus() == RequestStatus.PENDING;
+            if (wasPending == (newStatus == RequestStatus.PENDING)) continue;
+            long delta = wasPending ? -1 : 1;
+            groupDelta += delta;
+            if (state.memberId() != null) {
+                memberDeltas.merge(state.memberId(), delta, Long::sum);
+            }
+        }
+        if (groupDelta == 0) return;
+
+        this.pendingRequestCounterRepository.increment(RequestCounterScope.GROUP, groupId, groupDelta);
+        memberDeltas.forEach((memberId, delta) ->
+                this.pendingRequestCounterRepository.increment(RequestCounterScope.MEMBER, memberId, delta));
+        this.eventPublisher.publishEvent(new PendingRequestCountersChangedEvent(Set.of(groupId), Set.copyOf(memberDeltas.keySet())));
+    }
+
+    private void moveCount(RequestCounterScope scope, Long fromId, Long toId, long count, Set<Long> changedIds) {
+        if (fromId != null) {
+            this.pendingRequestCounterRepository.increment(scope, fromId, -count);
+            changedIds.add(fromId);
+        }
+        if (toId != null) {
+            this.pendingRequestCounterRepository.increment(scope, toId, count);
+            changedIds.add(toId);
+        }
+    }
+
+    private static long solutionTimeMillis(OffsetDateTime createdAt, OffsetDateTime resolvedAt) {
+        return Math.max(0, Duration.between(createdAt, resolvedAt).toMillis());
     }
 }
@@ -0,0 +1,30 @@
+package nrg.inc.synhubbackend.requests.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.requests.domain.model.events.PendingRequestCountersChangedEvent;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.requests.infrastructure.cache.PendingRequestCounterCache;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class PendingRequestCounterCacheInvalidationHandler {
+
+    private final PendingRequestCounterCache pendingRequestCounterCache;
+
+    public PendingRequestCounterCacheInvalidationHandler(PendingRequestCounterCache pendingRequestCounterCache) {
+        this.pendingRequestCounterCache = pendingRequestCounterCache;
+    }
+
+    /**
+     * Runs after commit so a concurrent read cannot cache the pre-change count again.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(PendingRequestCountersChangedEvent event) {
+        if (event.affectsAll()) {
+            pendingRequestCounterCache.invalidateAll();
+            return;
+        }
+        pendingRequestCounterCache.invalidate(RequestCounterScope.GROUP, event.groupIds());
+        pendingRequestCounterCache.invalidate(RequestCounterScope.MEMBER, event.memberIds());
+    }
+}
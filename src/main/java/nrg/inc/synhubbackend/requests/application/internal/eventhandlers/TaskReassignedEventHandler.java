@@ -0,0 +1,35 @@
+package nrg.inc.synhubbackend.requests.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.requests.domain.model.commands.MovePendingRequestCountsCommand;
+import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+@Service
+public class TaskReassignedEventHandler {
+
+    private final RequestCommandService requestCommandService;
+
+    public TaskReassignedEventHandler(RequestCommandService requestCommandService) {
+        this.requestCommandService = requestCommandService;
+    }
+
+    /**
+     * Runs synchronously in the publisher's transaction, so the pending request counters follow a task to its new member or group.
+     */
+    @EventListener
+    public void on(TaskChangedEvent event) {
+        for (var change : event.changes()) {
+            var before = change.before();
+            var after = change.after();
+            if (before == null || after == null) continue;
+            if (Objects.equals(before.groupId(), after.groupId()) && Objects.equals(before.memberId(), after.memberId())) continue;
+
+            requestCommandService.handle(new MovePendingRequestCountsCommand(
+                    after.taskId(), before.groupId(), before.memberId(), after.groupId(), after.memberId()));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package nrg.inc.synhubbackend.requests.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdsCommand;
+import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TasksDeletingEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TasksDeletingEventHandler {
+
+    private final RequestCommandService requestCommandService;
+
+    public TasksDeletingEventHandler(RequestCommandService requestCommandService) {
+        this.requestCommandService = requestCommandService;
+    }
+
+    /**
+     * Runs synchronously in the publisher's transaction, so the requests are removed before the tasks they reference.
+     */
+    @EventListener
+    public void on(TasksDeletingEvent event) {
+        requestCommandService.handle(new DeleteAllRequestsByTaskIdsCommand(event.taskIds()));
+    }
+}
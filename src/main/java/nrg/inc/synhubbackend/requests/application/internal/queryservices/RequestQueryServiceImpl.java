@@ -1,23 +1,46 @@
 package nrg.inc.synhubbackend.requests.application.internal.queryservices;
 
+import nrg.inc.synhubbackend.requests.domain.model.aggregates.PendingRequestCounter;
 import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetAllRequestsQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetPendingRequestCountQuery;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestByIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestQueueQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByGroupIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByMemberIdQuery;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByTaskIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueOrder;
 import nrg.inc.synhubbackend.requests.domain.services.RequestQueryService;
+import nrg.inc.synhubbackend.requests.infrastructure.cache.PendingRequestCounterCache;
+import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.PendingRequestCounterRepository;
 import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.RequestRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class RequestQueryServiceImpl implements RequestQueryService {
 
+    // Bounds used in place of a cursor on the first page so both queue queries stay a single index range scan
+    private static final OffsetDateTime QUEUE_START = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final OffsetDateTime QUEUE_END = OffsetDateTime.of(9999, 12, 31, 0, 0, 0, 0, ZoneOffset.UTC);
+
     private final RequestRepository requestRepository;
+    private final PendingRequestCounterRepository pendingRequestCounterRepository;
+    private final PendingRequestCounterCache pendingRequestCounterCache;
 
-    public RequestQueryServiceImpl(RequestRepository requestRepository) {
+    public RequestQueryServiceImpl(RequestRepository requestRepository,
+                                   PendingRequestCounterRepository pendingRequestCounterRepository,
+                                   PendingRequestCounterCache pendingRequestCounterCache) {
         this.requestRepository = requestRepository;
+        this.pendingRequestCounterRepository = pendingRequestCounterRepository;
+        this.pendingRequestCounterCache = pendingRequestCounterCache;
     }
 
     @Override
@@ -34,4 +57,39 @@ public class RequestQueryServiceImpl implements RequestQueryService {
     public Optional<Request> handle(GetRequestByIdQuery query) {
         return this.requestRepository.findById(query.requestId());
     }
+
+    @Override
+    public Page<Request> handle(GetRequestsByGroupIdQuery query) {
+        return this.requestRepository.findByGroupId(query.groupId(), query.requestStatus(), query.requestType(),
+                PageRequest.of(query.page(), query.size()));
+    }
+
+    @Override
+    public Page<Request> handle(GetRequestsByMemberIdQuery query) {
+        return this.requestRepository.findByMemberId(query.memberId(), query.requestStatus(), query.requestType(),
+                PageRequest.of(query.page(), query.size()));
+    }
+
+    @Override
+    public List<Request> handle(GetRequestQueueQuery query) {
+        var after = query.after();
+        if (query.order() == RequestQueueOrder.OLDEST) {
+            return this.requestRepository.findQueueOldestFirst(query.groupId(), query.requestStatus(), query.requestType(),
+                    after != null ? after.createdAt() : QUEUE_START,
+                    after != null ? after.id() : 0L,
+                    Limit.of(query.limit()));
+        }
+        return this.requestRepository.findQueueNewestFirst(query.groupId(), query.requestStatus(), query.requestType(),
+                after != null ? after.createdAt() : QUEUE_END,
+                after != null ? after.id() : Long.MAX_VALUE,
+                Limit.of(query.limit()));
+    }
+
+    @Override
+    public long handle(GetPendingRequestCountQuery query) {
+        return this.pendingRequestCounterCache.get(query.scope(), query.scopeId(),
+                () -> this.pendingRequestCounterRepository.findByScopeAndScopeId(query.scope(), query.scopeId())
+                        .map(PendingRequestCounter::getPendingCount)
+                        .orElse(0L));
+    }
 }
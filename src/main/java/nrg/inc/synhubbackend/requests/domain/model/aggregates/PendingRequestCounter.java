@@ -0,0 +1,34 @@
+package nrg.inc.synhubbackend.requests.domain.model.aggregates;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+
+/**
+ * Number of pending requests on the tasks of a group or member.
+ * Adjusted in place as requests are created, resolved and deleted, and periodically rebuilt from the requests table.
+ */
+@Getter
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_pending_request_counters_scope", columnNames = {"scope", "scope_id"}))
+public class PendingRequestCounter extends AuditableAbstractAggregateRoot<PendingRequestCounter> {
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RequestCounterScope scope;
+
+    @Column(nullable = false)
+    private Long scopeId;
+
+    private long pendingCount;
+
+    public PendingRequestCounter() {
+    }
+
+    public PendingRequestCounter(RequestCounterScope scope, Long scopeId, long pendingCount) {
+        this.scope = scope;
+        this.scopeId = scopeId;
+        this.pendingCount = pendingCount;
+    }
+}
@@ -3,7 +3,6 @@ package nrg.inc.synhubbackend.requests.domain.model.aggregates;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestCommand;
 import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
 import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
@@ -12,7 +11,10 @@ import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 
 @Getter
 @Entity
-@Table(name = "requests")
+@Table(name = "requests", indexes = {
+        @Index(name = "idx_requests_task_id", columnList = "task_id"),
+        @Index(name = "idx_requests_group_status_created_at_id", columnList = "group_id, request_status, created_at, id")
+})
 public class Request extends AuditableAbstractAggregateRoot<Request> {
     @NonNull
     private String description;
@@ -25,11 +27,16 @@ public class Request extends AuditableAbstractAggregateRoot<Request> {
     @Column(name = "request_status")
     private RequestStatus requestStatus;
 
-    @Setter
     @ManyToOne
     @JoinColumn(name = "task_id")
     private Task task;
 
+    /**
+     * Copy of the group of the task, so the request queue of a group is read from its own index range.
+     */
+    @Column(name = "group_id")
+    private Long groupId;
+
     public Request() {
     }
 
@@ -47,6 +54,11 @@ public class Request extends AuditableAbstractAggregateRoot<Request> {
         this.requestStatus = RequestStatus.PENDING;
     }
 
+    public void setTask(Task task) {
+        this.task = task;
+        this.groupId = task != null && task.getGroup() != null ? task.getGroup().getId() : null;
+    }
+
     public void updateRequestStatus(String requestStatus) {
         this.requestStatus = RequestStatus.fromString(requestStatus);
     }
@@ -0,0 +1,13 @@
+package nrg.inc.synhubbackend.requests.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Creates one pending request of the same type and description for each of the tasks.
+ */
+public record CreateRequestsForTasksCommand(
+        String description,
+        String requestType,
+        List<Long> taskIds
+) {
+}
@@ -0,0 +1,11 @@
+package nrg.inc.synhubbackend.requests.domain.model.commands;
+
+import java.util.List;
+
+public record DeleteAllRequestsByTaskIdsCommand(List<Long> taskIds) {
+    public DeleteAllRequestsByTaskIdsCommand {
+        if (taskIds == null) {
+            throw new IllegalArgumentException("Task ids cannot be null");
+        }
+    }
+}
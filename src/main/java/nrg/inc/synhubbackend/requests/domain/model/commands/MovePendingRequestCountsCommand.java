@@ -0,0 +1,12 @@
+package nrg.inc.synhubbackend.requests.domain.model.commands;
+
+/**
+ * Moves the requests of a task to its new group, and its pending requests to its new group or member in the pending request counters.
+ */
+public record MovePendingRequestCountsCommand(Long taskId, Long fromGroupId, Long fromMemberId, Long toGroupId, Long toMemberId) {
+    public MovePendingRequestCountsCommand {
+        if (taskId == null) {
+            throw new IllegalArgumentException("Task id cannot be null");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package nrg.inc.synhubbackend.requests.domain.model.commands;
+
+/**
+ * Recomputes the pending request counters, first copying the group of each task onto its requests where it drifted.
+ */
+public record RebuildPendingRequestCountersCommand() {
+}
@@ -0,0 +1,29 @@
+package nrg.inc.synhubbackend.requests.domain.model.commands;
+
+import java.util.List;
+
+/**
+ * Sets the status of every listed request that belongs to the group.
+ */
+public record UpdateRequestsStatusCommand(
+        Long groupId,
+        List<Long> requestIds,
+        String requestStatus
+) {
+    public static final int MAX_REQUESTS = 500;
+
+    public UpdateRequestsStatusCommand {
+        if (groupId == null) {
+            throw new IllegalArgumentException("Group id must not be null");
+        }
+        if (requestIds == null || requestIds.isEmpty()) {
+            throw new IllegalArgumentException("Request ids must not be empty");
+        }
+        if (requestIds.size() > MAX_REQUESTS) {
+            throw new IllegalArgumentException("At most " + MAX_REQUESTS + " requests can be updated at once");
+        }
+        if (requestIds.contains(null)) {
+            throw new IllegalArgumentException("Request ids must not contain null");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package nrg.inc.synhubbackend.requests.domain.model.events;
+
+import java.util.Set;
+
+/**
+ * Published when the pending request counters of some groups and members change.
+ * Null sets mean every counter may have changed, as after a batch insert or a rebuild.
+ */
+public record PendingRequestCountersChangedEvent(Set<Long> groupIds, Set<Long> memberIds) {
+
+    public static PendingRequestCountersChangedEvent all() {
+        return new PendingRequestCountersChangedEvent(null, null);
+    }
+
+    public boolean affectsAll() {
+        return groupIds == null || memberIds == null;
+    }
+}
@@ -0,0 +1,10 @@
+package nrg.inc.synhubbackend.requests.domain.model.events;
+
+import java.util.List;
+
+/**
+ * Published when pending requests of a group are approved or rejected.
+ * @param solutionTimesMillis for each resolved request, the time between its creation and its resolution
+ */
+public record RequestsResolvedEvent(Long groupId, List<Long> solutionTimesMillis) {
+}
@@ -0,0 +1,14 @@
+package nrg.inc.synhubbackend.requests.domain.model.queries;
+
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+
+public record GetPendingRequestCountQuery(RequestCounterScope scope, Long scopeId) {
+    public GetPendingRequestCountQuery {
+        if (scope == null) {
+            throw new IllegalArgumentException("Scope cannot be null");
+        }
+        if (scopeId == null) {
+            throw new IllegalArgumentException("Scope id cannot be null");
+        }
+    }
+}
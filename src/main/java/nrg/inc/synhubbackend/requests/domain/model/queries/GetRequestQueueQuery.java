@@ -0,0 +1,37 @@
+package nrg.inc.synhubbackend.requests.domain.model.queries;
+
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueCursor;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueOrder;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
+
+/**
+ * The requests of a group with a given status, by age.
+ * @param requestType only requests of this type, or null for any
+ * @param after the last request of the previous page, or null for the first page
+ */
+public record GetRequestQueueQuery(
+        Long groupId,
+        RequestStatus requestStatus,
+        RequestType requestType,
+        RequestQueueOrder order,
+        RequestQueueCursor after,
+        int limit
+) {
+    public static final int MAX_LIMIT = 500;
+
+    public GetRequestQueueQuery {
+        if (groupId == null) {
+            throw new IllegalArgumentException("Group id must not be null");
+        }
+        if (requestStatus == null) {
+            throw new IllegalArgumentException("Request status must not be null");
+        }
+        if (order == null) {
+            throw new IllegalArgumentException("Order must not be null");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package nrg.inc.synhubbackend.requests.domain.model.queries;
+
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
+
+/**
+ * One page of the requests on the tasks of a group, newest first.
+ * @param requestStatus only requests with this status, or null for any
+ * @param requestType only requests of this type, or null for any
+ */
+public record GetRequestsByGroupIdQuery(
+        Long groupId,
+        RequestStatus requestStatus,
+        RequestType requestType,
+        int page,
+        int size
+) {
+    public static final int MAX_PAGE_SIZE = 500;
+
+    public GetRequestsByGroupIdQuery {
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
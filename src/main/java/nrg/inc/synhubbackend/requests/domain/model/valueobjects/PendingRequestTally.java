@@ -0,0 +1,7 @@
+package nrg.inc.synhubbackend.requests.domain.model.valueobjects;
+
+/**
+ * Number of pending requests on a set of tasks that share a group and member.
+ */
+public record PendingRequestTally(Long groupId, Long memberId, long pendingCount) {
+}
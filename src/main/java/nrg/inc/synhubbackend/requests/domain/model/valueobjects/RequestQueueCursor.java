@@ -0,0 +1,41 @@
+package nrg.inc.synhubbackend.requests.domain.model.valueobjects;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Position in a request queue: the creation time and id of the last request seen.
+ * Written as {@code <epoch microseconds>_<id>} so it can be passed back as a query parameter as is.
+ */
+public record RequestQueueCursor(OffsetDateTime createdAt, Long id) {
+    private static final String SEPARATOR = "_";
+
+    public RequestQueueCursor {
+        if (createdAt == null) {
+            throw new IllegalArgumentException("Cursor creation time must not be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id must not be null");
+        }
+    }
+
+    public static RequestQueueCursor fromString(String cursor) {
+        var parts = cursor.split(SEPARATOR);
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid request queue cursor: " + cursor);
+        }
+        try {
+            var createdAt = Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+            return new RequestQueueCursor(createdAt, Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid request queue cursor: " + cursor);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant()) + SEPARATOR + id;
+    }
+}
@@ -0,0 +1,15 @@
+package nrg.inc.synhubbackend.requests.domain.model.valueobjects;
+
+public enum RequestQueueOrder {
+    OLDEST,
+    NEWEST;
+
+    public static RequestQueueOrder fromString(String order) {
+        for (RequestQueueOrder requestQueueOrder : RequestQueueOrder.values()) {
+            if (requestQueueOrder.name().equalsIgnoreCase(order)) {
+                return requestQueueOrder;
+            }
+        }
+        throw new IllegalArgumentException("Unknown request queue order: " + order);
+    }
+}
@@ -0,0 +1,9 @@
+package nrg.inc.synhubbackend.requests.domain.model.valueobjects;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Status, creation time and assigned member of a request, as they were just before its status was changed.
+ */
+public record RequestState(Long requestId, RequestStatus requestStatus, OffsetDateTime createdAt, Long memberId) {
+}
@@ -0,0 +1,8 @@
+package nrg.inc.synhubbackend.requests.domain.model.valueobjects;
+
+/**
+ * What happened to one request of a bulk status update.
+ * Requests outside the caller's group are reported as {@link RequestStatusUpdateOutcome#NOT_FOUND}.
+ */
+public record RequestStatusUpdate(Long requestId, RequestStatusUpdateOutcome outcome) {
+}
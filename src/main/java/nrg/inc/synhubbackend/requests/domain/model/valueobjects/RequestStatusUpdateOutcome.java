@@ -0,0 +1,6 @@
+package nrg.inc.synhubbackend.requests.domain.model.valueobjects;
+
+public enum RequestStatusUpdateOutcome {
+    UPDATED,
+    NOT_FOUND
+}
@@ -0,0 +1,49 @@
+package nrg.inc.synhubbackend.requests.domain.services;
+
+import nrg.inc.synhubbackend.requests.domain.model.commands.RebuildPendingRequestCountersCommand;
+import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.PendingRequestCounterRepository;
+import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.RequestRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PendingRequestCounterScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PendingRequestCounterScheduler.class);
+
+    private final RequestCommandService requestCommandService;
+    private final PendingRequestCounterRepository pendingRequestCounterRepository;
+    private final RequestRepository requestRepository;
+
+    public PendingRequestCounterScheduler(RequestCommandService requestCommandService,
+                                          PendingRequestCounterRepository pendingRequestCounterRepository,
+                                          RequestRepository requestRepository) {
+        this.requestCommandService = requestCommandService;
+        this.pendingRequestCounterRepository = pendingRequestCounterRepository;
+        this.requestRepository = requestRepository;
+    }
+
+    /**
+     * Backfills the counters, and the group of the requests, the first time the application starts against an
+     * existing requests table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildCountersIfEmpty() {
+        if (pendingRequestCounterRepository.count() == 0 || requestRepository.existsByGroupIdIsNullAndTask_GroupIsNotNull()) {
+            rebuildCounters();
+        }
+    }
+
+    /**
+     * Recomputes every counter from the requests table to repair any drift.
+     */
+    @Scheduled(cron = "${requests.counters.rebuild-cron:0 30 3 * * *}")
+    public void rebuildCounters() {
+        long start = System.currentTimeMillis();
+        requestCommandService.handle(new RebuildPendingRequestCountersCommand());
+        LOGGER.info("Pending request counters rebuilt in {} ms", System.currentTimeMillis() - start);
+    }
+}
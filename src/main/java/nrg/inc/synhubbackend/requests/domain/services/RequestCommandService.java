@@ -2,15 +2,27 @@ package nrg.inc.synhubbackend.requests.domain.services;
 
 import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
 import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestsForTasksCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdsCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.MovePendingRequestCountsCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.RebuildPendingRequestCountersCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestsStatusCommand;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdate;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RequestCommandService {
     Long handle(CreateRequestCommand command);
+    int handle(CreateRequestsForTasksCommand command);
     Optional<Request> handle(UpdateRequestCommand command);
+    List<RequestStatusUpdate> handle(UpdateRequestsStatusCommand command);
     void handle(DeleteRequestCommand command);
     void handle(DeleteAllRequestsByTaskIdCommand command);
+    void handle(DeleteAllRequestsByTaskIdsCommand command);
+    void handle(MovePendingRequestCountsCommand command);
+    void handle(RebuildPendingRequestCountersCommand command);
 }
@@ -2,9 +2,15 @@ package nrg.inc.synhubbackend.requests.domain.services;
 
 import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetAllRequestsQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetPendingRequestCountQuery;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestByIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestQueueQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByGroupIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByMemberIdQuery;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByTaskIdQuery;
 
+import org.springframework.data.domain.Page;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +18,8 @@ public interface RequestQueryService {
     List<Request> handle(GetAllRequestsQuery query);
     List<Request> handle(GetRequestsByTaskIdQuery query);
     Optional<Request> handle(GetRequestByIdQuery query);
+    Page<Request> handle(GetRequestsByGroupIdQuery query);
+    Page<Request> handle(GetRequestsByMemberIdQuery query);
+    List<Request> handle(GetRequestQueueQuery query);
+    long handle(GetPendingRequestCountQuery query);
 }
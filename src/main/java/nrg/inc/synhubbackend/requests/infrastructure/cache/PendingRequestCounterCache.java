@@ -0,0 +1,44 @@
+package nrg.inc.synhubbackend.requests.infrastructure.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.shared.domain.model.infrastructure.cache.GenerationGuardedCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * In-process copy of the pending request counters, so badge polls are answered without a database read.
+ * Local changes invalidate entries after commit; the short TTL bounds how long changes made on another instance take to show.
+ */
+@Component
+public class PendingRequestCounterCache {
+    public static final String CACHE_NAME = "requests.pending-counters";
+
+    private record Key(RequestCounterScope scope, Long scopeId) {
+    }
+
+    private final GenerationGuardedCache<Key, Key, Long> cache;
+
+    public PendingRequestCounterCache(@Value("${requests.counters.cache.maximum-size:10000}") long maximumSize,
+                                      @Value("${requests.counters.cache.ttl:10s}") Duration ttl,
+                                      MeterRegistry meterRegistry) {
+        this.cache = new GenerationGuardedCache<>(CACHE_NAME, maximumSize, ttl, Function.identity(), meterRegistry);
+    }
+
+    public long get(RequestCounterScope scope, Long scopeId, LongSupplier loader) {
+        return cache.get(new Key(scope, scopeId), loader::getAsLong);
+    }
+
+    public void invalidate(RequestCounterScope scope, Collection<Long> scopeIds) {
+        scopeIds.forEach(scopeId -> cache.invalidate(new Key(scope, scopeId)));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
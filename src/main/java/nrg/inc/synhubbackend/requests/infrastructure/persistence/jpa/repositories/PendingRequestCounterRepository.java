@@ -0,0 +1,85 @@
+package nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories;
+
+import nrg.inc.synhubbackend.requests.domain.model.aggregates.PendingRequestCounter;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PendingRequestCounterRepository extends JpaRepository<PendingRequestCounter, Long> {
+    Optional<PendingRequestCounter> findByScopeAndScopeId(RequestCounterScope scope, Long scopeId);
+
+    /**
+     * Adds the delta in place, creating the counter on first use, so concurrent transactions never overwrite each other.
+     * The result is not clamped: a negative count means the counter drifted and is left visible until the next rebuild.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO pending_request_counters (scope, scope_id, pending_count, created_at, updated_at)
+            VALUES (:scope, :scopeId, :delta, now(), now())
+            ON CONFLICT (scope, scope_id) DO UPDATE
+            SET pending_count = pending_request_counters.pending_count + :delta,
+                updated_at = now()
+            """, nativeQuery = true)
+    int increment(@Param("scope") String scope, @Param("scopeId") Long scopeId, @Param("delta") long delta);
+
+    default int increment(RequestCounterScope scope, Long scopeId, long delta) {
+        return increment(scope.name(), scopeId, delta);
+    }
+
+    /**
+     * Counts one new pending request for each of the tasks against its group and member in a single statement.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO pending_request_counters (scope, scope_id, pending_count, created_at, updated_at)
+            SELECT 'GROUP', t.group_id, count(*), now(), now()
+            FROM tasks t
+            WHERE t.id IN (:taskIds) AND t.group_id IS NOT NULL
+            GROUP BY t.group_id
+            UNION ALL
+            SELECT 'MEMBER', t.member_id, count(*), now(), now()
+            FROM tasks t
+            WHERE t.id IN (:taskIds) AND t.member_id IS NOT NULL
+            GROUP BY t.member_id
+            ON CONFLICT (scope, scope_id) DO UPDATE
+            SET pending_count = pending_request_counters.pending_count + excluded.pending_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    int incrementForTasks(@Param("taskIds") List<Long> taskIds);
+
+    /**
+     * Recomputes every counter from the pending requests; counters with no pending requests left are reset to zero.
+     */
+    @Modifying
+    @Query(value = """
+            WITH counts AS (
+                SELECT 'GROUP' AS scope, t.group_id AS scope_id, count(*) AS pending_count
+                FROM requests r JOIN tasks t ON t.id = r.task_id
+                WHERE r.request_status = 'PENDING' AND t.group_id IS NOT NULL
+                GROUP BY t.group_id
+                UNION ALL
+                SELECT 'MEMBER', t.member_id, count(*)
+                FROM requests r JOIN tasks t ON t.id = r.task_id
+                WHERE r.request_status = 'PENDING' AND t.member_id IS NOT NULL
+                GROUP BY t.member_id
+            ), reset AS (
+                UPDATE pending_request_counters c
+                SET pending_count = 0, updated_at = now()
+                WHERE c.pending_count <> 0
+                  AND NOT EXISTS (SELECT 1 FROM counts WHERE counts.scope = c.scope AND counts.scope_id = c.scope_id)
+            )
+            INSERT INTO pending_request_counters (scope, scope_id, pending_count, created_at, updated_at)
+            SELECT scope, scope_id, pending_count, now(), now() FROM counts
+            ON CONFLICT (scope, scope_id) DO UPDATE
+            SET pending_count = excluded.pending_count,
+                updated_at = now()
+            """, nativeQuery = true)
+    int rebuild();
+}
@@ -1,13 +1,238 @@
 package nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories;
 
+import jakarta.persistence.LockModeType;
 import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.PendingRequestTally;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestState;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface RequestRepository extends JpaRepository<Request, Long> {
     List<Request> findByTaskId(Long taskId);
-    void deleteByTaskId(Long taskId);
+    long countByTaskIdAndRequestStatus(Long taskId, RequestStatus requestStatus);
+
+    /**
+     * Locks the request row so concurrent status changes of the same request run one after another.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Request r WHERE r.id = :requestId")
+    Optional<Request> findForUpdate(@Param("requestId") Long requestId);
+
+    // Requests fetched together with their task, member and group in one join; null filters match everything
+
+    @Query(value = """
+            SELECT r FROM Request r
+            JOIN FETCH r.task t
+            JOIN FETCH t.group g
+            LEFT JOIN FETCH t.member m
+            LEFT JOIN FETCH m.user
+            WHERE g.id = :groupId
+              AND (:status IS NULL OR r.requestStatus = :status)
+              AND (:type IS NULL OR r.requestType = :type)
+            ORDER BY r.createdAt DESC, r.id DESC
+            """,
+            countQuery = """
+            SELECT count(r) FROM Request r
+            WHERE r.task.group.id = :groupId
+              AND (:status IS NULL OR r.requestStatus = :status)
+              AND (:type IS NULL OR r.requestType = :type)
+            """)
+    Page<Request> findByGroupId(@Param("groupId") Long groupId,
+                                @Param("status") RequestStatus status,
+                                @Param("type") RequestType type,
+                                Pageable pageable);
+
+    @Query(value = """
+            SELECT r FROM Request r
+            JOIN FETCH r.task t
+            JOIN FETCH t.group g
+            JOIN FETCH t.member m
+            LEFT JOIN FETCH m.user
+            WHERE m.id = :memberId
+              AND (:status IS NULL OR r.requestStatus = :status)
+              AND (:type IS NULL OR r.requestType = :type)
+            ORDER BY r.createdAt DESC, r.id DESC
+            """,
+            countQuery = """
+            SELECT count(r) FROM Request r
+            WHERE r.task.member.id = :memberId
+              AND (:status IS NULL OR r.requestStatus = :status)
+              AND (:type IS NULL OR r.requestType = :type)
+            """)
+    Page<Request> findByMemberId(@Param("memberId") Long memberId,
+                                 @Param("status") RequestStatus status,
+                                 @Param("type") RequestType type,
+                                 Pageable pageable);
+
+    // Request queue of a group, read in (created_at, id) order after a cursor; served by idx_requests_group_status_created_at_id
+
+    @Query("""
+            SELECT r FROM Request r
+            JOIN FETCH r.task t
+            JOIN FETCH t.group g
+            LEFT JOIN FETCH t.member m
+            LEFT JOIN FETCH m.user
+            WHERE r.groupId = :groupId
+              AND r.requestStatus = :status
+              AND (:type IS NULL OR r.requestType = :type)
+              AND (r.createdAt > :afterCreatedAt OR (r.createdAt = :afterCreatedAt AND r.id > :afterId))
+            ORDER BY r.createdAt ASC, r.id ASC
+            """)
+    List<Request> findQueueOldestFirst(@Param("groupId") Long groupId,
+                                       @Param("status") RequestStatus status,
+                                       @Param("type") RequestType type,
+                                       @Param("afterCreatedAt") OffsetDateTime afterCreatedAt,
+                                       @Param("afterId") Long afterId,
+                                       Limit limit);
+
+    @Query("""
+            SELECT r FROM Request r
+            JOIN FETCH r.task t
+            JOIN FETCH t.group g
+            LEFT JOIN FETCH t.member m
+            LEFT JOIN FETCH m.user
+            WHERE r.groupId = :groupId
+              AND r.requestStatus = :status
+              AND (:type IS NULL OR r.requestType = :type)
+              AND (r.createdAt < :beforeCreatedAt OR (r.createdAt = :beforeCreatedAt AND r.id < :beforeId))
+            ORDER BY r.createdAt DESC, r.id DESC
+            """)
+    List<Request> findQueueNewestFirst(@Param("groupId") Long groupId,
+                                       @Param("status") RequestStatus status,
+                                       @Param("type") RequestType type,
+                                       @Param("beforeCreatedAt") OffsetDateTime beforeCreatedAt,
+                                       @Param("beforeId") Long beforeId,
+                                       Limit limit);
+
+    /**
+     * Sets the status of the requests that belong to the group, in one statement.
+     * The requests are locked before their current status is read, and only those whose status changes are written,
+     * so concurrent updates of the same request never both see it in its previous status.
+     * @return one row per request of the group, carrying the status it had before this update
+     */
+    @Query(value = """
+            WITH target AS (
+                SELECT r.id, r.request_status, r.created_at, t.member_id
+                FROM requests r JOIN tasks t ON t.id = r.task_id
+                WHERE r.id IN (:requestIds) AND t.group_id = :groupId
+                FOR UPDATE OF r
+            ), updated AS (
+                UPDATE requests r SET request_status = :status, updated_at = :now
+                FROM target
+                WHERE r.id = target.id AND target.request_status <> :status
+                RETURNING r.id
+            )
+            SELECT target.id AS requestId, target.request_status AS requestStatus,
+                   target.created_at AS createdAt, target.member_id AS memberId
+            FROM target
+            """, nativeQuery = true)
+    List<RequestStateRow> updateStatusInGroup(@Param("requestIds") Collection<Long> requestIds,
+                                              @Param("groupId") Long groupId,
+                                              @Param("status") String status,
+                                              @Param("now") OffsetDateTime now);
+
+    default List<RequestState> updateStatusInGroup(Collection<Long> requestIds, Long groupId,
+                                                   RequestStatus status, OffsetDateTime now) {
+        return updateStatusInGroup(requestIds, groupId, status.name(), now).stream()
+                .map(row -> new RequestState(
+                        row.getRequestId(),
+                        RequestStatus.valueOf(row.getRequestStatus()),
+                        row.getCreatedAt().atOffset(ZoneOffset.UTC),
+                        row.getMemberId()))
+                .toList();
+    }
+
+    interface RequestStateRow {
+        Long getRequestId();
+
+        String getRequestStatus();
+
+        Instant getCreatedAt();
+
+        Long getMemberId();
+    }
+
+    /**
+     * Deletes the requests of the tasks in one statement, without loading them.
+     * The pending requests are counted from the rows the statement itself deleted, so a request whose status
+     * changes concurrently is counted in the status it was deleted in.
+     * @return one row per group and member of the tasks, with the number of pending requests deleted
+     */
+    @Query(value = """
+            WITH deleted AS (
+                DELETE FROM requests r WHERE r.task_id IN (:taskIds)
+                RETURNING r.task_id, r.request_status
+            )
+            SELECT t.group_id AS groupId, t.member_id AS memberId, count(*) AS pendingCount
+            FROM deleted d JOIN tasks t ON t.id = d.task_id
+            WHERE d.request_status = 'PENDING'
+            GROUP BY t.group_id, t.member_id
+            """, nativeQuery = true)
+    List<PendingRequestTallyRow> deleteByTaskIdInReturningPending(@Param("taskIds") Collection<Long> taskIds);
+
+    default List<PendingRequestTally> deleteByTaskIdIn(Collection<Long> taskIds) {
+        return deleteByTaskIdInReturningPending(taskIds).stream()
+                .map(row -> new PendingRequestTally(row.getGroupId(), row.getMemberId(), row.getPendingCount()))
+                .toList();
+    }
+
+    interface PendingRequestTallyRow {
+        Long getGroupId();
+
+        Long getMemberId();
+
+        Long getPendingCount();
+    }
+
+    /**
+     * Inserts one request per existing task in a single statement.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO requests (description, request_type, request_status, task_id, group_id, created_at, updated_at)
+            SELECT :description, :requestType, :requestStatus, t.id, t.group_id, now(), now()
+            FROM tasks t
+            WHERE t.id IN (:taskIds)
+            """, nativeQuery = true)
+    int insertForTasks(@Param("description") String description,
+                       @Param("requestType") String requestType,
+                       @Param("requestStatus") String requestStatus,
+                       @Param("taskIds") List<Long> taskIds);
+
+    /**
+     * Moves the requests of the task to its new group.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Request r SET r.groupId = :groupId WHERE r.task.id = :taskId")
+    int updateGroupIdByTaskId(@Param("taskId") Long taskId, @Param("groupId") Long groupId);
+
+    /**
+     * Copies the group of each task onto its requests where they differ, in one statement.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE requests r SET group_id = t.group_id
+            FROM tasks t
+            WHERE t.id = r.task_id AND r.group_id IS DISTINCT FROM t.group_id
+            """, nativeQuery = true)
+    int syncGroupIds();
+
+    boolean existsByGroupIdIsNullAndTask_GroupIsNotNull();
 }
@@ -2,117 +2,240 @@ package nrg.inc.synhubbackend.requests.interfaces.rest;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByLeaderIdQuery;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByUsernameQuery;
 import nrg.inc.synhubbackend.groups.domain.services.GroupQueryService;
 import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
-import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByTaskIdQuery;
+import nrg.inc.synhubbackend.iam.interfaces.acl.IdentityPrincipal;
+import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
+import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestsStatusCommand;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetPendingRequestCountQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestQueueQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByGroupIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByMemberIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueCursor;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueOrder;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
+import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
 import nrg.inc.synhubbackend.requests.domain.services.RequestQueryService;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.PendingRequestCountResource;
 import nrg.inc.synhubbackend.requests.interfaces.rest.resources.RequestResource;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.RequestStatusUpdateResource;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.UpdateRequestsStatusResource;
+import nrg.inc.synhubbackend.requests.interfaces.rest.transform.PendingRequestCountResponseAssembler;
+import nrg.inc.synhubbackend.requests.interfaces.rest.transform.RequestQueueResponseAssembler;
 import nrg.inc.synhubbackend.requests.interfaces.rest.transform.RequestResourceFromEntityAssembler;
-import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByGroupIdQuery;
-import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByMemberId;
+import nrg.inc.synhubbackend.requests.interfaces.rest.transform.RequestStatusUpdateResourceFromValueObjectAssembler;
+import nrg.inc.synhubbackend.requests.interfaces.rest.transform.UpdateRequestsStatusCommandFromResourceAssembler;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByUsernameQuery;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberQueryService;
-import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
-import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping(value = "/api/v1")
 @Tag(name = "Group Requests", description = "Group Requests management API")
 public class GroupRequestController {
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
 
+    private final RequestCommandService requestCommandService;
     private final RequestQueryService requestQueryService;
-    // Both leader, member, group and task should be in an external service
+    // Both leader, member and group should be in an external service
     // For now the queries are directly in the controller
     private final LeaderQueryService leaderQueryService;
     private final MemberQueryService memberQueryService;
     private final GroupQueryService groupQueryService;
-    private final TaskQueryService taskQueryService;
 
     public GroupRequestController(
+            RequestCommandService requestCommandService,
             RequestQueryService requestQueryService,
             LeaderQueryService leaderQueryService,
             MemberQueryService memberQueryService,
-            GroupQueryService groupQueryService,
-            TaskQueryService taskQueryService) {
+            GroupQueryService groupQueryService) {
+        this.requestCommandService = requestCommandService;
         this.requestQueryService = requestQueryService;
         this.leaderQueryService = leaderQueryService;
         this.memberQueryService = memberQueryService;
         this.groupQueryService = groupQueryService;
-        this.taskQueryService = taskQueryService;
     }
 
     @GetMapping("/leader/group/requests")
-    @Operation(summary = "Get all requests from a group", description = "Get all requests from a group")
-    public ResponseEntity<List<RequestResource>> getAllRequestsFromGroup(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
+    @Operation(summary = "Get all requests from a group", description = "Get a page of the requests from a group, newest first, optionally filtered by status and type. The total number of matching requests is returned in the X-Total-Count header")
+    public ResponseEntity<List<RequestResource>> getAllRequestsFromGroup(@AuthenticationPrincipal UserDetails userDetails,
+                                                                         @RequestParam(required = false) String status,
+                                                                         @RequestParam(required = false) String type,
+                                                                         @RequestParam(defaultValue = "0") int page,
+                                                                         @RequestParam(defaultValue = "100") int size) {
+        var groupId = getGroupIdByLeader(userDetails);
+        if (groupId.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
-        var getLeaderByUsernameQuery = new GetLeaderByUsernameQuery(username);
-        var leader = this.leaderQueryService.handle(getLeaderByUsernameQuery);
-        if (leader.isEmpty()) {
+        GetRequestsByGroupIdQuery getRequestsByGroupIdQuery;
+        try {
+            getRequestsByGroupIdQuery = new GetRequestsByGroupIdQuery(
+                    groupId.get(), toRequestStatus(status), toRequestType(type), page, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var requests = requestQueryService.handle(getRequestsByGroupIdQuery);
+        return toPageResponse(requests);
+    }
+
+    @GetMapping("/leader/group/requests/queue")
+    @Operation(summary = "Get the request queue of a group", description = "Get the requests of a group with a status, pending by default, oldest first unless order is newest. Pass the X-Next-Cursor header of a full page as after to read the next one")
+    public ResponseEntity<List<RequestResource>> getRequestQueueFromGroup(@AuthenticationPrincipal UserDetails userDetails,
+                                                                          @RequestParam(defaultValue = "PENDING") String status,
+                                                                          @RequestParam(required = false) String type,
+                                                                          @RequestParam(defaultValue = "OLDEST") String order,
+                                                                          @RequestParam(required = false) String after,
+                                                                          @RequestParam(defaultValue = "100") int limit) {
+        var groupId = getGroupIdByLeader(userDetails);
+        if (groupId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
-        var getGroupByLeaderIdQuery = new GetGroupByLeaderIdQuery(leader.get().getId());
-        var group = this.groupQueryService.handle(getGroupByLeaderIdQuery);
-        if (group.isEmpty()) {
+        GetRequestQueueQuery getRequestQueueQuery;
+        try {
+            getRequestQueueQuery = new GetRequestQueueQuery(
+                    groupId.get(),
+                    RequestStatus.fromString(status),
+                    toRequestType(type),
+                    RequestQueueOrder.fromString(order),
+                    after != null ? RequestQueueCursor.fromString(after) : null,
+                    limit);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var requests = requestQueryService.handle(getRequestQueueQuery);
+        return RequestQueueResponseAssembler.toResponseFromEntities(requests, limit);
+    }
+
+    @GetMapping("/leader/group/requests/pending-count")
+    @Operation(summary = "Get the number of pending requests of a group", description = "Get the number of pending requests of the leader's group. Send the returned ETag in If-None-Match to get a 304 while the count is unchanged")
+    public ResponseEntity<PendingRequestCountResource> getPendingRequestCountFromGroup(@AuthenticationPrincipal UserDetails userDetails,
+                                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var groupId = getGroupIdByLeader(userDetails);
+        if (groupId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
-        var getAllTasksByGroupIdQuery = new GetAllTasksByGroupIdQuery(group.get().getId());
-        var tasks = taskQueryService.handle(getAllTasksByGroupIdQuery);
-        var taskResources = tasks.stream()
-                .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                .toList();
+        var pending = this.requestQueryService.handle(new GetPendingRequestCountQuery(RequestCounterScope.GROUP, groupId.get()));
+        return PendingRequestCountResponseAssembler.toResponse(RequestCounterScope.GROUP, groupId.get(), pending, ifNoneMatch);
+    }
 
-        // Get all requests from each task
-        var requestResources = taskResources.stream()
-                .flatMap(task -> {
-                    var getRequestsByTaskIdQuery = new GetRequestsByTaskIdQuery(task.id());
-                    return requestQueryService.handle(getRequestsByTaskIdQuery)
-                            .stream()
-                            .map(RequestResourceFromEntityAssembler::toResourceFromEntity);
-                })
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(requestResources);
+    @PutMapping("/leader/group/requests/status/{status}")
+    @Operation(summary = "Update the status of several requests", description = "Update the status of up to 500 requests of the leader's group at once. Returns the outcome for each request id; ids that do not belong to the group are reported as NOT_FOUND")
+    public ResponseEntity<List<RequestStatusUpdateResource>> updateRequestsStatus(@AuthenticationPrincipal UserDetails userDetails,
+                                                                                 @PathVariable String status,
+                                                                                 @RequestBody UpdateRequestsStatusResource resource) {
+        var groupId = getGroupIdByLeader(userDetails);
+        if (groupId.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
+        try {
+            UpdateRequestsStatusCommand updateRequestsStatusCommand =
+                    UpdateRequestsStatusCommandFromResourceAssembler.toCommandFromResource(resource, groupId.get(), status);
+            var updates = this.requestCommandService.handle(updateRequestsStatusCommand);
+            var updateResources = updates.stream()
+                    .map(RequestStatusUpdateResourceFromValueObjectAssembler::toResourceFromValueObject)
+                    .toList();
+            return ResponseEntity.ok(updateResources);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/member/group/requests")
-    @Operation(summary = "Get all requests from member", description = "Get all requests from member")
-    public ResponseEntity<List<RequestResource>> getAllRequestsFromMember(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
+    @Operation(summary = "Get all requests from member", description = "Get a page of the requests from member, newest first, optionally filtered by status and type. The total number of matching requests is returned in the X-Total-Count header")
+    public ResponseEntity<List<RequestResource>> getAllRequestsFromMember(@AuthenticationPrincipal UserDetails userDetails,
+                                                                          @RequestParam(required = false) String status,
+                                                                          @RequestParam(required = false) String type,
+                                                                          @RequestParam(defaultValue = "0") int page,
+                                                                          @RequestParam(defaultValue = "100") int size) {
+        var memberId = getMemberId(userDetails);
+        if (memberId.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
 
-        var getMemberByUsername = new GetMemberByUsernameQuery(username);
-        var member = this.memberQueryService.handle(getMemberByUsername);
-        if (member.isEmpty()) {
+        GetRequestsByMemberIdQuery getRequestsByMemberIdQuery;
+        try {
+            getRequestsByMemberIdQuery = new GetRequestsByMemberIdQuery(
+                    memberId.get(), toRequestStatus(status), toRequestType(type), page, size);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        var requests = requestQueryService.handle(getRequestsByMemberIdQuery);
+        return toPageResponse(requests);
+    }
+
+    @GetMapping("/member/group/requests/pending-count")
+    @Operation(summary = "Get the number of pending requests of member", description = "Get the number of pending requests on the member's tasks. Send the returned ETag in If-None-Match to get a 304 while the count is unchanged")
+    public ResponseEntity<PendingRequestCountResource> getPendingRequestCountFromMember(@AuthenticationPrincipal UserDetails userDetails,
+                                                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var memberId = getMemberId(userDetails);
+        if (memberId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
 
-        var getAllTasksByMemberId = new GetAllTasksByMemberId(member.get().getId());
-        var tasks = taskQueryService.handle(getAllTasksByMemberId);
-        var taskResources = tasks.stream()
-                .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                .toList();
+        var pending = this.requestQueryService.handle(new GetPendingRequestCountQuery(RequestCounterScope.MEMBER, memberId.get()));
+        return PendingRequestCountResponseAssembler.toResponse(RequestCounterScope.MEMBER, memberId.get(), pending, ifNoneMatch);
+    }
+
+    private Optional<Long> getGroupIdByLeader(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getLeaderId().flatMap(leaderId -> principal.getGroupId());
+        }
+        var leader = this.leaderQueryService.handle(new GetLeaderByUsernameQuery(userDetails.getUsername()));
+        if (leader.isEmpty()) {
+            return Optional.empty();
+        }
+        return this.groupQueryService.handle(new GetGroupByLeaderIdQuery(leader.get().getId())).map(Group::getId);
+    }
 
-        var requestResources = taskResources.stream()
-                .flatMap(task -> {
-                    var getRequestByTaskIdQuery = new GetRequestsByTaskIdQuery(task.id());
-                    return requestQueryService.handle(getRequestByTaskIdQuery)
-                            .stream()
-                            .map(RequestResourceFromEntityAssembler::toResourceFromEntity);
-                })
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(requestResources);
+    private Optional<Long> getMemberId(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getMemberId();
+        }
+        return this.memberQueryService.handle(new GetMemberByUsernameQuery(userDetails.getUsername())).map(Member::getId);
+    }
+
+    private static RequestStatus toRequestStatus(String status) {
+        return status != null ? RequestStatus.fromString(status) : null;
+    }
+
+    private static RequestType toRequestType(String type) {
+        return type != null ? RequestType.fromString(type) : null;
+    }
+
+    private static ResponseEntity<List<RequestResource>> toPageResponse(Page<Request> requests) {
+        var requestResources = requests.getContent().stream()
+                .map(RequestResourceFromEntityAssembler::toResourceFromEntity)
+                .toList();
+        return ResponseEntity.ok()
+                .header(TOTAL_COUNT_HEADER, String.valueOf(requests.getTotalElements()))
+                .body(requestResources);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,4 @@
+package nrg.inc.synhubbackend.requests.interfaces.rest.resources;
+
+public record PendingRequestCountResource(long pending) {
+}
@@ -0,0 +1,7 @@
+package nrg.inc.synhubbackend.requests.interfaces.rest.resources;
+
+public record RequestStatusUpdateResource(
+        Long requestId,
+        String outcome
+) {
+}
@@ -0,0 +1,8 @@
+package nrg.inc.synhubbackend.requests.interfaces.rest.resources;
+
+import java.util.List;
+
+public record UpdateRequestsStatusResource(
+        List<Long> requestIds
+) {
+}
@@ -0,0 +1,39 @@
+package nrg.inc.synhubbackend.requests.interfaces.rest.transform;
+
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.PendingRequestCountResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+public class PendingRequestCountResponseAssembler {
+
+    /**
+     * Builds the pending request badge response. The ETag is derived from the count, so a client polling with
+     * {@code If-None-Match} gets an empty 304 until the count changes.
+     */
+    public static ResponseEntity<PendingRequestCountResource> toResponse(RequestCounterScope scope, Long scopeId,
+                                                                         long pending, String ifNoneMatch) {
+        var eTag = "\"" + scope.name().toLowerCase() + "-" + scopeId + "-" + pending + "\"";
+        if (matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(new PendingRequestCountResource(pending));
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) return false;
+        for (var candidate : ifNoneMatch.split(",")) {
+            var value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals("*") || value.equals(eTag)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package nrg.inc.synhubbackend.requests.interfaces.rest.transform;
+
+import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueCursor;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.RequestResource;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+public class RequestQueueResponseAssembler {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Builds the request queue response; when a full page was returned, the cursor to pass as {@code after} for the
+     * next page is sent in the {@value #NEXT_CURSOR_HEADER} header.
+     */
+    public static ResponseEntity<List<RequestResource>> toResponseFromEntities(List<Request> requests, int limit) {
+        var requestResources = requests.stream()
+                .map(RequestResourceFromEntityAssembler::toResourceFromEntity)
+                .toList();
+        var response = ResponseEntity.ok();
+        if (!requests.isEmpty() && requests.size() == limit) {
+            var last = requests.get(requests.size() - 1);
+            response.header(NEXT_CURSOR_HEADER, new RequestQueueCursor(last.getCreatedAt(), last.getId()).toString());
+        }
+        return response.body(requestResources);
+    }
+}
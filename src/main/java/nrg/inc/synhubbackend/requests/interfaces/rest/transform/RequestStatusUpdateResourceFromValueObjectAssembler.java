@@ -0,0 +1,13 @@
+package nrg.inc.synhubbackend.requests.interfaces.rest.transform;
+
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdate;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.RequestStatusUpdateResource;
+
+public class RequestStatusUpdateResourceFromValueObjectAssembler {
+    public static RequestStatusUpdateResource toResourceFromValueObject(RequestStatusUpdate update) {
+        return new RequestStatusUpdateResource(
+                update.requestId(),
+                update.outcome().name()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package nrg.inc.synhubbackend.requests.interfaces.rest.transform;
+
+import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestsStatusCommand;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.UpdateRequestsStatusResource;
+
+public class UpdateRequestsStatusCommandFromResourceAssembler {
+    public static UpdateRequestsStatusCommand toCommandFromResource(UpdateRequestsStatusResource resource, Long groupId, String status) {
+        return new UpdateRequestsStatusCommand(
+                groupId,
+                resource.requestIds(),
+                status
+        );
+    }
+}
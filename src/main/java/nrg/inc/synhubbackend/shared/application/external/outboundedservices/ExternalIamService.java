@@ -1,6 +1,6 @@
 package nrg.inc.synhubbackend.shared.application.external.outboundedservices;
 
-import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.iam.interfaces.acl.IamContextFacade;
 import org.springframework.stereotype.Service;
 
@@ -14,16 +14,7 @@ public class ExternalIamService {
         this.iamContextFacade = iamContextFacade;
     }
 
-    public Optional<User> getUserByUsername(String username) {
-        var userId = this.iamContextFacade.fetchUserIdByUsername(username);
-
-        if (userId == null || userId == 0L) {
-            throw new IllegalArgumentException("User not found for username: " + username);
-        }
-        var user = this.iamContextFacade.fetchUserById(userId);
-        if (user.isEmpty()) {
-            throw new IllegalArgumentException("User not found for userId: " + userId);
-        }
-        return user;
+    public Optional<UserIdentity> getUserIdentityByUsername(String username) {
+        return this.iamContextFacade.fetchUserIdentityByUsername(username);
     }
 }
@@ -0,0 +1,30 @@
+package nrg.inc.synhubbackend.shared.domain.model.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Time-limited claim of one instance on a scheduled job, so only one replica runs it at a time.
+ * Rows are written by native statements in {@code SchedulerLeaseRepository}; the entity only maps the table.
+ */
+@Getter
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease {
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private OffsetDateTime expiresAt;
+
+    protected SchedulerLease() {
+    }
+}
@@ -0,0 +1,97 @@
+package nrg.inc.synhubbackend.shared.domain.model.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded in-process cache whose entries are invalidated by partition, e.g. every result of one group.
+ * <p>
+ * Each partition has a generation, and entries are stored under their key together with the generation they
+ * were loaded at. Invalidating a partition only moves its generation forward: its entries stop being reachable
+ * at once and are evicted by size or TTL later, so invalidation never scans the cache. A value is not stored if
+ * its partition was invalidated while it was loading, since it may predate the change. Partitions are only
+ * remembered for one TTL after their last invalidation, which is as long as any entry they hid can live.
+ * Hit, miss and eviction counts are published as the {@code cache.*} meters tagged with the cache name.
+ * </p>
+ * @param <P> the partition type
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class GenerationGuardedCache<P, K, V> {
+
+    private record VersionedKey<K>(K key, long generation) {
+    }
+
+    private final Cache<VersionedKey<K>, V> cache;
+    private final Cache<P, Long> generations;
+    private final Function<K, P> partitionOf;
+    private final AtomicLong clock = new AtomicLong();
+    private volatile long floor;
+
+    public GenerationGuardedCache(String name, long maximumSize, Duration ttl, Function<K, P> partitionOf, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .build();
+        this.partitionOf = partitionOf;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(new VersionedKey<>(key, generationOf(partitionOf.apply(key))));
+    }
+
+    /**
+     * Returns the cached value, loading and caching it on a miss.
+     * @param loader loads the value; exceptions it throws propagate and a null value is not cached
+     */
+    public V get(K key, Supplier<V> loader) {
+        var cached = getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        return load(key, loader);
+    }
+
+    /**
+     * Loads the value without looking it up first and caches it unless its partition was invalidated meanwhile.
+     */
+    public V load(K key, Supplier<V> loader) {
+        var partition = partitionOf.apply(key);
+        long generation = generationOf(partition);
+        var value = loader.get();
+        if (value != null && generation == generationOf(partition)) {
+            cache.put(new VersionedKey<>(key, generation), value);
+        }
+        return value;
+    }
+
+    public void invalidate(P partition) {
+        generations.put(partition, clock.incrementAndGet());
+    }
+
+    public void invalidateAll() {
+        floor = clock.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private long generationOf(P partition) {
+        var generation = generations.getIfPresent(partition);
+        return generation != null ? Math.max(generation, floor) : floor;
+    }
+}
@@ -0,0 +1,40 @@
+package nrg.inc.synhubbackend.shared.domain.model.infrastructure.persistence.jpa.repositories;
+
+import nrg.inc.synhubbackend.shared.domain.model.entities.SchedulerLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SchedulerLeaseRepository extends JpaRepository<SchedulerLease, String> {
+
+    /**
+     * Claims the lease if it is free, expired or already held by the owner, in one atomic statement.
+     * @return 1 when the owner holds the lease afterwards, 0 when another instance does
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO scheduler_leases (name, owner, expires_at)
+            VALUES (:name, :owner, now() + :ttlSeconds * interval '1 second')
+            ON CONFLICT (name) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+            WHERE scheduler_leases.owner = EXCLUDED.owner OR scheduler_leases.expires_at < now()
+            """, nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("ttlSeconds") double ttlSeconds);
+
+    /**
+     * Extends the lease only while the owner still holds it; an expired lease is not taken back.
+     * @return 1 when the lease was extended, 0 when it expired or another instance holds it
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE scheduler_leases SET expires_at = now() + :ttlSeconds * interval '1 second'
+            WHERE name = :name AND owner = :owner AND expires_at >= now()
+            """, nativeQuery = true)
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("ttlSeconds") double ttlSeconds);
+
+    @Modifying
+    @Query(value = "UPDATE scheduler_leases SET expires_at = now() WHERE name = :name AND owner = :owner", nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,86 @@
+package nrg.inc.synhubbackend.shared.domain.model.infrastructure.scheduling;
+
+import nrg.inc.synhubbackend.shared.domain.model.infrastructure.persistence.jpa.repositories.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Coordinates scheduled jobs across replicas through leases in the scheduler_leases table.
+ * A job runs only on the instance holding its lease; the lease is released when the job finishes and
+ * expires on its own if that instance dies, so another replica takes over on its next tick.
+ * Jobs that may outlive the ttl renew the lease as they go and stop once a renewal fails.
+ */
+@Component
+public class SchedulerLeaseCoordinator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SchedulerLeaseCoordinator.class);
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+
+    public SchedulerLeaseCoordinator(SchedulerLeaseRepository schedulerLeaseRepository, PlatformTransactionManager transactionManager) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.instanceId = ManagementFactory.getRuntimeMXBean().getName() + "-" + UUID.randomUUID();
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Runs the job if this instance can take the lease, then releases it.
+     * @param ttl how long the lease survives this instance dying mid-run; longer than the job should take
+     * @return whether the job ran here
+     */
+    public boolean runExclusively(String leaseName, Duration ttl, Runnable job) {
+        if (!tryAcquire(leaseName, ttl)) {
+            return false;
+        }
+        try {
+            job.run();
+            return true;
+        } finally {
+            release(leaseName);
+        }
+    }
+
+    public boolean tryAcquire(String leaseName, Duration ttl) {
+        Integer acquired = transactionTemplate.execute(status ->
+                schedulerLeaseRepository.tryAcquire(leaseName, instanceId, ttl.toMillis() / 1000.0));
+        return acquired != null && acquired > 0;
+    }
+
+    /**
+     * Extends a lease this instance holds by another ttl.
+     * @return whether this instance still holds the lease; when false the job must stop
+     */
+    public boolean renew(String leaseName, Duration ttl) {
+        try {
+            Integer renewed = transactionTemplate.execute(status ->
+                    schedulerLeaseRepository.renew(leaseName, instanceId, ttl.toMillis() / 1000.0));
+            return renewed != null && renewed > 0;
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to renew scheduler lease {}: {}", leaseName, e.getMessage());
+            return false;
+        }
+    }
+
+    public void release(String leaseName) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> schedulerLeaseRepository.release(leaseName, instanceId));
+        } catch (RuntimeException e) {
+            // The lease expires on its own
+            LOGGER.warn("Failed to release scheduler lease {}: {}", leaseName, e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package nrg.inc.synhubbackend.tasks.application.internal.commandservices;
 
+import nrg.inc.synhubbackend.groups.domain.model.events.GroupMembershipChangedEvent;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.GroupRepository;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.AddGroupToMemberCommand;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.CreateMemberCommand;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberCommandService;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.MemberRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,10 +17,12 @@ import java.util.Optional;
 public class MemberCommandServiceImpl implements MemberCommandService {
     private final MemberRepository memberRepository;
     private final GroupRepository groupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public MemberCommandServiceImpl(MemberRepository memberRepository, GroupRepository groupRepository) {
+    public MemberCommandServiceImpl(MemberRepository memberRepository, GroupRepository groupRepository, ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.groupRepository = groupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -29,6 +34,7 @@ public class MemberCommandServiceImpl implements MemberCommandService {
     }
 
     @Override
+    @Transactional
     public Optional<Member> handle(AddGroupToMemberCommand command) {
 
         var member = memberRepository.findById(command.memberId());
@@ -43,6 +49,7 @@ public class MemberCommandServiceImpl implements MemberCommandService {
 
         var updatedMember = memberRepository.save(member.get());
         groupRepository.save(group.get());
+        eventPublisher.publishEvent(new GroupMembershipChangedEvent(group.get().getId(), updatedMember.getId()));
         return Optional.of(updatedMember);
     }
 }
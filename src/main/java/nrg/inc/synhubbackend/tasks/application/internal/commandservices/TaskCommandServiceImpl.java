@@ -3,11 +3,17 @@ package nrg.inc.synhubbackend.tasks.application.internal.commandservices;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.GroupRepository;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.*;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TasksDeletingEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskCommandService;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.MemberRepository;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -16,14 +22,17 @@ public class TaskCommandServiceImpl implements TaskCommandService {
     private final TaskRepository taskRepository;
     private final MemberRepository memberRepository;
     private final GroupRepository groupRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TaskCommandServiceImpl(TaskRepository taskRepository, MemberRepository memberRepository, GroupRepository groupRepository) {
+    public TaskCommandServiceImpl(TaskRepository taskRepository, MemberRepository memberRepository, GroupRepository groupRepository, ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.memberRepository = memberRepository;
         this.groupRepository = groupRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Optional<Task> handle(CreateTaskCommand command) {
         var task = new Task(command);
         var member = this.memberRepository.findById(command.memberId());
@@ -49,11 +58,13 @@ public class TaskCommandServiceImpl implements TaskCommandService {
 
         this.memberRepository.save(member.get());
         var createdTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(TaskSnapshot.of(createdTask)));
 
         return Optional.of(createdTask);
     }
 
     @Override
+    @Transactional
     public Optional<Task> handle(UpdateTaskCommand command) {
         var taskOpt = this.taskRepository.findById(command.taskId());
         var newMemberOpt = this.memberRepository.findById(command.memberId());
@@ -66,6 +77,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         }
 
         var task = taskOpt.get();
+        var before = TaskSnapshot.of(task);
         var currentMember = task.getMember();
         var newMember = newMemberOpt.get();
 
@@ -101,6 +113,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
 
         try{
             var updatedTask = this.taskRepository.save(task);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(updatedTask)));
             return Optional.of(updatedTask);
         } catch (Exception e){
             throw new IllegalArgumentException("Error updating task: " + e.getMessage());
@@ -108,24 +121,24 @@ public class TaskCommandServiceImpl implements TaskCommandService {
     }
 
     @Override
+    @Transactional
     public void handle(DeleteTaskCommand command) {
         var taskId = command.taskId();
-        if(!taskRepository.existsById(taskId)) {
-            throw new IllegalArgumentException("Task with id " + taskId + " does not exist");
-        }
+        var task = this.taskRepository.findById(taskId)
+                .orElseThrow(() -> new IllegalArgumentException("Task with id " + taskId + " does not exist"));
         try {
-            var member = this.taskRepository.findById(taskId).get().getMember();
-            if (member != null) {
-                member.removeTask(this.taskRepository.findById(taskId).get());
-                this.memberRepository.save(member);
-            }
-            this.taskRepository.deleteById(taskId);
+            var before = TaskSnapshot.of(task);
+            // The task owns the member association, so deleting it needs no change on the member side
+            eventPublisher.publishEvent(new TasksDeletingEvent(List.of(taskId)));
+            this.taskRepository.delete(task);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(List.of(before)));
         } catch (Exception e) {
             throw new IllegalArgumentException("Error deleting task: " + e.getMessage());
         }
     }
 
     @Override
+    @Transactional
     public Optional<Task> handle(UpdateTaskStatusCommand command) {
         var taskId = command.taskId();
         if(!taskRepository.existsById(taskId)) {
@@ -135,8 +148,10 @@ public class TaskCommandServiceImpl implements TaskCommandService {
         var taskToUpdate = this.taskRepository.findById(taskId).get();
 
         try{
+            var before = TaskSnapshot.of(taskToUpdate);
             taskToUpdate.updateStatus(command);
             var updatedTask = this.taskRepository.save(taskToUpdate);
+            eventPublisher.publishEvent(TaskChangedEvent.updated(before, TaskSnapshot.of(updatedTask)));
             return Optional.of(updatedTask);
         } catch (Exception e){
             throw new IllegalArgumentException("Error updating task status: " + e.getMessage());
@@ -144,6 +159,7 @@ public class TaskCommandServiceImpl implements TaskCommandService {
     }
 
     @Override
+    @Transactional
     public void handle(DeleteTasksByMemberId command) {
         var memberId = command.memberId();
         if(!this.memberRepository.existsById(memberId)) {
@@ -154,14 +170,12 @@ public class TaskCommandServiceImpl implements TaskCommandService {
             if (tasks.isEmpty()) {
                 return;
             }
-            for (var task : tasks) {
-                var member = task.getMember();
-                if (member != null) {
-                    member.removeTask(task);
-                    this.memberRepository.save(member);
-                }
-                this.taskRepository.delete(task);
-            }
+            var deleted = tasks.stream().map(TaskSnapshot::of).toList();
+            var taskIds = deleted.stream().map(TaskSnapshot::taskId).toList();
+            // A fixed number of statements however many tasks the member has: their requests, then the tasks
+            eventPublisher.publishEvent(new TasksDeletingEvent(taskIds));
+            this.taskRepository.deleteAllByIdInBatch(taskIds);
+            eventPublisher.publishEvent(TaskChangedEvent.deleted(deleted));
         } catch (Exception e) {
             throw new IllegalArgumentException("Error deleting tasks for member: " + e.getMessage());
         }
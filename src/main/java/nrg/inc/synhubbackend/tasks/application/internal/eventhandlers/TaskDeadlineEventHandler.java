@@ -0,0 +1,33 @@
+package nrg.inc.synhubbackend.tasks.application.internal.eventhandlers;
+
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskDeadline;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import nrg.inc.synhubbackend.tasks.infrastructure.scheduling.TaskDeadlineIndex;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Service
+public class TaskDeadlineEventHandler {
+
+    private final TaskDeadlineIndex taskDeadlineIndex;
+
+    public TaskDeadlineEventHandler(TaskDeadlineIndex taskDeadlineIndex) {
+        this.taskDeadlineIndex = taskDeadlineIndex;
+    }
+
+    /**
+     * Runs after commit so a rolled back change never moves or drops a deadline.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TaskChangedEvent event) {
+        for (var change : event.changes()) {
+            var after = change.after();
+            if (after != null && after.status() == TaskStatus.IN_PROGRESS && after.dueDate() != null) {
+                taskDeadlineIndex.schedule(new TaskDeadline(after.taskId(), after.dueDate()));
+            } else if (change.before() != null) {
+                taskDeadlineIndex.cancel(change.before().taskId());
+            }
+        }
+    }
+}
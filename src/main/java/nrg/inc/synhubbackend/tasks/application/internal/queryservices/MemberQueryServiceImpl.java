@@ -1,5 +1,6 @@
 package nrg.inc.synhubbackend.tasks.application.internal.queryservices;
 
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.shared.application.external.outboundedservices.ExternalIamService;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllMembersQuery;
@@ -31,19 +32,13 @@ public class MemberQueryServiceImpl implements MemberQueryService {
 
     @Override
     public Optional<Member> handle(GetMemberByUsernameQuery query) {
-        var user = this.externalIamService.getUserByUsername(query.username());
+        var identity = this.externalIamService.getUserIdentityByUsername(query.username());
 
-        var role = user.get().getRoles().stream().findFirst().get().getName().toString();
-
-        if (!role.equals("ROLE_MEMBER")){
-            return Optional.empty();
-        }
-
-        var member = user.get().getMember();
-        if (member == null) {
+        var memberId = identity.filter(UserIdentity::isMember).map(UserIdentity::memberId);
+        if (memberId.isEmpty()) {
             return Optional.empty();
         }
-        return Optional.of(member);
+        return memberRepository.findById(memberId.get());
     }
 
     @Override
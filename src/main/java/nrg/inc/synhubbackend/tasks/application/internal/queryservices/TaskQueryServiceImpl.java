@@ -1,22 +1,33 @@
 package nrg.inc.synhubbackend.tasks.application.internal.queryservices;
 
+import jakarta.persistence.EntityManager;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.*;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class TaskQueryServiceImpl implements TaskQueryService {
 
+    private static final int STREAM_BATCH_SIZE = 500;
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
 
-    public TaskQueryServiceImpl(TaskRepository taskRepository) {
+    public TaskQueryServiceImpl(TaskRepository taskRepository, EntityManager entityManager) {
         this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
     }
 
 
@@ -32,17 +43,77 @@ public class TaskQueryServiceImpl implements TaskQueryService {
 
     @Override
     public List<Task> handle(GetAllTasksByMemberId query) {
-        return this.taskRepository.findByMember_Id(query.memberId());
+        if (query.limit() == null) {
+            requireNoCursor(query.after());
+            return this.taskRepository.findByMember_Id(query.memberId());
+        }
+        return taskRepository.findByMember_IdAndIdGreaterThanOrderByIdAsc(query.memberId(), afterOrStart(query.after()), Limit.of(query.limit()));
     }
 
     @Override
     public List<Task> handle(GetAllTaskByStatusQuery query) {
         TaskStatus taskStatus = TaskStatus.valueOf(query.taskStatus());
-        return taskRepository.findByStatus(taskStatus);
+        if (query.limit() == null) {
+            requireNoCursor(query.after());
+            return taskRepository.findByStatus(taskStatus);
+        }
+        return taskRepository.findByStatusAndIdGreaterThanOrderByIdAsc(taskStatus, afterOrStart(query.after()), Limit.of(query.limit()));
     }
 
     @Override
     public List<Task> handle(GetAllTasksByGroupIdQuery query) {
-        return taskRepository.findByGroup_Id(query.groupId());
+        if (query.limit() == null) {
+            requireNoCursor(query.after());
+            return taskRepository.findByGroup_Id(query.groupId());
+        }
+        return taskRepository.findByGroup_IdAndIdGreaterThanOrderByIdAsc(query.groupId(), afterOrStart(query.after()), Limit.of(query.limit()));
+    }
+
+    @Override
+    public Optional<Task> handle(GetNextTaskByMemberIdQuery query) {
+        return taskRepository.findFirstByMember_IdAndStatusAndDueDateGreaterThanEqualOrderByDueDateAsc(
+                query.memberId(), TaskStatus.IN_PROGRESS, OffsetDateTime.now(ZoneOffset.UTC));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(GetAllTasksByGroupIdQuery query, Consumer<Task> consumer) {
+        drain(taskRepository.streamByGroupId(query.groupId(), afterOrStart(query.after())), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(GetAllTasksByMemberId query, Consumer<Task> consumer) {
+        drain(taskRepository.streamByMemberId(query.memberId(), afterOrStart(query.after())), consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void handle(GetAllTaskByStatusQuery query, Consumer<Task> consumer) {
+        drain(taskRepository.streamByStatus(TaskStatus.valueOf(query.taskStatus()), afterOrStart(query.after())), consumer);
+    }
+
+    private void drain(Stream<Task> tasks, Consumer<Task> consumer) {
+        // Detaching a task leaves its eagerly loaded member, user and roles managed, so the whole read-only
+        // persistence context is cleared once per fetched batch instead
+        var written = new int[]{0};
+        try (tasks) {
+            tasks.forEach(task -> {
+                consumer.accept(task);
+                if (++written[0] % STREAM_BATCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+
+    private static void requireNoCursor(Long after) {
+        if (after != null) {
+            throw new IllegalArgumentException("A cursor requires a limit");
+        }
+    }
+
+    private static Long afterOrStart(Long after) {
+        return after != null ? after : 0L;
     }
 }
@@ -16,6 +16,13 @@ import java.time.ZoneOffset;
 
 @Getter
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_tasks_group_id_id", columnList = "group_id, id"),
+        @Index(name = "idx_tasks_member_id_id", columnList = "member_id, id"),
+        @Index(name = "idx_tasks_status_id", columnList = "status, id"),
+        @Index(name = "idx_tasks_member_status_due_date", columnList = "member_id, status, due_date"),
+        @Index(name = "idx_tasks_status_due_date", columnList = "status, due_date")
+})
 public class Task extends AuditableAbstractAggregateRoot<Task> {
     @NonNull
     private String title;
@@ -0,0 +1,10 @@
+package nrg.inc.synhubbackend.tasks.domain.model.events;
+
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+
+/**
+ * A single task change. {@code before} is null for created tasks and
+ * {@code after} is null for deleted ones.
+ */
+public record TaskChange(TaskSnapshot before, TaskSnapshot after) {
+}
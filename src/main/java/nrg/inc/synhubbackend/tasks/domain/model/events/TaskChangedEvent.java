@@ -0,0 +1,24 @@
+package nrg.inc.synhubbackend.tasks.domain.model.events;
+
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+
+import java.util.List;
+
+/**
+ * Published synchronously by the task command side, inside the transaction
+ * that changed the tasks, so listeners can keep derived data consistent.
+ */
+public record TaskChangedEvent(List<TaskChange> changes) {
+
+    public static TaskChangedEvent created(TaskSnapshot after) {
+        return new TaskChangedEvent(List.of(new TaskChange(null, after)));
+    }
+
+    public static TaskChangedEvent updated(TaskSnapshot before, TaskSnapshot after) {
+        return new TaskChangedEvent(List.of(new TaskChange(before, after)));
+    }
+
+    public static TaskChangedEvent deleted(List<TaskSnapshot> before) {
+        return new TaskChangedEvent(before.stream().map(snapshot -> new TaskChange(snapshot, null)).toList());
+    }
+}
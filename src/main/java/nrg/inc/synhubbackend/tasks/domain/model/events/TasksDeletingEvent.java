@@ -0,0 +1,10 @@
+package nrg.inc.synhubbackend.tasks.domain.model.events;
+
+import java.util.List;
+
+/**
+ * Published synchronously just before tasks are deleted, inside the deleting transaction,
+ * so contexts holding rows that reference the tasks can remove them first.
+ */
+public record TasksDeletingEvent(List<Long> taskIds) {
+}
@@ -1,8 +1,13 @@
 package nrg.inc.synhubbackend.tasks.domain.model.queries;
 
 /**
- * GetAllTaskByStatusQuery: Query to get all tasks by status
+ * GetAllTaskByStatusQuery: Query to get all tasks by status, optionally one keyset page at a time
  * @param taskStatus
+ * @param after id of the last task already returned, or null to start from the beginning; requires a limit when listing
+ * @param limit maximum number of tasks to return, or null for all of them
  */
-public record GetAllTaskByStatusQuery(String taskStatus) {
+public record GetAllTaskByStatusQuery(String taskStatus, Long after, Integer limit) {
+    public GetAllTaskByStatusQuery(String taskStatus) {
+        this(taskStatus, null, null);
+    }
 }
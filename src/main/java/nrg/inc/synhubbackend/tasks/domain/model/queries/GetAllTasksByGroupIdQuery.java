@@ -1,4 +1,13 @@
 package nrg.inc.synhubbackend.tasks.domain.model.queries;
 
-public record GetAllTasksByGroupIdQuery(Long groupId) {
+/**
+ * GetAllTasksByGroupIdQuery: Query to get the tasks of a group, optionally one keyset page at a time
+ * @param groupId
+ * @param after id of the last task already returned, or null to start from the beginning; requires a limit when listing
+ * @param limit maximum number of tasks to return, or null for all of them
+ */
+public record GetAllTasksByGroupIdQuery(Long groupId, Long after, Integer limit) {
+    public GetAllTasksByGroupIdQuery(Long groupId) {
+        this(groupId, null, null);
+    }
 }
@@ -1,4 +1,13 @@
 package nrg.inc.synhubbackend.tasks.domain.model.queries;
 
-public record GetAllTasksByMemberId(Long memberId) {
+/**
+ * GetAllTasksByMemberId: Query to get the tasks of a member, optionally one keyset page at a time
+ * @param memberId
+ * @param after id of the last task already returned, or null to start from the beginning; requires a limit when listing
+ * @param limit maximum number of tasks to return, or null for all of them
+ */
+public record GetAllTasksByMemberId(Long memberId, Long after, Integer limit) {
+    public GetAllTasksByMemberId(Long memberId) {
+        this(memberId, null, null);
+    }
 }
@@ -0,0 +1,8 @@
+package nrg.inc.synhubbackend.tasks.domain.model.queries;
+
+/**
+ * GetNextTaskByMemberIdQuery: Query to get the in-progress task of a member with the earliest due date that has not passed yet
+ * @param memberId
+ */
+public record GetNextTaskByMemberIdQuery(Long memberId) {
+}
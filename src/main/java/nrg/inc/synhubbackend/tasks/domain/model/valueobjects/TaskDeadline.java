@@ -0,0 +1,17 @@
+package nrg.inc.synhubbackend.tasks.domain.model.valueobjects;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Due date of an in-progress task, the moment it has to be expired.
+ */
+public record TaskDeadline(Long taskId, OffsetDateTime dueDate) {
+    public TaskDeadline {
+        if (taskId == null) {
+            throw new IllegalArgumentException("Task id must not be null");
+        }
+        if (dueDate == null) {
+            throw new IllegalArgumentException("Due date must not be null");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package nrg.inc.synhubbackend.tasks.domain.model.valueobjects;
+
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Immutable copy of the task fields other contexts derive data from.
+ * Captured before and after a change so listeners can compute deltas.
+ */
+public record TaskSnapshot(
+        Long taskId,
+        Long groupId,
+        Long memberId,
+        TaskStatus status,
+        int timesRearranged,
+        long timePassed,
+        OffsetDateTime dueDate
+) {
+    public static TaskSnapshot of(Task task) {
+        return new TaskSnapshot(
+                task.getId(),
+                task.getGroup() != null ? task.getGroup().getId() : null,
+                task.getMember() != null ? task.getMember().getId() : null,
+                task.getStatus(),
+                task.getTimesRearranged() != null ? task.getTimesRearranged() : 0,
+                task.getTimePassed() != null ? task.getTimePassed() : 0L,
+                task.getDueDate()
+        );
+    }
+}
@@ -5,6 +5,7 @@ import nrg.inc.synhubbackend.tasks.domain.model.queries.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface TaskQueryService {
     /**
@@ -41,4 +42,32 @@ public interface TaskQueryService {
      * @return
      */
     List<Task> handle(GetAllTasksByGroupIdQuery query);
+
+    /**
+     * Retrieves the in-progress task of a member with the earliest due date that has not passed yet.
+     * @param query
+     * @return
+     */
+    Optional<Task> handle(GetNextTaskByMemberIdQuery query);
+
+    /**
+     * Streams the tasks of a group in id order to the consumer without loading them all at once.
+     * @param query
+     * @param consumer
+     */
+    void handle(GetAllTasksByGroupIdQuery query, Consumer<Task> consumer);
+
+    /**
+     * Streams the tasks assigned to a member in id order to the consumer without loading them all at once.
+     * @param query
+     * @param consumer
+     */
+    void handle(GetAllTasksByMemberId query, Consumer<Task> consumer);
+
+    /**
+     * Streams the tasks with a status in id order to the consumer without loading them all at once.
+     * @param query
+     * @param consumer
+     */
+    void handle(GetAllTaskByStatusQuery query, Consumer<Task> consumer);
 }
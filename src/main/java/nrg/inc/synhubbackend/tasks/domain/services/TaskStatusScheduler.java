@@ -1,44 +1,182 @@
 package nrg.inc.synhubbackend.tasks.domain.services;
 
-import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestCommand;
+import jakarta.annotation.PreDestroy;
+import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestsForTasksCommand;
 import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
+import nrg.inc.synhubbackend.shared.domain.model.infrastructure.scheduling.SchedulerLeaseCoordinator;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import nrg.inc.synhubbackend.tasks.infrastructure.scheduling.TaskDeadlineIndex;
+import nrg.inc.synhubbackend.tasks.infrastructure.scheduling.TaskExpiryMonitor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Expires in-progress tasks when their due date passes.
+ * A worker thread waits on the {@link TaskDeadlineIndex} and expires each task at its due time; a low-frequency
+ * sweep over the tasks table catches anything the index missed, such as changes made by another instance.
+ * The sweep can be split into shards by group id; each shard runs on one replica at a time under a scheduler lease.
+ */
 @Service
 public class TaskStatusScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskStatusScheduler.class);
+    private static final String EXPIRED_REQUEST_DESCRIPTION = "La tarea venció automáticamente.";
+    private static final String SWEEP_LEASE_NAME = "task-expiry-sweep";
+
     private final TaskRepository taskRepository;
     private final RequestCommandService requestCommandService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskDeadlineIndex taskDeadlineIndex;
+    private final SchedulerLeaseCoordinator leaseCoordinator;
+    private final TaskExpiryMonitor taskExpiryMonitor;
+    private final int chunkSize;
+    private final int shards;
+    private final Duration leaseTtl;
+    private volatile Thread worker;
 
-    public TaskStatusScheduler(TaskRepository taskRepository, RequestCommandService requestCommandService) {
+    public TaskStatusScheduler(TaskRepository taskRepository,
+                               RequestCommandService requestCommandService,
+                               ApplicationEventPublisher eventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               TaskDeadlineIndex taskDeadlineIndex,
+                               SchedulerLeaseCoordinator leaseCoordinator,
+                               TaskExpiryMonitor taskExpiryMonitor,
+                               @Value("${tasks.expiry.chunk-size:500}") int chunkSize,
+                               @Value("${tasks.expiry.shards:1}") int shards,
+                               @Value("${tasks.expiry.lease-ttl:PT2M}") Duration leaseTtl) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Task expiry shards must be at least 1");
+        }
         this.taskRepository = taskRepository;
         this.requestCommandService = requestCommandService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskDeadlineIndex = taskDeadlineIndex;
+        this.leaseCoordinator = leaseCoordinator;
+        this.taskExpiryMonitor = taskExpiryMonitor;
+        this.chunkSize = chunkSize;
+        this.shards = shards;
+        this.leaseTtl = leaseTtl;
+    }
+
+    /**
+     * Loads the deadlines of every in-progress task and starts expiring them as they come due.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskDeadlineIndex.scheduleAll(taskRepository.findDeadlinesByStatus(TaskStatus.IN_PROGRESS));
+        LOGGER.info("Task deadline index loaded with {} in-progress tasks", taskDeadlineIndex.size());
+        worker = Thread.ofPlatform().name("task-expiry").daemon().start(this::expireDueTasks);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
     }
 
-    @Scheduled(fixedRate = 30000) // Ejecuta cada 60 segundos
-    @Transactional
+    /**
+     * Safety net for deadlines the index missed; expires every overdue task in chunks.
+     * Shards whose lease is held by another replica are skipped; starting at a random shard spreads them out.
+     */
+    @Scheduled(fixedDelayString = "${tasks.expiry.reconcile-interval:PT5M}")
     public void updateExpiredTasks() {
+        int first = shards > 1 ? ThreadLocalRandom.current().nextInt(shards) : 0;
+        for (int i = 0; i < shards; i++) {
+            int shard = (first + i) % shards;
+            leaseCoordinator.runExclusively(leaseName(shard), leaseTtl,
+                    () -> taskExpiryMonitor.record(TaskExpiryMonitor.SWEEP_JOB, () -> sweep(shard)));
+        }
+    }
+
+    private int sweep(int shard) {
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        // Each chunk commits on its own so a backlog never turns into one long transaction
+        int total = 0;
+        Integer expired;
+        do {
+            expired = transactionTemplate.execute(status -> recordExpired(taskRepository.expireOverdue(now, shard, shards, chunkSize)));
+            total += expired != null ? expired : 0;
+        } while (expired != null && expired == chunkSize && renewLease(shard));
+        return total;
+    }
+
+    /**
+     * Extends the shard lease before the next chunk; once it is lost another replica may be sweeping the shard.
+     */
+    private boolean renewLease(int shard) {
+        if (leaseCoordinator.renew(leaseName(shard), leaseTtl)) {
+            return true;
+        }
+        LOGGER.warn("Lost scheduler lease {}; stopping the sweep", leaseName(shard));
+        return false;
+    }
+
+    private String leaseName(int shard) {
+        return shards == 1 ? SWEEP_LEASE_NAME : SWEEP_LEASE_NAME + "-" + shard + "-of-" + shards;
+    }
+
+    /**
+     * Expires the given tasks if they are still in progress and due.
+     * @return the number of tasks expired
+     */
+    public int expireTasks(List<Long> taskIds) {
         OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
-        taskRepository.findAllByStatusAndDueDateBefore(TaskStatus.IN_PROGRESS, now)
-                .forEach(task -> {
-                    // Console log task id
-                    System.out.println("Updating task with ID: " + task.getId());
-                    task.setStatus(TaskStatus.EXPIRED);
-                    var createRequestCommand = new CreateRequestCommand(
-                            "La tarea venció automáticamente.",
-                            "EXPIRED",
-                            task.getId()
-                    );
-
-                    requestCommandService.handle(createRequestCommand);
-
-                    taskRepository.save(task);
-                });
+        Integer expired = transactionTemplate.execute(status -> recordExpired(taskRepository.expireDue(taskIds, now)));
+        return expired != null ? expired : 0;
+    }
+
+    private void expireDueTasks() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                var taskIds = taskDeadlineIndex.awaitDue(chunkSize);
+                taskExpiryMonitor.record(TaskExpiryMonitor.DEADLINE_JOB, () -> expireTasks(taskIds));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // The reconciliation sweep picks these tasks up again
+                LOGGER.warn("Failed to expire due tasks: {}", e.getMessage());
+            }
+        }
+    }
+
+    private int recordExpired(List<Long> taskIds) {
+        if (taskIds.isEmpty()) return 0;
+
+        requestCommandService.handle(new CreateRequestsForTasksCommand(
+                EXPIRED_REQUEST_DESCRIPTION,
+                "EXPIRED",
+                taskIds
+        ));
+
+        var changes = taskRepository.findAllById(taskIds).stream()
+                .map(task -> {
+                    var after = TaskSnapshot.of(task);
+                    var before = new TaskSnapshot(after.taskId(), after.groupId(), after.memberId(),
+                            TaskStatus.IN_PROGRESS, after.timesRearranged(), after.timePassed(), after.dueDate());
+                    return new TaskChange(before, after);
+                })
+                .toList();
+        eventPublisher.publishEvent(new TaskChangedEvent(changes));
+        return taskIds.size();
     }
 }
@@ -1,12 +1,23 @@
 package nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories;
 
+import jakarta.persistence.QueryHint;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskDeadline;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -14,4 +25,72 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByStatus(TaskStatus status);
     List<Task> findByGroup_Id(Long groupId);
     List<Task> findAllByStatusAndDueDateBefore(TaskStatus status, OffsetDateTime dueDate);
+
+    /**
+     * Expires up to {@code limit} overdue in-progress tasks of one shard in one statement and returns their ids.
+     * Tasks belong to shard {@code group_id mod shards}; with a single shard every task is included.
+     * Rows locked by a concurrent sweep are skipped instead of waited on.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks SET status = 'EXPIRED', updated_at = now()
+            WHERE id IN (
+                SELECT id FROM tasks
+                WHERE status = 'IN_PROGRESS' AND due_date < :now
+                  AND (:shards = 1 OR mod(group_id, :shards) = :shard)
+                ORDER BY id
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> expireOverdue(@Param("now") OffsetDateTime now,
+                             @Param("shard") int shard,
+                             @Param("shards") int shards,
+                             @Param("limit") int limit);
+
+    /**
+     * Expires the given tasks that are still in progress and due by {@code now}, returning the ids that changed.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE tasks SET status = 'EXPIRED', updated_at = now()
+            WHERE id IN (:taskIds) AND status = 'IN_PROGRESS' AND due_date <= :now
+            RETURNING id
+            """, nativeQuery = true)
+    List<Long> expireDue(@Param("taskIds") List<Long> taskIds, @Param("now") OffsetDateTime now);
+
+    @Query("SELECT min(t.dueDate) FROM Task t WHERE t.status = :status AND t.dueDate < :now")
+    OffsetDateTime findOldestDueDateByStatusBefore(@Param("status") TaskStatus status, @Param("now") OffsetDateTime now);
+
+    @Query("SELECT new nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskDeadline(t.id, t.dueDate) FROM Task t WHERE t.status = :status AND t.dueDate IS NOT NULL")
+    List<TaskDeadline> findDeadlinesByStatus(@Param("status") TaskStatus status);
+
+    @EntityGraph(attributePaths = {"member", "member.user"})
+    Optional<Task> findFirstByMember_IdAndStatusAndDueDateGreaterThanEqualOrderByDueDateAsc(Long memberId, TaskStatus status, OffsetDateTime dueDate);
+
+    // Keyset pages: tasks with an id greater than the last one already returned, in id order
+
+    @EntityGraph(attributePaths = {"member", "member.user"})
+    List<Task> findByGroup_IdAndIdGreaterThanOrderByIdAsc(Long groupId, Long id, Limit limit);
+
+    @EntityGraph(attributePaths = {"member", "member.user"})
+    List<Task> findByMember_IdAndIdGreaterThanOrderByIdAsc(Long memberId, Long id, Limit limit);
+
+    @EntityGraph(attributePaths = {"member", "member.user"})
+    List<Task> findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus status, Long id, Limit limit);
+
+    // Streams must be consumed inside a transaction; rows are fetched from the cursor in batches
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.member m LEFT JOIN FETCH m.user WHERE t.group.id = :groupId AND t.id > :after ORDER BY t.id")
+    Stream<Task> streamByGroupId(@Param("groupId") Long groupId, @Param("after") Long after);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.member m LEFT JOIN FETCH m.user WHERE m.id = :memberId AND t.id > :after ORDER BY t.id")
+    Stream<Task> streamByMemberId(@Param("memberId") Long memberId, @Param("after") Long after);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.member m LEFT JOIN FETCH m.user WHERE t.status = :status AND t.id > :after ORDER BY t.id")
+    Stream<Task> streamByStatus(@Param("status") TaskStatus status, @Param("after") Long after);
 }
@@ -0,0 +1,113 @@
+package nrg.inc.synhubbackend.tasks.infrastructure.scheduling;
+
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskDeadline;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory index of in-progress task deadlines ordered by due date.
+ * Rescheduling or cancelling a task leaves its old entry in the queue, since removing it would scan the queue;
+ * entries that are no longer the current deadline of their task are discarded when they come due. Once stale
+ * entries outnumber the current ones, the queue is rebuilt from the current deadlines so it cannot grow without bound.
+ */
+@Component
+public class TaskDeadlineIndex {
+    private static final int MIN_STALE_ENTRIES_BEFORE_REBUILD = 1024;
+
+    private final DelayQueue<Entry> queue = new DelayQueue<>();
+    private final Map<Long, Entry> current = new ConcurrentHashMap<>();
+
+    public void schedule(TaskDeadline deadline) {
+        var entry = new Entry(deadline.taskId(), deadline.dueDate().toInstant().toEpochMilli());
+        var previous = current.put(entry.taskId, entry);
+        queue.put(entry);
+        if (previous != null) {
+            rebuildIfMostlyStale();
+        }
+    }
+
+    public void scheduleAll(Collection<TaskDeadline> deadlines) {
+        deadlines.forEach(this::schedule);
+    }
+
+    public void cancel(Long taskId) {
+        if (current.remove(taskId) != null) {
+            rebuildIfMostlyStale();
+        }
+    }
+
+    /**
+     * Number of tasks with a pending deadline.
+     */
+    public int size() {
+        return current.size();
+    }
+
+    /**
+     * Number of entries in the queue, including superseded ones that have not been discarded yet.
+     */
+    public int queuedEntries() {
+        return queue.size();
+    }
+
+    private void rebuildIfMostlyStale() {
+        if (queue.size() - current.size() > Math.max(current.size(), MIN_STALE_ENTRIES_BEFORE_REBUILD)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the queue contents with the current deadlines. A deadline scheduled concurrently may end up queued
+     * twice; the second copy is discarded like any other stale entry.
+     */
+    private synchronized void rebuild() {
+        queue.clear();
+        queue.addAll(current.values());
+    }
+
+    /**
+     * Blocks until at least one deadline is due and returns the ids of up to {@code max} due tasks.
+     */
+    public List<Long> awaitDue(int max) throws InterruptedException {
+        List<Long> taskIds = new ArrayList<>();
+        while (taskIds.isEmpty()) {
+            List<Entry> due = new ArrayList<>();
+            due.add(queue.take());
+            queue.drainTo(due, max - 1);
+            for (var entry : due) {
+                if (current.remove(entry.taskId, entry)) {
+                    taskIds.add(entry.taskId);
+                }
+            }
+        }
+        return taskIds;
+    }
+
+    private static final class Entry implements Delayed {
+        private final Long taskId;
+        private final long dueAtMillis;
+
+        private Entry(Long taskId, long dueAtMillis) {
+            this.taskId = taskId;
+            this.dueAtMillis = dueAtMillis;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Entry) other).dueAtMillis);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package nrg.inc.synhubbackend.tasks.infrastructure.scheduling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Reports DOWN when the oldest overdue in-progress task has waited longer than the lag threshold to expire,
+ * or when the lag cannot be measured.
+ */
+@Component
+public class TaskExpiryHealthIndicator implements HealthIndicator {
+
+    private final TaskExpiryMonitor taskExpiryMonitor;
+    private final Duration lagThreshold;
+
+    public TaskExpiryHealthIndicator(TaskExpiryMonitor taskExpiryMonitor,
+                                     @Value("${tasks.expiry.lag-threshold:PT10M}") Duration lagThreshold) {
+        this.taskExpiryMonitor = taskExpiryMonitor;
+        this.lagThreshold = lagThreshold;
+    }
+
+    @Override
+    public Health health() {
+        var failure = taskExpiryMonitor.getLagProbeFailure();
+        if (failure.isPresent()) {
+            return Health.down(failure.get()).build();
+        }
+        var lag = taskExpiryMonitor.getLag();
+        if (lag.isEmpty()) {
+            return Health.unknown().withDetail("reason", "Expiry lag not probed yet").build();
+        }
+        var builder = lag.get().compareTo(lagThreshold) > 0 ? Health.down() : Health.up();
+        builder.withDetail("lag", lag.get().toString())
+                .withDetail("lagThreshold", lagThreshold.toString());
+        taskExpiryMonitor.getLastSuccess(TaskExpiryMonitor.DEADLINE_JOB)
+                .ifPresent(time -> builder.withDetail("lastDeadlineRun", time.toString()));
+        taskExpiryMonitor.getLastSuccess(TaskExpiryMonitor.SWEEP_JOB)
+                .ifPresent(time -> builder.withDetail("lastSweepRun", time.toString()));
+        return builder.build();
+    }
+}
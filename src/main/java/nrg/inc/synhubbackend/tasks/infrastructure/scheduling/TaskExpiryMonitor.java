@@ -0,0 +1,141 @@
+package nrg.inc.synhubbackend.tasks.infrastructure.scheduling;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Micrometer instrumentation of the task expiry jobs, tagged by {@code job}:
+ * {@code tasks.expiry.duration} (timer with histogram), {@code tasks.expiry.expired} (tasks expired per run),
+ * {@code tasks.expiry.failures} and {@code tasks.expiry.last-success} (epoch seconds of the last successful run).
+ * {@code tasks.expiry.lag} is how long the oldest overdue in-progress task has been waiting, probed periodically.
+ */
+@Component
+public class TaskExpiryMonitor {
+    public static final String DEADLINE_JOB = "deadline";
+    public static final String SWEEP_JOB = "sweep";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskExpiryMonitor.class);
+
+    private final TaskRepository taskRepository;
+    private final Map<String, JobMeters> jobs;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicReference<RuntimeException> lagProbeFailure = new AtomicReference<>();
+    private volatile boolean lagProbed;
+
+    public TaskExpiryMonitor(TaskRepository taskRepository, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.jobs = Stream.of(DEADLINE_JOB, SWEEP_JOB)
+                .collect(Collectors.toUnmodifiableMap(job -> job, job -> new JobMeters(job, meterRegistry)));
+        Gauge.builder("tasks.expiry.lag", lagMillis, millis -> millis.get() / 1000.0)
+                .description("Time the oldest overdue in-progress task has been waiting to expire")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs one expiry pass of the job, recording its duration, the tasks it expired and whether it failed.
+     */
+    public int record(String job, IntSupplier run) {
+        var meters = jobs.get(job);
+        if (meters == null) {
+            throw new IllegalArgumentException("Unknown task expiry job: " + job);
+        }
+        long start = System.nanoTime();
+        try {
+            int expired = run.getAsInt();
+            meters.expired.record(expired);
+            meters.lastSuccessMillis.set(System.currentTimeMillis());
+            return expired;
+        } catch (RuntimeException e) {
+            meters.failures.increment();
+            throw e;
+        } finally {
+            meters.duration.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.expiry.lag-probe-interval:PT30S}")
+    public void probeLag() {
+        try {
+            var now = OffsetDateTime.now(ZoneOffset.UTC);
+            var oldest = taskRepository.findOldestDueDateByStatusBefore(TaskStatus.IN_PROGRESS, now);
+            lagMillis.set(oldest != null ? Duration.between(oldest, now).toMillis() : 0);
+            lagProbeFailure.set(null);
+            lagProbed = true;
+        } catch (RuntimeException e) {
+            lagProbeFailure.set(e);
+            LOGGER.warn("Failed to probe task expiry lag: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Lag measured by the last successful probe, or empty before the first one.
+     */
+    public Optional<Duration> getLag() {
+        return lagProbed ? Optional.of(Duration.ofMillis(lagMillis.get())) : Optional.empty();
+    }
+
+    public Optional<RuntimeException> getLagProbeFailure() {
+        return Optional.ofNullable(lagProbeFailure.get());
+    }
+
+    /**
+     * Time of the last successful run of the job, or empty if it has not succeeded yet.
+     */
+    public Optional<OffsetDateTime> getLastSuccess(String job) {
+        long millis = jobs.get(job).lastSuccessMillis.get();
+        return millis > 0
+                ? Optional.of(OffsetDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC))
+                : Optional.empty();
+    }
+
+    private static final class JobMeters {
+        private final Timer duration;
+        private final DistributionSummary expired;
+        private final Counter failures;
+        private final AtomicLong lastSuccessMillis = new AtomicLong();
+
+        private JobMeters(String job, MeterRegistry meterRegistry) {
+            this.duration = Timer.builder("tasks.expiry.duration")
+                    .description("Duration of task expiry runs")
+                    .tag("job", job)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.expired = DistributionSummary.builder("tasks.expiry.expired")
+                    .description("Tasks expired per run")
+                    .tag("job", job)
+                    .baseUnit("tasks")
+                    .register(meterRegistry);
+            this.failures = Counter.builder("tasks.expiry.failures")
+                    .description("Task expiry runs that failed")
+                    .tag("job", job)
+                    .register(meterRegistry);
+            Gauge.builder("tasks.expiry.last-success", lastSuccessMillis, millis -> millis.get() / 1000.0)
+                    .description("Epoch time of the last successful task expiry run")
+                    .tag("job", job)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -7,11 +7,13 @@ import nrg.inc.synhubbackend.groups.domain.model.commands.RemoveMemberFromGroupC
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByMemberIdQuery;
 import nrg.inc.synhubbackend.groups.domain.services.GroupCommandService;
 import nrg.inc.synhubbackend.groups.domain.services.GroupQueryService;
+import nrg.inc.synhubbackend.iam.interfaces.acl.IdentityPrincipal;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.DeleteTasksByMemberId;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByMemberId;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByUsernameQuery;
-import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import nrg.inc.synhubbackend.tasks.domain.model.queries.GetNextTaskByMemberIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberQueryService;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskCommandService;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
@@ -20,16 +22,17 @@ import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.MemberResource;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.TaskResource;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.ExtendedGroupResourceFromEntityAssembler;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.MemberResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskPageResponseAssembler;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceNdjsonAssembler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/member")
@@ -41,12 +44,14 @@ public class MemberController {
     private final GroupCommandService groupCommandService;
     private final TaskQueryService taskQueryService;
     private final TaskCommandService taskCommandService;
-    public MemberController(MemberQueryService memberQueryService, GroupQueryService groupQueryService, GroupCommandService groupCommandService, TaskQueryService taskQueryService, TaskCommandService taskCommandService) {
+    private final TaskResourceNdjsonAssembler taskResourceNdjsonAssembler;
+    public MemberController(MemberQueryService memberQueryService, GroupQueryService groupQueryService, GroupCommandService groupCommandService, TaskQueryService taskQueryService, TaskCommandService taskCommandService, TaskResourceNdjsonAssembler taskResourceNdjsonAssembler) {
         this.memberQueryService = memberQueryService;
         this.groupQueryService = groupQueryService;
         this.groupCommandService = groupCommandService;
         this.taskQueryService = taskQueryService;
         this.taskCommandService = taskCommandService;
+        this.taskResourceNdjsonAssembler = taskResourceNdjsonAssembler;
     }
 
     @GetMapping("/details")
@@ -81,13 +86,11 @@ public class MemberController {
     @GetMapping("/group")
     @Operation(summary = "Get group by member authenticated", description = "Retrieve the group associated with the authenticated member")
     public ResponseEntity<ExtendedGroupResource> getGroupByMemberId(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
-        var getMemberByUsernameQuery = new GetMemberByUsernameQuery(username);
-        var member = this.memberQueryService.handle(getMemberByUsernameQuery);
-        if (member.isEmpty()) {
+        var memberId = getMemberId(userDetails);
+        if (memberId.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
-        var getGroupByMemberIdQuery = new GetGroupByMemberIdQuery(member.get().getId());
+        var getGroupByMemberIdQuery = new GetGroupByMemberIdQuery(memberId.get());
         var group = this.groupQueryService.handle(getGroupByMemberIdQuery);
         if (group.isEmpty()) {
             return ResponseEntity.notFound().build();
@@ -97,49 +100,54 @@ public class MemberController {
     }
 
     @GetMapping("/tasks")
-    @Operation(summary = "Get all tasks by authenticated member", description = "Fetches all tasks for the authenticated member.")
-    public ResponseEntity<List<TaskResource>> getAllTasksByMemberAuthenticated(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
+    @Operation(summary = "Get all tasks by authenticated member", description = "Fetches all tasks for the authenticated member ordered by id. When a limit is given, pass the X-Next-Cursor header of the previous page as 'after' to get the next one.")
+    public ResponseEntity<List<TaskResource>> getAllTasksByMemberAuthenticated(@AuthenticationPrincipal UserDetails userDetails,
+                                                                               @RequestParam(required = false) Long after,
+                                                                               @RequestParam(required = false) Integer limit) {
+        if (!TaskPageResponseAssembler.isValidPage(after, limit)) return ResponseEntity.badRequest().build();
 
-        var getMemberByUsernameQuery = new GetMemberByUsernameQuery(username);
+        var memberId = getMemberId(userDetails);
 
-        var member = this.memberQueryService.handle(getMemberByUsernameQuery);
+        if(memberId.isEmpty()) return ResponseEntity.notFound().build();
 
-        if(member.isEmpty()) return ResponseEntity.notFound().build();
-
-        var getAllTasksByMemberId = new GetAllTasksByMemberId(member.get().getId());
+        var getAllTasksByMemberId = new GetAllTasksByMemberId(memberId.get(), after, limit);
 
         var tasks = taskQueryService.handle(getAllTasksByMemberId);
 
-        var taskResources = tasks.stream()
-                .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
+        return TaskPageResponseAssembler.toResponseFromEntities(tasks, limit);
+    }
+
+    @GetMapping(value = "/tasks/stream", produces = TaskResourceNdjsonAssembler.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all tasks by authenticated member", description = "Streams all tasks for the authenticated member as newline-delimited JSON ordered by id.")
+    public ResponseEntity<StreamingResponseBody> streamAllTasksByMemberAuthenticated(@AuthenticationPrincipal UserDetails userDetails,
+                                                                                     @RequestParam(required = false) Long after) {
+        var memberId = getMemberId(userDetails);
+
+        if(memberId.isEmpty()) return ResponseEntity.notFound().build();
 
-        return ResponseEntity.ok(taskResources);
+        var getAllTasksByMemberId = new GetAllTasksByMemberId(memberId.get(), after, null);
+
+        return taskResourceNdjsonAssembler.toResponseFromSource(consumer -> taskQueryService.handle(getAllTasksByMemberId, consumer));
     }
 
     @DeleteMapping("/group/leave")
     @Operation(summary = "Leave group by member authenticated", description = "Allows the authenticated member to leave their group.")
     public ResponseEntity<Void> leaveGroupByMemberAuthenticated(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
+        var memberId = getMemberId(userDetails);
 
-        var getMemberByUsernameQuery = new GetMemberByUsernameQuery(username);
+        if(memberId.isEmpty()) return ResponseEntity.notFound().build();
 
-        var member = this.memberQueryService.handle(getMemberByUsernameQuery);
-
-        if(member.isEmpty()) return ResponseEntity.notFound().build();
-
-        var getGroupByMemberIdQuery = new GetGroupByMemberIdQuery(member.get().getId());
+        var getGroupByMemberIdQuery = new GetGroupByMemberIdQuery(memberId.get());
 
         var group = this.groupQueryService.handle(getGroupByMemberIdQuery);
 
         if(group.isEmpty()) return ResponseEntity.notFound().build();
 
-        taskCommandService.handle(new DeleteTasksByMemberId(member.get().getId()));
+        taskCommandService.handle(new DeleteTasksByMemberId(memberId.get()));
 
         var removeMemberFromGroupCommand = new RemoveMemberFromGroupCommand(
                 group.get().getId(),
-                member.get().getId()
+                memberId.get()
         );
 
         this.groupCommandService.handle(removeMemberFromGroupCommand);
@@ -150,44 +158,24 @@ public class MemberController {
     @GetMapping("/tasks/next")
     @Operation(summary = "Get the next task by authenticated member", description = "Fetches the next task for the authenticated member.")
     public ResponseEntity<TaskResource> getNextTaskByMemberAuthenticated(@AuthenticationPrincipal UserDetails userDetails) {
-        String username = userDetails.getUsername();
-
-        var getMemberByUsernameQuery = new GetMemberByUsernameQuery(username);
+        var memberId = getMemberId(userDetails);
 
-        var member = this.memberQueryService.handle(getMemberByUsernameQuery);
-
-        if(member.isEmpty()) return ResponseEntity.notFound().build();
+        if(memberId.isEmpty()) return ResponseEntity.notFound().build();
 
-        var getAllTasksByMemberId = new GetAllTasksByMemberId(member.get().getId());
+        var getNextTaskByMemberIdQuery = new GetNextTaskByMemberIdQuery(memberId.get());
 
-        var tasks = taskQueryService.handle(getAllTasksByMemberId);
+        var nextTask = taskQueryService.handle(getNextTaskByMemberIdQuery);
 
-        if (tasks.isEmpty()) return ResponseEntity.notFound().build();
-
-        var inProgressTasks = tasks.stream()
-                .filter(task -> task.getStatus().equals(TaskStatus.IN_PROGRESS))
-                .collect(Collectors.toList());
-
-        var now = LocalDateTime.now(ZoneId.of("UTC"));
-
-        var nextTask = inProgressTasks.stream()
-                .filter(task -> {
-                    if (task.getDueDate() == null) {
-                        return false;
-                    }
-                    LocalDateTime dueDate = task.getDueDate().toInstant()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDateTime();
-                    return !dueDate.isBefore(now);
-                })
-                .min((t1, t2) -> {
-                    LocalDateTime d1 = t1.getDueDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-                    LocalDateTime d2 = t2.getDueDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-                    return d1.compareTo(d2);
-                });
         if (nextTask.isEmpty()) return ResponseEntity.notFound().build();
 
         var taskResource = TaskResourceFromEntityAssembler.toResourceFromEntity(nextTask.get());
         return ResponseEntity.ok(taskResource);
     }
+
+    private Optional<Long> getMemberId(UserDetails userDetails) {
+        if (userDetails instanceof IdentityPrincipal principal) {
+            return principal.getMemberId();
+        }
+        return this.memberQueryService.handle(new GetMemberByUsernameQuery(userDetails.getUsername())).map(Member::getId);
+    }
 }
@@ -3,22 +3,22 @@ package nrg.inc.synhubbackend.tasks.interfaces.rest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByMemberId;
-import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import nrg.inc.synhubbackend.tasks.domain.model.queries.GetNextTaskByMemberIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberQueryService;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskCommandService;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.CreateTaskResource;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.TaskResource;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.CreateTaskCommandFromResourceAssembler;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskPageResponseAssembler;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceNdjsonAssembler;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/members")
@@ -28,10 +28,12 @@ public class MemberTaskController {
     private final TaskCommandService taskCommandService;
     private final TaskQueryService taskQueryService;
     private final MemberQueryService memberQueryService;
-    public MemberTaskController(TaskCommandService taskCommandService, TaskQueryService taskQueryService, MemberQueryService memberQueryService) {
+    private final TaskResourceNdjsonAssembler taskResourceNdjsonAssembler;
+    public MemberTaskController(TaskCommandService taskCommandService, TaskQueryService taskQueryService, MemberQueryService memberQueryService, TaskResourceNdjsonAssembler taskResourceNdjsonAssembler) {
         this.taskCommandService = taskCommandService;
         this.taskQueryService = taskQueryService;
         this.memberQueryService = memberQueryService;
+        this.taskResourceNdjsonAssembler = taskResourceNdjsonAssembler;
     }
 
     @PostMapping("/{memberId}/tasks")
@@ -48,45 +50,33 @@ public class MemberTaskController {
     }
 
     @GetMapping("/{memberId}/tasks")
-    @Operation(summary = "Get all tasks by member id", description = "Get all tasks by member id")
-    public ResponseEntity<List<TaskResource>> getAllTasksByMemberId(@PathVariable Long memberId) {
-        var getAllTasksByMemberId = new GetAllTasksByMemberId(memberId);
+    @Operation(summary = "Get all tasks by member id", description = "Get all tasks by member id ordered by id. When a limit is given, pass the X-Next-Cursor header of the previous page as 'after' to get the next one")
+    public ResponseEntity<List<TaskResource>> getAllTasksByMemberId(@PathVariable Long memberId,
+                                                                    @RequestParam(required = false) Long after,
+                                                                    @RequestParam(required = false) Integer limit) {
+        if (!TaskPageResponseAssembler.isValidPage(after, limit)) return ResponseEntity.badRequest().build();
+        var getAllTasksByMemberId = new GetAllTasksByMemberId(memberId, after, limit);
         var tasks = taskQueryService.handle(getAllTasksByMemberId);
-        var taskResources = tasks.stream()
-                .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(taskResources);
+        return TaskPageResponseAssembler.toResponseFromEntities(tasks, limit);
+    }
+
+    @GetMapping(value = "/{memberId}/tasks/stream", produces = TaskResourceNdjsonAssembler.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all tasks by member id", description = "Stream all tasks by member id as newline-delimited JSON ordered by id")
+    public ResponseEntity<StreamingResponseBody> streamAllTasksByMemberId(@PathVariable Long memberId,
+                                                                          @RequestParam(required = false) Long after) {
+        var getAllTasksByMemberId = new GetAllTasksByMemberId(memberId, after, null);
+        return taskResourceNdjsonAssembler.toResponseFromSource(consumer -> taskQueryService.handle(getAllTasksByMemberId, consumer));
     }
 
     @GetMapping("/{memberId}/tasks/next")
     @Operation(summary = "Get the next task by member id", description = "Get the next task by member id")
     public ResponseEntity<TaskResource> getLastNextByMemberId(@PathVariable Long memberId) {
 
-        var getAllTasksByMemberId = new GetAllTasksByMemberId(memberId);
-
-        var tasks = taskQueryService.handle(getAllTasksByMemberId);
-
-        if (tasks.isEmpty()) return ResponseEntity.notFound().build();
-
-        var inProgressTasks = tasks.stream()
-                .filter(task -> task.getStatus().equals(TaskStatus.IN_PROGRESS))
-                .collect(Collectors.toList());
+        var getNextTaskByMemberIdQuery = new GetNextTaskByMemberIdQuery(memberId);
 
-        var now = LocalDateTime.now(ZoneId.of("UTC"));
+        var nextTask = taskQueryService.handle(getNextTaskByMemberIdQuery);
 
-        var nextTask = inProgressTasks.stream()
-                .filter(task -> {
-                    if (task.getDueDate() == null) return false;
-                    LocalDateTime dueDate = task.getDueDate().toInstant()
-                            .atZone(ZoneId.systemDefault())
-                            .toLocalDateTime();
-                    return !dueDate.isBefore(now);
-                })
-                .min((t1, t2) -> {
-                    LocalDateTime d1 = t1.getDueDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-                    LocalDateTime d2 = t2.getDueDate().toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
-                    return d1.compareTo(d2);
-                });
+        if (nextTask.isEmpty()) return ResponseEntity.notFound().build();
 
         var taskResource = TaskResourceFromEntityAssembler.toResourceFromEntity(nextTask.get());
         return ResponseEntity.ok(taskResource);
@@ -3,23 +3,25 @@ package nrg.inc.synhubbackend.tasks.interfaces.rest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdCommand;
-import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.DeleteTaskCommand;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.UpdateTaskStatusCommand;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTaskByStatusQuery;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetTaskByIdQuery;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskCommandService;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.TaskResource;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.UpdateTaskResource;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskPageResponseAssembler;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceFromEntityAssembler;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskResourceNdjsonAssembler;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.UpdateTaskCommandFromResourceAssembler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping(value = "/api/v1/tasks")
@@ -27,14 +29,16 @@ import java.util.stream.Collectors;
 @ApiResponse(responseCode = "201", description = "Task Created")
 public class TaskController {
 
+    private static final int DEFAULT_STATUS_LIMIT = 100;
+
     private final TaskQueryService taskQueryService;
     private final TaskCommandService taskCommandService;
-    private final RequestCommandService requestCommandService;
+    private final TaskResourceNdjsonAssembler taskResourceNdjsonAssembler;
 
-    public TaskController(TaskQueryService taskQueryService, TaskCommandService taskCommandService, RequestCommandService requestCommandService, RequestCommandService requestCommandService1) {
+    public TaskController(TaskQueryService taskQueryService, TaskCommandService taskCommandService, TaskResourceNdjsonAssembler taskResourceNdjsonAssembler) {
         this.taskQueryService = taskQueryService;
         this.taskCommandService = taskCommandService;
-        this.requestCommandService = requestCommandService1;
+        this.taskResourceNdjsonAssembler = taskResourceNdjsonAssembler;
     }
 
     @GetMapping("/{taskId}")
@@ -50,14 +54,24 @@ public class TaskController {
     }
 
     @GetMapping("/status/{status}")
-    @Operation(summary = "Get all tasks by status", description = "Get all tasks by status")
-    public ResponseEntity<List<TaskResource>> getAllTasksByStatus(@PathVariable String status) {
-        var getAllTasksByStatusQuery = new GetAllTaskByStatusQuery(status);
+    @Operation(summary = "Get all tasks by status", description = "Get a page of tasks by status ordered by id. Pass the X-Next-Cursor header of the previous page as 'after' to get the next one")
+    public ResponseEntity<List<TaskResource>> getAllTasksByStatus(@PathVariable String status,
+                                                                  @RequestParam(required = false) Long after,
+                                                                  @RequestParam(required = false) Integer limit) {
+        if (!isValidStatus(status) || !TaskPageResponseAssembler.isValidLimit(limit)) return ResponseEntity.badRequest().build();
+        var getAllTasksByStatusQuery = new GetAllTaskByStatusQuery(status, after, limit != null ? limit : DEFAULT_STATUS_LIMIT);
         var tasks = taskQueryService.handle(getAllTasksByStatusQuery);
-        var taskResources = tasks.stream()
-                .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(taskResources);
+        return TaskPageResponseAssembler.toResponseFromEntities(tasks, getAllTasksByStatusQuery.limit());
+    }
+
+    @GetMapping(value = "/status/{status}/stream", produces = TaskResourceNdjsonAssembler.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all tasks by status", description = "Stream all tasks by status as newline-delimited JSON ordered by id")
+    public ResponseEntity<StreamingResponseBody> streamAllTasksByStatus(@PathVariable String status,
+                                                                        @RequestParam(required = false) Long after) {
+        // The body runs after the response is committed, so the status has to be checked before it is built
+        if (!isValidStatus(status)) return ResponseEntity.badRequest().build();
+        var getAllTasksByStatusQuery = new GetAllTaskByStatusQuery(status, after, null);
+        return taskResourceNdjsonAssembler.toResponseFromSource(consumer -> taskQueryService.handle(getAllTasksByStatusQuery, consumer));
     }
 
     @PutMapping("/{taskId}/status/{status}")
@@ -84,16 +98,15 @@ public class TaskController {
     }
 
     @DeleteMapping("/{taskId}")
-    @Operation(summary = "Delete a task by id", description = "Delete a task by id")
+    @Operation(summary = "Delete a task by id", description = "Delete a task and its requests by id")
     public ResponseEntity<Void> deleteTask(@PathVariable Long taskId) {
-        var deleteRequestsCommand = new DeleteAllRequestsByTaskIdCommand(taskId);
-        this.requestCommandService.handle(deleteRequestsCommand);
-
         var deleteTaskCommand = new DeleteTaskCommand(taskId);
         this.taskCommandService.handle(deleteTaskCommand);
 
-
         return ResponseEntity.noContent().build();
     }
 
+    private static boolean isValidStatus(String status) {
+        return Arrays.stream(TaskStatus.values()).anyMatch(taskStatus -> taskStatus.name().equals(status));
+    }
 }
@@ -0,0 +1,38 @@
+package nrg.inc.synhubbackend.tasks.interfaces.rest.transform;
+
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.TaskResource;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+public class TaskPageResponseAssembler {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final int MAX_LIMIT = 500;
+
+    public static boolean isValidLimit(Integer limit) {
+        return limit == null || (limit > 0 && limit <= MAX_LIMIT);
+    }
+
+    /**
+     * A cursor is only meaningful for a keyset page, so {@code after} is rejected unless a limit is given too.
+     */
+    public static boolean isValidPage(Long after, Integer limit) {
+        return isValidLimit(limit) && (after == null || limit != null);
+    }
+
+    /**
+     * Builds the task list response; when a full page was returned, the id to pass as {@code after} for the next
+     * page is sent in the {@value #NEXT_CURSOR_HEADER} header.
+     */
+    public static ResponseEntity<List<TaskResource>> toResponseFromEntities(List<Task> tasks, Integer limit) {
+        var taskResources = tasks.stream()
+                .map(TaskResourceFromEntityAssembler::toResourceFromEntity)
+                .toList();
+        var response = ResponseEntity.ok();
+        if (limit != null && !tasks.isEmpty() && tasks.size() == limit) {
+            response.header(NEXT_CURSOR_HEADER, tasks.get(tasks.size() - 1).getId().toString());
+        }
+        return response.body(taskResources);
+    }
+}
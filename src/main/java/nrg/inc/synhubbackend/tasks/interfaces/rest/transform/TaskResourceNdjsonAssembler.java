@@ -0,0 +1,49 @@
+package nrg.inc.synhubbackend.tasks.interfaces.rest.transform;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes tasks as newline-delimited JSON with the application ObjectMapper, so each line is serialized exactly like
+ * the TaskResource bodies of the list endpoints.
+ */
+@Component
+public class TaskResourceNdjsonAssembler {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+
+    public TaskResourceNdjsonAssembler(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes one TaskResource JSON document per line as the source pushes tasks, so the list is never held in memory.
+     */
+    public ResponseEntity<StreamingResponseBody> toResponseFromSource(Consumer<Consumer<Task>> source) {
+        StreamingResponseBody body = outputStream -> {
+            var out = new BufferedOutputStream(outputStream);
+            source.accept(task -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(TaskResourceFromEntityAssembler.toResourceFromEntity(task)));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+}
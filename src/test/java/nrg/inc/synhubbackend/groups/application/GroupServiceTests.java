@@ -5,6 +5,7 @@ import nrg.inc.synhubbackend.groups.application.internal.queryservices.GroupQuer
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.commands.*;
+import nrg.inc.synhubbackend.groups.domain.model.events.GroupMembershipChangedEvent;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByCodeQuery;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByIdQuery;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByLeaderIdQuery;
@@ -22,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -42,6 +44,9 @@ public class GroupServiceTests {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private GroupQueryServiceImpl groupQueryService;
 
@@ -287,6 +292,7 @@ public class GroupServiceTests {
         verify(leaderRepository, times(1)).findById(1L);
         verify(groupRepository, times(1)).existsByCode(any(GroupCode.class));
         verify(groupRepository, times(1)).save(any(Group.class));
+        verify(eventPublisher, times(1)).publishEvent(new GroupMembershipChangedEvent(result.get().getId(), null, 1L));
     }
 
     @Test
@@ -407,6 +413,7 @@ public class GroupServiceTests {
         // Assert
         verify(groupRepository, times(1)).findByLeader_Id(1L);
         verify(groupRepository, times(1)).delete(testGroup);
+        verify(eventPublisher, times(1)).publishEvent(new GroupMembershipChangedEvent(10L, null, 1L));
     }
 
     @Test
@@ -444,6 +451,7 @@ public class GroupServiceTests {
         assertEquals(0, testGroup.getMembers().size());
         verify(memberRepository, times(1)).save(testMember);
         verify(groupRepository, times(1)).save(testGroup);
+        verify(eventPublisher, times(1)).publishEvent(new GroupMembershipChangedEvent(10L, 20L));
     }
 
     @Test
@@ -493,6 +501,7 @@ public class GroupServiceTests {
         assertThrows(IllegalArgumentException.class, () -> groupCommandService.handle(command));
         verify(memberRepository, never()).save(any(Member.class));
         verify(groupRepository, never()).save(any(Group.class));
+        verify(eventPublisher, never()).publishEvent(any(GroupMembershipChangedEvent.class));
     }
 
     // TESTS FOR LeaveGroupCommand
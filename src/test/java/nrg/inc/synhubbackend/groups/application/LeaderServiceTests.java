@@ -4,12 +4,12 @@ import nrg.inc.synhubbackend.groups.application.internal.commandservices.LeaderC
 import nrg.inc.synhubbackend.groups.application.internal.queryservices.LeaderQueryServiceImpl;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.commands.CreateLeaderCommand;
+import nrg.inc.synhubbackend.groups.domain.model.commands.RecordSolvedRequestsCommand;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByIdQuery;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByUsernameQuery;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.LeaderRepository;
-import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
-import nrg.inc.synhubbackend.iam.domain.model.entities.Role;
 import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.shared.application.external.outboundedservices.ExternalIamService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,9 +21,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
-import java.util.HashSet;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,52 +44,12 @@ public class LeaderServiceTests {
     private LeaderQueryServiceImpl leaderQueryService;
 
     private Leader testLeader;
-    private User testLeaderUser;
-    private User testMemberUser;
-    private Role leaderRole;
-    private Role memberRole;
 
     @BeforeEach
     void setUp() throws Exception {
         // Initialize Leader
         testLeader = new Leader();
         setIdUsingReflection(testLeader, 1L);
-
-        // Initialize Roles
-        leaderRole = new Role(Roles.ROLE_LEADER);
-        setIdUsingReflection(leaderRole, 1L);
-
-        memberRole = new Role(Roles.ROLE_MEMBER);
-        setIdUsingReflection(memberRole, 2L);
-
-        // Initialize Leader User
-        testLeaderUser = new User(
-                "testleader",
-                "Leader",
-                "User",
-                "http://img/leader.png",
-                "leader@example.com",
-                "password123"
-        );
-        setIdUsingReflection(testLeaderUser, 10L);
-        Set<Role> leaderRoles = new HashSet<>();
-        leaderRoles.add(leaderRole);
-        testLeaderUser.setRoles(leaderRoles);
-        testLeaderUser.setLeader(testLeader);
-
-        // Initialize Member User (for negative test cases)
-        testMemberUser = new User(
-                "testmember",
-                "Member",
-                "User",
-                "http://img/member.png",
-                "member@example.com",
-                "password123"
-        );
-        setIdUsingReflection(testMemberUser, 20L);
-        Set<Role> memberRoles = new HashSet<>();
-        memberRoles.add(memberRole);
-        testMemberUser.setRoles(memberRoles);
     }
 
     /**
@@ -203,7 +161,9 @@ public class LeaderServiceTests {
         // Arrange
         String username = "testleader";
         GetLeaderByUsernameQuery query = new GetLeaderByUsernameQuery(username);
-        when(externalIamService.getUserByUsername(username)).thenReturn(Optional.of(testLeaderUser));
+        UserIdentity identity = new UserIdentity(10L, username, Roles.ROLE_LEADER, 1L, null, null);
+        when(externalIamService.getUserIdentityByUsername(username)).thenReturn(Optional.of(identity));
+        when(leaderRepository.findById(1L)).thenReturn(Optional.of(testLeader));
 
         // Act
         Optional<Leader> result = leaderQueryService.handle(query);
@@ -211,7 +171,8 @@ public class LeaderServiceTests {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(testLeader.getId(), result.get().getId());
-        verify(externalIamService, times(1)).getUserByUsername(username);
+        verify(externalIamService, times(1)).getUserIdentityByUsername(username);
+        verify(leaderRepository, times(1)).findById(1L);
     }
 
     @Test
@@ -219,78 +180,75 @@ public class LeaderServiceTests {
         // Arrange
         String username = "testmember";
         GetLeaderByUsernameQuery query = new GetLeaderByUsernameQuery(username);
-        when(externalIamService.getUserByUsername(username)).thenReturn(Optional.of(testMemberUser));
+        UserIdentity identity = new UserIdentity(20L, username, Roles.ROLE_MEMBER, null, 5L, null);
+        when(externalIamService.getUserIdentityByUsername(username)).thenReturn(Optional.of(identity));
 
         // Act
         Optional<Leader> result = leaderQueryService.handle(query);
 
         // Assert
         assertFalse(result.isPresent());
-        verify(externalIamService, times(1)).getUserByUsername(username);
+        verify(externalIamService, times(1)).getUserIdentityByUsername(username);
+        verify(leaderRepository, never()).findById(any());
     }
 
     @Test
     void handleGetLeaderByUsername_WhenUserHasNoLeaderAssociation_ReturnsEmpty() {
         // Arrange
         String username = "testleader";
-        User userWithoutLeader = new User(
-                "testleader",
-                "Leader",
-                "User",
-                "http://img/leader.png",
-                "leader@example.com",
-                "password123"
-        );
-        try {
-            setIdUsingReflection(userWithoutLeader, 30L);
-        } catch (Exception e) {
-            fail("Failed to set user ID");
-        }
-        Set<Role> roles = new HashSet<>();
-        roles.add(leaderRole);
-        userWithoutLeader.setRoles(roles);
-        userWithoutLeader.setLeader(null); // No leader association
-
         GetLeaderByUsernameQuery query = new GetLeaderByUsernameQuery(username);
-        when(externalIamService.getUserByUsername(username)).thenReturn(Optional.of(userWithoutLeader));
+        UserIdentity identity = new UserIdentity(30L, username, Roles.ROLE_LEADER, null, null, null);
+        when(externalIamService.getUserIdentityByUsername(username)).thenReturn(Optional.of(identity));
 
         // Act
         Optional<Leader> result = leaderQueryService.handle(query);
 
         // Assert
         assertFalse(result.isPresent());
-        verify(externalIamService, times(1)).getUserByUsername(username);
+        verify(externalIamService, times(1)).getUserIdentityByUsername(username);
+        verify(leaderRepository, never()).findById(any());
     }
 
     @Test
-    void handleGetLeaderByUsername_WhenUserNotFound_ThrowsException() {
+    void handleGetLeaderByUsername_WhenUserNotFound_ReturnsEmpty() {
         // Arrange
         String username = "nonexistent";
         GetLeaderByUsernameQuery query = new GetLeaderByUsernameQuery(username);
-        when(externalIamService.getUserByUsername(username))
-                .thenThrow(new IllegalArgumentException("User not found for username: " + username));
+        when(externalIamService.getUserIdentityByUsername(username)).thenReturn(Optional.empty());
 
-        // Act & Assert
-        IllegalArgumentException exception = assertThrows(
-                IllegalArgumentException.class,
-                () -> leaderQueryService.handle(query)
-        );
-        assertEquals("User not found for username: nonexistent", exception.getMessage());
-        verify(externalIamService, times(1)).getUserByUsername(username);
+        // Act
+        Optional<Leader> result = leaderQueryService.handle(query);
+
+        // Assert
+        assertFalse(result.isPresent());
+        verify(externalIamService, times(1)).getUserIdentityByUsername(username);
+        verify(leaderRepository, never()).findById(any());
     }
 
     @Test
-    void handleGetLeaderByUsername_WhenUserServiceReturnsEmpty_ThrowsException() {
+    void handleRecordSolvedRequests_WhenRequestsSolved_UpdatesRunningMeanInOneStatement() {
         // Arrange
-        String username = "testleader";
-        GetLeaderByUsernameQuery query = new GetLeaderByUsernameQuery(username);
-        when(externalIamService.getUserByUsername(username)).thenReturn(Optional.empty());
+        RecordSolvedRequestsCommand command = new RecordSolvedRequestsCommand(10L, 3, 9_000L);
+        when(leaderRepository.recordSolvedRequests(10L, 3, 9_000L)).thenReturn(1);
 
-        // Act & Assert
-        assertThrows(
-                Exception.class,
-                () -> leaderQueryService.handle(query)
-        );
-        verify(externalIamService, times(1)).getUserByUsername(username);
+        // Act
+        leaderCommandService.handle(command);
+
+        // Assert
+        verify(leaderRepository, times(1)).recordSolvedRequests(10L, 3, 9_000L);
+        verify(leaderRepository, never()).findById(any());
+        verify(leaderRepository, never()).save(any(Leader.class));
+    }
+
+    @Test
+    void handleRecordSolvedRequests_WhenNothingSolved_DoesNotTouchRepository() {
+        // Arrange
+        RecordSolvedRequestsCommand command = new RecordSolvedRequestsCommand(10L, 0, 0L);
+
+        // Act
+        leaderCommandService.handle(command);
+
+        // Assert
+        verify(leaderRepository, never()).recordSolvedRequests(any(), anyInt(), anyLong());
     }
 }
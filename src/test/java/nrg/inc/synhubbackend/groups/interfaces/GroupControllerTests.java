@@ -201,7 +201,7 @@ public class GroupControllerTests {
                 .thenReturn(Optional.empty());
 
         // Act
-        var response = groupController.getAllTasksByGroupId(testUserDetails);
+        var response = groupController.getAllTasksByGroupId(testUserDetails, null, null);
 
         // Assert
         assertNotNull(response);
@@ -221,7 +221,7 @@ public class GroupControllerTests {
                 .thenReturn(Optional.empty());
 
         // Act
-        var response = groupController.getAllTasksByGroupId(testUserDetails);
+        var response = groupController.getAllTasksByGroupId(testUserDetails, null, null);
 
         // Assert
         assertNotNull(response);
@@ -17,6 +17,9 @@ import nrg.inc.synhubbackend.groups.interfaces.rest.LeaderGroupController;
 import nrg.inc.synhubbackend.groups.interfaces.rest.resources.CreateGroupResource;
 import nrg.inc.synhubbackend.groups.interfaces.rest.resources.GroupResource;
 import nrg.inc.synhubbackend.groups.interfaces.rest.resources.UpdateGroupResource;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.model.AuthenticatedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -122,6 +125,31 @@ public class LeaderGroupControllerTests {
         verify(groupCommandService, times(1)).handle(any(CreateGroupCommand.class));
     }
 
+    @Test
+    void createGroup_WhenPrincipalCarriesLeaderId_DoesNotLookUpLeader() {
+        // Arrange
+        CreateGroupResource createResource = new CreateGroupResource(
+                "New Group",
+                "http://newgroup.img",
+                "New Group Description"
+        );
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(testUserDetails,
+                new UserIdentity(10L, "testleader", Roles.ROLE_LEADER, 1L, null, null));
+
+        when(groupCommandService.handle(any(CreateGroupCommand.class)))
+                .thenReturn(Optional.of(testGroup));
+
+        // Act
+        ResponseEntity<GroupResource> response = leaderGroupController.createGroup(createResource, authenticatedUser);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(groupCommandService, times(1)).handle(new CreateGroupCommand(
+                "New Group", "http://newgroup.img", "New Group Description", 1L));
+        verify(leaderQueryService, never()).handle(any(GetLeaderByUsernameQuery.class));
+    }
+
     @Test
     void createGroup_WhenLeaderDoesNotExist_ReturnsNotFound() {
         // Arrange
@@ -0,0 +1,111 @@
+package nrg.inc.synhubbackend.iam.application;
+
+import nrg.inc.synhubbackend.iam.application.internal.acl.IamContextFacadeImpl;
+import nrg.inc.synhubbackend.iam.application.internal.eventhandlers.IdentityChangeEventHandler;
+import nrg.inc.synhubbackend.iam.domain.model.events.UserCredentialsChangedEvent;
+import nrg.inc.synhubbackend.iam.domain.model.queries.GetUserIdentityByUsernameQuery;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+import nrg.inc.synhubbackend.iam.domain.services.UserCommandService;
+import nrg.inc.synhubbackend.iam.domain.services.UserQueryService;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.RequestIdentityCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class IamContextFacadeTests {
+
+    @Mock
+    private UserCommandService userCommandService;
+
+    @Mock
+    private UserQueryService userQueryService;
+
+    private RequestIdentityCache requestIdentityCache;
+    private IamContextFacadeImpl iamContextFacade;
+    private UserIdentity testIdentity;
+
+    @BeforeEach
+    void setUp() {
+        requestIdentityCache = new RequestIdentityCache();
+        iamContextFacade = new IamContextFacadeImpl(userCommandService, userQueryService, requestIdentityCache);
+        testIdentity = new UserIdentity(10L, "testleader", Roles.ROLE_LEADER, 1L, null, 2L);
+        when(userQueryService.handle(new GetUserIdentityByUsernameQuery("testleader")))
+                .thenReturn(Optional.of(testIdentity));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void fetchUserIdentityByUsername_WhenCalledTwiceInSameRequest_QueriesOnce() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        // Act
+        Optional<UserIdentity> first = iamContextFacade.fetchUserIdentityByUsername("testleader");
+        Optional<UserIdentity> second = iamContextFacade.fetchUserIdentityByUsername("testleader");
+
+        // Assert
+        assertEquals(Optional.of(testIdentity), first);
+        assertEquals(first, second);
+        verify(userQueryService, times(1)).handle(new GetUserIdentityByUsernameQuery("testleader"));
+    }
+
+    @Test
+    void fetchUserIdentityByUsername_WhenOutsideRequest_QueriesEveryTime() {
+        // Act
+        iamContextFacade.fetchUserIdentityByUsername("testleader");
+        iamContextFacade.fetchUserIdentityByUsername("testleader");
+
+        // Assert
+        verify(userQueryService, times(2)).handle(new GetUserIdentityByUsernameQuery("testleader"));
+    }
+
+    @Test
+    void fetchUserIdentityByUsername_WhenIdentityIsSeededByFilter_DoesNotQuery() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        requestIdentityCache.put(testIdentity);
+
+        // Act
+        Optional<UserIdentity> result = iamContextFacade.fetchUserIdentityByUsername("testleader");
+
+        // Assert
+        assertEquals(Optional.of(testIdentity), result);
+        verify(userQueryService, never()).handle(any(GetUserIdentityByUsernameQuery.class));
+    }
+
+    @Test
+    void fetchUserIdentityByUsername_WhenIdentityChangesDuringRequest_QueriesAgain() {
+        // Arrange
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        IdentityChangeEventHandler eventHandler = new IdentityChangeEventHandler(userCommandService, requestIdentityCache);
+        iamContextFacade.fetchUserIdentityByUsername("testleader");
+
+        // Act
+        eventHandler.on(new UserCredentialsChangedEvent("testleader"));
+        iamContextFacade.fetchUserIdentityByUsername("testleader");
+
+        // Assert
+        verify(userQueryService, times(2)).handle(new GetUserIdentityByUsernameQuery("testleader"));
+    }
+}
@@ -0,0 +1,183 @@
+package nrg.inc.synhubbackend.iam.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens.TokenClaims;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
+import nrg.inc.synhubbackend.iam.infrastructure.tokens.jwt.cache.VerifiedTokenCache;
+import nrg.inc.synhubbackend.iam.infrastructure.tokens.jwt.services.TokenServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TokenServiceTests {
+
+    private static final String SECRET = "ThisIsASecretKeyForJWTWithAtLeast32CharactersAndMore";
+
+    private SimpleMeterRegistry meterRegistry;
+    private TokenServiceImpl tokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        tokenService = newTokenService(SECRET, 7);
+    }
+
+    private TokenServiceImpl newTokenService(String secret, int expirationDays) {
+        return new TokenServiceImpl(secret, expirationDays, new VerifiedTokenCache(100, 100, meterRegistry));
+    }
+
+    @Test
+    void verifyToken_WhenTokenIsValid_ReturnsClaims() {
+        // Arrange
+        String token = tokenService.generateToken("testuser");
+
+        // Act
+        Optional<TokenClaims> result = tokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("testuser", result.get().username());
+        assertTrue(result.get().expiresAt().isAfter(Instant.now()));
+        assertTrue(tokenService.validateToken(token));
+        assertEquals("testuser", tokenService.getUsernameFromToken(token));
+    }
+
+    @Test
+    void verifyToken_WhenTokenCarriesIdentity_ReturnsIdentityClaims() {
+        // Arrange
+        UserIdentity identity = new UserIdentity(10L, "testleader", Roles.ROLE_LEADER, 100L, null, 300L, 3L);
+        String token = tokenService.generateToken(identity);
+
+        // Act
+        Optional<TokenClaims> result = tokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("testleader", result.get().username());
+        assertNotNull(result.get().issuedAt());
+        assertEquals(identity, result.get().identity());
+    }
+
+    @Test
+    void verifyToken_WhenTokenHasNoIdentityClaims_ReturnsNullIdentity() {
+        // Arrange
+        String token = tokenService.generateToken("testuser");
+
+        // Act
+        Optional<TokenClaims> result = tokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertNull(result.get().identity());
+    }
+
+    @Test
+    void verifyToken_WhenSignatureIsTampered_ReturnsEmpty() {
+        // Arrange
+        String token = tokenService.generateToken("testuser");
+        int index = token.lastIndexOf('.') + 5;
+        char replacement = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replacement + token.substring(index + 1);
+
+        // Act
+        Optional<TokenClaims> result = tokenService.verifyToken(tampered);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        assertFalse(tokenService.validateToken(tampered));
+    }
+
+    @Test
+    void verifyToken_WhenSignedWithAnotherSecret_ReturnsEmpty() {
+        // Arrange
+        String token = newTokenService(SECRET.toUpperCase(), 7).generateToken("testuser");
+
+        // Act
+        Optional<TokenClaims> result = tokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void verifyToken_WhenTokenIsExpired_ReturnsEmpty() {
+        // Arrange
+        String token = newTokenService(SECRET, -1).generateToken("testuser");
+
+        // Act
+        Optional<TokenClaims> result = tokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void verifyToken_WhenTokenIsMalformed_ReturnsEmpty() {
+        // Act & Assert
+        assertTrue(tokenService.verifyToken("not-a-token").isEmpty());
+        assertTrue(tokenService.verifyToken("").isEmpty());
+    }
+
+    @Test
+    void verifyToken_WhenTokenIsVerifiedAgain_IsServedFromCache() {
+        // Arrange
+        String token = tokenService.generateToken("testuser");
+        tokenService.verifyToken(token);
+
+        // Act
+        Optional<TokenClaims> result = tokenService.verifyToken(token);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("testuser", result.get().username());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", VerifiedTokenCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void generateToken_WhenCalledTwiceForSameUser_ReturnsDistinctTokens() {
+        // Act
+        String token = tokenService.generateToken("testuser");
+        String otherToken = tokenService.generateToken("testuser");
+
+        // Assert
+        assertNotEquals(token, otherToken);
+    }
+
+    @Test
+    void verifyToken_WhenTokenWasRevoked_ReturnsEmpty() {
+        // Arrange
+        String token = tokenService.generateToken("testuser");
+        String otherToken = tokenService.generateToken("otheruser");
+        tokenService.verifyToken(token);
+
+        // Act
+        tokenService.revokeToken(token);
+
+        // Assert
+        assertTrue(tokenService.verifyToken(token).isEmpty());
+        assertTrue(tokenService.verifyToken(otherToken).isPresent());
+    }
+
+    @Test
+    void revokeToken_WhenSubjectHasTooManyRevocations_ThrowsOnlyForThatSubject() {
+        // Arrange
+        TokenServiceImpl smallTokenService = new TokenServiceImpl(SECRET, 7, new VerifiedTokenCache(100, 1, meterRegistry));
+        String token = smallTokenService.generateToken("testuser");
+        String secondToken = smallTokenService.generateToken("testuser");
+        String otherToken = smallTokenService.generateToken("otheruser");
+        smallTokenService.revokeToken(token);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> smallTokenService.revokeToken(secondToken));
+        smallTokenService.revokeToken(otherToken);
+        assertTrue(smallTokenService.verifyToken(token).isEmpty());
+        assertTrue(smallTokenService.verifyToken(secondToken).isPresent());
+        assertTrue(smallTokenService.verifyToken(otherToken).isEmpty());
+    }
+}
@@ -0,0 +1,92 @@
+package nrg.inc.synhubbackend.iam.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
+import nrg.inc.synhubbackend.iam.domain.model.entities.Role;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.cache.UserDetailsCache;
+import nrg.inc.synhubbackend.iam.infrastructure.authorization.sfs.services.UserDetailsServiceImpl;
+import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class UserDetailsServiceTests {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserDetailsCache userDetailsCache;
+    private UserDetailsServiceImpl userDetailsService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        userDetailsService = new UserDetailsServiceImpl(userRepository, userDetailsCache);
+        testUser = new User(
+                "testuser",
+                "Test",
+                "User",
+                "http://img/testuser.png",
+                "testuser@example.com",
+                "encodedPassword123",
+                List.of(new Role(Roles.ROLE_USER)));
+    }
+
+    @Test
+    void loadUserByUsername_WhenCalledTwice_QueriesRepositoryOnce() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+
+        // Act
+        UserDetails first = userDetailsService.loadUserByUsername("testuser");
+        UserDetails second = userDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("encodedPassword123", second.getPassword());
+        assertTrue(second.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+        verify(userRepository, times(1)).findByUsername("testuser");
+    }
+
+    @Test
+    void loadUserByUsername_WhenInvalidated_ReloadsUser() {
+        // Arrange
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        userDetailsService.loadUserByUsername("testuser");
+
+        // Act
+        userDetailsCache.invalidate("testuser");
+        userDetailsService.loadUserByUsername("testuser");
+
+        // Assert
+        verify(userRepository, times(2)).findByUsername("testuser");
+    }
+
+    @Test
+    void loadUserByUsername_WhenUserNotFound_ThrowsAndDoesNotCache() {
+        // Arrange
+        when(userRepository.findByUsername("nonexistent")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("nonexistent"));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername("nonexistent"));
+        verify(userRepository, times(2)).findByUsername("nonexistent");
+    }
+}
@@ -4,16 +4,21 @@ import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.iam.application.external.outboundedservices.ExternalLeaderService;
 import nrg.inc.synhubbackend.iam.application.internal.commandservices.UserCommandServiceImpl;
 import nrg.inc.synhubbackend.iam.application.internal.outboundservices.hashing.HashingService;
+import nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens.TokenClaims;
 import nrg.inc.synhubbackend.iam.application.internal.outboundservices.tokens.TokenService;
 import nrg.inc.synhubbackend.iam.application.internal.queryservices.UserQueryServiceImpl;
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserLeaderCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserMemberCommand;
+import nrg.inc.synhubbackend.iam.domain.model.commands.MarkIdentitiesChangedCommand;
+import nrg.inc.synhubbackend.iam.domain.model.commands.RefreshTokenCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignInCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignUpCommand;
 import nrg.inc.synhubbackend.iam.domain.model.entities.Role;
+import nrg.inc.synhubbackend.iam.domain.model.events.UserCredentialsChangedEvent;
 import nrg.inc.synhubbackend.iam.domain.model.queries.*;
 import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.RoleRepository;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import nrg.inc.synhubbackend.shared.application.external.outboundedservices.ExternalMemberService;
@@ -27,12 +32,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.lang.reflect.Field;
+import java.time.Instant;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +65,9 @@ public class UserServiceTests {
     @Mock
     private RoleRepository roleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserCommandServiceImpl userCommandService;
 
@@ -178,6 +189,26 @@ public class UserServiceTests {
         verify(tokenService, times(1)).generateToken("testuser");
     }
 
+    @Test
+    void handleSignIn_WhenIdentityResolved_ReturnsTokenWithIdentityClaims() {
+        // Arrange
+        SignInCommand command = new SignInCommand("testuser", "password123");
+        UserIdentity identity = new UserIdentity(100L, "testuser", Roles.ROLE_LEADER, 10L, null, 50L);
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(hashingService.matches("password123", "encodedPassword123")).thenReturn(true);
+        when(userRepository.findIdentitiesByUsername("testuser")).thenReturn(List.of(identity));
+        when(tokenService.generateToken(identity)).thenReturn("identity-token-123");
+
+        // Act
+        Optional<ImmutablePair<User, String>> result = userCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("identity-token-123", result.get().getRight());
+        verify(tokenService, times(1)).generateToken(identity);
+        verify(tokenService, never()).generateToken(anyString());
+    }
+
     @Test
     void handleSignIn_WhenUserNotFound_ThrowsException() {
         // Arrange
@@ -192,7 +223,8 @@ public class UserServiceTests {
         assertEquals("User not found", exception.getMessage());
         verify(userRepository, times(1)).findByUsername("nonexistent");
         verify(hashingService, never()).matches(any(), any());
-        verify(tokenService, never()).generateToken(any());
+        verify(tokenService, never()).generateToken(anyString());
+        verify(tokenService, never()).generateToken(any(UserIdentity.class));
     }
 
     @Test
@@ -210,7 +242,67 @@ public class UserServiceTests {
         assertEquals("Invalid password", exception.getMessage());
         verify(userRepository, times(1)).findByUsername("testuser");
         verify(hashingService, times(1)).matches("wrongpassword", "encodedPassword123");
-        verify(tokenService, never()).generateToken(any());
+        verify(tokenService, never()).generateToken(anyString());
+        verify(tokenService, never()).generateToken(any(UserIdentity.class));
+    }
+
+    // TESTS FOR RefreshTokenCommand
+
+    @Test
+    void handleRefreshToken_WhenTokenIsValid_ReturnsNewTokenAndRevokesOldOne() {
+        // Arrange
+        RefreshTokenCommand command = new RefreshTokenCommand("old-token");
+        UserIdentity identity = new UserIdentity(100L, "testuser", Roles.ROLE_MEMBER, null, 20L, 50L);
+        when(tokenService.verifyToken("old-token"))
+                .thenReturn(Optional.of(new TokenClaims("testuser", Instant.now(), Instant.now().plusSeconds(60), null)));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.findIdentitiesByUsername("testuser")).thenReturn(List.of(identity));
+        when(tokenService.generateToken(identity)).thenReturn("new-token");
+
+        // Act
+        Optional<ImmutablePair<User, String>> result = userCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(testUser, result.get().getLeft());
+        assertEquals("new-token", result.get().getRight());
+        verify(tokenService, times(1)).revokeToken("old-token");
+    }
+
+    @Test
+    void handleRefreshToken_WhenNewTokenEqualsOldOne_DoesNotRevokeIt() {
+        // Arrange
+        RefreshTokenCommand command = new RefreshTokenCommand("same-token");
+        UserIdentity identity = new UserIdentity(100L, "testuser", Roles.ROLE_MEMBER, null, 20L, 50L);
+        when(tokenService.verifyToken("same-token"))
+                .thenReturn(Optional.of(new TokenClaims("testuser", Instant.now(), Instant.now().plusSeconds(60), null)));
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userRepository.findIdentitiesByUsername("testuser")).thenReturn(List.of(identity));
+        when(tokenService.generateToken(identity)).thenReturn("same-token");
+
+        // Act
+        Optional<ImmutablePair<User, String>> result = userCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("same-token", result.get().getRight());
+        verify(tokenService, never()).revokeToken(anyString());
+    }
+
+    @Test
+    void handleRefreshToken_WhenTokenIsNotValid_ThrowsException() {
+        // Arrange
+        RefreshTokenCommand command = new RefreshTokenCommand("invalid-token");
+        when(tokenService.verifyToken("invalid-token")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(
+                RuntimeException.class,
+                () -> userCommandService.handle(command)
+        );
+        assertEquals("Invalid token", exception.getMessage());
+        verify(tokenService, never()).generateToken(any(UserIdentity.class));
+        verify(tokenService, never()).revokeToken(anyString());
     }
 
     // TESTS FOR SignUpCommand
@@ -247,6 +339,7 @@ public class UserServiceTests {
         verify(hashingService, times(1)).encode("password123");
         verify(userRepository, times(1)).save(any(User.class));
         verify(userRepository, times(1)).findByUsername("newuser");
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent("newuser"));
     }
 
     @Test
@@ -347,9 +440,11 @@ public class UserServiceTests {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(testLeader, testUser.getLeader());
+        assertEquals(1L, testUser.getIdentityVersion());
         verify(userRepository, times(2)).findById(100L); // Called twice in implementation
         verify(externalLeaderService, times(1)).createUserLeader(command);
         verify(userRepository, times(1)).save(testUser);
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent(testUser.getUsername()));
     }
 
     @Test
@@ -384,6 +479,7 @@ public class UserServiceTests {
         );
         assertTrue(exception.getMessage().contains("Failed to create user as leader"));
         verify(userRepository, times(1)).save(any(User.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     // TESTS FOR CreateUserMemberCommand
@@ -405,6 +501,7 @@ public class UserServiceTests {
         verify(userRepository, times(2)).findById(100L); // Called twice in implementation
         verify(externalMemberService, times(1)).createUserMember(command);
         verify(userRepository, times(1)).save(testUser);
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent(testUser.getUsername()));
     }
 
     @Test
@@ -642,4 +739,31 @@ public class UserServiceTests {
         assertEquals(0, result.size());
         verify(userRepository, times(1)).findByMember_Group_Id(999L);
     }
+
+    // TESTS FOR MarkIdentitiesChangedCommand
+
+    @Test
+    void handleMarkIdentitiesChanged_WhenGroupChanged_BumpsVersionsAndPublishesEvents() {
+        // Arrange
+        MarkIdentitiesChangedCommand command = new MarkIdentitiesChangedCommand(1L, null, 2L);
+        when(userRepository.incrementIdentityVersions(1L, null, 2L)).thenReturn(List.of("testleader", "testmember"));
+
+        // Act
+        userCommandService.handle(command);
+
+        // Assert
+        verify(userRepository, times(1)).incrementIdentityVersions(1L, null, 2L);
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent("testleader"));
+        verify(eventPublisher, times(1)).publishEvent(new UserCredentialsChangedEvent("testmember"));
+    }
+
+    @Test
+    void handleMarkIdentitiesChanged_WhenNoIdsGiven_DoesNothing() {
+        // Act
+        userCommandService.handle(new MarkIdentitiesChangedCommand(null, null, null));
+
+        // Assert
+        verify(userRepository, never()).incrementIdentityVersions(any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
 }
@@ -4,6 +4,7 @@ import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserLeaderCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.CreateUserMemberCommand;
+import nrg.inc.synhubbackend.iam.domain.model.commands.RefreshTokenCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignInCommand;
 import nrg.inc.synhubbackend.iam.domain.model.commands.SignUpCommand;
 import nrg.inc.synhubbackend.iam.domain.model.entities.Role;
@@ -193,6 +194,67 @@ public class AuthenticationControllerTests {
         verify(userCommandService, times(1)).handle(any(SignInCommand.class));
     }
 
+    // REFRESH TESTS
+
+    @Test
+    void refresh_WhenBearerTokenIsValid_ReturnsAuthenticatedUserResourceWithNewToken() {
+        // Arrange
+        when(userCommandService.handle(new RefreshTokenCommand("old-token")))
+                .thenReturn(Optional.of(new ImmutablePair<>(testLeaderUser, "new-token")));
+
+        // Act
+        ResponseEntity<AuthenticatedUserResource> response = authenticationController.refresh("Bearer old-token");
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(20L, response.getBody().id());
+        assertEquals("new-token", response.getBody().token());
+        verify(userCommandService, times(1)).handle(new RefreshTokenCommand("old-token"));
+    }
+
+    @Test
+    void refresh_WhenAuthorizationHeaderIsMissing_ReturnsUnauthorized() {
+        // Act
+        ResponseEntity<AuthenticatedUserResource> response = authenticationController.refresh(null);
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        verify(userCommandService, never()).handle(any(RefreshTokenCommand.class));
+    }
+
+    @Test
+    void refresh_WhenTokenIsNotValid_ReturnsUnauthorized() {
+        // Arrange
+        when(userCommandService.handle(any(RefreshTokenCommand.class)))
+                .thenThrow(new RuntimeException("Invalid token"));
+
+        // Act
+        ResponseEntity<AuthenticatedUserResource> response = authenticationController.refresh("Bearer invalid-token");
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void refresh_WhenTooManyTokensWereRevoked_ReturnsTooManyRequests() {
+        // Arrange
+        when(userCommandService.handle(any(RefreshTokenCommand.class)))
+                .thenThrow(new IllegalStateException("Too many revoked tokens"));
+
+        // Act
+        ResponseEntity<AuthenticatedUserResource> response = authenticationController.refresh("Bearer old-token");
+
+        // Assert
+        assertNotNull(response);
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
     // SIGN-UP TESTS - REGULAR USER
 
     @Test
@@ -0,0 +1,206 @@
+package nrg.inc.synhubbackend.metrics.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nrg.inc.synhubbackend.groups.domain.model.events.GroupMembershipChangedEvent;
+import nrg.inc.synhubbackend.metrics.application.internal.eventhandlers.MetricsCacheInvalidationHandler;
+import nrg.inc.synhubbackend.metrics.application.internal.queryservice.CachedTaskMetricsQueryService;
+import nrg.inc.synhubbackend.metrics.application.internal.queryservice.TaskMetricsQueryServiceImpl;
+import nrg.inc.synhubbackend.metrics.domain.model.queries.GetTaskOverviewForMemberQuery;
+import nrg.inc.synhubbackend.metrics.domain.model.queries.GetTaskOverviewQuery;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.infrastructure.cache.MetricsCacheKey;
+import nrg.inc.synhubbackend.metrics.infrastructure.cache.MetricsResultCache;
+import nrg.inc.synhubbackend.metrics.infrastructure.cache.SingleFlight;
+import nrg.inc.synhubbackend.metrics.interfaces.rest.resources.TaskOverviewResource;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class MetricsCacheTests {
+
+    @Mock
+    private TaskMetricsQueryServiceImpl delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachedTaskMetricsQueryService cachedQueryService;
+    private MetricsCacheInvalidationHandler invalidationHandler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var cache = new MetricsResultCache(100, Duration.ofMinutes(5), Duration.ofSeconds(5), meterRegistry);
+        cachedQueryService = new CachedTaskMetricsQueryService(delegate, cache);
+        invalidationHandler = new MetricsCacheInvalidationHandler(cache);
+
+        when(delegate.handle(any(GetTaskOverviewQuery.class)))
+                .thenReturn(new TaskOverviewResource("TASK_OVERVIEW", 3, Map.of("IN_PROGRESS", 3)));
+        when(delegate.handle(any(GetTaskOverviewForMemberQuery.class)))
+                .thenReturn(new TaskOverviewResource("TASK_OVERVIEW_MEMBER", 1, Map.of("IN_PROGRESS", 1)));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", MetricsResultCache.CACHE_NAME).tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void handleGetTaskOverview_WhenCalledTwice_LoadsOnceAndRecordsHit() {
+        // Act
+        var first = cachedQueryService.handle(new GetTaskOverviewQuery(10L));
+        var second = cachedQueryService.handle(new GetTaskOverviewQuery(10L));
+
+        // Assert
+        assertSame(first, second);
+        verify(delegate, times(1)).handle(new GetTaskOverviewQuery(10L));
+        assertEquals(1.0, cacheGets("hit"));
+        assertEquals(1.0, cacheGets("miss"));
+    }
+
+    @Test
+    void onTaskChanged_WhenTaskInGroupChanges_InvalidatesGroupAndMemberEntriesOnly() {
+        // Arrange
+        cachedQueryService.handle(new GetTaskOverviewQuery(10L));
+        cachedQueryService.handle(new GetTaskOverviewQuery(11L));
+        cachedQueryService.handle(new GetTaskOverviewForMemberQuery(20L));
+        var after = new TaskSnapshot(1L, 10L, 20L, TaskStatus.IN_PROGRESS, 0, 0L, OffsetDateTime.now().plusDays(1));
+
+        // Act
+        invalidationHandler.on(TaskChangedEvent.created(after));
+        cachedQueryService.handle(new GetTaskOverviewQuery(10L));
+        cachedQueryService.handle(new GetTaskOverviewQuery(11L));
+        cachedQueryService.handle(new GetTaskOverviewForMemberQuery(20L));
+
+        // Assert
+        verify(delegate, times(2)).handle(new GetTaskOverviewQuery(10L));
+        verify(delegate, times(1)).handle(new GetTaskOverviewQuery(11L));
+        verify(delegate, times(2)).handle(new GetTaskOverviewForMemberQuery(20L));
+    }
+
+    @Test
+    void onGroupMembershipChanged_WhenMemberLeaves_InvalidatesGroupEntries() {
+        // Arrange
+        cachedQueryService.handle(new GetTaskOverviewQuery(10L));
+
+        // Act
+        invalidationHandler.on(new GroupMembershipChangedEvent(10L, 20L));
+        cachedQueryService.handle(new GetTaskOverviewQuery(10L));
+
+        // Assert
+        verify(delegate, times(2)).handle(new GetTaskOverviewQuery(10L));
+    }
+
+    @Test
+    void get_WhenAnotherScopeIsInvalidatedWhileLoading_StillCachesResult() {
+        // Arrange
+        var cache = new MetricsResultCache(100, Duration.ofMinutes(5), Duration.ofSeconds(5), meterRegistry);
+        var key = new MetricsCacheKey(MetricsScope.GROUP, 11L, new GetTaskOverviewQuery(11L));
+        var loads = new AtomicInteger();
+
+        // Act
+        cache.get(key, () -> {
+            cache.invalidate(MetricsScope.GROUP, List.of(10L));
+            return loads.incrementAndGet();
+        });
+        cache.get(key, loads::incrementAndGet);
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_WhenOwnScopeIsInvalidatedWhileLoading_DoesNotCacheResult() {
+        // Arrange
+        var cache = new MetricsResultCache(100, Duration.ofMinutes(5), Duration.ofSeconds(5), meterRegistry);
+        var key = new MetricsCacheKey(MetricsScope.GROUP, 10L, new GetTaskOverviewQuery(10L));
+        var loads = new AtomicInteger();
+
+        // Act
+        cache.get(key, () -> {
+            cache.invalidate(MetricsScope.GROUP, List.of(10L));
+            return loads.incrementAndGet();
+        });
+        cache.get(key, loads::incrementAndGet);
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void singleFlightExecute_WhenIdenticalCallsOverlap_RunsLoaderOnceAndSharesResult() throws Exception {
+        // Arrange
+        var singleFlight = new SingleFlight<String>("test.queries", Duration.ofSeconds(5), meterRegistry);
+        var loads = new AtomicInteger();
+        var release = new CountDownLatch(1);
+
+        // Act
+        var first = CompletableFuture.supplyAsync(() -> singleFlight.execute("overview:10", () -> {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "result";
+        }));
+        while (loads.get() == 0) {
+            Thread.onSpinWait();
+        }
+        var second = CompletableFuture.supplyAsync(() -> singleFlight.execute("overview:10", () -> {
+            loads.incrementAndGet();
+            return "duplicate";
+        }));
+        while (meterRegistry.get("test.queries.coalesced").counter().count() < 1) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        // Assert
+        assertEquals("result", first.get(5, TimeUnit.SECONDS));
+        assertEquals("result", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void singleFlightExecute_WhenInFlightCallExceedsTimeout_WaiterFailsAndTimeoutIsCounted() throws Exception {
+        // Arrange
+        var singleFlight = new SingleFlight<String>("test.queries", Duration.ofMillis(50), meterRegistry);
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var slow = CompletableFuture.supplyAsync(() -> singleFlight.execute("overview:10", () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "result";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("overview:10", () -> "duplicate"));
+        assertEquals(1.0, meterRegistry.get("test.queries.coalesced.timeouts").counter().count());
+        release.countDown();
+        assertEquals("result", slow.get(5, TimeUnit.SECONDS));
+    }
+}
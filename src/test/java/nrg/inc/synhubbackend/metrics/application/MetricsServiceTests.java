@@ -3,15 +3,30 @@ package nrg.inc.synhubbackend.metrics.application;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.queries.GetGroupByLeaderIdQuery;
+import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByIdQuery;
 import nrg.inc.synhubbackend.groups.domain.model.valueobjects.GroupCode;
 import nrg.inc.synhubbackend.groups.domain.services.GroupQueryService;
+import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.MemberName;
 import nrg.inc.synhubbackend.iam.infrastructure.persistence.jpa.repositories.UserRepository;
 import nrg.inc.synhubbackend.metrics.application.internal.queryservice.TaskMetricsQueryServiceImpl;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskActivityBucket;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskCompletionSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskMetricsRollup;
 import nrg.inc.synhubbackend.metrics.domain.model.queries.*;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.ActivityGranularity;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.CompletionTimeSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.DashboardSection;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskMetricsDelta;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskActivityBucketRepository;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskCompletionSketchRepository;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskMetricsRollupRepository;
 import nrg.inc.synhubbackend.metrics.interfaces.rest.resources.*;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,13 +40,16 @@ import org.mockito.quality.Strictness;
 
 import java.lang.reflect.Field;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,12 +59,24 @@ public class MetricsServiceTests {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private TaskMetricsRollupRepository rollupRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private GroupQueryService groupQueryService;
 
+    @Mock
+    private TaskActivityBucketRepository activityBucketRepository;
+
+    @Mock
+    private TaskCompletionSketchRepository completionSketchRepository;
+
+    @Mock
+    private LeaderQueryService leaderQueryService;
+
     @InjectMocks
     private TaskMetricsQueryServiceImpl taskMetricsQueryService;
 
@@ -185,14 +215,25 @@ public class MetricsServiceTests {
         }
     }
 
+    private TaskMetricsRollup rollupOf(MetricsScope scope, Long scopeId, Task... tasks) {
+        TaskMetricsRollup rollup = new TaskMetricsRollup(scope, scopeId, 10L);
+        for (Task task : tasks) {
+            rollup.apply(TaskMetricsDelta.of(TaskSnapshot.of(task)));
+        }
+        return rollup;
+    }
+
+    private MemberName memberNameOf(User user) {
+        return new MemberName(user.getMember().getId(), user.getName(), user.getSurname());
+    }
+
     // TESTS FOR GetTaskTimePassedQuery
 
     @Test
     void handleGetTaskTimePassed_WhenMemberHasTasks_ReturnsAverageTimePassed() {
         // Arrange
         GetTaskTimePassedQuery query = new GetTaskTimePassedQuery(20L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2);
-        when(taskRepository.findByMember_Id(20L)).thenReturn(tasks);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2)));
 
         // Act
         TaskTimePassedResource result = taskMetricsQueryService.handle(query);
@@ -201,14 +242,15 @@ public class MetricsServiceTests {
         assertNotNull(result);
         assertEquals(20L, result.memberId());
         assertEquals(5400000L, result.timePassed()); // Average of 3600000 and 7200000
-        verify(taskRepository, times(1)).findByMember_Id(20L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 20L);
+        verify(taskRepository, never()).findByMember_Id(any());
     }
 
     @Test
     void handleGetTaskTimePassed_WhenMemberHasNoTasks_ReturnsZero() {
         // Arrange
         GetTaskTimePassedQuery query = new GetTaskTimePassedQuery(999L);
-        when(taskRepository.findByMember_Id(999L)).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 999L)).thenReturn(Optional.empty());
 
         // Act
         TaskTimePassedResource result = taskMetricsQueryService.handle(query);
@@ -217,7 +259,7 @@ public class MetricsServiceTests {
         assertNotNull(result);
         assertEquals(999L, result.memberId());
         assertEquals(0L, result.timePassed());
-        verify(taskRepository, times(1)).findByMember_Id(999L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 999L);
     }
 
     // TESTS FOR GetAvgCompletionTimeQuery
@@ -226,9 +268,8 @@ public class MetricsServiceTests {
     void handleGetAvgCompletionTime_WhenLeaderHasGroupWithCompletedTasks_ReturnsAverage() {
         // Arrange
         GetAvgCompletionTimeQuery query = new GetAvgCompletionTimeQuery(1L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2, testTask3);
         when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class))).thenReturn(Optional.of(testGroup));
-        when(taskRepository.findByGroup_Id(10L)).thenReturn(tasks);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(rollupOf(MetricsScope.GROUP, 10L, testTask1, testTask2, testTask3)));
 
         // Act
         AvgCompletionTimeResource result = taskMetricsQueryService.handle(query);
@@ -239,7 +280,8 @@ public class MetricsServiceTests {
         assertTrue(result.value() > 0);
         assertEquals(2, result.details().get("completedTasks"));
         verify(groupQueryService, times(1)).handle(any(GetGroupByLeaderIdQuery.class));
-        verify(taskRepository, times(1)).findByGroup_Id(10L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.GROUP, 10L);
+        verify(taskRepository, never()).findByGroup_Id(any());
     }
 
     @Test
@@ -257,7 +299,7 @@ public class MetricsServiceTests {
         assertEquals(0.0, result.value());
         assertEquals(0, result.details().get("completedTasks"));
         verify(groupQueryService, times(1)).handle(any(GetGroupByLeaderIdQuery.class));
-        verify(taskRepository, never()).findByGroup_Id(any());
+        verify(rollupRepository, never()).findByScopeAndScopeId(any(), any());
     }
 
     // TESTS FOR GetRescheduledTasksQuery
@@ -266,8 +308,11 @@ public class MetricsServiceTests {
     void handleGetRescheduledTasks_WhenGroupHasRescheduledTasks_ReturnsRescheduledInfo() {
         // Arrange
         GetRescheduledTasksQuery query = new GetRescheduledTasksQuery(10L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2, testTask3);
-        when(taskRepository.findByGroup_Id(10L)).thenReturn(tasks);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(rollupOf(MetricsScope.GROUP, 10L, testTask1, testTask2, testTask3)));
+        when(rollupRepository.findByScopeAndGroupId(MetricsScope.MEMBER, 10L)).thenReturn(Arrays.asList(
+                rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2),
+                rollupOf(MetricsScope.MEMBER, 21L, testTask3)
+        ));
 
         // Act
         RescheduledTasksResource result = taskMetricsQueryService.handle(query);
@@ -280,14 +325,15 @@ public class MetricsServiceTests {
         assertEquals(3, result.details().get("rescheduled"));
         assertTrue(result.rescheduledMemberIds().contains(20L));
         assertTrue(result.rescheduledMemberIds().contains(21L));
-        verify(taskRepository, times(1)).findByGroup_Id(10L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.GROUP, 10L);
     }
 
     @Test
     void handleGetRescheduledTasks_WhenGroupHasNoTasks_ReturnsZero() {
         // Arrange
         GetRescheduledTasksQuery query = new GetRescheduledTasksQuery(999L);
-        when(taskRepository.findByGroup_Id(999L)).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 999L)).thenReturn(Optional.empty());
+        when(rollupRepository.findByScopeAndGroupId(MetricsScope.MEMBER, 999L)).thenReturn(new ArrayList<>());
 
         // Act
         RescheduledTasksResource result = taskMetricsQueryService.handle(query);
@@ -297,7 +343,8 @@ public class MetricsServiceTests {
         assertEquals("RESCHEDULED_TASKS", result.type());
         assertEquals(0L, result.value());
         assertEquals(0, result.details().get("total"));
-        verify(taskRepository, times(1)).findByGroup_Id(999L);
+        assertTrue(result.rescheduledMemberIds().isEmpty());
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.GROUP, 999L);
     }
 
     // TESTS FOR GetTaskDistributionQuery
@@ -306,10 +353,15 @@ public class MetricsServiceTests {
     void handleGetTaskDistribution_WhenGroupHasTasks_ReturnsDistribution() {
         // Arrange
         GetTaskDistributionQuery query = new GetTaskDistributionQuery(10L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2, testTask3);
-        List<User> users = Arrays.asList(testUser1, testUser2);
-        when(taskRepository.findByGroup_Id(10L)).thenReturn(tasks);
-        when(userRepository.findAll()).thenReturn(users);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(rollupOf(MetricsScope.GROUP, 10L, testTask1, testTask2, testTask3)));
+        when(rollupRepository.findByScopeAndGroupId(MetricsScope.MEMBER, 10L)).thenReturn(Arrays.asList(
+                rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2),
+                rollupOf(MetricsScope.MEMBER, 21L, testTask3)
+        ));
+        when(userRepository.findMemberNamesByMemberIds(any())).thenReturn(Arrays.asList(
+                memberNameOf(testUser1),
+                memberNameOf(testUser2)
+        ));
 
         // Act
         TaskDistributionResource result = taskMetricsQueryService.handle(query);
@@ -323,16 +375,43 @@ public class MetricsServiceTests {
         assertTrue(result.details().containsKey("21"));
         assertEquals(2, result.details().get("20").taskCount());
         assertEquals(1, result.details().get("21").taskCount());
-        verify(taskRepository, times(1)).findByGroup_Id(10L);
-        verify(userRepository, times(1)).findAll();
+        assertEquals("John Doe", result.details().get("20").memberName());
+        assertEquals("Jane Smith", result.details().get("21").memberName());
+        verify(rollupRepository, times(1)).findByScopeAndGroupId(MetricsScope.MEMBER, 10L);
+        verify(taskRepository, never()).findByGroup_Id(any());
+    }
+
+    @Test
+    void handleGetTaskDistribution_WhenGroupHasTasks_IssuesFixedNumberOfStatements() {
+        // Arrange
+        GetTaskDistributionQuery query = new GetTaskDistributionQuery(10L);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(rollupOf(MetricsScope.GROUP, 10L, testTask1, testTask2, testTask3)));
+        when(rollupRepository.findByScopeAndGroupId(MetricsScope.MEMBER, 10L)).thenReturn(Arrays.asList(
+                rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2),
+                rollupOf(MetricsScope.MEMBER, 21L, testTask3)
+        ));
+        when(userRepository.findMemberNamesByMemberIds(any())).thenReturn(List.of(memberNameOf(testUser1)));
+
+        // Act
+        TaskDistributionResource result = taskMetricsQueryService.handle(query);
+
+        // Assert
+        // Every repository call maps to one SQL statement: group rollup, member rollups and one name lookup
+        int statements = mockingDetails(rollupRepository).getInvocations().size()
+                + mockingDetails(userRepository).getInvocations().size()
+                + mockingDetails(taskRepository).getInvocations().size();
+        assertEquals(3, statements);
+        verify(userRepository, times(1)).findMemberNamesByMemberIds(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(20L, 21L))));
+        verify(userRepository, never()).findAll();
+        assertEquals("Desconocido", result.details().get("21").memberName());
     }
 
     @Test
     void handleGetTaskDistribution_WhenGroupHasNoTasks_ReturnsEmpty() {
         // Arrange
         GetTaskDistributionQuery query = new GetTaskDistributionQuery(999L);
-        when(taskRepository.findByGroup_Id(999L)).thenReturn(new ArrayList<>());
-        when(userRepository.findAll()).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 999L)).thenReturn(Optional.empty());
+        when(rollupRepository.findByScopeAndGroupId(MetricsScope.MEMBER, 999L)).thenReturn(new ArrayList<>());
 
         // Act
         TaskDistributionResource result = taskMetricsQueryService.handle(query);
@@ -342,7 +421,8 @@ public class MetricsServiceTests {
         assertEquals("TASK_DISTRIBUTION", result.type());
         assertEquals(0, result.value());
         assertTrue(result.details().isEmpty());
-        verify(taskRepository, times(1)).findByGroup_Id(999L);
+        verify(rollupRepository, times(1)).findByScopeAndGroupId(MetricsScope.MEMBER, 999L);
+        verify(userRepository, never()).findMemberNamesByMemberIds(any());
     }
 
     // TESTS FOR GetTaskOverviewQuery
@@ -351,8 +431,7 @@ public class MetricsServiceTests {
     void handleGetTaskOverview_WhenGroupHasTasks_ReturnsOverviewByStatus() {
         // Arrange
         GetTaskOverviewQuery query = new GetTaskOverviewQuery(10L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2, testTask3);
-        when(taskRepository.findByGroup_Id(10L)).thenReturn(tasks);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(rollupOf(MetricsScope.GROUP, 10L, testTask1, testTask2, testTask3)));
 
         // Act
         TaskOverviewResource result = taskMetricsQueryService.handle(query);
@@ -363,14 +442,15 @@ public class MetricsServiceTests {
         assertEquals(3, result.value());
         assertEquals(1, result.details().get("IN_PROGRESS"));
         assertEquals(2, result.details().get("DONE"));
-        verify(taskRepository, times(1)).findByGroup_Id(10L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.GROUP, 10L);
+        verify(taskRepository, never()).findByGroup_Id(any());
     }
 
     @Test
     void handleGetTaskOverview_WhenGroupHasNoTasks_ReturnsEmptyOverview() {
         // Arrange
         GetTaskOverviewQuery query = new GetTaskOverviewQuery(999L);
-        when(taskRepository.findByGroup_Id(999L)).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 999L)).thenReturn(Optional.empty());
 
         // Act
         TaskOverviewResource result = taskMetricsQueryService.handle(query);
@@ -380,7 +460,7 @@ public class MetricsServiceTests {
         assertEquals("TASK_OVERVIEW", result.type());
         assertEquals(0, result.value());
         assertTrue(result.details().isEmpty());
-        verify(taskRepository, times(1)).findByGroup_Id(999L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.GROUP, 999L);
     }
 
     // TESTS FOR GetTaskOverviewForMemberQuery
@@ -389,8 +469,7 @@ public class MetricsServiceTests {
     void handleGetTaskOverviewForMember_WhenMemberHasTasks_ReturnsOverview() {
         // Arrange
         GetTaskOverviewForMemberQuery query = new GetTaskOverviewForMemberQuery(20L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2);
-        when(taskRepository.findByMember_Id(20L)).thenReturn(tasks);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2)));
 
         // Act
         TaskOverviewResource result = taskMetricsQueryService.handle(query);
@@ -401,14 +480,15 @@ public class MetricsServiceTests {
         assertEquals(2, result.value());
         assertEquals(1, result.details().get("IN_PROGRESS"));
         assertEquals(1, result.details().get("DONE"));
-        verify(taskRepository, times(1)).findByMember_Id(20L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 20L);
+        verify(taskRepository, never()).findByMember_Id(any());
     }
 
     @Test
     void handleGetTaskOverviewForMember_WhenMemberHasNoTasks_ReturnsEmptyOverview() {
         // Arrange
         GetTaskOverviewForMemberQuery query = new GetTaskOverviewForMemberQuery(999L);
-        when(taskRepository.findByMember_Id(999L)).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 999L)).thenReturn(Optional.empty());
 
         // Act
         TaskOverviewResource result = taskMetricsQueryService.handle(query);
@@ -418,7 +498,7 @@ public class MetricsServiceTests {
         assertEquals("TASK_OVERVIEW_MEMBER", result.type());
         assertEquals(0, result.value());
         assertTrue(result.details().isEmpty());
-        verify(taskRepository, times(1)).findByMember_Id(999L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 999L);
     }
 
     // TESTS FOR GetTaskDistributionForMemberQuery
@@ -427,10 +507,8 @@ public class MetricsServiceTests {
     void handleGetTaskDistributionForMember_WhenMemberHasTasks_ReturnsDistribution() {
         // Arrange
         GetTaskDistributionForMemberQuery query = new GetTaskDistributionForMemberQuery(20L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2);
-        List<User> users = List.of(testUser1);
-        when(taskRepository.findByMember_Id(20L)).thenReturn(tasks);
-        when(userRepository.findAll()).thenReturn(users);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2)));
+        when(userRepository.findMemberNamesByMemberIds(List.of(20L))).thenReturn(List.of(memberNameOf(testUser1)));
 
         // Act
         TaskDistributionResource result = taskMetricsQueryService.handle(query);
@@ -442,8 +520,9 @@ public class MetricsServiceTests {
         assertTrue(result.details().containsKey("20"));
         assertEquals(2, result.details().get("20").taskCount());
         assertEquals("John Doe", result.details().get("20").memberName());
-        verify(taskRepository, times(1)).findByMember_Id(20L);
-        verify(userRepository, times(1)).findAll();
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 20L);
+        verify(userRepository, times(1)).findMemberNamesByMemberIds(List.of(20L));
+        verify(userRepository, never()).findAll();
     }
 
     // TESTS FOR GetRescheduledTasksForMemberQuery
@@ -452,8 +531,7 @@ public class MetricsServiceTests {
     void handleGetRescheduledTasksForMember_WhenMemberHasRescheduledTasks_ReturnsInfo() {
         // Arrange
         GetRescheduledTasksForMemberQuery query = new GetRescheduledTasksForMemberQuery(20L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2);
-        when(taskRepository.findByMember_Id(20L)).thenReturn(tasks);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2)));
 
         // Act
         RescheduledTasksResource result = taskMetricsQueryService.handle(query);
@@ -465,14 +543,14 @@ public class MetricsServiceTests {
         assertEquals(2, result.details().get("total"));
         assertEquals(2, result.details().get("rescheduled"));
         assertTrue(result.rescheduledMemberIds().contains(20L));
-        verify(taskRepository, times(1)).findByMember_Id(20L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 20L);
     }
 
     @Test
     void handleGetRescheduledTasksForMember_WhenMemberHasNoRescheduledTasks_ReturnsEmptyList() {
         // Arrange
         GetRescheduledTasksForMemberQuery query = new GetRescheduledTasksForMemberQuery(999L);
-        when(taskRepository.findByMember_Id(999L)).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 999L)).thenReturn(Optional.empty());
 
         // Act
         RescheduledTasksResource result = taskMetricsQueryService.handle(query);
@@ -482,7 +560,7 @@ public class MetricsServiceTests {
         assertEquals("RESCHEDULED_TASKS_MEMBER", result.type());
         assertEquals(0L, result.value());
         assertTrue(result.rescheduledMemberIds().isEmpty());
-        verify(taskRepository, times(1)).findByMember_Id(999L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 999L);
     }
 
     // TESTS FOR GetAvgCompletionTimeForMemberQuery
@@ -491,8 +569,7 @@ public class MetricsServiceTests {
     void handleGetAvgCompletionTimeForMember_WhenMemberHasCompletedTasks_ReturnsAverage() {
         // Arrange
         GetAvgCompletionTimeForMemberQuery query = new GetAvgCompletionTimeForMemberQuery(20L);
-        List<Task> tasks = Arrays.asList(testTask1, testTask2);
-        when(taskRepository.findByMember_Id(20L)).thenReturn(tasks);
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2)));
 
         // Act
         AvgCompletionTimeResource result = taskMetricsQueryService.handle(query);
@@ -502,14 +579,14 @@ public class MetricsServiceTests {
         assertEquals("AVG_COMPLETION_TIME_MEMBER", result.type());
         assertTrue(result.value() > 0);
         assertEquals(1, result.details().get("completedTasks"));
-        verify(taskRepository, times(1)).findByMember_Id(20L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 20L);
     }
 
     @Test
     void handleGetAvgCompletionTimeForMember_WhenMemberHasNoCompletedTasks_ReturnsZero() {
         // Arrange
         GetAvgCompletionTimeForMemberQuery query = new GetAvgCompletionTimeForMemberQuery(999L);
-        when(taskRepository.findByMember_Id(999L)).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 999L)).thenReturn(Optional.empty());
 
         // Act
         AvgCompletionTimeResource result = taskMetricsQueryService.handle(query);
@@ -519,7 +596,56 @@ public class MetricsServiceTests {
         assertEquals("AVG_COMPLETION_TIME_MEMBER", result.type());
         assertEquals(0.0, result.value());
         assertEquals(0, result.details().get("completedTasks"));
-        verify(taskRepository, times(1)).findByMember_Id(999L);
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.MEMBER, 999L);
+    }
+
+    // TESTS FOR GetLeaderDashboardQuery
+
+    @Test
+    void handleGetLeaderDashboard_WhenAllSectionsRequested_ReadsRollupsOnce() {
+        // Arrange
+        GetLeaderDashboardQuery query = new GetLeaderDashboardQuery(10L, EnumSet.allOf(DashboardSection.class));
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(rollupOf(MetricsScope.GROUP, 10L, testTask1, testTask2, testTask3)));
+        when(rollupRepository.findByScopeAndGroupId(MetricsScope.MEMBER, 10L)).thenReturn(Arrays.asList(
+                rollupOf(MetricsScope.MEMBER, 20L, testTask1, testTask2),
+                rollupOf(MetricsScope.MEMBER, 21L, testTask3)
+        ));
+        when(userRepository.findMemberNamesByMemberIds(any())).thenReturn(Arrays.asList(
+                memberNameOf(testUser1),
+                memberNameOf(testUser2)
+        ));
+
+        // Act
+        LeaderDashboardResource result = taskMetricsQueryService.handle(query);
+
+        // Assert
+        assertEquals(10L, result.groupId());
+        assertEquals(3, result.overview().value());
+        assertEquals(2, result.distribution().details().size());
+        assertEquals(3L, result.rescheduled().value());
+        assertEquals(2, result.avgCompletionTime().details().get("completedTasks"));
+        verify(rollupRepository, times(1)).findByScopeAndScopeId(MetricsScope.GROUP, 10L);
+        verify(rollupRepository, times(1)).findByScopeAndGroupId(MetricsScope.MEMBER, 10L);
+        verify(userRepository, times(1)).findMemberNamesByMemberIds(any());
+        verify(groupQueryService, never()).handle(any(GetGroupByLeaderIdQuery.class));
+    }
+
+    @Test
+    void handleGetLeaderDashboard_WhenOnlyOverviewRequested_SkipsMemberQueries() {
+        // Arrange
+        GetLeaderDashboardQuery query = new GetLeaderDashboardQuery(10L, EnumSet.of(DashboardSection.OVERVIEW));
+        when(rollupRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(rollupOf(MetricsScope.GROUP, 10L, testTask1, testTask2, testTask3)));
+
+        // Act
+        LeaderDashboardResource result = taskMetricsQueryService.handle(query);
+
+        // Assert
+        assertNotNull(result.overview());
+        assertNull(result.distribution());
+        assertNull(result.rescheduled());
+        assertNull(result.avgCompletionTime());
+        verify(rollupRepository, never()).findByScopeAndGroupId(any(), any());
+        verify(userRepository, never()).findMemberNamesByMemberIds(any());
     }
 
     // TESTS FOR GetTaskTimePassedByIdQuery
@@ -617,4 +743,132 @@ public class MetricsServiceTests {
         assertEquals("Task is not IN_PROGRESS.", exception.getMessage());
         verify(taskRepository, times(1)).findById(201L);
     }
+
+    // TASK ACTIVITY TESTS
+
+    private TaskActivityBucket activityBucketOf(OffsetDateTime bucketStart, int created, int completed, long completionTimeSum) throws Exception {
+        TaskActivityBucket bucket = new TaskActivityBucket();
+        setFieldUsingReflection(bucket, "bucketStart", bucketStart);
+        setFieldUsingReflection(bucket, "createdCount", created);
+        setFieldUsingReflection(bucket, "completedCount", completed);
+        setFieldUsingReflection(bucket, "completionTimeSum", completionTimeSum);
+        return bucket;
+    }
+
+    private void setFieldUsingReflection(Object entity, String fieldName, Object value) throws Exception {
+        Field field = entity.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(entity, value);
+    }
+
+    @Test
+    void handleGetTaskActivity_WhenDailyGranularity_FoldsHourlyBucketsAndFillsGaps() throws Exception {
+        // Arrange
+        OffsetDateTime from = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = from.plusDays(3);
+        GetTaskActivityQuery query = new GetTaskActivityQuery(MetricsScope.GROUP, 10L, from, to, ActivityGranularity.DAY);
+        when(activityBucketRepository.findRange(MetricsScope.GROUP, 10L, from, to)).thenReturn(List.of(
+                activityBucketOf(from.plusHours(9), 2, 1, 4000L),
+                activityBucketOf(from.plusHours(15), 1, 1, 2000L),
+                activityBucketOf(from.plusDays(2).plusHours(1), 0, 0, 0L)
+        ));
+
+        // Act
+        TaskActivityResource result = taskMetricsQueryService.handle(query);
+
+        // Assert
+        assertEquals("TASK_ACTIVITY", result.type());
+        assertEquals("DAY", result.granularity());
+        assertEquals(3, result.points().size());
+        assertEquals(from, result.points().get(0).bucketStart());
+        assertEquals(3, result.points().get(0).created());
+        assertEquals(2, result.points().get(0).completed());
+        assertEquals(3000L, result.points().get(0).avgCompletionTime());
+        assertEquals(0, result.points().get(1).created());
+        verify(activityBucketRepository, times(1)).findRange(MetricsScope.GROUP, 10L, from, to);
+    }
+
+    @Test
+    void getTaskActivityQuery_WhenRangeExceedsMaxPoints_ThrowsException() {
+        // Arrange
+        OffsetDateTime from = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = from.plusDays(365);
+
+        // Act & Assert
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new GetTaskActivityQuery(MetricsScope.MEMBER, 1L, from, to, ActivityGranularity.HOUR)
+        );
+    }
+
+    // COMPLETION TIME PERCENTILES TESTS
+
+    @Test
+    void handleGetCompletionTimePercentiles_WhenSketchExists_ReturnsPercentiles() {
+        // Arrange
+        var samples = new CompletionTimeSketch();
+        for (long hours = 1; hours <= 100; hours++) {
+            samples.add(hours * 3_600_000L);
+        }
+        var stored = new TaskCompletionSketch(MetricsScope.MEMBER, 100L);
+        stored.merge(samples);
+        when(completionSketchRepository.findByScopeAndScopeId(MetricsScope.MEMBER, 100L)).thenReturn(Optional.of(stored));
+
+        // Act
+        CompletionTimePercentilesResource result = taskMetricsQueryService.handle(new GetCompletionTimePercentilesQuery(MetricsScope.MEMBER, 100L));
+
+        // Assert
+        assertEquals("COMPLETION_TIME_PERCENTILES_MEMBER", result.type());
+        assertEquals(100L, result.completedTasks());
+        assertTrue(Math.abs(result.p50() - 50 * 3_600_000L) <= 50 * 3_600_000L * CompletionTimeSketch.RELATIVE_ACCURACY);
+        assertTrue(Math.abs(result.p90() - 90 * 3_600_000L) <= 90 * 3_600_000L * CompletionTimeSketch.RELATIVE_ACCURACY);
+        assertTrue(result.p99() >= result.p90());
+        verify(taskRepository, never()).findAll();
+    }
+
+    @Test
+    void handleGetCompletionTimePercentiles_WhenNoSketch_ReturnsZeros() {
+        // Arrange
+        when(completionSketchRepository.findByScopeAndScopeId(MetricsScope.GROUP, 10L)).thenReturn(Optional.empty());
+
+        // Act
+        CompletionTimePercentilesResource result = taskMetricsQueryService.handle(new GetCompletionTimePercentilesQuery(MetricsScope.GROUP, 10L));
+
+        // Assert
+        assertEquals("COMPLETION_TIME_PERCENTILES", result.type());
+        assertEquals(0L, result.completedTasks());
+        assertEquals(0L, result.p50());
+        assertEquals(0L, result.p99());
+    }
+
+    @Test
+    void getLeaderResolutionStats_WhenLeaderExists_ReturnsMaintainedStatistics() {
+        // Arrange
+        testLeader.setAverageSolutionTimeMillis(90_000L);
+        testLeader.setSolvedRequests(12);
+        when(leaderQueryService.handle(any(GetLeaderByIdQuery.class))).thenReturn(Optional.of(testLeader));
+
+        // Act
+        var result = taskMetricsQueryService.handle(new GetLeaderResolutionStatsQuery(testLeader.getId()));
+
+        // Assert
+        assertEquals(testLeader.getId(), result.leaderId());
+        assertEquals(90_000L, result.averageSolutionTimeMillis());
+        assertEquals(12, result.solvedRequests());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getLeaderResolutionStats_WhenLeaderDoesNotExist_ReturnsZeroes() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByIdQuery.class))).thenReturn(Optional.empty());
+
+        // Act
+        var result = taskMetricsQueryService.handle(new GetLeaderResolutionStatsQuery(99L));
+
+        // Assert
+        assertEquals(99L, result.leaderId());
+        assertEquals(0L, result.averageSolutionTimeMillis());
+        assertEquals(0, result.solvedRequests());
+    }
 }
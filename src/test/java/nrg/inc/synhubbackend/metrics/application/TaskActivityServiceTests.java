@@ -0,0 +1,80 @@
+package nrg.inc.synhubbackend.metrics.application;
+
+import nrg.inc.synhubbackend.metrics.application.internal.commandservices.TaskActivityCommandServiceImpl;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskActivityCommand;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskActivityBucketRepository;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TaskActivityServiceTests {
+
+    @Mock
+    private TaskActivityBucketRepository bucketRepository;
+
+    @InjectMocks
+    private TaskActivityCommandServiceImpl activityCommandService;
+
+    private final OffsetDateTime occurredAt = OffsetDateTime.of(2025, 3, 10, 14, 35, 12, 0, ZoneOffset.UTC);
+    private final OffsetDateTime hourStart = OffsetDateTime.of(2025, 3, 10, 14, 0, 0, 0, ZoneOffset.UTC);
+
+    private TaskSnapshot snapshot(Long taskId, TaskStatus status, int timesRearranged, long timePassed) {
+        return new TaskSnapshot(taskId, 10L, 20L, status, timesRearranged, timePassed, occurredAt.plusDays(1));
+    }
+
+    @Test
+    void handleRecordTaskActivity_WhenTasksCompletedAndCreated_UpsertsOneBucketPerScope() {
+        // Arrange
+        var changes = List.of(
+                new TaskChange(null, snapshot(1L, TaskStatus.IN_PROGRESS, 0, 0L)),
+                new TaskChange(snapshot(2L, TaskStatus.COMPLETED, 1, 0L), snapshot(2L, TaskStatus.DONE, 1, 6000L))
+        );
+
+        // Act
+        activityCommandService.handle(new RecordTaskActivityCommand(changes, occurredAt));
+
+        // Assert
+        verify(bucketRepository, times(1)).upsert("GROUP", 10L, hourStart, 1, 1, 0, 0, 6000L);
+        verify(bucketRepository, times(1)).upsert("MEMBER", 20L, hourStart, 1, 1, 0, 0, 6000L);
+    }
+
+    @Test
+    void handleRecordTaskActivity_WhenTaskRescheduled_CountsRearrangements() {
+        // Arrange
+        var change = new TaskChange(snapshot(1L, TaskStatus.EXPIRED, 0, 0L), snapshot(1L, TaskStatus.IN_PROGRESS, 1, 0L));
+
+        // Act
+        activityCommandService.handle(new RecordTaskActivityCommand(List.of(change), occurredAt));
+
+        // Assert
+        verify(bucketRepository, times(1)).upsert("GROUP", 10L, hourStart, 0, 0, 0, 1, 0L);
+    }
+
+    @Test
+    void handleRecordTaskActivity_WhenTasksDeleted_DoesNotWriteBuckets() {
+        // Arrange
+        var change = new TaskChange(snapshot(1L, TaskStatus.IN_PROGRESS, 0, 0L), null);
+
+        // Act
+        activityCommandService.handle(new RecordTaskActivityCommand(List.of(change), occurredAt));
+
+        // Assert
+        verify(bucketRepository, never()).upsert(anyString(), anyLong(), any(), anyInt(), anyInt(), anyInt(), anyInt(), anyLong());
+    }
+}
@@ -0,0 +1,182 @@
+package nrg.inc.synhubbackend.metrics.application;
+
+import nrg.inc.synhubbackend.metrics.application.internal.commandservices.TaskCompletionSketchCommandServiceImpl;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskCompletionSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskCompletionSketchesCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RecordTaskCompletionsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.CompletionTimeSketch;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskCompletionRow;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskCompletionSketchRepository;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskMetricsRepository;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TaskCompletionSketchServiceTests {
+
+    @Mock
+    private TaskCompletionSketchRepository sketchRepository;
+
+    @Mock
+    private TaskMetricsRepository taskMetricsRepository;
+
+    @InjectMocks
+    private TaskCompletionSketchCommandServiceImpl completionSketchCommandService;
+
+    private TaskSnapshot snapshot(TaskStatus status, long timePassed) {
+        return new TaskSnapshot(1L, 10L, 20L, status, 0, timePassed, OffsetDateTime.now().plusDays(1));
+    }
+
+    @Test
+    void handleRecordTaskCompletions_WhenTaskReachesDone_MergesSampleIntoGroupAndMemberSketches() {
+        // Arrange
+        var groupSketch = new TaskCompletionSketch(MetricsScope.GROUP, 10L);
+        var memberSketch = new TaskCompletionSketch(MetricsScope.MEMBER, 20L);
+        when(sketchRepository.findForUpdate(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(groupSketch));
+        when(sketchRepository.findForUpdate(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(memberSketch));
+        var change = new TaskChange(snapshot(TaskStatus.COMPLETED, 3_600_000L), snapshot(TaskStatus.DONE, 3_600_000L));
+
+        // Act
+        completionSketchCommandService.handle(new RecordTaskCompletionsCommand(List.of(change)));
+
+        // Assert
+        verify(sketchRepository, times(1)).insertIfAbsent("GROUP", 10L);
+        verify(sketchRepository, times(1)).insertIfAbsent("MEMBER", 20L);
+        assertEquals(1, groupSketch.getSampleCount());
+        assertEquals(1, memberSketch.getSampleCount());
+        long p50 = groupSketch.toSketch().quantile(0.5);
+        assertTrue(Math.abs(p50 - 3_600_000L) <= 3_600_000L * CompletionTimeSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void handleRecordTaskCompletions_WhenNoTaskReachesDone_DoesNotTouchSketches() {
+        // Arrange
+        var change = new TaskChange(snapshot(TaskStatus.IN_PROGRESS, 0L), snapshot(TaskStatus.COMPLETED, 5000L));
+
+        // Act
+        completionSketchCommandService.handle(new RecordTaskCompletionsCommand(List.of(change)));
+
+        // Assert
+        verify(sketchRepository, never()).insertIfAbsent(anyString(), anyLong());
+        verify(sketchRepository, never()).findForUpdate(any(), any());
+    }
+
+    @Test
+    void handleRecordTaskCompletions_WhenTaskLeavesDone_RemovesItsSample() {
+        // Arrange
+        var groupSketch = new TaskCompletionSketch(MetricsScope.GROUP, 10L);
+        var memberSketch = new TaskCompletionSketch(MetricsScope.MEMBER, 20L);
+        var recorded = new CompletionTimeSketch();
+        recorded.add(3_600_000L);
+        recorded.add(7_200_000L);
+        groupSketch.merge(recorded);
+        memberSketch.merge(recorded);
+        when(sketchRepository.findForUpdate(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(groupSketch));
+        when(sketchRepository.findForUpdate(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(memberSketch));
+        var change = new TaskChange(snapshot(TaskStatus.DONE, 3_600_000L), snapshot(TaskStatus.IN_PROGRESS, 3_600_000L));
+
+        // Act
+        completionSketchCommandService.handle(new RecordTaskCompletionsCommand(List.of(change)));
+
+        // Assert
+        assertEquals(1, groupSketch.getSampleCount());
+        assertEquals(1, memberSketch.getSampleCount());
+        long remaining = groupSketch.toSketch().quantile(0.5);
+        assertTrue(Math.abs(remaining - 7_200_000L) <= 7_200_000L * CompletionTimeSketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    void handleRecordTaskCompletions_WhenDoneTaskIsDeleted_RemovesItsSample() {
+        // Arrange
+        var groupSketch = new TaskCompletionSketch(MetricsScope.GROUP, 10L);
+        var recorded = new CompletionTimeSketch();
+        recorded.add(5000L);
+        groupSketch.merge(recorded);
+        when(sketchRepository.findForUpdate(MetricsScope.GROUP, 10L)).thenReturn(Optional.of(groupSketch));
+        when(sketchRepository.findForUpdate(MetricsScope.MEMBER, 20L)).thenReturn(Optional.of(new TaskCompletionSketch(MetricsScope.MEMBER, 20L)));
+        var change = new TaskChange(snapshot(TaskStatus.DONE, 5000L), null);
+
+        // Act
+        completionSketchCommandService.handle(new RecordTaskCompletionsCommand(List.of(change)));
+
+        // Assert
+        assertEquals(0, groupSketch.getSampleCount());
+        assertTrue(groupSketch.toSketch().isEmpty());
+    }
+
+    @Test
+    void handleRecordTaskCompletions_WhenDoneTaskIsUnchanged_DoesNotTouchSketches() {
+        // Arrange
+        var change = new TaskChange(snapshot(TaskStatus.DONE, 5000L), snapshot(TaskStatus.DONE, 5000L));
+
+        // Act
+        completionSketchCommandService.handle(new RecordTaskCompletionsCommand(List.of(change)));
+
+        // Assert
+        verify(sketchRepository, never()).findForUpdate(any(), any());
+    }
+
+    @Test
+    void handleRebuildTaskCompletionSketches_WhenDoneTasksExist_ReplacesAllSketches() {
+        // Arrange
+        when(taskMetricsRepository.findCompletionRows()).thenReturn(List.of(
+                new TaskCompletionRow(10L, 20L, 1000L),
+                new TaskCompletionRow(10L, 21L, 2000L),
+                new TaskCompletionRow(10L, null, 3000L)
+        ));
+
+        // Act
+        completionSketchCommandService.handle(new RebuildTaskCompletionSketchesCommand());
+
+        // Assert
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TaskCompletionSketch>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sketchRepository).lockForRebuild();
+        verify(sketchRepository).deleteAllInBatch();
+        verify(sketchRepository).saveAll(captor.capture());
+        var groupSketch = captor.getValue().stream().filter(sketch -> sketch.getScope() == MetricsScope.GROUP).findFirst().orElseThrow();
+        assertEquals(3, captor.getValue().size());
+        assertEquals(3, groupSketch.getSampleCount());
+    }
+
+    @Test
+    void completionTimeSketch_WhenMergedAndSerialized_KeepsQuantilesWithinRelativeAccuracy() {
+        // Arrange
+        var first = new CompletionTimeSketch();
+        var second = new CompletionTimeSketch();
+        for (long value = 1; value <= 1000; value++) {
+            (value % 2 == 0 ? first : second).add(value * 60_000L);
+        }
+
+        // Act
+        first.merge(second);
+        var restored = CompletionTimeSketch.fromBytes(first.toBytes());
+
+        // Assert
+        assertEquals(1000, restored.getCount());
+        assertEquals(first.quantile(0.9), restored.quantile(0.9));
+        long expectedP99 = 990 * 60_000L;
+        assertTrue(Math.abs(restored.quantile(0.99) - expectedP99) <= expectedP99 * CompletionTimeSketch.RELATIVE_ACCURACY);
+    }
+}
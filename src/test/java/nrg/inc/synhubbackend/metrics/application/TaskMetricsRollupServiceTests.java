@@ -0,0 +1,123 @@
+package nrg.inc.synhubbackend.metrics.application;
+
+import nrg.inc.synhubbackend.metrics.application.internal.commandservices.TaskMetricsRollupCommandServiceImpl;
+import nrg.inc.synhubbackend.metrics.domain.model.aggregates.TaskMetricsRollup;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.ApplyTaskChangesToRollupsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.commands.RebuildTaskMetricsRollupsCommand;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.TaskMetricsDelta;
+import nrg.inc.synhubbackend.metrics.infrastructure.persistenence.jpa.repositories.TaskMetricsRollupRepository;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TaskMetricsRollupServiceTests {
+
+    @Mock
+    private TaskMetricsRollupRepository rollupRepository;
+
+    @InjectMocks
+    private TaskMetricsRollupCommandServiceImpl rollupCommandService;
+
+    private TaskSnapshot snapshot(Long taskId, Long groupId, Long memberId, TaskStatus status, int timesRearranged, long timePassed) {
+        return new TaskSnapshot(taskId, groupId, memberId, status, timesRearranged, timePassed, OffsetDateTime.now().plusDays(1));
+    }
+
+    @Test
+    void handleApplyTaskChanges_WhenTaskCreated_UpsertsGroupAndMemberRollups() {
+        // Arrange
+        var created = snapshot(1L, 10L, 20L, TaskStatus.IN_PROGRESS, 0, 0L);
+        var command = new ApplyTaskChangesToRollupsCommand(List.of(new TaskChange(null, created)));
+
+        // Act
+        rollupCommandService.handle(command);
+
+        // Assert
+        var expected = TaskMetricsDelta.of(created);
+        verify(rollupRepository, times(1)).applyDelta(MetricsScope.GROUP, 10L, 10L, expected);
+        verify(rollupRepository, times(1)).applyDelta(MetricsScope.MEMBER, 20L, 10L, expected);
+        verify(rollupRepository, never()).save(any(TaskMetricsRollup.class));
+    }
+
+    @Test
+    void handleApplyTaskChanges_WhenStatusChanges_MovesCountBetweenStatuses() {
+        // Arrange
+        var before = snapshot(1L, 10L, 20L, TaskStatus.COMPLETED, 1, 5000L);
+        var after = snapshot(1L, 10L, 20L, TaskStatus.DONE, 1, 5000L);
+        var command = new ApplyTaskChangesToRollupsCommand(List.of(new TaskChange(before, after)));
+
+        // Act
+        rollupCommandService.handle(command);
+
+        // Assert
+        var expected = new TaskMetricsDelta(0, 0, -1, 1, 0, 0, 5000L, 0);
+        verify(rollupRepository, times(1)).applyDelta(MetricsScope.GROUP, 10L, 10L, expected);
+        verify(rollupRepository, times(1)).applyDelta(MetricsScope.MEMBER, 20L, 10L, expected);
+    }
+
+    @Test
+    void handleApplyTaskChanges_WhenBatchTouchesSameGroup_IssuesSingleUpdatePerRollup() {
+        // Arrange
+        var changes = new ArrayList<TaskChange>();
+        for (long taskId = 1; taskId <= 3; taskId++) {
+            changes.add(new TaskChange(
+                    snapshot(taskId, 10L, 20L, TaskStatus.IN_PROGRESS, 0, 0L),
+                    snapshot(taskId, 10L, 20L, TaskStatus.EXPIRED, 0, 0L)
+            ));
+        }
+
+        // Act
+        rollupCommandService.handle(new ApplyTaskChangesToRollupsCommand(changes));
+
+        // Assert
+        var expected = new TaskMetricsDelta(0, -3, 0, 0, 3, 0, 0, 0);
+        verify(rollupRepository, times(1)).applyDelta(MetricsScope.GROUP, 10L, 10L, expected);
+        verify(rollupRepository, times(1)).applyDelta(MetricsScope.MEMBER, 20L, 10L, expected);
+    }
+
+    @Test
+    void handleApplyTaskChanges_WhenNothingChanges_DoesNotTouchRollups() {
+        // Arrange
+        var unchanged = snapshot(1L, 10L, 20L, TaskStatus.IN_PROGRESS, 0, 0L);
+        var command = new ApplyTaskChangesToRollupsCommand(List.of(new TaskChange(unchanged, unchanged)));
+
+        // Act
+        rollupCommandService.handle(command);
+
+        // Assert
+        verify(rollupRepository, never()).applyDelta(any(), anyLong(), any(), any());
+        verify(rollupRepository, never()).save(any(TaskMetricsRollup.class));
+    }
+
+    @Test
+    void handleRebuildRollups_WhenCalled_RebuildsInSingleStatement() {
+        // Act
+        rollupCommandService.handle(new RebuildTaskMetricsRollupsCommand());
+
+        // Assert
+        var inOrder = inOrder(rollupRepository);
+        inOrder.verify(rollupRepository).lockForRebuild();
+        inOrder.verify(rollupRepository).rebuild();
+        verify(rollupRepository, never()).deleteAllInBatch();
+        verify(rollupRepository, never()).saveAll(any());
+        verify(rollupRepository, never()).applyDelta(any(), anyLong(), any(), any());
+    }
+}
@@ -9,6 +9,9 @@ import nrg.inc.synhubbackend.groups.domain.services.GroupQueryService;
 import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
 import nrg.inc.synhubbackend.metrics.domain.model.queries.*;
 import nrg.inc.synhubbackend.metrics.domain.model.services.TaskMetricsQueryService;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.ActivityGranularity;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.DashboardSection;
+import nrg.inc.synhubbackend.metrics.domain.model.valueobjects.MetricsScope;
 import nrg.inc.synhubbackend.metrics.interfaces.rest.MetricsController;
 import nrg.inc.synhubbackend.metrics.interfaces.rest.resources.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -25,10 +28,13 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.lang.reflect.Field;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -319,6 +325,84 @@ public class MetricsControllerTests {
         verify(taskMetricsQueryService, never()).handle(any(GetAvgCompletionTimeQuery.class));
     }
 
+    // GET DASHBOARD TESTS (GROUP)
+
+    @Test
+    void getDashboard_WhenNoFieldsRequested_ReturnsAllSectionsResolvingGroupOnce() {
+        // Arrange
+        LeaderDashboardResource expectedResource = new LeaderDashboardResource(
+                2L,
+                new TaskOverviewResource("TASK_OVERVIEW", 3, Map.of("DONE", 3)),
+                new TaskDistributionResource("TASK_DISTRIBUTION", 3, Map.of()),
+                new RescheduledTasksResource("RESCHEDULED_TASKS", 0L, Map.of("total", 3, "rescheduled", 0), List.of()),
+                new AvgCompletionTimeResource("AVG_COMPLETION_TIME", 1.5, Map.of("completedTasks", 3))
+        );
+
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(taskMetricsQueryService.handle(any(GetLeaderDashboardQuery.class)))
+                .thenReturn(expectedResource);
+
+        // Act
+        ResponseEntity<LeaderDashboardResource> response = metricsController.getDashboard(testUserDetails, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertNotNull(response.getBody().overview());
+        assertNotNull(response.getBody().avgCompletionTime());
+        verify(leaderQueryService, times(1)).handle(any(GetLeaderByUsernameQuery.class));
+        verify(groupQueryService, times(1)).handle(any(GetGroupByLeaderIdQuery.class));
+        verify(taskMetricsQueryService, times(1)).handle(argThat((GetLeaderDashboardQuery query) ->
+                query.groupId().equals(2L) && query.sections().equals(EnumSet.allOf(DashboardSection.class))));
+    }
+
+    @Test
+    void getDashboard_WhenFieldsRequested_PassesOnlySelectedSections() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(taskMetricsQueryService.handle(any(GetLeaderDashboardQuery.class)))
+                .thenReturn(new LeaderDashboardResource(2L, null, null, null, null));
+
+        // Act
+        ResponseEntity<LeaderDashboardResource> response = metricsController.getDashboard(testUserDetails, List.of("overview", "avgCompletionTime"));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(taskMetricsQueryService, times(1)).handle(argThat((GetLeaderDashboardQuery query) ->
+                query.sections().equals(EnumSet.of(DashboardSection.OVERVIEW, DashboardSection.AVG_COMPLETION_TIME))));
+    }
+
+    @Test
+    void getDashboard_WhenUnknownFieldRequested_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<LeaderDashboardResource> response = metricsController.getDashboard(testUserDetails, List.of("overview", "unknown"));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(leaderQueryService, never()).handle(any(GetLeaderByUsernameQuery.class));
+        verify(taskMetricsQueryService, never()).handle(any(GetLeaderDashboardQuery.class));
+    }
+
+    @Test
+    void getDashboard_WhenLeaderNotFound_ReturnsNotFound() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<LeaderDashboardResource> response = metricsController.getDashboard(testUserDetails, null);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(taskMetricsQueryService, never()).handle(any(GetLeaderDashboardQuery.class));
+    }
+
     // GET TASK OVERVIEW FOR MEMBER TESTS
 
     @Test
@@ -420,6 +504,87 @@ public class MetricsControllerTests {
         verify(taskMetricsQueryService, times(1)).handle(any(GetAvgCompletionTimeForMemberQuery.class));
     }
 
+    // GET TASK ACTIVITY TESTS
+
+    @Test
+    void getTaskActivityForMember_WhenRangeProvided_ReturnsTaskActivityResource() {
+        // Arrange
+        Long memberId = 10L;
+        OffsetDateTime from = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+        OffsetDateTime to = from.plusDays(7);
+        TaskActivityResource expectedResource = new TaskActivityResource("TASK_ACTIVITY_MEMBER", memberId, "DAY", List.of());
+
+        when(taskMetricsQueryService.handle(any(GetTaskActivityQuery.class)))
+                .thenReturn(expectedResource);
+
+        // Act
+        ResponseEntity<TaskActivityResource> response = metricsController.getTaskActivityForMember(memberId, from, to, "day");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedResource, response.getBody());
+        verify(taskMetricsQueryService, times(1)).handle(argThat((GetTaskActivityQuery query) ->
+                query.scope() == MetricsScope.MEMBER
+                        && query.scopeId().equals(memberId)
+                        && query.granularity() == ActivityGranularity.DAY));
+    }
+
+    @Test
+    void getTaskActivityForMember_WhenGranularityUnknown_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<TaskActivityResource> response = metricsController.getTaskActivityForMember(10L, null, null, "minute");
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(taskMetricsQueryService, never()).handle(any(GetTaskActivityQuery.class));
+    }
+
+    @Test
+    void getTaskActivity_WhenLeaderDoesNotExist_ReturnsNotFound() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class))).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<TaskActivityResource> response = metricsController.getTaskActivity(testUserDetails, null, null, "DAY");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(taskMetricsQueryService, never()).handle(any(GetTaskActivityQuery.class));
+    }
+
+    // GET COMPLETION TIME PERCENTILES TESTS
+
+    @Test
+    void getCompletionTimePercentilesForMember_WhenMemberIdProvided_ReturnsPercentilesResource() {
+        // Arrange
+        Long memberId = 10L;
+        CompletionTimePercentilesResource expectedResource = new CompletionTimePercentilesResource("COMPLETION_TIME_PERCENTILES_MEMBER", memberId, 4L, 1000L, 5000L, 9000L);
+
+        when(taskMetricsQueryService.handle(any(GetCompletionTimePercentilesQuery.class)))
+                .thenReturn(expectedResource);
+
+        // Act
+        ResponseEntity<CompletionTimePercentilesResource> response = metricsController.getCompletionTimePercentilesForMember(memberId);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(expectedResource, response.getBody());
+        verify(taskMetricsQueryService, times(1)).handle(new GetCompletionTimePercentilesQuery(MetricsScope.MEMBER, memberId));
+    }
+
+    @Test
+    void getCompletionTimePercentiles_WhenLeaderDoesNotExist_ReturnsNotFound() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class))).thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<CompletionTimePercentilesResource> response = metricsController.getCompletionTimePercentiles(testUserDetails);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(taskMetricsQueryService, never()).handle(any(GetCompletionTimePercentilesQuery.class));
+    }
+
     // GET TASK DURATION TESTS
 
     @Test
@@ -1,16 +1,41 @@
 package nrg.inc.synhubbackend.requests.application;
 
+import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.requests.application.internal.commandservices.RequestCommandServiceImpl;
 import nrg.inc.synhubbackend.requests.application.internal.queryservices.RequestQueryServiceImpl;
+import nrg.inc.synhubbackend.requests.domain.model.aggregates.PendingRequestCounter;
 import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
 import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestsForTasksCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdsCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.MovePendingRequestCountsCommand;
 import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestCommand;
+import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestsStatusCommand;
+import nrg.inc.synhubbackend.requests.domain.model.events.PendingRequestCountersChangedEvent;
+import nrg.inc.synhubbackend.requests.domain.model.events.RequestsResolvedEvent;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetAllRequestsQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetPendingRequestCountQuery;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestByIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestQueueQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByGroupIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByMemberIdQuery;
 import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByTaskIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.PendingRequestTally;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueCursor;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueOrder;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestState;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdate;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdateOutcome;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
+import nrg.inc.synhubbackend.requests.infrastructure.cache.PendingRequestCounterCache;
+import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.PendingRequestCounterRepository;
 import nrg.inc.synhubbackend.requests.infrastructure.persistence.jpa.repositories.RequestRepository;
+import nrg.inc.synhubbackend.shared.domain.model.aggregates.AuditableAbstractAggregateRoot;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.interfaces.acl.TasksContextFacade;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +46,22 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.lang.reflect.Field;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongSupplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,9 +74,18 @@ public class RequestServiceTests {
     @Mock
     private RequestRepository requestRepository;
 
+    @Mock
+    private PendingRequestCounterRepository pendingRequestCounterRepository;
+
+    @Mock
+    private PendingRequestCounterCache pendingRequestCounterCache;
+
     @Mock
     private TasksContextFacade tasksContextFacade;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RequestCommandServiceImpl requestCommandService;
 
@@ -56,8 +100,14 @@ public class RequestServiceTests {
     @BeforeEach
     void setUp() throws Exception {
         // Initialize Task
+        Group testGroup = new Group();
+        setIdUsingReflection(testGroup, 10L);
         testTask = new Task();
         setIdUsingReflection(testTask, 100L);
+        testTask.setGroup(testGroup);
+        Member testMember = new Member();
+        setIdUsingReflection(testMember, 20L);
+        testTask.setMember(testMember);
 
         // Initialize Request 1
         testRequest1 = new Request(new CreateRequestCommand(
@@ -104,6 +154,12 @@ public class RequestServiceTests {
         }
     }
 
+    private void setCreatedAtUsingReflection(Object entity, OffsetDateTime createdAt) throws Exception {
+        Field createdAtField = AuditableAbstractAggregateRoot.class.getDeclaredField("createdAt");
+        createdAtField.setAccessible(true);
+        createdAtField.set(entity, createdAt);
+    }
+
     // ============================================================
     // REQUEST COMMAND SERVICE TESTS
     // ============================================================
@@ -136,7 +192,10 @@ public class RequestServiceTests {
         assertNotNull(result);
         assertEquals(10L, result);
         verify(tasksContextFacade, times(1)).getTaskById(100L);
-        verify(requestRepository, times(1)).save(any(Request.class));
+        verify(requestRepository, times(1)).save(argThat(request -> Long.valueOf(10L).equals(request.getGroupId())));
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.GROUP, 10L, 1);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 20L, 1);
+        verify(eventPublisher, times(1)).publishEvent(new PendingRequestCountersChangedEvent(Set.of(10L), Set.of(20L)));
     }
 
     @Test
@@ -178,14 +237,67 @@ public class RequestServiceTests {
         verify(requestRepository, never()).save(any(Request.class));
     }
 
+    // TESTS FOR CreateRequestsForTasksCommand
+
+    @Test
+    void handleCreateRequestsForTasks_WhenValidCommand_InsertsPendingRequestsInOneStatement() {
+        // Arrange
+        List<Long> taskIds = Arrays.asList(100L, 101L, 102L);
+        CreateRequestsForTasksCommand command = new CreateRequestsForTasksCommand(
+                "La tarea venció automáticamente.",
+                "expired",
+                taskIds
+        );
+        when(requestRepository.insertForTasks("La tarea venció automáticamente.", "EXPIRED", "PENDING", taskIds))
+                .thenReturn(3);
+
+        // Act
+        int result = requestCommandService.handle(command);
+
+        // Assert
+        assertEquals(3, result);
+        verify(requestRepository, times(1)).insertForTasks("La tarea venció automáticamente.", "EXPIRED", "PENDING", taskIds);
+        verify(pendingRequestCounterRepository, times(1)).incrementForTasks(taskIds);
+        verify(eventPublisher, times(1)).publishEvent(PendingRequestCountersChangedEvent.all());
+        verify(tasksContextFacade, never()).getTaskById(any());
+        verify(requestRepository, never()).save(any(Request.class));
+    }
+
+    @Test
+    void handleCreateRequestsForTasks_WhenNoTasks_DoesNotTouchRepository() {
+        // Arrange
+        CreateRequestsForTasksCommand command = new CreateRequestsForTasksCommand("description", "EXPIRED", new ArrayList<>());
+
+        // Act
+        int result = requestCommandService.handle(command);
+
+        // Assert
+        assertEquals(0, result);
+        verifyNoInteractions(requestRepository);
+    }
+
+    @Test
+    void handleCreateRequestsForTasks_WhenInvalidRequestType_ThrowsException() {
+        // Arrange
+        CreateRequestsForTasksCommand command = new CreateRequestsForTasksCommand("description", "INVALID_TYPE", Arrays.asList(100L));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> requestCommandService.handle(command)
+        );
+        assertEquals("Invalid request type", exception.getMessage());
+        verifyNoInteractions(requestRepository);
+    }
+
     // TESTS FOR UpdateRequestCommand
 
     @Test
-    void handleUpdateRequest_WhenValidCommand_ReturnsUpdatedRequest() {
+    void handleUpdateRequest_WhenValidCommand_ReturnsUpdatedRequest() throws Exception {
         // Arrange
         UpdateRequestCommand command = new UpdateRequestCommand(1L, "APPROVED");
-        when(requestRepository.existsById(1L)).thenReturn(true);
-        when(requestRepository.findById(1L)).thenReturn(Optional.of(testRequest1));
+        setCreatedAtUsingReflection(testRequest1, OffsetDateTime.now(ZoneOffset.UTC).minusHours(1));
+        when(requestRepository.findForUpdate(1L)).thenReturn(Optional.of(testRequest1));
         when(requestRepository.save(any(Request.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -194,16 +306,37 @@ public class RequestServiceTests {
         // Assert
         assertTrue(result.isPresent());
         assertEquals("APPROVED", result.get().getRequestStatus());
-        verify(requestRepository, times(1)).existsById(1L);
-        verify(requestRepository, times(1)).findById(1L);
+        verify(requestRepository, times(1)).findForUpdate(1L);
         verify(requestRepository, times(1)).save(any(Request.class));
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof RequestsResolvedEvent resolved
+                        && resolved.groupId().equals(10L)
+                        && resolved.solutionTimesMillis().size() == 1
+                        && resolved.solutionTimesMillis().get(0) >= 3_600_000L));
+    }
+
+    @Test
+    void handleUpdateRequest_WhenRequestWasAlreadyResolved_DoesNotPublishResolution() {
+        // Arrange
+        UpdateRequestCommand command = new UpdateRequestCommand(1L, "REJECTED");
+        testRequest1.updateRequestStatus("APPROVED");
+        when(requestRepository.findForUpdate(1L)).thenReturn(Optional.of(testRequest1));
+        when(requestRepository.save(any(Request.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Optional<Request> result = requestCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals("REJECTED", result.get().getRequestStatus());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
     void handleUpdateRequest_WhenRequestDoesNotExist_ThrowsException() {
         // Arrange
         UpdateRequestCommand command = new UpdateRequestCommand(999L, "APPROVED");
-        when(requestRepository.existsById(999L)).thenReturn(false);
+        when(requestRepository.findForUpdate(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -211,7 +344,7 @@ public class RequestServiceTests {
                 () -> requestCommandService.handle(command)
         );
         assertEquals("Request with id 999 does not exist", exception.getMessage());
-        verify(requestRepository, times(1)).existsById(999L);
+        verify(requestRepository, times(1)).findForUpdate(999L);
         verify(requestRepository, never()).save(any(Request.class));
     }
 
@@ -219,8 +352,7 @@ public class RequestServiceTests {
     void handleUpdateRequest_WhenSaveFails_ThrowsException() {
         // Arrange
         UpdateRequestCommand command = new UpdateRequestCommand(1L, "APPROVED");
-        when(requestRepository.existsById(1L)).thenReturn(true);
-        when(requestRepository.findById(1L)).thenReturn(Optional.of(testRequest1));
+        when(requestRepository.findForUpdate(1L)).thenReturn(Optional.of(testRequest1));
         when(requestRepository.save(any(Request.class)))
                 .thenThrow(new RuntimeException("Database error"));
 
@@ -233,28 +365,136 @@ public class RequestServiceTests {
         verify(requestRepository, times(1)).save(any(Request.class));
     }
 
+    // TESTS FOR UpdateRequestsStatusCommand
+
+    @Test
+    void handleUpdateRequestsStatus_WhenSomeRequestsAreOutsideGroup_UpdatesOnlyGroupRequests() {
+        // Arrange
+        UpdateRequestsStatusCommand command = new UpdateRequestsStatusCommand(10L, List.of(1L, 2L, 3L, 1L), "APPROVED");
+        var createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(30);
+        when(requestRepository.updateStatusInGroup(anyCollection(), eq(10L), eq(RequestStatus.APPROVED), any(OffsetDateTime.class)))
+                .thenReturn(List.of(
+                        new RequestState(1L, RequestStatus.PENDING, createdAt, 20L),
+                        new RequestState(3L, RequestStatus.REJECTED, createdAt, 21L)));
+
+        // Act
+        List<RequestStatusUpdate> result = requestCommandService.handle(command);
+
+        // Assert
+        assertEquals(List.of(
+                new RequestStatusUpdate(1L, RequestStatusUpdateOutcome.UPDATED),
+                new RequestStatusUpdate(2L, RequestStatusUpdateOutcome.NOT_FOUND),
+                new RequestStatusUpdate(3L, RequestStatusUpdateOutcome.UPDATED)), result);
+        verify(requestRepository, times(1)).updateStatusInGroup(
+                argThat(ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))),
+                eq(10L), eq(RequestStatus.APPROVED), any(OffsetDateTime.class));
+        verify(requestRepository, never()).findById(any());
+        verify(requestRepository, never()).save(any());
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof RequestsResolvedEvent resolved
+                        && resolved.groupId().equals(10L)
+                        && resolved.solutionTimesMillis().size() == 1));
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.GROUP, 10L, -1);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 20L, -1);
+        verify(pendingRequestCounterRepository, never()).increment(eq(RequestCounterScope.MEMBER), eq(21L), anyLong());
+    }
+
+    @Test
+    void handleUpdateRequestsStatus_WhenNoRequestBelongsToGroup_DoesNotTouchCounters() {
+        // Arrange
+        UpdateRequestsStatusCommand command = new UpdateRequestsStatusCommand(10L, List.of(1L, 2L), "REJECTED");
+        when(requestRepository.updateStatusInGroup(anyCollection(), eq(10L), eq(RequestStatus.REJECTED), any(OffsetDateTime.class)))
+                .thenReturn(List.of());
+
+        // Act
+        List<RequestStatusUpdate> result = requestCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.stream().allMatch(update -> update.outcome() == RequestStatusUpdateOutcome.NOT_FOUND));
+        verify(pendingRequestCounterRepository, never()).increment(any(RequestCounterScope.class), anyLong(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void handleUpdateRequestsStatus_WhenRequestsAlreadyHaveStatus_DoesNotCountThemAgain() {
+        // Arrange
+        UpdateRequestsStatusCommand command = new UpdateRequestsStatusCommand(10L, List.of(1L, 3L), "APPROVED");
+        var createdAt = OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(30);
+        when(requestRepository.updateStatusInGroup(anyCollection(), eq(10L), eq(RequestStatus.APPROVED), any(OffsetDateTime.class)))
+                .thenReturn(List.of(
+                        new RequestState(1L, RequestStatus.APPROVED, createdAt, 20L),
+                        new RequestState(3L, RequestStatus.APPROVED, createdAt, 21L)));
+
+        // Act
+        List<RequestStatusUpdate> result = requestCommandService.handle(command);
+
+        // Assert
+        assertTrue(result.stream().allMatch(update -> update.outcome() == RequestStatusUpdateOutcome.UPDATED));
+        verify(pendingRequestCounterRepository, never()).increment(any(RequestCounterScope.class), anyLong(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void handleUpdateRequestsStatus_WhenInvalidStatus_ThrowsException() {
+        // Arrange
+        UpdateRequestsStatusCommand command = new UpdateRequestsStatusCommand(10L, List.of(1L), "ARCHIVED");
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> requestCommandService.handle(command));
+        assertEquals("Invalid request status", exception.getMessage());
+        verify(requestRepository, never()).updateStatusInGroup(anyCollection(), any(), any(RequestStatus.class), any());
+    }
+
+    @Test
+    void updateRequestsStatusCommand_WhenTooManyRequests_ThrowsException() {
+        // Arrange
+        List<Long> requestIds = new ArrayList<>();
+        for (long i = 0; i <= UpdateRequestsStatusCommand.MAX_REQUESTS; i++) requestIds.add(i);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new UpdateRequestsStatusCommand(10L, requestIds, "APPROVED"));
+        assertThrows(IllegalArgumentException.class, () -> new UpdateRequestsStatusCommand(10L, List.of(), "APPROVED"));
+    }
+
     // TESTS FOR DeleteRequestCommand
 
     @Test
     void handleDeleteRequest_WhenValidCommand_DeletesRequest() {
         // Arrange
         DeleteRequestCommand command = new DeleteRequestCommand(1L);
-        when(requestRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(requestRepository).deleteById(1L);
+        when(requestRepository.findById(1L)).thenReturn(Optional.of(testRequest1));
+        doNothing().when(requestRepository).delete(testRequest1);
 
         // Act
         requestCommandService.handle(command);
 
         // Assert
-        verify(requestRepository, times(1)).existsById(1L);
-        verify(requestRepository, times(1)).deleteById(1L);
+        verify(requestRepository, times(1)).findById(1L);
+        verify(requestRepository, times(1)).delete(testRequest1);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.GROUP, 10L, -1);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 20L, -1);
+    }
+
+    @Test
+    void handleDeleteRequest_WhenRequestWasResolved_DoesNotTouchCounters() {
+        // Arrange
+        DeleteRequestCommand command = new DeleteRequestCommand(3L);
+        when(requestRepository.findById(3L)).thenReturn(Optional.of(testRequest3));
+
+        // Act
+        requestCommandService.handle(command);
+
+        // Assert
+        verify(requestRepository, times(1)).delete(testRequest3);
+        verifyNoInteractions(pendingRequestCounterRepository);
     }
 
     @Test
     void handleDeleteRequest_WhenRequestDoesNotExist_ThrowsException() {
         // Arrange
         DeleteRequestCommand command = new DeleteRequestCommand(999L);
-        when(requestRepository.existsById(999L)).thenReturn(false);
+        when(requestRepository.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -262,16 +502,16 @@ public class RequestServiceTests {
                 () -> requestCommandService.handle(command)
         );
         assertEquals("Request with id 999 does not exist", exception.getMessage());
-        verify(requestRepository, times(1)).existsById(999L);
-        verify(requestRepository, never()).deleteById(any());
+        verify(requestRepository, times(1)).findById(999L);
+        verify(requestRepository, never()).delete(any(Request.class));
     }
 
     @Test
     void handleDeleteRequest_WhenDeleteFails_ThrowsException() {
         // Arrange
         DeleteRequestCommand command = new DeleteRequestCommand(1L);
-        when(requestRepository.existsById(1L)).thenReturn(true);
-        doThrow(new RuntimeException("Database error")).when(requestRepository).deleteById(1L);
+        when(requestRepository.findById(1L)).thenReturn(Optional.of(testRequest1));
+        doThrow(new RuntimeException("Database error")).when(requestRepository).delete(testRequest1);
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -279,7 +519,8 @@ public class RequestServiceTests {
                 () -> requestCommandService.handle(command)
         );
         assertTrue(exception.getMessage().contains("Error while deleting request"));
-        verify(requestRepository, times(1)).deleteById(1L);
+        verify(requestRepository, times(1)).delete(testRequest1);
+        verifyNoInteractions(pendingRequestCounterRepository);
     }
 
     // TESTS FOR DeleteAllRequestsByTaskIdCommand
@@ -289,14 +530,17 @@ public class RequestServiceTests {
         // Arrange
         DeleteAllRequestsByTaskIdCommand command = new DeleteAllRequestsByTaskIdCommand(100L);
         when(tasksContextFacade.getTaskById(100L)).thenReturn(Optional.of(testTask));
-        doNothing().when(requestRepository).deleteByTaskId(100L);
+        when(requestRepository.deleteByTaskIdIn(List.of(100L)))
+                .thenReturn(List.of(new PendingRequestTally(10L, 20L, 2)));
 
         // Act
         requestCommandService.handle(command);
 
         // Assert
         verify(tasksContextFacade, times(1)).getTaskById(100L);
-        verify(requestRepository, times(1)).deleteByTaskId(100L);
+        verify(requestRepository, times(1)).deleteByTaskIdIn(List.of(100L));
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.GROUP, 10L, -2);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 20L, -2);
     }
 
     @Test
@@ -312,7 +556,7 @@ public class RequestServiceTests {
         );
         assertEquals("Task with id 999 does not exist", exception.getMessage());
         verify(tasksContextFacade, times(1)).getTaskById(999L);
-        verify(requestRepository, never()).deleteByTaskId(any());
+        verify(requestRepository, never()).deleteByTaskIdIn(any());
     }
 
     @Test
@@ -320,7 +564,7 @@ public class RequestServiceTests {
         // Arrange
         DeleteAllRequestsByTaskIdCommand command = new DeleteAllRequestsByTaskIdCommand(100L);
         when(tasksContextFacade.getTaskById(100L)).thenReturn(Optional.of(testTask));
-        doThrow(new RuntimeException("Database error")).when(requestRepository).deleteByTaskId(100L);
+        when(requestRepository.deleteByTaskIdIn(List.of(100L))).thenThrow(new RuntimeException("Database error"));
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -328,13 +572,128 @@ public class RequestServiceTests {
                 () -> requestCommandService.handle(command)
         );
         assertTrue(exception.getMessage().contains("Error while deleting requests for task"));
-        verify(requestRepository, times(1)).deleteByTaskId(100L);
+        verify(requestRepository, times(1)).deleteByTaskIdIn(List.of(100L));
+        verifyNoInteractions(pendingRequestCounterRepository);
+    }
+
+    // TESTS FOR DeleteAllRequestsByTaskIdsCommand
+
+    @Test
+    void handleDeleteAllRequestsByTaskIds_WhenTasksSpanMembers_DeletesInOneStatementAndAdjustsCounters() {
+        // Arrange
+        DeleteAllRequestsByTaskIdsCommand command = new DeleteAllRequestsByTaskIdsCommand(List.of(100L, 101L, 102L));
+        when(requestRepository.deleteByTaskIdIn(command.taskIds())).thenReturn(List.of(
+                new PendingRequestTally(10L, 20L, 2),
+                new PendingRequestTally(10L, 21L, 1)));
+
+        // Act
+        requestCommandService.handle(command);
+
+        // Assert
+        verify(requestRepository, times(1)).deleteByTaskIdIn(command.taskIds());
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.GROUP, 10L, -3);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 20L, -2);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 21L, -1);
+        verify(tasksContextFacade, never()).getTaskById(any());
+        verify(eventPublisher, times(1)).publishEvent(new PendingRequestCountersChangedEvent(Set.of(10L), Set.of(20L, 21L)));
+    }
+
+    @Test
+    void handleDeleteAllRequestsByTaskIds_WhenNoTasks_DoesNotTouchRepository() {
+        // Arrange
+        DeleteAllRequestsByTaskIdsCommand command = new DeleteAllRequestsByTaskIdsCommand(List.of());
+
+        // Act
+        requestCommandService.handle(command);
+
+        // Assert
+        verifyNoInteractions(requestRepository);
+        verifyNoInteractions(pendingRequestCounterRepository);
+    }
+
+    // TESTS FOR MovePendingRequestCountsCommand
+
+    @Test
+    void handleMovePendingRequestCounts_WhenTaskReassigned_MovesMemberCountOnly() {
+        // Arrange
+        MovePendingRequestCountsCommand command = new MovePendingRequestCountsCommand(100L, 10L, 20L, 10L, 21L);
+        when(requestRepository.countByTaskIdAndRequestStatus(100L, RequestStatus.PENDING)).thenReturn(2L);
+
+        // Act
+        requestCommandService.handle(command);
+
+        // Assert
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 20L, -2);
+        verify(pendingRequestCounterRepository, times(1)).increment(RequestCounterScope.MEMBER, 21L, 2);
+        verify(requestRepository, never()).updateGroupIdByTaskId(any(), any());
+        verify(pendingRequestCounterRepository, never()).increment(eq(RequestCounterScope.GROUP), any(Long.class), anyLong());
+        verify(eventPublisher, times(1)).publishEvent(new PendingRequestCountersChangedEvent(Set.of(), Set.of(20L, 21L)));
+    }
+
+    @Test
+    void handleMovePendingRequestCounts_WhenTaskMovedToAnotherGroup_MovesRequestsToGroup() {
+        // Arrange
+        MovePendingRequestCountsCommand command = new MovePendingRequestCountsCommand(100L, 10L, 20L, 11L, 20L);
+        when(requestRepository.countByTaskIdAndRequestStatus(100L, RequestStatus.PENDING)).thenReturn(0L);
+
+        // Act
+        requestCommandService.handle(command);
+
+        // Assert
+        verify(requestRepository, times(1)).updateGroupIdByTaskId(100L, 11L);
+        verifyNoInteractions(pendingRequestCounterRepository);
+    }
+
+    @Test
+    void handleMovePendingRequestCounts_WhenTaskHasNoPendingRequests_DoesNotTouchCounters() {
+        // Arrange
+        MovePendingRequestCountsCommand command = new MovePendingRequestCountsCommand(100L, 10L, 20L, 10L, 21L);
+        when(requestRepository.countByTaskIdAndRequestStatus(100L, RequestStatus.PENDING)).thenReturn(0L);
+
+        // Act
+        requestCommandService.handle(command);
+
+        // Assert
+        verifyNoInteractions(pendingRequestCounterRepository);
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     // ============================================================
     // REQUEST QUERY SERVICE TESTS
     // ============================================================
 
+    // TESTS FOR GetPendingRequestCountQuery
+
+    @Test
+    void handleGetPendingRequestCount_WhenCounterExists_ReturnsCountThroughCache() {
+        // Arrange
+        when(pendingRequestCounterCache.get(eq(RequestCounterScope.GROUP), eq(10L), any(LongSupplier.class)))
+                .thenAnswer(invocation -> invocation.getArgument(2, LongSupplier.class).getAsLong());
+        when(pendingRequestCounterRepository.findByScopeAndScopeId(RequestCounterScope.GROUP, 10L))
+                .thenReturn(Optional.of(new PendingRequestCounter(RequestCounterScope.GROUP, 10L, 4)));
+
+        // Act
+        long result = requestQueryService.handle(new GetPendingRequestCountQuery(RequestCounterScope.GROUP, 10L));
+
+        // Assert
+        assertEquals(4, result);
+    }
+
+    @Test
+    void handleGetPendingRequestCount_WhenNoCounter_ReturnsZero() {
+        // Arrange
+        when(pendingRequestCounterCache.get(eq(RequestCounterScope.MEMBER), eq(20L), any(LongSupplier.class)))
+                .thenAnswer(invocation -> invocation.getArgument(2, LongSupplier.class).getAsLong());
+        when(pendingRequestCounterRepository.findByScopeAndScopeId(RequestCounterScope.MEMBER, 20L))
+                .thenReturn(Optional.empty());
+
+        // Act
+        long result = requestQueryService.handle(new GetPendingRequestCountQuery(RequestCounterScope.MEMBER, 20L));
+
+        // Assert
+        assertEquals(0, result);
+    }
+
     // TESTS FOR GetAllRequestsQuery
 
     @Test
@@ -407,6 +766,100 @@ public class RequestServiceTests {
         verify(requestRepository, times(1)).findByTaskId(999L);
     }
 
+    // TESTS FOR GetRequestsByGroupIdQuery AND GetRequestsByMemberIdQuery
+
+    @Test
+    void handleGetRequestsByGroupId_WhenRequestsExist_ReturnsPageFromSingleQuery() {
+        // Arrange
+        GetRequestsByGroupIdQuery query = new GetRequestsByGroupIdQuery(10L, RequestStatus.PENDING, null, 1, 2);
+        Pageable pageable = PageRequest.of(1, 2);
+        when(requestRepository.findByGroupId(10L, RequestStatus.PENDING, null, pageable))
+                .thenReturn(new PageImpl<>(Arrays.asList(testRequest1, testRequest2), pageable, 5));
+
+        // Act
+        Page<Request> result = requestQueryService.handle(query);
+
+        // Assert
+        assertEquals(2, result.getContent().size());
+        assertEquals(5, result.getTotalElements());
+        verify(requestRepository, times(1)).findByGroupId(10L, RequestStatus.PENDING, null, pageable);
+        verify(requestRepository, never()).findByTaskId(any());
+    }
+
+    @Test
+    void handleGetRequestsByMemberId_WhenNoRequestsExist_ReturnsEmptyPage() {
+        // Arrange
+        GetRequestsByMemberIdQuery query = new GetRequestsByMemberIdQuery(20L, null, RequestType.EXPIRED, 0, 100);
+        Pageable pageable = PageRequest.of(0, 100);
+        when(requestRepository.findByMemberId(20L, null, RequestType.EXPIRED, pageable))
+                .thenReturn(Page.empty(pageable));
+
+        // Act
+        Page<Request> result = requestQueryService.handle(query);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(requestRepository, times(1)).findByMemberId(20L, null, RequestType.EXPIRED, pageable);
+    }
+
+    @Test
+    void getRequestsByGroupIdQuery_WhenPageSizeIsOutOfRange_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new GetRequestsByGroupIdQuery(10L, null, null, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new GetRequestsByGroupIdQuery(10L, null, null, 0, GetRequestsByGroupIdQuery.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> new GetRequestsByGroupIdQuery(10L, null, null, -1, 10));
+    }
+
+    // TESTS FOR GetRequestQueueQuery
+
+    @Test
+    void handleGetRequestQueue_WhenOldestFirstWithoutCursor_StartsAtBeginningOfQueue() {
+        // Arrange
+        GetRequestQueueQuery query = new GetRequestQueueQuery(10L, RequestStatus.PENDING, null, RequestQueueOrder.OLDEST, null, 2);
+        when(requestRepository.findQueueOldestFirst(eq(10L), eq(RequestStatus.PENDING), isNull(), any(OffsetDateTime.class), eq(0L), eq(Limit.of(2))))
+                .thenReturn(Arrays.asList(testRequest1, testRequest2));
+
+        // Act
+        List<Request> result = requestQueryService.handle(query);
+
+        // Assert
+        assertEquals(2, result.size());
+        verify(requestRepository, times(1)).findQueueOldestFirst(eq(10L), eq(RequestStatus.PENDING), isNull(), any(OffsetDateTime.class), eq(0L), eq(Limit.of(2)));
+        verify(requestRepository, never()).findQueueNewestFirst(any(), any(), any(), any(), any(), any());
+        verify(requestRepository, never()).findAll();
+    }
+
+    @Test
+    void handleGetRequestQueue_WhenNewestFirstWithCursor_ContinuesBeforeCursor() {
+        // Arrange
+        var cursor = new RequestQueueCursor(OffsetDateTime.parse("2025-03-01T10:15:30Z"), 42L);
+        GetRequestQueueQuery query = new GetRequestQueueQuery(10L, RequestStatus.PENDING, RequestType.MODIFICATION, RequestQueueOrder.NEWEST, cursor, 50);
+        when(requestRepository.findQueueNewestFirst(10L, RequestStatus.PENDING, RequestType.MODIFICATION, cursor.createdAt(), 42L, Limit.of(50)))
+                .thenReturn(List.of(testRequest3));
+
+        // Act
+        List<Request> result = requestQueryService.handle(query);
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(requestRepository, times(1)).findQueueNewestFirst(10L, RequestStatus.PENDING, RequestType.MODIFICATION, cursor.createdAt(), 42L, Limit.of(50));
+    }
+
+    @Test
+    void requestQueueCursor_WhenWrittenAndParsed_RoundTrips() {
+        // Arrange
+        var cursor = new RequestQueueCursor(OffsetDateTime.parse("2025-03-01T10:15:30.123456Z"), 42L);
+
+        // Act
+        var parsed = RequestQueueCursor.fromString(cursor.toString());
+
+        // Assert
+        assertEquals(cursor, parsed);
+        assertThrows(IllegalArgumentException.class, () -> RequestQueueCursor.fromString("42"));
+        assertThrows(IllegalArgumentException.class, () -> RequestQueueCursor.fromString("abc_42"));
+    }
+
     // TESTS FOR GetRequestByIdQuery
 
     @Test
@@ -7,17 +7,30 @@ import nrg.inc.synhubbackend.groups.domain.model.queries.GetLeaderByUsernameQuer
 import nrg.inc.synhubbackend.groups.domain.services.GroupQueryService;
 import nrg.inc.synhubbackend.groups.domain.services.LeaderQueryService;
 import nrg.inc.synhubbackend.requests.domain.model.aggregates.Request;
-import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByTaskIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.commands.UpdateRequestsStatusCommand;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetPendingRequestCountQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestQueueQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByGroupIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.queries.GetRequestsByMemberIdQuery;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestCounterScope;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueCursor;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestQueueOrder;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatus;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdate;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestStatusUpdateOutcome;
+import nrg.inc.synhubbackend.requests.domain.model.valueobjects.RequestType;
+import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
 import nrg.inc.synhubbackend.requests.domain.services.RequestQueryService;
 import nrg.inc.synhubbackend.requests.interfaces.rest.GroupRequestController;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.PendingRequestCountResource;
 import nrg.inc.synhubbackend.requests.interfaces.rest.resources.RequestResource;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.RequestStatusUpdateResource;
+import nrg.inc.synhubbackend.requests.interfaces.rest.resources.UpdateRequestsStatusResource;
+import nrg.inc.synhubbackend.requests.interfaces.rest.transform.RequestQueueResponseAssembler;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
-import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByGroupIdQuery;
-import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByMemberId;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByUsernameQuery;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberQueryService;
-import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -26,6 +39,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.User;
@@ -44,6 +60,9 @@ import static org.mockito.Mockito.*;
 @MockitoSettings(strictness = Strictness.LENIENT)
 public class GroupRequestControllerTests {
 
+    @Mock
+    private RequestCommandService requestCommandService;
+
     @Mock
     private RequestQueryService requestQueryService;
 
@@ -56,9 +75,6 @@ public class GroupRequestControllerTests {
     @Mock
     private GroupQueryService groupQueryService;
 
-    @Mock
-    private TaskQueryService taskQueryService;
-
     @InjectMocks
     private GroupRequestController groupRequestController;
 
@@ -149,6 +165,13 @@ public class GroupRequestControllerTests {
         }
     }
 
+    /**
+     * Helper method to build an empty page reporting the given total
+     */
+    private Page<Request> emptyPage(long total) {
+        return new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 100), total);
+    }
+
     /**
      * Helper method to set dueDate using reflection
      */
@@ -212,7 +235,7 @@ public class GroupRequestControllerTests {
                 .thenReturn(Optional.empty());
 
         // Act
-        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails);
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails, null, null, 0, 100);
 
         // Assert
         assertNotNull(response);
@@ -220,8 +243,7 @@ public class GroupRequestControllerTests {
         assertNull(response.getBody());
         verify(leaderQueryService, times(1)).handle(any(GetLeaderByUsernameQuery.class));
         verify(groupQueryService, never()).handle(any(GetGroupByLeaderIdQuery.class));
-        verify(taskQueryService, never()).handle(any(GetAllTasksByGroupIdQuery.class));
-        verify(requestQueryService, never()).handle((GetRequestsByTaskIdQuery) any());
+        verify(requestQueryService, never()).handle(any(GetRequestsByGroupIdQuery.class));
     }
 
     @Test
@@ -233,7 +255,7 @@ public class GroupRequestControllerTests {
                 .thenReturn(Optional.empty());
 
         // Act
-        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails);
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails, null, null, 0, 100);
 
         // Assert
         assertNotNull(response);
@@ -241,22 +263,21 @@ public class GroupRequestControllerTests {
         assertNull(response.getBody());
         verify(leaderQueryService, times(1)).handle(any(GetLeaderByUsernameQuery.class));
         verify(groupQueryService, times(1)).handle(any(GetGroupByLeaderIdQuery.class));
-        verify(taskQueryService, never()).handle(any(GetAllTasksByGroupIdQuery.class));
-        verify(requestQueryService, never()).handle((GetRequestsByTaskIdQuery) any());
+        verify(requestQueryService, never()).handle(any(GetRequestsByGroupIdQuery.class));
     }
 
     @Test
-    void getAllRequestsFromGroup_WhenGroupHasNoTasks_ReturnsEmptyList() {
+    void getAllRequestsFromGroup_WhenGroupHasNoRequests_ReturnsEmptyList() {
         // Arrange
         when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
                 .thenReturn(Optional.of(testLeader));
         when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
                 .thenReturn(Optional.of(testGroup));
-        when(taskQueryService.handle(any(GetAllTasksByGroupIdQuery.class)))
-                .thenReturn(Collections.emptyList());
+        when(requestQueryService.handle(any(GetRequestsByGroupIdQuery.class)))
+                .thenReturn(emptyPage(0));
 
         // Act
-        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails);
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails, null, null, 0, 100);
 
         // Assert
         assertNotNull(response);
@@ -265,8 +286,8 @@ public class GroupRequestControllerTests {
         assertTrue(response.getBody().isEmpty());
         verify(leaderQueryService, times(1)).handle(any(GetLeaderByUsernameQuery.class));
         verify(groupQueryService, times(1)).handle(any(GetGroupByLeaderIdQuery.class));
-        verify(taskQueryService, times(1)).handle(any(GetAllTasksByGroupIdQuery.class));
-        verify(requestQueryService, never()).handle((GetRequestsByTaskIdQuery) any());
+        verify(requestQueryService, times(1)).handle(any(GetRequestsByGroupIdQuery.class));
+        assertEquals("0", response.getHeaders().getFirst(GroupRequestController.TOTAL_COUNT_HEADER));
     }
 
     @Test
@@ -277,11 +298,11 @@ public class GroupRequestControllerTests {
                 .thenReturn(Optional.of(testLeader));
         when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
                 .thenReturn(Optional.of(testGroup));
-        when(taskQueryService.handle(any(GetAllTasksByGroupIdQuery.class)))
-                .thenReturn(Collections.emptyList());
+        when(requestQueryService.handle(any(GetRequestsByGroupIdQuery.class)))
+                .thenReturn(emptyPage(0));
 
         // Act
-        groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails);
+        groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails, null, null, 0, 100);
 
         // Assert
         verify(groupQueryService).handle(argThat((GetGroupByLeaderIdQuery query) ->
@@ -297,18 +318,315 @@ public class GroupRequestControllerTests {
                 .thenReturn(Optional.of(testLeader));
         when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
                 .thenReturn(Optional.of(testGroup));
-        when(taskQueryService.handle(any(GetAllTasksByGroupIdQuery.class)))
-                .thenReturn(Collections.emptyList());
+        when(requestQueryService.handle(any(GetRequestsByGroupIdQuery.class)))
+                .thenReturn(emptyPage(0));
 
         // Act
-        groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails);
+        groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails, null, null, 0, 100);
 
         // Assert
-        verify(taskQueryService).handle(argThat((GetAllTasksByGroupIdQuery query) ->
+        verify(requestQueryService).handle(argThat((GetRequestsByGroupIdQuery query) ->
                 query.groupId().equals(expectedGroupId)
         ));
     }
 
+    @Test
+    void getAllRequestsFromGroup_WithFilters_PassesFiltersAndReturnsTotalCount() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(requestQueryService.handle(any(GetRequestsByGroupIdQuery.class)))
+                .thenReturn(emptyPage(42));
+
+        // Act
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails, "pending", "modification", 2, 20);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("42", response.getHeaders().getFirst(GroupRequestController.TOTAL_COUNT_HEADER));
+        verify(requestQueryService).handle(argThat((GetRequestsByGroupIdQuery query) ->
+                query.requestStatus() == RequestStatus.PENDING
+                        && query.requestType() == RequestType.MODIFICATION
+                        && query.page() == 2
+                        && query.size() == 20
+        ));
+    }
+
+    @Test
+    void getAllRequestsFromGroup_WhenFilterIsUnknown_ReturnsBadRequest() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+
+        // Act
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromGroup(testLeaderUserDetails, "archived", null, 0, 100);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(requestQueryService, never()).handle(any(GetRequestsByGroupIdQuery.class));
+    }
+
+    @Test
+    void getAllRequestsFromMember_WhenPageSizeIsTooLarge_ReturnsBadRequest() {
+        // Arrange
+        when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
+                .thenReturn(Optional.of(testMember));
+
+        // Act
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getAllRequestsFromMember(testMemberUserDetails, null, null, 0, GetRequestsByMemberIdQuery.MAX_PAGE_SIZE + 1);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(requestQueryService, never()).handle(any(GetRequestsByMemberIdQuery.class));
+    }
+
+    // TESTS FOR getRequestQueueFromGroup (LEADER ENDPOINT)
+
+    @Test
+    void getRequestQueueFromGroup_WithDefaults_QueriesPendingRequestsOldestFirst() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(requestQueryService.handle(any(GetRequestQueueQuery.class)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getRequestQueueFromGroup(testLeaderUserDetails, "PENDING", null, "OLDEST", null, 100);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().isEmpty());
+        assertNull(response.getHeaders().getFirst(RequestQueueResponseAssembler.NEXT_CURSOR_HEADER));
+        verify(requestQueryService).handle(argThat((GetRequestQueueQuery query) ->
+                query.groupId().equals(100L)
+                        && query.requestStatus() == RequestStatus.PENDING
+                        && query.requestType() == null
+                        && query.order() == RequestQueueOrder.OLDEST
+                        && query.after() == null
+                        && query.limit() == 100
+        ));
+    }
+
+    @Test
+    void getRequestQueueFromGroup_WithCursor_PassesDecodedCursor() {
+        // Arrange
+        var cursor = new RequestQueueCursor(java.time.OffsetDateTime.parse("2025-03-01T10:15:30.123456Z"), 42L);
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(requestQueryService.handle(any(GetRequestQueueQuery.class)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getRequestQueueFromGroup(testLeaderUserDetails, "approved", "submission", "newest", cursor.toString(), 10);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(requestQueryService).handle(argThat((GetRequestQueueQuery query) ->
+                query.requestStatus() == RequestStatus.APPROVED
+                        && query.requestType() == RequestType.SUBMISSION
+                        && query.order() == RequestQueueOrder.NEWEST
+                        && cursor.equals(query.after())
+                        && query.limit() == 10
+        ));
+    }
+
+    @Test
+    void getRequestQueueFromGroup_WhenCursorIsMalformed_ReturnsBadRequest() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+
+        // Act
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getRequestQueueFromGroup(testLeaderUserDetails, "PENDING", null, "OLDEST", "not-a-cursor", 100);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(requestQueryService, never()).handle(any(GetRequestQueueQuery.class));
+    }
+
+    @Test
+    void getRequestQueueFromGroup_WhenLeaderDoesNotExist_ReturnsNotFound() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<List<RequestResource>> response = groupRequestController.getRequestQueueFromGroup(testLeaderUserDetails, "PENDING", null, "OLDEST", null, 100);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(requestQueryService, never()).handle(any(GetRequestQueueQuery.class));
+    }
+
+    // TESTS FOR updateRequestsStatus (LEADER ENDPOINT)
+
+    @Test
+    void updateRequestsStatus_WhenValid_ReturnsOutcomePerRequest() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(requestCommandService.handle(any(UpdateRequestsStatusCommand.class)))
+                .thenReturn(List.of(
+                        new RequestStatusUpdate(10000L, RequestStatusUpdateOutcome.UPDATED),
+                        new RequestStatusUpdate(99999L, RequestStatusUpdateOutcome.NOT_FOUND)));
+
+        // Act
+        ResponseEntity<List<RequestStatusUpdateResource>> response = groupRequestController.updateRequestsStatus(
+                testLeaderUserDetails, "APPROVED", new UpdateRequestsStatusResource(List.of(10000L, 99999L)));
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(List.of(
+                new RequestStatusUpdateResource(10000L, "UPDATED"),
+                new RequestStatusUpdateResource(99999L, "NOT_FOUND")), response.getBody());
+        verify(requestCommandService).handle(argThat((UpdateRequestsStatusCommand command) ->
+                command.groupId().equals(100L)
+                        && command.requestIds().equals(List.of(10000L, 99999L))
+                        && command.requestStatus().equals("APPROVED")
+        ));
+    }
+
+    @Test
+    void updateRequestsStatus_WhenNoRequestIds_ReturnsBadRequest() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+
+        // Act
+        ResponseEntity<List<RequestStatusUpdateResource>> response = groupRequestController.updateRequestsStatus(
+                testLeaderUserDetails, "APPROVED", new UpdateRequestsStatusResource(Collections.emptyList()));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(requestCommandService, never()).handle(any(UpdateRequestsStatusCommand.class));
+    }
+
+    @Test
+    void updateRequestsStatus_WhenStatusIsInvalid_ReturnsBadRequest() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(requestCommandService.handle(any(UpdateRequestsStatusCommand.class)))
+                .thenThrow(new IllegalArgumentException("Invalid request status"));
+
+        // Act
+        ResponseEntity<List<RequestStatusUpdateResource>> response = groupRequestController.updateRequestsStatus(
+                testLeaderUserDetails, "ARCHIVED", new UpdateRequestsStatusResource(List.of(10000L)));
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void updateRequestsStatus_WhenGroupDoesNotExist_ReturnsNotFound() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<List<RequestStatusUpdateResource>> response = groupRequestController.updateRequestsStatus(
+                testLeaderUserDetails, "APPROVED", new UpdateRequestsStatusResource(List.of(10000L)));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(requestCommandService, never()).handle(any(UpdateRequestsStatusCommand.class));
+    }
+
+    // TESTS FOR PENDING REQUEST COUNTS
+
+    @Test
+    void getPendingRequestCountFromGroup_WithoutETag_ReturnsCountAndETag() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(requestQueryService.handle(any(GetPendingRequestCountQuery.class)))
+                .thenReturn(3L);
+
+        // Act
+        ResponseEntity<PendingRequestCountResource> response = groupRequestController.getPendingRequestCountFromGroup(testLeaderUserDetails, null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(3L, response.getBody().pending());
+        assertEquals("\"group-100-3\"", response.getHeaders().getETag());
+        verify(requestQueryService).handle(argThat((GetPendingRequestCountQuery query) ->
+                query.scope() == RequestCounterScope.GROUP && query.scopeId().equals(100L)));
+    }
+
+    @Test
+    void getPendingRequestCountFromGroup_WhenETagMatches_ReturnsNotModified() {
+        // Arrange
+        when(leaderQueryService.handle(any(GetLeaderByUsernameQuery.class)))
+                .thenReturn(Optional.of(testLeader));
+        when(groupQueryService.handle(any(GetGroupByLeaderIdQuery.class)))
+                .thenReturn(Optional.of(testGroup));
+        when(requestQueryService.handle(any(GetPendingRequestCountQuery.class)))
+                .thenReturn(3L);
+
+        // Act
+        ResponseEntity<PendingRequestCountResource> response = groupRequestController.getPendingRequestCountFromGroup(testLeaderUserDetails, "W/\"group-100-3\"");
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("\"group-100-3\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getPendingRequestCountFromMember_WhenCountChanged_ReturnsNewCount() {
+        // Arrange
+        when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
+                .thenReturn(Optional.of(testMember));
+        when(requestQueryService.handle(any(GetPendingRequestCountQuery.class)))
+                .thenReturn(2L);
+
+        // Act
+        ResponseEntity<PendingRequestCountResource> response = groupRequestController.getPendingRequestCountFromMember(testMemberUserDetails, "\"member-10-1\"");
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2L, response.getBody().pending());
+        assertEquals("\"member-10-2\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getPendingRequestCountFromMember_WhenMemberDoesNotExist_ReturnsNotFound() {
+        // Arrange
+        when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        ResponseEntity<PendingRequestCountResource> response = groupRequestController.getPendingRequestCountFromMember(testMemberUserDetails, null);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        verify(requestQueryService, never()).handle(any(GetPendingRequestCountQuery.class));
+    }
+
     // TESTS FOR getAllRequestsFromMember (MEMBER ENDPOINT)
 
     @Test
@@ -317,11 +635,11 @@ public class GroupRequestControllerTests {
         String expectedUsername = "testmember";
         when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
                 .thenReturn(Optional.of(testMember));
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Collections.emptyList());
+        when(requestQueryService.handle(any(GetRequestsByMemberIdQuery.class)))
+                .thenReturn(emptyPage(0));
 
         // Act
-        groupRequestController.getAllRequestsFromMember(testMemberUserDetails);
+        groupRequestController.getAllRequestsFromMember(testMemberUserDetails, null, null, 0, 100);
 
         // Assert
         verify(memberQueryService).handle((GetMemberByUsernameQuery) argThat(query ->
@@ -336,16 +654,15 @@ public class GroupRequestControllerTests {
         Long expectedMemberId = 10L;
         when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
                 .thenReturn(Optional.of(testMember));
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Collections.emptyList());
+        when(requestQueryService.handle(any(GetRequestsByMemberIdQuery.class)))
+                .thenReturn(emptyPage(0));
 
         // Act
-        groupRequestController.getAllRequestsFromMember(testMemberUserDetails);
+        groupRequestController.getAllRequestsFromMember(testMemberUserDetails, null, null, 0, 100);
 
         // Assert
-        verify(taskQueryService).handle((GetAllTasksByMemberId) argThat(query ->
-                query instanceof GetAllTasksByMemberId &&
-                        ((GetAllTasksByMemberId) query).memberId().equals(expectedMemberId)
+        verify(requestQueryService).handle(argThat((GetRequestsByMemberIdQuery query) ->
+                query.memberId().equals(expectedMemberId)
         ));
     }
 
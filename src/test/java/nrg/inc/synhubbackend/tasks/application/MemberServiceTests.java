@@ -2,9 +2,8 @@ package nrg.inc.synhubbackend.tasks.application;
 
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.GroupRepository;
-import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
-import nrg.inc.synhubbackend.iam.domain.model.entities.Role;
 import nrg.inc.synhubbackend.iam.domain.model.valueobjects.Roles;
+import nrg.inc.synhubbackend.iam.domain.model.valueobjects.UserIdentity;
 import nrg.inc.synhubbackend.shared.application.external.outboundedservices.ExternalIamService;
 import nrg.inc.synhubbackend.tasks.application.internal.commandservices.MemberCommandServiceImpl;
 import nrg.inc.synhubbackend.tasks.application.internal.queryservices.MemberQueryServiceImpl;
@@ -24,6 +23,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.lang.reflect.Field;
 import java.util.*;
@@ -45,6 +45,9 @@ public class MemberServiceTests {
     @Mock
     private ExternalIamService externalIamService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MemberCommandServiceImpl memberCommandService;
 
@@ -55,8 +58,6 @@ public class MemberServiceTests {
     private Member testMember2;
     private Member testMember3;
     private Group testGroup;
-    private User testUser;
-    private Role memberRole;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -76,23 +77,6 @@ public class MemberServiceTests {
         testMember3 = new Member(new CreateMemberCommand());
         setIdUsingReflection(testMember3, 3L);
         testMember3.setGroup(testGroup);
-
-        // Initialize Role
-        memberRole = new Role(Roles.ROLE_MEMBER);
-        setIdUsingReflection(memberRole, 1L);
-
-        // Initialize User
-        testUser = new User(
-                "testuser",
-                "Test",
-                "User",
-                "http://example.com/img.jpg",
-                "test@example.com",
-                "password123"
-        );
-        setIdUsingReflection(testUser, 1L);
-        testUser.setMember(testMember1);
-        testUser.getRoles().add(memberRole);
     }
 
     private void setIdUsingReflection(Object entity, Long id) throws Exception {
@@ -283,7 +267,9 @@ public class MemberServiceTests {
     void handleGetMemberByUsername_WhenUserWithMemberRoleExists_ReturnsMember() {
         // Arrange
         GetMemberByUsernameQuery query = new GetMemberByUsernameQuery("testuser");
-        when(externalIamService.getUserByUsername("testuser")).thenReturn(Optional.of(testUser));
+        UserIdentity identity = new UserIdentity(1L, "testuser", Roles.ROLE_MEMBER, null, 1L, null);
+        when(externalIamService.getUserIdentityByUsername("testuser")).thenReturn(Optional.of(identity));
+        when(memberRepository.findById(1L)).thenReturn(Optional.of(testMember1));
 
         // Act
         Optional<Member> result = memberQueryService.handle(query);
@@ -291,68 +277,55 @@ public class MemberServiceTests {
         // Assert
         assertTrue(result.isPresent());
         assertEquals(testMember1.getId(), result.get().getId());
-        verify(externalIamService, times(1)).getUserByUsername("testuser");
+        verify(externalIamService, times(1)).getUserIdentityByUsername("testuser");
+        verify(memberRepository, times(1)).findById(1L);
     }
 
     @Test
     void handleGetMemberByUsername_WhenUserNotFound_ReturnsEmpty() {
         // Arrange
         GetMemberByUsernameQuery query = new GetMemberByUsernameQuery("nonexistent");
-        when(externalIamService.getUserByUsername("nonexistent")).thenReturn(Optional.empty());
+        when(externalIamService.getUserIdentityByUsername("nonexistent")).thenReturn(Optional.empty());
 
-        // Act & Assert
-        assertThrows(NoSuchElementException.class, () -> memberQueryService.handle(query));
-        verify(externalIamService, times(1)).getUserByUsername("nonexistent");
+        // Act
+        Optional<Member> result = memberQueryService.handle(query);
+
+        // Assert
+        assertFalse(result.isPresent());
+        verify(externalIamService, times(1)).getUserIdentityByUsername("nonexistent");
+        verify(memberRepository, never()).findById(any());
     }
 
     @Test
     void handleGetMemberByUsername_WhenUserHasNonMemberRole_ReturnsEmpty() {
         // Arrange
         GetMemberByUsernameQuery query = new GetMemberByUsernameQuery("leaderuser");
-        User leaderUser = new User(
-                "leaderuser",
-                "Leader",
-                "User",
-                "http://example.com/img.jpg",
-                "leader@example.com",
-                "password123"
-        );
-        Role leaderRole = new Role(Roles.ROLE_LEADER);
-        leaderUser.getRoles().add(leaderRole);
-
-        when(externalIamService.getUserByUsername("leaderuser")).thenReturn(Optional.of(leaderUser));
+        UserIdentity identity = new UserIdentity(2L, "leaderuser", Roles.ROLE_LEADER, 10L, null, 100L);
+        when(externalIamService.getUserIdentityByUsername("leaderuser")).thenReturn(Optional.of(identity));
 
         // Act
         Optional<Member> result = memberQueryService.handle(query);
 
         // Assert
         assertFalse(result.isPresent());
-        verify(externalIamService, times(1)).getUserByUsername("leaderuser");
+        verify(externalIamService, times(1)).getUserIdentityByUsername("leaderuser");
+        verify(memberRepository, never()).findById(any());
     }
 
     @Test
     void handleGetMemberByUsername_WhenUserHasMemberRoleButNoMember_ReturnsEmpty() {
         // Arrange
         GetMemberByUsernameQuery query = new GetMemberByUsernameQuery("usernomember");
-        User userWithoutMember = new User(
-                "usernomember",
-                "Test",
-                "User",
-                "http://example.com/img.jpg",
-                "test@example.com",
-                "password123"
-        );
-        userWithoutMember.getRoles().add(memberRole);
-        userWithoutMember.setMember(null);
-
-        when(externalIamService.getUserByUsername("usernomember")).thenReturn(Optional.of(userWithoutMember));
+        UserIdentity identity = new UserIdentity(3L, "usernomember", Roles.ROLE_MEMBER, null, null, null);
+        when(externalIamService.getUserIdentityByUsername("usernomember")).thenReturn(Optional.of(identity));
 
         // Act
         Optional<Member> result = memberQueryService.handle(query);
 
         // Assert
         assertFalse(result.isPresent());
-        verify(externalIamService, times(1)).getUserByUsername("usernomember");
+        verify(externalIamService, times(1)).getUserIdentityByUsername("usernomember");
+        verify(memberRepository, never()).findById(any());
     }
 
     // TESTS FOR GetAllMembersQuery
@@ -0,0 +1,134 @@
+package nrg.inc.synhubbackend.tasks.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import nrg.inc.synhubbackend.tasks.infrastructure.scheduling.TaskExpiryHealthIndicator;
+import nrg.inc.synhubbackend.tasks.infrastructure.scheduling.TaskExpiryMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TaskExpiryMonitorTests {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskExpiryMonitor taskExpiryMonitor;
+    private TaskExpiryHealthIndicator healthIndicator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        taskExpiryMonitor = new TaskExpiryMonitor(taskRepository, meterRegistry);
+        healthIndicator = new TaskExpiryHealthIndicator(taskExpiryMonitor, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void record_WhenRunSucceeds_RecordsDurationExpiredTasksAndLastSuccess() {
+        // Act
+        int expired = taskExpiryMonitor.record(TaskExpiryMonitor.SWEEP_JOB, () -> 4);
+
+        // Assert
+        assertEquals(4, expired);
+        assertEquals(1, meterRegistry.get("tasks.expiry.duration").tag("job", TaskExpiryMonitor.SWEEP_JOB).timer().count());
+        assertEquals(4.0, meterRegistry.get("tasks.expiry.expired").tag("job", TaskExpiryMonitor.SWEEP_JOB).summary().totalAmount());
+        assertEquals(0.0, meterRegistry.get("tasks.expiry.failures").tag("job", TaskExpiryMonitor.SWEEP_JOB).counter().count());
+        assertTrue(taskExpiryMonitor.getLastSuccess(TaskExpiryMonitor.SWEEP_JOB).isPresent());
+        assertTrue(taskExpiryMonitor.getLastSuccess(TaskExpiryMonitor.DEADLINE_JOB).isEmpty());
+    }
+
+    @Test
+    void record_WhenRunFails_CountsFailureAndRethrows() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> taskExpiryMonitor.record(TaskExpiryMonitor.DEADLINE_JOB, () -> {
+            throw new IllegalStateException("database unavailable");
+        }));
+        assertEquals(1.0, meterRegistry.get("tasks.expiry.failures").tag("job", TaskExpiryMonitor.DEADLINE_JOB).counter().count());
+        assertEquals(1, meterRegistry.get("tasks.expiry.duration").tag("job", TaskExpiryMonitor.DEADLINE_JOB).timer().count());
+        assertTrue(taskExpiryMonitor.getLastSuccess(TaskExpiryMonitor.DEADLINE_JOB).isEmpty());
+    }
+
+    @Test
+    void health_WhenLagBelowThreshold_ReturnsUp() {
+        // Arrange
+        when(taskRepository.findOldestDueDateByStatusBefore(eq(TaskStatus.IN_PROGRESS), any(OffsetDateTime.class)))
+                .thenReturn(OffsetDateTime.now(ZoneOffset.UTC).minusMinutes(1));
+        taskExpiryMonitor.probeLag();
+
+        // Act
+        var health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+        assertTrue(meterRegistry.get("tasks.expiry.lag").gauge().value() >= 60.0);
+    }
+
+    @Test
+    void health_WhenNothingOverdue_ReturnsUpWithZeroLag() {
+        // Arrange
+        when(taskRepository.findOldestDueDateByStatusBefore(eq(TaskStatus.IN_PROGRESS), any(OffsetDateTime.class)))
+                .thenReturn(null);
+        taskExpiryMonitor.probeLag();
+
+        // Act
+        var health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(0.0, meterRegistry.get("tasks.expiry.lag").gauge().value());
+    }
+
+    @Test
+    void health_WhenLagAboveThreshold_ReturnsDown() {
+        // Arrange
+        when(taskRepository.findOldestDueDateByStatusBefore(eq(TaskStatus.IN_PROGRESS), any(OffsetDateTime.class)))
+                .thenReturn(OffsetDateTime.now(ZoneOffset.UTC).minusHours(1));
+        taskExpiryMonitor.probeLag();
+
+        // Act
+        var health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.DOWN, health.getStatus());
+    }
+
+    @Test
+    void health_WhenLagProbeFails_ReturnsDown() {
+        // Arrange
+        when(taskRepository.findOldestDueDateByStatusBefore(eq(TaskStatus.IN_PROGRESS), any(OffsetDateTime.class)))
+                .thenThrow(new IllegalStateException("database unavailable"));
+        taskExpiryMonitor.probeLag();
+
+        // Act
+        var health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.DOWN, health.getStatus());
+    }
+
+    @Test
+    void health_BeforeFirstProbe_ReturnsUnknown() {
+        // Act
+        var health = healthIndicator.health();
+
+        // Assert
+        assertEquals(Status.UNKNOWN, health.getStatus());
+    }
+}
@@ -1,5 +1,6 @@
 package nrg.inc.synhubbackend.tasks.application;
 
+import jakarta.persistence.EntityManager;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.infrastructure.persistence.jpa.repositories.GroupRepository;
 import nrg.inc.synhubbackend.tasks.application.internal.commandservices.TaskCommandServiceImpl;
@@ -7,6 +8,8 @@ import nrg.inc.synhubbackend.tasks.application.internal.queryservices.TaskQueryS
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.*;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TasksDeletingEvent;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.*;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
 import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.MemberRepository;
@@ -14,16 +17,20 @@ import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.T
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.lang.reflect.Field;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -42,6 +49,12 @@ public class TaskServiceTests {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private TaskCommandServiceImpl taskCommandService;
 
@@ -513,33 +526,65 @@ public class TaskServiceTests {
         verify(taskRepository, times(1)).save(any(Task.class));
     }
 
+    @Test
+    void handleUpdateTaskStatus_WhenValidCommand_PublishesTaskChangedEvent() {
+        // Arrange
+        UpdateTaskStatusCommand command = new UpdateTaskStatusCommand(1L, "COMPLETED");
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask1));
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        taskCommandService.handle(command);
+
+        // Assert
+        ArgumentCaptor<TaskChangedEvent> captor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        var change = captor.getValue().changes().get(0);
+        assertEquals(TaskStatus.IN_PROGRESS, change.before().status());
+        assertEquals(TaskStatus.COMPLETED, change.after().status());
+        assertEquals(100L, change.after().groupId());
+    }
+
     // TESTS FOR DeleteTaskCommand
 
     @Test
     void handleDeleteTask_WhenValidCommand_DeletesTask() {
         // Arrange
         DeleteTaskCommand command = new DeleteTaskCommand(1L);
-        testMember1.getTasks().add(testTask1);
-        when(taskRepository.existsById(1L)).thenReturn(true);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask1));
-        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        doNothing().when(taskRepository).deleteById(1L);
+        doNothing().when(taskRepository).delete(testTask1);
 
         // Act
         taskCommandService.handle(command);
 
         // Assert
-        verify(taskRepository, times(1)).existsById(1L);
-        verify(taskRepository, times(2)).findById(1L);
-        verify(memberRepository, times(1)).save(any(Member.class));
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).findById(1L);
+        verify(taskRepository, times(1)).delete(testTask1);
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
+    @Test
+    void handleDeleteTask_WhenValidCommand_DeletesRequestsBeforeTask() {
+        // Arrange
+        DeleteTaskCommand command = new DeleteTaskCommand(1L);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask1));
+
+        // Act
+        taskCommandService.handle(command);
+
+        // Assert
+        var inOrder = inOrder(eventPublisher, taskRepository);
+        inOrder.verify(eventPublisher).publishEvent(new TasksDeletingEvent(List.of(1L)));
+        inOrder.verify(taskRepository).delete(testTask1);
+        inOrder.verify(eventPublisher).publishEvent(any(TaskChangedEvent.class));
     }
 
     @Test
     void handleDeleteTask_WhenTaskNotFound_ThrowsException() {
         // Arrange
         DeleteTaskCommand command = new DeleteTaskCommand(999L);
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -547,8 +592,9 @@ public class TaskServiceTests {
                 () -> taskCommandService.handle(command)
         );
         assertEquals("Task with id 999 does not exist", exception.getMessage());
-        verify(taskRepository, times(1)).existsById(999L);
-        verify(taskRepository, never()).deleteById(any());
+        verify(taskRepository, times(1)).findById(999L);
+        verify(taskRepository, never()).delete(any(Task.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -556,16 +602,14 @@ public class TaskServiceTests {
         // Arrange
         DeleteTaskCommand command = new DeleteTaskCommand(1L);
         testTask1.setMember(null);
-        when(taskRepository.existsById(1L)).thenReturn(true);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask1));
-        doNothing().when(taskRepository).deleteById(1L);
+        doNothing().when(taskRepository).delete(testTask1);
 
         // Act
         taskCommandService.handle(command);
 
         // Assert
-        verify(taskRepository, times(1)).existsById(1L);
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).delete(testTask1);
         verify(memberRepository, never()).save(any(Member.class));
     }
 
@@ -573,9 +617,8 @@ public class TaskServiceTests {
     void handleDeleteTask_WhenDeleteFails_ThrowsException() {
         // Arrange
         DeleteTaskCommand command = new DeleteTaskCommand(1L);
-        when(taskRepository.existsById(1L)).thenReturn(true);
         when(taskRepository.findById(1L)).thenReturn(Optional.of(testTask1));
-        doThrow(new RuntimeException("Database error")).when(taskRepository).deleteById(1L);
+        doThrow(new RuntimeException("Database error")).when(taskRepository).delete(testTask1);
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -583,7 +626,7 @@ public class TaskServiceTests {
                 () -> taskCommandService.handle(command)
         );
         assertTrue(exception.getMessage().contains("Error deleting task"));
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskRepository, times(1)).delete(testTask1);
     }
 
     // TESTS FOR DeleteTasksByMemberId
@@ -596,8 +639,6 @@ public class TaskServiceTests {
         testMember1.getTasks().addAll(tasks);
         when(memberRepository.existsById(1L)).thenReturn(true);
         when(taskRepository.findByMember_Id(1L)).thenReturn(tasks);
-        when(memberRepository.save(any(Member.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        doNothing().when(taskRepository).delete(any(Task.class));
 
         // Act
         taskCommandService.handle(command);
@@ -605,8 +646,29 @@ public class TaskServiceTests {
         // Assert
         verify(memberRepository, times(1)).existsById(1L);
         verify(taskRepository, times(1)).findByMember_Id(1L);
-        verify(memberRepository, times(2)).save(any(Member.class)); // Once per task
-        verify(taskRepository, times(2)).delete(any(Task.class)); // Once per task
+        verify(eventPublisher, times(1)).publishEvent(new TasksDeletingEvent(List.of(testTask1.getId(), testTask2.getId())));
+        verify(taskRepository, times(1)).deleteAllByIdInBatch(List.of(testTask1.getId(), testTask2.getId()));
+        verify(taskRepository, never()).delete(any(Task.class));
+        verify(memberRepository, never()).save(any(Member.class));
+    }
+
+    @Test
+    void handleDeleteTasksByMemberId_WhenValidCommand_PublishesOneEventForAllTasks() {
+        // Arrange
+        DeleteTasksByMemberId command = new DeleteTasksByMemberId(1L);
+        List<Task> tasks = Arrays.asList(testTask1, testTask2);
+        testMember1.getTasks().addAll(tasks);
+        when(memberRepository.existsById(1L)).thenReturn(true);
+        when(taskRepository.findByMember_Id(1L)).thenReturn(tasks);
+
+        // Act
+        taskCommandService.handle(command);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+                event instanceof TaskChangedEvent changed
+                        && changed.changes().size() == 2
+                        && changed.changes().stream().allMatch(change -> change.after() == null)));
     }
 
     @Test
@@ -622,7 +684,7 @@ public class TaskServiceTests {
         );
         assertEquals("Member with id 999 does not exist", exception.getMessage());
         verify(memberRepository, times(1)).existsById(999L);
-        verify(taskRepository, never()).delete(any(Task.class));
+        verify(taskRepository, never()).deleteAllByIdInBatch(any());
     }
 
     @Test
@@ -638,7 +700,8 @@ public class TaskServiceTests {
         // Assert
         verify(memberRepository, times(1)).existsById(1L);
         verify(taskRepository, times(1)).findByMember_Id(1L);
-        verify(taskRepository, never()).delete(any(Task.class));
+        verify(taskRepository, never()).deleteAllByIdInBatch(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
@@ -648,7 +711,7 @@ public class TaskServiceTests {
         List<Task> tasks = Collections.singletonList(testTask1);
         when(memberRepository.existsById(1L)).thenReturn(true);
         when(taskRepository.findByMember_Id(1L)).thenReturn(tasks);
-        doThrow(new RuntimeException("Database error")).when(taskRepository).delete(any(Task.class));
+        doThrow(new RuntimeException("Database error")).when(taskRepository).deleteAllByIdInBatch(any());
 
         // Act & Assert
         IllegalArgumentException exception = assertThrows(
@@ -656,7 +719,7 @@ public class TaskServiceTests {
                 () -> taskCommandService.handle(command)
         );
         assertTrue(exception.getMessage().contains("Error deleting tasks for member"));
-        verify(taskRepository, times(1)).delete(any(Task.class));
+        verify(taskRepository, times(1)).deleteAllByIdInBatch(any());
     }
 
     // ============================================================
@@ -875,4 +938,112 @@ public class TaskServiceTests {
         assertEquals(testTask1.getId(), result.get(0).getId());
         verify(taskRepository, times(1)).findByGroup_Id(100L);
     }
+
+    // TESTS FOR keyset pages and streams
+
+    @Test
+    void handleGetAllTasksByGroupId_WhenLimitGiven_ReturnsKeysetPage() {
+        // Arrange
+        GetAllTasksByGroupIdQuery query = new GetAllTasksByGroupIdQuery(100L, 1L, 2);
+        when(taskRepository.findByGroup_IdAndIdGreaterThanOrderByIdAsc(100L, 1L, Limit.of(2)))
+                .thenReturn(Arrays.asList(testTask2, testTask3));
+
+        // Act
+        List<Task> result = taskQueryService.handle(query);
+
+        // Assert
+        assertEquals(Arrays.asList(testTask2, testTask3), result);
+        verify(taskRepository, never()).findByGroup_Id(any());
+    }
+
+    @Test
+    void handleGetAllTaskByStatus_WhenLimitGivenWithoutCursor_StartsFromFirstId() {
+        // Arrange
+        GetAllTaskByStatusQuery query = new GetAllTaskByStatusQuery("IN_PROGRESS", null, 10);
+        when(taskRepository.findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus.IN_PROGRESS, 0L, Limit.of(10)))
+                .thenReturn(Collections.singletonList(testTask1));
+
+        // Act
+        List<Task> result = taskQueryService.handle(query);
+
+        // Assert
+        assertEquals(1, result.size());
+        verify(taskRepository, times(1)).findByStatusAndIdGreaterThanOrderByIdAsc(TaskStatus.IN_PROGRESS, 0L, Limit.of(10));
+    }
+
+    @Test
+    void handleGetAllTasksByGroupId_WhenCursorGivenWithoutLimit_ThrowsException() {
+        // Arrange
+        GetAllTasksByGroupIdQuery query = new GetAllTasksByGroupIdQuery(100L, 1L, null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> taskQueryService.handle(query));
+        verify(taskRepository, never()).findByGroup_Id(any());
+    }
+
+    @Test
+    void handleStreamTasksByMemberId_PassesEachTaskInOrder() {
+        // Arrange
+        GetAllTasksByMemberId query = new GetAllTasksByMemberId(1L, null, null);
+        when(taskRepository.streamByMemberId(1L, 0L)).thenReturn(Stream.of(testTask1, testTask2));
+        List<Task> received = new ArrayList<>();
+
+        // Act
+        taskQueryService.handle(query, received::add);
+
+        // Assert
+        assertEquals(Arrays.asList(testTask1, testTask2), received);
+        verify(entityManager, never()).clear();
+    }
+
+    @Test
+    void handleStreamTasksByStatus_ClearsPersistenceContextOncePerBatch() {
+        // Arrange
+        GetAllTaskByStatusQuery query = new GetAllTaskByStatusQuery("IN_PROGRESS", null, null);
+        when(taskRepository.streamByStatus(TaskStatus.IN_PROGRESS, 0L))
+                .thenReturn(Collections.nCopies(1200, testTask1).stream());
+        List<Task> received = new ArrayList<>();
+
+        // Act
+        taskQueryService.handle(query, received::add);
+
+        // Assert
+        assertEquals(1200, received.size());
+        verify(entityManager, times(2)).clear();
+    }
+
+    // TESTS FOR GetNextTaskByMemberIdQuery
+
+    @Test
+    void handleGetNextTaskByMemberId_WhenNextTaskExists_ReturnsEarliestInProgressTask() {
+        // Arrange
+        GetNextTaskByMemberIdQuery query = new GetNextTaskByMemberIdQuery(1L);
+        when(taskRepository.findFirstByMember_IdAndStatusAndDueDateGreaterThanEqualOrderByDueDateAsc(eq(1L), eq(TaskStatus.IN_PROGRESS), any(OffsetDateTime.class)))
+                .thenReturn(Optional.of(testTask1));
+        OffsetDateTime before = OffsetDateTime.now(ZoneOffset.UTC);
+
+        // Act
+        Optional<Task> result = taskQueryService.handle(query);
+
+        // Assert
+        assertTrue(result.isPresent());
+        assertEquals(testTask1, result.get());
+        verify(taskRepository).findFirstByMember_IdAndStatusAndDueDateGreaterThanEqualOrderByDueDateAsc(
+                eq(1L), eq(TaskStatus.IN_PROGRESS), argThat(now -> !now.isBefore(before)));
+        verify(taskRepository, never()).findByMember_Id(any());
+    }
+
+    @Test
+    void handleGetNextTaskByMemberId_WhenNoNextTaskExists_ReturnsEmpty() {
+        // Arrange
+        GetNextTaskByMemberIdQuery query = new GetNextTaskByMemberIdQuery(999L);
+        when(taskRepository.findFirstByMember_IdAndStatusAndDueDateGreaterThanEqualOrderByDueDateAsc(eq(999L), eq(TaskStatus.IN_PROGRESS), any(OffsetDateTime.class)))
+                .thenReturn(Optional.empty());
+
+        // Act
+        Optional<Task> result = taskQueryService.handle(query);
+
+        // Assert
+        assertTrue(result.isEmpty());
+    }
 }
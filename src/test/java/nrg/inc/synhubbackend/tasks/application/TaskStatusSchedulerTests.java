@@ -0,0 +1,335 @@
+package nrg.inc.synhubbackend.tasks.application;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
+import nrg.inc.synhubbackend.requests.domain.model.commands.CreateRequestsForTasksCommand;
+import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
+import nrg.inc.synhubbackend.shared.domain.model.infrastructure.scheduling.SchedulerLeaseCoordinator;
+import nrg.inc.synhubbackend.tasks.application.internal.eventhandlers.TaskDeadlineEventHandler;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
+import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChange;
+import nrg.inc.synhubbackend.tasks.domain.model.events.TaskChangedEvent;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskDeadline;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskSnapshot;
+import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
+import nrg.inc.synhubbackend.tasks.domain.services.TaskStatusScheduler;
+import nrg.inc.synhubbackend.tasks.infrastructure.persistence.jpa.repositories.TaskRepository;
+import nrg.inc.synhubbackend.tasks.infrastructure.scheduling.TaskDeadlineIndex;
+import nrg.inc.synhubbackend.tasks.infrastructure.scheduling.TaskExpiryMonitor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class TaskStatusSchedulerTests {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private RequestCommandService requestCommandService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SchedulerLeaseCoordinator leaseCoordinator;
+
+    private TaskDeadlineIndex taskDeadlineIndex;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TaskStatusScheduler taskStatusScheduler;
+
+    private Task testTask1;
+    private Task testTask2;
+    private Task testTask3;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        taskDeadlineIndex = new TaskDeadlineIndex();
+        meterRegistry = new SimpleMeterRegistry();
+        when(leaseCoordinator.runExclusively(anyString(), any(Duration.class), any(Runnable.class))).thenAnswer(invocation -> {
+            invocation.getArgument(2, Runnable.class).run();
+            return true;
+        });
+        when(leaseCoordinator.renew(anyString(), any(Duration.class))).thenReturn(true);
+        taskStatusScheduler = schedulerWithShards(1);
+
+        Group testGroup = new Group();
+        setIdUsingReflection(testGroup, 100L);
+        Member testMember = new Member();
+        setIdUsingReflection(testMember, 1L);
+
+        testTask1 = expiredTask(1L, testMember, testGroup);
+        testTask2 = expiredTask(2L, testMember, testGroup);
+        testTask3 = expiredTask(3L, testMember, testGroup);
+    }
+
+    @Test
+    void updateExpiredTasks_WhenNoOverdueTasks_DoesNothingElse() {
+        // Arrange
+        when(taskRepository.expireOverdue(any(OffsetDateTime.class), eq(0), eq(1), eq(CHUNK_SIZE))).thenReturn(Collections.emptyList());
+
+        // Act
+        taskStatusScheduler.updateExpiredTasks();
+
+        // Assert
+        verify(taskRepository, times(1)).expireOverdue(any(OffsetDateTime.class), eq(0), eq(1), eq(CHUNK_SIZE));
+        verify(requestCommandService, never()).handle(any(CreateRequestsForTasksCommand.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void updateExpiredTasks_WhenBacklogExceedsChunk_ProcessesChunksUntilPartialOne() {
+        // Arrange
+        when(taskRepository.expireOverdue(any(OffsetDateTime.class), eq(0), eq(1), eq(CHUNK_SIZE)))
+                .thenReturn(Arrays.asList(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(taskRepository.findAllById(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(testTask1, testTask2));
+        when(taskRepository.findAllById(List.of(3L))).thenReturn(List.of(testTask3));
+
+        // Act
+        taskStatusScheduler.updateExpiredTasks();
+
+        // Assert
+        verify(taskRepository, times(2)).expireOverdue(any(OffsetDateTime.class), eq(0), eq(1), eq(CHUNK_SIZE));
+        verify(leaseCoordinator, times(1)).renew(eq("task-expiry-sweep"), any(Duration.class));
+        verify(requestCommandService).handle(argThat((CreateRequestsForTasksCommand command) ->
+                command.requestType().equals("EXPIRED") && command.taskIds().equals(Arrays.asList(1L, 2L))
+        ));
+        verify(requestCommandService).handle(argThat((CreateRequestsForTasksCommand command) ->
+                command.taskIds().equals(List.of(3L))
+        ));
+        verify(transactionManager, times(2)).commit(any());
+        assertEquals(3.0, meterRegistry.get("tasks.expiry.expired").tag("job", TaskExpiryMonitor.SWEEP_JOB).summary().totalAmount());
+
+        ArgumentCaptor<TaskChangedEvent> eventCaptor = ArgumentCaptor.forClass(TaskChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        var firstChange = eventCaptor.getAllValues().get(0).changes().get(0);
+        assertEquals(TaskStatus.IN_PROGRESS, firstChange.before().status());
+        assertEquals(TaskStatus.EXPIRED, firstChange.after().status());
+        assertEquals(100L, firstChange.after().groupId());
+    }
+
+    @Test
+    void updateExpiredTasks_WhenLeaseRenewalFails_StopsAfterCurrentChunk() {
+        // Arrange
+        when(leaseCoordinator.renew(eq("task-expiry-sweep"), any(Duration.class))).thenReturn(false);
+        when(taskRepository.expireOverdue(any(OffsetDateTime.class), eq(0), eq(1), eq(CHUNK_SIZE)))
+                .thenReturn(Arrays.asList(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(taskRepository.findAllById(Arrays.asList(1L, 2L))).thenReturn(Arrays.asList(testTask1, testTask2));
+
+        // Act
+        taskStatusScheduler.updateExpiredTasks();
+
+        // Assert
+        verify(taskRepository, times(1)).expireOverdue(any(OffsetDateTime.class), eq(0), eq(1), eq(CHUNK_SIZE));
+        verify(leaseCoordinator, times(1)).renew(eq("task-expiry-sweep"), any(Duration.class));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void updateExpiredTasks_WhenLeaseHeldByAnotherInstance_SkipsSweep() {
+        // Arrange
+        when(leaseCoordinator.runExclusively(anyString(), any(Duration.class), any(Runnable.class))).thenReturn(false);
+
+        // Act
+        taskStatusScheduler.updateExpiredTasks();
+
+        // Assert
+        verify(leaseCoordinator, times(1)).runExclusively(eq("task-expiry-sweep"), any(Duration.class), any(Runnable.class));
+        verify(taskRepository, never()).expireOverdue(any(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void updateExpiredTasks_WhenSharded_SweepsEachShardUnderItsOwnLease() {
+        // Arrange
+        var shardedScheduler = schedulerWithShards(3);
+        when(taskRepository.expireOverdue(any(OffsetDateTime.class), anyInt(), eq(3), eq(CHUNK_SIZE))).thenReturn(Collections.emptyList());
+
+        // Act
+        shardedScheduler.updateExpiredTasks();
+
+        // Assert
+        for (int shard = 0; shard < 3; shard++) {
+            verify(leaseCoordinator).runExclusively(eq("task-expiry-sweep-" + shard + "-of-3"), any(Duration.class), any(Runnable.class));
+            verify(taskRepository).expireOverdue(any(OffsetDateTime.class), eq(shard), eq(3), eq(CHUNK_SIZE));
+        }
+    }
+
+    @Test
+    void expireTasks_ExpiresOnlyTasksStillDueAndRecordsThem() {
+        // Arrange
+        when(taskRepository.expireDue(eq(Arrays.asList(1L, 2L)), any(OffsetDateTime.class))).thenReturn(List.of(1L));
+        when(taskRepository.findAllById(List.of(1L))).thenReturn(List.of(testTask1));
+
+        // Act
+        int expired = taskStatusScheduler.expireTasks(Arrays.asList(1L, 2L));
+
+        // Assert
+        assertEquals(1, expired);
+        verify(requestCommandService).handle(argThat((CreateRequestsForTasksCommand command) ->
+                command.taskIds().equals(List.of(1L))
+        ));
+        verify(eventPublisher, times(1)).publishEvent(any(TaskChangedEvent.class));
+    }
+
+    @Test
+    void start_LoadsInProgressDeadlinesIntoIndex() {
+        // Arrange
+        var dueDate = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1);
+        when(taskRepository.findDeadlinesByStatus(TaskStatus.IN_PROGRESS))
+                .thenReturn(Arrays.asList(new TaskDeadline(1L, dueDate), new TaskDeadline(2L, dueDate)));
+
+        // Act
+        taskStatusScheduler.start();
+        taskStatusScheduler.stop();
+
+        // Assert
+        assertEquals(2, taskDeadlineIndex.size());
+    }
+
+    @Test
+    void deadlineIndex_WhenDeadlinePassed_ReturnsDueTask() throws Exception {
+        // Arrange
+        taskDeadlineIndex.schedule(new TaskDeadline(1L, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1)));
+        taskDeadlineIndex.schedule(new TaskDeadline(2L, OffsetDateTime.now(ZoneOffset.UTC).plusDays(1)));
+
+        // Act
+        List<Long> due = taskDeadlineIndex.awaitDue(CHUNK_SIZE);
+
+        // Assert
+        assertEquals(List.of(1L), due);
+        assertEquals(1, taskDeadlineIndex.size());
+    }
+
+    @Test
+    void deadlineIndex_WhenTaskRescheduled_DiscardsStaleDeadline() throws Exception {
+        // Arrange
+        taskDeadlineIndex.schedule(new TaskDeadline(1L, OffsetDateTime.now(ZoneOffset.UTC).plusDays(1)));
+        taskDeadlineIndex.schedule(new TaskDeadline(2L, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(2)));
+        taskDeadlineIndex.cancel(2L);
+        taskDeadlineIndex.schedule(new TaskDeadline(3L, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1)));
+
+        // Act
+        List<Long> due = taskDeadlineIndex.awaitDue(CHUNK_SIZE);
+
+        // Assert
+        assertEquals(List.of(3L), due);
+    }
+
+    @Test
+    void deadlineIndex_WhenTaskRescheduledRepeatedly_KeepsQueueBounded() {
+        // Arrange
+        var dueDate = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1);
+        taskDeadlineIndex.schedule(new TaskDeadline(2L, dueDate));
+
+        // Act
+        for (int i = 0; i < 5000; i++) {
+            taskDeadlineIndex.schedule(new TaskDeadline(1L, dueDate.plusSeconds(i)));
+        }
+
+        // Assert
+        assertEquals(2, taskDeadlineIndex.size());
+        assertTrue(taskDeadlineIndex.queuedEntries() <= 1026);
+    }
+
+    @Test
+    void deadlineIndex_WhenStaleEntriesPileUp_RebuildsQueueWithoutLosingCurrentDeadlines() throws Exception {
+        // Arrange
+        var later = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1);
+        for (long taskId = 10L; taskId < 1100L; taskId++) {
+            taskDeadlineIndex.schedule(new TaskDeadline(taskId, later));
+            taskDeadlineIndex.cancel(taskId);
+        }
+        taskDeadlineIndex.schedule(new TaskDeadline(1L, OffsetDateTime.now(ZoneOffset.UTC).minusSeconds(1)));
+
+        // Act
+        List<Long> due = taskDeadlineIndex.awaitDue(CHUNK_SIZE);
+
+        // Assert
+        assertEquals(List.of(1L), due);
+        assertTrue(taskDeadlineIndex.queuedEntries() < 1100);
+    }
+
+    @Test
+    void deadlineEventHandler_KeepsIndexInSyncWithTaskChanges() {
+        // Arrange
+        var handler = new TaskDeadlineEventHandler(taskDeadlineIndex);
+        var dueDate = OffsetDateTime.now(ZoneOffset.UTC).plusDays(1);
+        var created = new TaskSnapshot(1L, 100L, 1L, TaskStatus.IN_PROGRESS, 0, 0L, dueDate);
+        var completed = new TaskSnapshot(1L, 100L, 1L, TaskStatus.COMPLETED, 0, 0L, dueDate);
+
+        // Act & Assert
+        handler.on(new TaskChangedEvent(List.of(new TaskChange(null, created))));
+        assertEquals(1, taskDeadlineIndex.size());
+
+        handler.on(new TaskChangedEvent(List.of(new TaskChange(created, completed))));
+        assertEquals(0, taskDeadlineIndex.size());
+    }
+
+    private TaskStatusScheduler schedulerWithShards(int shards) {
+        return new TaskStatusScheduler(taskRepository, requestCommandService, eventPublisher, transactionManager,
+                taskDeadlineIndex, leaseCoordinator, new TaskExpiryMonitor(taskRepository, meterRegistry),
+                CHUNK_SIZE, shards, Duration.ofMinutes(2));
+    }
+
+    private Task expiredTask(Long id, Member member, Group group) throws Exception {
+        Task task = new Task();
+        setIdUsingReflection(task, id);
+        task.setMember(member);
+        task.setGroup(group);
+        task.setStatus(TaskStatus.EXPIRED);
+        return task;
+    }
+
+    private void setIdUsingReflection(Object entity, Long id) throws Exception {
+        Field idField = null;
+        Class<?> clazz = entity.getClass();
+
+        while (clazz != null && idField == null) {
+            try {
+                idField = clazz.getDeclaredField("id");
+            } catch (NoSuchFieldException e) {
+                clazz = clazz.getSuperclass();
+            }
+        }
+
+        if (idField != null) {
+            idField.setAccessible(true);
+            idField.set(entity, id);
+        } else {
+            throw new NoSuchFieldException("Field 'id' not found in class hierarchy");
+        }
+    }
+}
@@ -14,6 +14,7 @@ import nrg.inc.synhubbackend.tasks.domain.model.commands.DeleteTasksByMemberId;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByMemberId;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetMemberByUsernameQuery;
+import nrg.inc.synhubbackend.tasks.domain.model.queries.GetNextTaskByMemberIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberQueryService;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskCommandService;
@@ -426,7 +427,7 @@ public class MemberControllerTests {
                 .thenReturn(Arrays.asList(testTask1, testTask2, testTask3));
 
         // Act
-        ResponseEntity<List<TaskResource>> response = memberController.getAllTasksByMemberAuthenticated(testUserDetails);
+        ResponseEntity<List<TaskResource>> response = memberController.getAllTasksByMemberAuthenticated(testUserDetails, null, null);
 
         // Assert
         assertNotNull(response);
@@ -446,7 +447,7 @@ public class MemberControllerTests {
                 .thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<TaskResource>> response = memberController.getAllTasksByMemberAuthenticated(testUserDetails);
+        ResponseEntity<List<TaskResource>> response = memberController.getAllTasksByMemberAuthenticated(testUserDetails, null, null);
 
         // Assert
         assertNotNull(response);
@@ -464,7 +465,7 @@ public class MemberControllerTests {
                 .thenReturn(Optional.empty());
 
         // Act
-        ResponseEntity<List<TaskResource>> response = memberController.getAllTasksByMemberAuthenticated(testUserDetails);
+        ResponseEntity<List<TaskResource>> response = memberController.getAllTasksByMemberAuthenticated(testUserDetails, null, null);
 
         // Assert
         assertNotNull(response);
@@ -544,8 +545,8 @@ public class MemberControllerTests {
         // Arrange
         when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
                 .thenReturn(Optional.of(testMember));
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Arrays.asList(testTask1, testTask2, testTask3));
+        when(taskQueryService.handle(any(GetNextTaskByMemberIdQuery.class)))
+                .thenReturn(Optional.of(testTask2));
 
         // Act
         ResponseEntity<TaskResource> response = memberController.getNextTaskByMemberAuthenticated(testUserDetails);
@@ -554,10 +555,12 @@ public class MemberControllerTests {
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        // Should return testTask2 as it has the earliest due date among in-progress tasks
         assertEquals(101L, response.getBody().id());
         verify(memberQueryService, times(1)).handle(any(GetMemberByUsernameQuery.class));
-        verify(taskQueryService, times(1)).handle(any(GetAllTasksByMemberId.class));
+        verify(taskQueryService).handle(argThat((GetNextTaskByMemberIdQuery query) ->
+                query.memberId().equals(testMember.getId())
+        ));
+        verify(taskQueryService, never()).handle(any(GetAllTasksByMemberId.class));
     }
 
     @Test
@@ -574,38 +577,16 @@ public class MemberControllerTests {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
         verify(memberQueryService, times(1)).handle(any(GetMemberByUsernameQuery.class));
-        verify(taskQueryService, never()).handle(any(GetAllTasksByMemberId.class));
-    }
-
-    @Test
-    void getNextTaskByMemberAuthenticated_WhenNoTasksExist_ReturnsNotFound() {
-        // Arrange
-        when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
-                .thenReturn(Optional.of(testMember));
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Collections.emptyList());
-
-        // Act
-        ResponseEntity<TaskResource> response = memberController.getNextTaskByMemberAuthenticated(testUserDetails);
-
-        // Assert
-        assertNotNull(response);
-        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
-        assertNull(response.getBody());
-        verify(memberQueryService, times(1)).handle(any(GetMemberByUsernameQuery.class));
-        verify(taskQueryService, times(1)).handle(any(GetAllTasksByMemberId.class));
+        verify(taskQueryService, never()).handle(any(GetNextTaskByMemberIdQuery.class));
     }
 
     @Test
-    void getNextTaskByMemberAuthenticated_WhenNoInProgressTasks_ReturnsNotFound() {
+    void getNextTaskByMemberAuthenticated_WhenNoNextTaskExists_ReturnsNotFound() {
         // Arrange
-        testTask1.setStatus(TaskStatus.COMPLETED);
-        testTask2.setStatus(TaskStatus.COMPLETED);
-
         when(memberQueryService.handle(any(GetMemberByUsernameQuery.class)))
                 .thenReturn(Optional.of(testMember));
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Arrays.asList(testTask1, testTask2, testTask3));
+        when(taskQueryService.handle(any(GetNextTaskByMemberIdQuery.class)))
+                .thenReturn(Optional.empty());
 
         // Act
         ResponseEntity<TaskResource> response = memberController.getNextTaskByMemberAuthenticated(testUserDetails);
@@ -615,10 +596,6 @@ public class MemberControllerTests {
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
         verify(memberQueryService, times(1)).handle(any(GetMemberByUsernameQuery.class));
-        verify(taskQueryService, times(1)).handle(any(GetAllTasksByMemberId.class));
-
-        // Reset for other tests
-        testTask1.setStatus(TaskStatus.IN_PROGRESS);
-        testTask2.setStatus(TaskStatus.IN_PROGRESS);
+        verify(taskQueryService, times(1)).handle(any(GetNextTaskByMemberIdQuery.class));
     }
 }
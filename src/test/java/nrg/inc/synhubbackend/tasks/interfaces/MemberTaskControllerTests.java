@@ -8,6 +8,7 @@ import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.CreateTaskCommand;
 import nrg.inc.synhubbackend.tasks.domain.model.queries.GetAllTasksByMemberId;
+import nrg.inc.synhubbackend.tasks.domain.model.queries.GetNextTaskByMemberIdQuery;
 import nrg.inc.synhubbackend.tasks.domain.model.valueobjects.TaskStatus;
 import nrg.inc.synhubbackend.tasks.domain.services.MemberQueryService;
 import nrg.inc.synhubbackend.tasks.domain.services.TaskCommandService;
@@ -309,7 +310,7 @@ public class MemberTaskControllerTests {
                 .thenReturn(Arrays.asList(testTask1, testTask2, testTask3));
 
         // Act
-        ResponseEntity<List<TaskResource>> response = memberTaskController.getAllTasksByMemberId(memberId);
+        ResponseEntity<List<TaskResource>> response = memberTaskController.getAllTasksByMemberId(memberId, null, null);
 
         // Assert
         assertNotNull(response);
@@ -327,7 +328,7 @@ public class MemberTaskControllerTests {
                 .thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<TaskResource>> response = memberTaskController.getAllTasksByMemberId(memberId);
+        ResponseEntity<List<TaskResource>> response = memberTaskController.getAllTasksByMemberId(memberId, null, null);
 
         // Assert
         assertNotNull(response);
@@ -337,6 +338,16 @@ public class MemberTaskControllerTests {
         verify(taskQueryService, times(1)).handle(any(GetAllTasksByMemberId.class));
     }
 
+    @Test
+    void getAllTasksByMemberId_WhenCursorGivenWithoutLimit_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<List<TaskResource>> response = memberTaskController.getAllTasksByMemberId(1L, 5L, null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(taskQueryService, never()).handle(any(GetAllTasksByMemberId.class));
+    }
+
     @Test
     void getAllTasksByMemberId_PassesCorrectMemberId() {
         // Arrange
@@ -345,7 +356,7 @@ public class MemberTaskControllerTests {
                 .thenReturn(Collections.emptyList());
 
         // Act
-        memberTaskController.getAllTasksByMemberId(expectedMemberId);
+        memberTaskController.getAllTasksByMemberId(expectedMemberId, null, null);
 
         // Assert
         verify(taskQueryService).handle(argThat((GetAllTasksByMemberId query) ->
@@ -359,8 +370,8 @@ public class MemberTaskControllerTests {
     void getLastNextByMemberId_WhenNextTaskExists_ReturnsTaskResource() {
         // Arrange
         Long memberId = 1L;
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Arrays.asList(testTask1, testTask2, testTask3));
+        when(taskQueryService.handle(any(GetNextTaskByMemberIdQuery.class)))
+                .thenReturn(Optional.of(testTask2));
 
         // Act
         ResponseEntity<TaskResource> response = memberTaskController.getLastNextByMemberId(memberId);
@@ -369,17 +380,17 @@ public class MemberTaskControllerTests {
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
-        // Should return testTask2 as it has the earliest due date among in-progress tasks
         assertEquals(101L, response.getBody().id());
-        verify(taskQueryService, times(1)).handle(any(GetAllTasksByMemberId.class));
+        verify(taskQueryService, times(1)).handle(any(GetNextTaskByMemberIdQuery.class));
+        verify(taskQueryService, never()).handle(any(GetAllTasksByMemberId.class));
     }
 
     @Test
-    void getLastNextByMemberId_WhenNoTasksExist_ReturnsNotFound() {
+    void getLastNextByMemberId_WhenNoNextTaskExists_ReturnsNotFound() {
         // Arrange
         Long memberId = 1L;
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Collections.emptyList());
+        when(taskQueryService.handle(any(GetNextTaskByMemberIdQuery.class)))
+                .thenReturn(Optional.empty());
 
         // Act
         ResponseEntity<TaskResource> response = memberTaskController.getLastNextByMemberId(memberId);
@@ -388,63 +399,22 @@ public class MemberTaskControllerTests {
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
         assertNull(response.getBody());
-        verify(taskQueryService, times(1)).handle(any(GetAllTasksByMemberId.class));
-    }
-
-    @Test
-    void getLastNextByMemberId_WhenNoInProgressTasks_ThrowsException() {
-        // Arrange
-        Long memberId = 1L;
-        testTask1.setStatus(TaskStatus.COMPLETED);
-        testTask2.setStatus(TaskStatus.COMPLETED);
-
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Arrays.asList(testTask1, testTask2, testTask3));
-
-        // Act & Assert
-        assertThrows(java.util.NoSuchElementException.class, () -> {
-            memberTaskController.getLastNextByMemberId(memberId);
-        });
-
-        verify(taskQueryService, times(1)).handle(any(GetAllTasksByMemberId.class));
-
-        // Reset for other tests
-        testTask1.setStatus(TaskStatus.IN_PROGRESS);
-        testTask2.setStatus(TaskStatus.IN_PROGRESS);
+        verify(taskQueryService, times(1)).handle(any(GetNextTaskByMemberIdQuery.class));
     }
 
     @Test
     void getLastNextByMemberId_PassesCorrectMemberId() {
         // Arrange
         Long expectedMemberId = 1L;
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Arrays.asList(testTask1, testTask2, testTask3));
+        when(taskQueryService.handle(any(GetNextTaskByMemberIdQuery.class)))
+                .thenReturn(Optional.of(testTask2));
 
         // Act
         memberTaskController.getLastNextByMemberId(expectedMemberId);
 
         // Assert
-        verify(taskQueryService).handle(argThat((GetAllTasksByMemberId query) ->
+        verify(taskQueryService).handle(argThat((GetNextTaskByMemberIdQuery query) ->
                 query.memberId().equals(expectedMemberId)
         ));
     }
-
-    @Test
-    void getLastNextByMemberId_ReturnsTaskWithEarliestDueDate() {
-        // Arrange
-        Long memberId = 1L;
-        // testTask2 has due date +1 day, testTask1 has +2 days
-        when(taskQueryService.handle(any(GetAllTasksByMemberId.class)))
-                .thenReturn(Arrays.asList(testTask1, testTask2));
-
-        // Act
-        ResponseEntity<TaskResource> response = memberTaskController.getLastNextByMemberId(memberId);
-
-        // Assert
-        assertNotNull(response);
-        assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertNotNull(response.getBody());
-        // Should return testTask2 (ID 101) as it has the earliest due date
-        assertEquals(101L, response.getBody().id());
-    }
 }
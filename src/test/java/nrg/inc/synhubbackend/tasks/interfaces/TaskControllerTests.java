@@ -4,8 +4,6 @@ import nrg.inc.synhubbackend.groups.domain.model.aggregates.Group;
 import nrg.inc.synhubbackend.groups.domain.model.aggregates.Leader;
 import nrg.inc.synhubbackend.groups.domain.model.valueobjects.GroupCode;
 import nrg.inc.synhubbackend.iam.domain.model.aggregates.User;
-import nrg.inc.synhubbackend.requests.domain.model.commands.DeleteAllRequestsByTaskIdCommand;
-import nrg.inc.synhubbackend.requests.domain.services.RequestCommandService;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Member;
 import nrg.inc.synhubbackend.tasks.domain.model.aggregates.Task;
 import nrg.inc.synhubbackend.tasks.domain.model.commands.CreateTaskCommand;
@@ -20,6 +18,7 @@ import nrg.inc.synhubbackend.tasks.domain.services.TaskQueryService;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.TaskController;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.TaskResource;
 import nrg.inc.synhubbackend.tasks.interfaces.rest.resources.UpdateTaskResource;
+import nrg.inc.synhubbackend.tasks.interfaces.rest.transform.TaskPageResponseAssembler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,9 +51,6 @@ public class TaskControllerTests {
     @Mock
     private TaskCommandService taskCommandService;
 
-    @Mock
-    private RequestCommandService requestCommandService;
-
     @InjectMocks
     private TaskController taskController;
 
@@ -307,7 +303,7 @@ public class TaskControllerTests {
                 .thenReturn(Arrays.asList(testTask1, testTask2));
 
         // Act
-        ResponseEntity<List<TaskResource>> response = taskController.getAllTasksByStatus(status);
+        ResponseEntity<List<TaskResource>> response = taskController.getAllTasksByStatus(status, null, null);
 
         // Assert
         assertNotNull(response);
@@ -325,7 +321,7 @@ public class TaskControllerTests {
                 .thenReturn(Collections.emptyList());
 
         // Act
-        ResponseEntity<List<TaskResource>> response = taskController.getAllTasksByStatus(status);
+        ResponseEntity<List<TaskResource>> response = taskController.getAllTasksByStatus(status, null, null);
 
         // Assert
         assertNotNull(response);
@@ -343,7 +339,7 @@ public class TaskControllerTests {
                 .thenReturn(Collections.emptyList());
 
         // Act
-        taskController.getAllTasksByStatus(expectedStatus);
+        taskController.getAllTasksByStatus(expectedStatus, null, null);
 
         // Assert
         verify(taskQueryService).handle(argThat((GetAllTaskByStatusQuery query) ->
@@ -351,6 +347,65 @@ public class TaskControllerTests {
         ));
     }
 
+    @Test
+    void getAllTasksByStatus_WhenPageIsFull_ReturnsNextCursor() {
+        // Arrange
+        when(taskQueryService.handle(any(GetAllTaskByStatusQuery.class)))
+                .thenReturn(Arrays.asList(testTask1, testTask2));
+
+        // Act
+        ResponseEntity<List<TaskResource>> response = taskController.getAllTasksByStatus("IN_PROGRESS", null, 2);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(testTask2.getId().toString(), response.getHeaders().getFirst(TaskPageResponseAssembler.NEXT_CURSOR_HEADER));
+    }
+
+    @Test
+    void getAllTasksByStatus_WhenNoLimitGiven_UsesDefaultLimitAndCursor() {
+        // Arrange
+        when(taskQueryService.handle(any(GetAllTaskByStatusQuery.class)))
+                .thenReturn(Collections.emptyList());
+
+        // Act
+        taskController.getAllTasksByStatus("IN_PROGRESS", 5L, null);
+
+        // Assert
+        verify(taskQueryService).handle(argThat((GetAllTaskByStatusQuery query) ->
+                query.after().equals(5L) && query.limit() == 100
+        ));
+    }
+
+    @Test
+    void getAllTasksByStatus_WhenLimitOutOfRange_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<List<TaskResource>> response = taskController.getAllTasksByStatus("IN_PROGRESS", null, TaskPageResponseAssembler.MAX_LIMIT + 1);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(taskQueryService, never()).handle(any(GetAllTaskByStatusQuery.class));
+    }
+
+    @Test
+    void getAllTasksByStatus_WhenStatusIsUnknown_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<List<TaskResource>> response = taskController.getAllTasksByStatus("FINISHED", null, null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(taskQueryService, never()).handle(any(GetAllTaskByStatusQuery.class));
+    }
+
+    @Test
+    void streamAllTasksByStatus_WhenStatusIsUnknown_ReturnsBadRequest() {
+        // Act
+        var response = taskController.streamAllTasksByStatus("FINISHED", null);
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
     // UPDATE TASK STATUS TESTS
 
     @Test
@@ -467,7 +522,6 @@ public class TaskControllerTests {
     void deleteTask_WhenCalled_ReturnsNoContent() {
         // Arrange
         Long taskId = 100L;
-        doNothing().when(requestCommandService).handle(any(DeleteAllRequestsByTaskIdCommand.class));
         doNothing().when(taskCommandService).handle(any(DeleteTaskCommand.class));
 
         // Act
@@ -477,7 +531,6 @@ public class TaskControllerTests {
         assertNotNull(response);
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         assertNull(response.getBody());
-        verify(requestCommandService, times(1)).handle(any(DeleteAllRequestsByTaskIdCommand.class));
         verify(taskCommandService, times(1)).handle(any(DeleteTaskCommand.class));
     }
 
@@ -485,36 +538,15 @@ public class TaskControllerTests {
     void deleteTask_PassesCorrectTaskId() {
         // Arrange
         Long expectedTaskId = 100L;
-        doNothing().when(requestCommandService).handle(any(DeleteAllRequestsByTaskIdCommand.class));
         doNothing().when(taskCommandService).handle(any(DeleteTaskCommand.class));
 
         // Act
         taskController.deleteTask(expectedTaskId);
 
         // Assert
-        verify(requestCommandService).handle(argThat((DeleteAllRequestsByTaskIdCommand command) ->
-                command.taskId().equals(expectedTaskId)
-        ));
         verify(taskCommandService).handle(argThat((DeleteTaskCommand command) ->
                 command.taskId().equals(expectedTaskId)
         ));
     }
 
-    @Test
-    void deleteTask_DeletesRequestsBeforeTask() {
-        // Arrange
-        Long taskId = 100L;
-        doNothing().when(requestCommandService).handle(any(DeleteAllRequestsByTaskIdCommand.class));
-        doNothing().when(taskCommandService).handle(any(DeleteTaskCommand.class));
-
-        // Act
-        taskController.deleteTask(taskId);
-
-        // Assert
-        // Verify requests are deleted first, then task
-        var inOrder = inOrder(requestCommandService, taskCommandService);
-        inOrder.verify(requestCommandService).handle(any(DeleteAllRequestsByTaskIdCommand.class));
-        inOrder.verify(taskCommandService).handle(any(DeleteTaskCommand.class));
-    }
-
 }